@@ -0,0 +1,113 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.benchmark;
+
+import org.essentials4j.Do;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@code Do.findIn(iterable)}, compared with a hand-written loop.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindBenchmark {
+
+	@Benchmark
+	public boolean exists(IterableState state) {
+		int target = state.middle;
+		return Do.findIn(state.items).exists(x -> x == target);
+	}
+
+	@Benchmark
+	public boolean existsLoop(IterableState state) {
+		int target = state.middle;
+
+		for (Integer x : state.items) {
+			if (x == target) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Benchmark
+	public Optional<Integer> first(IterableState state) {
+		int target = state.middle;
+		return Do.findIn(state.items).first(x -> x >= target);
+	}
+
+	@Benchmark
+	public Optional<Integer> firstElement(IterableState state) {
+		return Do.findIn(state.items).first();
+	}
+
+	@Benchmark
+	public Optional<Integer> last(IterableState state) {
+		int target = state.middle;
+		return Do.findIn(state.items).last(x -> x >= target);
+	}
+
+	@Benchmark
+	public Optional<Integer> lastElement(IterableState state) {
+		return Do.findIn(state.items).last();
+	}
+
+	@Benchmark
+	public Optional<Integer> any(IterableState state) {
+		int target = state.middle;
+		return Do.findIn(state.items).any(x -> x >= target);
+	}
+
+	@Benchmark
+	public List<Integer> all(IterableState state) {
+		return Do.findIn(state.items).all(x -> x % 2 == 0);
+	}
+
+	@Benchmark
+	public List<Integer> top(IterableState state) {
+		return Do.findIn(state.items).top(10, Comparator.naturalOrder());
+	}
+
+	@Benchmark
+	public List<Integer> topBySorting(IterableState state) {
+		List<Integer> sorted = Do.findIn(state.items).all(x -> true);
+		sorted.sort(Comparator.reverseOrder());
+		return sorted.subList(0, Math.min(10, sorted.size()));
+	}
+
+	@Benchmark
+	public Optional<Integer> max(IterableState state) {
+		return Do.findIn(state.items).max(Comparator.naturalOrder());
+	}
+
+}
@@ -0,0 +1,95 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.benchmark;
+
+import org.essentials4j.Do;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@code Do.findIn(map)}, compared with a hand-written loop.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindBiBenchmark {
+
+	@Benchmark
+	public boolean exists(MapState state) {
+		int target = state.middle;
+		return Do.findIn(state.items).exists((k, v) -> k == target);
+	}
+
+	@Benchmark
+	public boolean existsLoop(MapState state) {
+		int target = state.middle;
+
+		for (Map.Entry<Integer, String> e : state.items.entrySet()) {
+			if (e.getKey() == target) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Benchmark
+	public Optional<Map.Entry<Integer, String>> first(MapState state) {
+		int target = state.middle;
+		return Do.findIn(state.items).first((k, v) -> k >= target);
+	}
+
+	@Benchmark
+	public Optional<Map.Entry<Integer, String>> last(MapState state) {
+		int target = state.middle;
+		return Do.findIn(state.items).last((k, v) -> k >= target);
+	}
+
+	@Benchmark
+	public Optional<Map.Entry<Integer, String>> any(MapState state) {
+		int target = state.middle;
+		return Do.findIn(state.items).any((k, v) -> k >= target);
+	}
+
+	@Benchmark
+	public Map<Integer, String> all(MapState state) {
+		return Do.findIn(state.items).all((k, v) -> k % 2 == 0);
+	}
+
+	@Benchmark
+	public Map<Integer, String> byKeys(MapState state) {
+		return Do.findIn(state.items).byKeys(state.keys);
+	}
+
+	@Benchmark
+	public Map<Integer, String> byKeysScan(MapState state) {
+		return Do.findIn(state.items).all((k, v) -> state.keys.contains(k));
+	}
+
+}
@@ -0,0 +1,95 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.benchmark;
+
+import org.essentials4j.Do;
+import org.essentials4j.New;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@code Do.group(iterable)}, compared with a hand-written loop.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GroupBenchmark {
+
+	@Param({"10", "1000"})
+	public int groups;
+
+	@Benchmark
+	public Map<Integer, List<Integer>> by(IterableState state) {
+		int n = groups;
+		return Do.group(state.items).by(x -> x % n);
+	}
+
+	@Benchmark
+	public Map<Integer, List<Integer>> byCompactMap(IterableState state) {
+		int n = groups;
+		return Do.group(state.items).by(x -> x % n, New::compactMap);
+	}
+
+	@Benchmark
+	public Map<Integer, Long> countByList(IterableState state) {
+		int n = groups;
+		Map<Integer, Long> counts = new LinkedHashMap<>();
+
+		Do.group(state.items).by(x -> x % n).forEach((key, group) -> counts.put(key, (long) group.size()));
+
+		return counts;
+	}
+
+	@Benchmark
+	public Map<Integer, Long> countByAggregate(IterableState state) {
+		int n = groups;
+		return Do.group(state.items).aggregateBy(x -> x % n).count();
+	}
+
+	@Benchmark
+	public Map<Integer, Long> sumByAggregate(IterableState state) {
+		int n = groups;
+		return Do.group(state.items).aggregateBy(x -> x % n).sumLong(x -> x);
+	}
+
+	@Benchmark
+	public Map<Integer, List<Integer>> byLoop(IterableState state) {
+		Map<Integer, List<Integer>> map = new LinkedHashMap<>();
+
+		for (Integer x : state.items) {
+			map.computeIfAbsent(x % groups, k -> new ArrayList<>()).add(x);
+		}
+
+		return map;
+	}
+
+}
@@ -0,0 +1,91 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.benchmark;
+
+import org.essentials4j.Do;
+import org.essentials4j.Index;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the lookups in an {@code Index}, compared with a linear search of the same items.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndexBenchmark {
+
+	@Param({"10", "1000", "100000"})
+	public int size;
+
+	private List<Integer> items;
+
+	private Index<Integer, Integer> unique;
+
+	private Index<Integer, Integer> byRemainder;
+
+	private int middle;
+
+	@Setup(Level.Trial)
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		items = (List<Integer>) Sources.iterable("ArrayList", size);
+		unique = Do.index(items).unique(x -> x);
+		byRemainder = Do.index(items).by(x -> x % 10);
+		middle = size / 2;
+	}
+
+	@Benchmark
+	public Index<Integer, Integer> build() {
+		return Do.index(items).unique(x -> x);
+	}
+
+	@Benchmark
+	public Optional<Integer> get() {
+		return unique.get(middle);
+	}
+
+	@Benchmark
+	public Optional<Integer> findByKey() {
+		return Do.findIn(unique).first(unique.eq(middle));
+	}
+
+	@Benchmark
+	public Optional<Integer> findByScan() {
+		int target = middle;
+		return Do.findIn(items).first(x -> x == target);
+	}
+
+	@Benchmark
+	public List<Integer> getAll() {
+		return byRemainder.getAll(middle % 10);
+	}
+
+}
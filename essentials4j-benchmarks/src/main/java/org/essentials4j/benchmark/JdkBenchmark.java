@@ -0,0 +1,77 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.benchmark;
+
+import org.essentials4j.Do;
+import org.essentials4j.New;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the backward searches of insertion-ordered collections, which are full scans before Java 21,
+ * and reverse scans on Java 21+ (through the {@code META-INF/versions/21} classes of the multi-release JAR).
+ * <p>
+ * Run the same JAR on different JDKs to compare.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JdkBenchmark {
+
+	@Param({"10", "1000", "100000"})
+	public int size;
+
+	private Set<Integer> set;
+
+	private Map<Integer, Integer> map;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		set = New.sizedSet(size);
+		map = New.sizedMap(size);
+
+		for (int i = 0; i < size; i++) {
+			set.add(i);
+			map.put(i, i);
+		}
+	}
+
+	@Benchmark
+	public Optional<Integer> lastOfLinkedHashSet() {
+		return Do.findIn(set).last(x -> x % 2 == 0);
+	}
+
+	@Benchmark
+	public Optional<Map.Entry<Integer, Integer>> lastOfLinkedHashMap() {
+		return Do.findIn(map).last((k, v) -> k % 2 == 0);
+	}
+
+}
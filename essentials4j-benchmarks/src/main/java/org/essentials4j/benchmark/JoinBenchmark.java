@@ -0,0 +1,95 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.benchmark;
+
+import org.essentials4j.Do;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@code Do.join}, compared with the nested search it replaces, joining orders with their customers.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JoinBenchmark {
+
+	/**
+	 * The number of orders, with a customer per 10 orders.
+	 */
+	@Param({"100", "10000", "1000000"})
+	public int size;
+
+	private List<Integer> orders;
+
+	private List<Integer> customers;
+
+	private ForkJoinPool pool;
+
+	@Setup(Level.Trial)
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		orders = (List<Integer>) Sources.iterable("ArrayList", size);
+		customers = (List<Integer>) Sources.iterable("ArrayList", Math.max(size / 10, 1));
+		pool = new ForkJoinPool();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public List<Map.Entry<Integer, Integer>> inner() {
+		return Do.join(orders, customers).on(order -> order % customers.size(), customer -> customer).inner();
+	}
+
+	@Benchmark
+	public List<Map.Entry<Integer, Integer>> innerParallel() {
+		return Do.parallel(pool).join(orders, customers).on(order -> order % customers.size(), customer -> customer).inner();
+	}
+
+	@Benchmark
+	public List<Integer> anti() {
+		return Do.join(orders, customers).on(order -> order % (customers.size() * 2), customer -> customer).anti();
+	}
+
+	@Benchmark
+	public List<Integer> nestedSearch() {
+		if (size > 10_000) {
+			// O(n * m) takes too long
+			return null;
+		}
+
+		return Do.map(orders).toList(order -> Do.findIn(customers).first(customer -> customer == order % customers.size()).get());
+	}
+
+}
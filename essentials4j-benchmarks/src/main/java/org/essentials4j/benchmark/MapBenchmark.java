@@ -0,0 +1,88 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.benchmark;
+
+import org.essentials4j.Do;
+import org.essentials4j.New;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@code Do.map(iterable)}, compared with a hand-written loop.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmark {
+
+	@Benchmark
+	public List<Integer> toList(IterableState state) {
+		return Do.map(state.items).toList(x -> x + 1);
+	}
+
+	@Benchmark
+	public List<Integer> toListLoop(IterableState state) {
+		List<Integer> list = new ArrayList<>();
+
+		for (Integer x : state.items) {
+			list.add(x + 1);
+		}
+
+		return list;
+	}
+
+	@Benchmark
+	public Set<Integer> toSet(IterableState state) {
+		return Do.map(state.items).toSet(x -> x / 2);
+	}
+
+	@Benchmark
+	public Map<Integer, Integer> toMap(IterableState state) {
+		return Do.map(state.items).toMap(x -> x, x -> x + 1);
+	}
+
+	@Benchmark
+	public Map<Integer, Integer> toCompactMap(IterableState state) {
+		return Do.map(state.items).toMap(x -> x, x -> x + 1, New::compactMap);
+	}
+
+	@Benchmark
+	public long iterateMap(MapState state) {
+		long sum = 0;
+
+		for (Map.Entry<Integer, String> e : state.items.entrySet()) {
+			sum += e.getKey();
+		}
+
+		return sum;
+	}
+
+}
@@ -0,0 +1,64 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Benchmark input: a map of {@code size} entries, of the specified map {@code type}.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+@State(Scope.Benchmark)
+public class MapState {
+
+	@Param({"10", "1000", "100000", "10000000"})
+	public int size;
+
+	@Param({"LinkedHashMap", "HashMap", "CompactMap", "ConcurrentHashMap"})
+	public String type;
+
+	public Map<Integer, String> items;
+
+	/**
+	 * The key in the middle of the input, used as search target.
+	 */
+	public int middle;
+
+	/**
+	 * A few keys spread across the input, used as lookup targets.
+	 */
+	public Set<Integer> keys;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		items = Sources.map(type, size);
+		middle = size / 2;
+		keys = new HashSet<>(Arrays.asList(0, middle, size - 1));
+	}
+
+}
@@ -0,0 +1,81 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.benchmark;
+
+import org.essentials4j.Do;
+import org.essentials4j.Metrics;
+import org.essentials4j.MetricsAggregator;
+import org.essentials4j.New;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the instrumentation overhead of the DSL operations, without a metrics listener and with the aggregator.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+	@Param({"10", "1000"})
+	public int size;
+
+	@Param({"false", "true"})
+	public boolean aggregated;
+
+	private List<Integer> items;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		items = New.sizedList(size);
+
+		for (int i = 0; i < size; i++) {
+			items.add(i);
+		}
+
+		Metrics.setListener(aggregated ? new MetricsAggregator() : null);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Metrics.setListener(null);
+	}
+
+	@Benchmark
+	public List<Integer> findAll() {
+		return Do.findIn(items).all(x -> x % 2 == 0);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public List<Integer> findAllConcurrently() {
+		return Do.findIn(items).all(x -> x % 2 == 0);
+	}
+
+}
@@ -0,0 +1,118 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.benchmark;
+
+import org.essentials4j.New;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@code New.*} factories.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NewBenchmark {
+
+	@Benchmark
+	public List<Integer> listFromIterable(IterableState state) {
+		return New.list(state.items);
+	}
+
+	@Benchmark
+	public Set<Integer> setFromIterable(IterableState state) {
+		return New.set(state.items);
+	}
+
+	@Benchmark
+	public Map<Integer, String> mapFromMap(MapState state) {
+		return New.map(state.items);
+	}
+
+	@Benchmark
+	public long streamCount(IterableState state) {
+		return New.stream(state.items).count();
+	}
+
+	@Benchmark
+	public List<String> listOf3() {
+		return New.list("a", "b", "c");
+	}
+
+	@Benchmark
+	public Set<String> setOf3() {
+		return New.set("a", "b", "c");
+	}
+
+	@Benchmark
+	public Map<String, Integer> mapOf1() {
+		return New.map("a", 1);
+	}
+
+	@Benchmark
+	public Map<String, Integer> mapOf5() {
+		return New.map("a", 1, "b", 2, "c", 3, "d", 4, "e", 5);
+	}
+
+	@Benchmark
+	public List<String> frozenListOf3() {
+		return New.frozenList("a", "b", "c");
+	}
+
+	@Benchmark
+	public Map<String, Integer> frozenMapOf1() {
+		return New.frozenMap("a", 1);
+	}
+
+	@Benchmark
+	public Map<String, Integer> frozenMapOf5() {
+		return New.frozenMap("a", 1, "b", 2, "c", 3, "d", 4, "e", 5);
+	}
+
+	@Benchmark
+	public Integer mapOf5Get(SmallMapState state) {
+		return state.map.get("d");
+	}
+
+	@Benchmark
+	public Integer frozenMapOf5Get(SmallMapState state) {
+		return state.frozenMap.get("d");
+	}
+
+	@State(Scope.Benchmark)
+	public static class SmallMapState {
+
+		final Map<String, Integer> map = New.map("a", 1, "b", 2, "c", 3, "d", 4, "e", 5);
+
+		final Map<String, Integer> frozenMap = New.frozenMap(map);
+
+	}
+
+}
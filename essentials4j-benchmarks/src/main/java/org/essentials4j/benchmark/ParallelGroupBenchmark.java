@@ -0,0 +1,78 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.benchmark;
+
+import org.essentials4j.Do;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@code Do.parallel(pool).group(iterable)}: merging grouping vs concurrent grouping.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelGroupBenchmark {
+
+	@Param({"10", "1000"})
+	public int groups;
+
+	private ForkJoinPool pool;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		pool = new ForkJoinPool();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public Map<Integer, List<Integer>> by(IterableState state) {
+		int n = groups;
+		return Do.parallel(pool).group(state.items).by(x -> x % n);
+	}
+
+	@Benchmark
+	public Map<Integer, List<Integer>> byConcurrent(IterableState state) {
+		int n = groups;
+		return Do.parallel(pool).group(state.items).byConcurrent(x -> x % n);
+	}
+
+	@Benchmark
+	public Map<Integer, List<Integer>> byConcurrentOrdered(IterableState state) {
+		int n = groups;
+		return Do.parallel(pool).group(state.items).byConcurrentOrdered(x -> x % n);
+	}
+
+}
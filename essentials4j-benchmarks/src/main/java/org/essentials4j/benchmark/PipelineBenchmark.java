@@ -0,0 +1,73 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.benchmark;
+
+import org.essentials4j.Do;
+import org.essentials4j.Pipeline;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of a compiled {@code Pipeline}, compared with the chained DSL calls and a hand-written loop.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+
+	private final Pipeline<Integer, List<String>> pipeline = Do.pipeline(Integer.class)
+		.where(x -> x % 2 == 0)
+		.map(String::valueOf)
+		.toList();
+
+	@Benchmark
+	public List<String> pipeline(IterableState state) {
+		return pipeline.run(state.items);
+	}
+
+	@Benchmark
+	public List<String> chained(IterableState state) {
+		return Do.map(Do.findIn(state.items).all(x -> x % 2 == 0)).toList(String::valueOf);
+	}
+
+	@Benchmark
+	public List<String> loop(IterableState state) {
+		List<String> results = new ArrayList<>();
+
+		for (Integer x : state.items) {
+			if (x % 2 == 0) {
+				results.add(String.valueOf(x));
+			}
+		}
+
+		return results;
+	}
+
+}
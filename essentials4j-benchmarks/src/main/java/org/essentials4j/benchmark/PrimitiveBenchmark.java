@@ -0,0 +1,110 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.benchmark;
+
+import org.essentials4j.Do;
+import org.essentials4j.IntObjectMap;
+import org.essentials4j.LongObjectMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the primitive DSLs ({@code Do.findIn(int[])}, {@code Do.map(int[])}, {@code Do.group(int[])}),
+ * compared with the same operations on boxed integers, and of the grouping by primitive keys. The GC profiler shows the allocation saved by not boxing.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveBenchmark {
+
+	@Param({"10", "1000", "100000", "10000000"})
+	public int size;
+
+	private int[] ints;
+
+	private long[] longs;
+
+	private List<Integer> boxed;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ints = new int[size];
+		longs = new long[size];
+		boxed = new ArrayList<>(size);
+
+		for (int i = 0; i < size; i++) {
+			ints[i] = i;
+			longs[i] = i;
+			boxed.add(i);
+		}
+	}
+
+	@Benchmark
+	public int[] findAllInts() {
+		return Do.findIn(ints).all(x -> x % 2 == 0);
+	}
+
+	@Benchmark
+	public List<Integer> findAllBoxed() {
+		return Do.findIn(boxed).all(x -> x % 2 == 0);
+	}
+
+	@Benchmark
+	public long[] mapIntsToLongArray() {
+		return Do.map(ints).toLongArray(x -> x * 31L);
+	}
+
+	@Benchmark
+	public List<Long> mapBoxedToList() {
+		return Do.map(boxed).toList(x -> x * 31L);
+	}
+
+	@Benchmark
+	public Map<Integer, int[]> groupInts() {
+		return Do.group(ints).by(x -> x & 15);
+	}
+
+	@Benchmark
+	public IntObjectMap<int[]> groupIntsByInt() {
+		return Do.group(ints).byInt(x -> x & 15);
+	}
+
+	@Benchmark
+	public LongObjectMap<long[]> groupLongsByLong() {
+		return Do.group(longs).byLong(x -> x & 15);
+	}
+
+	@Benchmark
+	public Map<Integer, List<Integer>> groupBoxed() {
+		return Do.group(boxed).by(x -> x & 15);
+	}
+
+}
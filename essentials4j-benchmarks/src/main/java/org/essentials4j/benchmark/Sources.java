@@ -0,0 +1,104 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.benchmark;
+
+import org.essentials4j.CompactMap;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Factory of the benchmark input data.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class Sources {
+
+	private Sources() {
+	}
+
+	/**
+	 * Creates a collection of the specified type, consisting of the integers {@code 0 .. size-1} in ascending order.
+	 */
+	static Iterable<Integer> iterable(String type, int size) {
+		switch (type) {
+			case "ArrayList":
+				return fill(new ArrayList<>(size), size);
+
+			case "LinkedList":
+				return fill(new LinkedList<>(), size);
+
+			case "HashSet":
+				return fill(new HashSet<>(), size);
+
+			case "Iterable":
+				// a plain iterable, not a collection (no size, no random access)
+				List<Integer> list = fill(new ArrayList<>(size), size);
+				return list::iterator;
+
+			default:
+				throw new IllegalArgumentException("Unknown collection type: " + type);
+		}
+	}
+
+	/**
+	 * Creates a map of the specified type, consisting of the entries {@code i -> "v" + i} for {@code i = 0 .. size-1}.
+	 */
+	static Map<Integer, String> map(String type, int size) {
+		Map<Integer, String> map;
+
+		switch (type) {
+			case "LinkedHashMap":
+				map = new LinkedHashMap<>();
+				break;
+
+			case "HashMap":
+				map = new HashMap<>();
+				break;
+
+			case "CompactMap":
+				map = new CompactMap<>();
+				break;
+
+			case "ConcurrentHashMap":
+				map = new ConcurrentHashMap<>();
+				break;
+
+			default:
+				throw new IllegalArgumentException("Unknown map type: " + type);
+		}
+
+		for (int i = 0; i < size; i++) {
+			map.put(i, "v" + i);
+		}
+
+		return map;
+	}
+
+	private static <C extends Collection<Integer>> C fill(C coll, int size) {
+		for (int i = 0; i < size; i++) {
+			coll.add(i);
+		}
+		return coll;
+	}
+
+}
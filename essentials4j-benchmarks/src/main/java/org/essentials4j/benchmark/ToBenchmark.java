@@ -0,0 +1,65 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.benchmark;
+
+import org.essentials4j.New;
+import org.essentials4j.To;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@code To.*} collectors.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToBenchmark {
+
+	@Benchmark
+	public List<Integer> list(IterableState state) {
+		return New.stream(state.items).collect(To.list());
+	}
+
+	@Benchmark
+	public Set<Integer> set(IterableState state) {
+		return New.stream(state.items).collect(To.set());
+	}
+
+	@Benchmark
+	public Map<Integer, String> mapOfEntries(MapState state) {
+		return state.items.entrySet().stream().collect(To.map());
+	}
+
+	@Benchmark
+	public Map<Integer, Integer> map(IterableState state) {
+		return New.stream(state.items).collect(To.map(x -> x, x -> x + 1));
+	}
+
+}
@@ -0,0 +1,91 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.flow;
+
+import org.essentials4j.Do;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * The entry point of the DSLs for reactive streams ({@code java.util.concurrent.Flow}), on Java 9+.
+ * <p>
+ * Unlike the {@link Do} DSLs, which need all the items upfront, these DSLs process the elements incrementally, as they arrive.
+ * The results are published with demand-based backpressure: elements are requested from the source only as the results are requested,
+ * and no elements are buffered (except the current window of a grouping), so the memory is bounded by the request window.
+ * <p> Usage:
+ * <pre><code>
+ * Flow.Publisher&lt;T&gt; matches = DoFlow.findIn(publisher).all(item -&gt; criteria)
+ * DoFlow.map(publisher).to(subscriber, item -&gt; transformation)
+ * Flow.Publisher&lt;Map&lt;K, List&lt;T&gt;&gt;&gt; groups = DoFlow.group(publisher).by(item -&gt; classifier, windowSize)
+ * </code></pre>
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public final class DoFlow {
+
+	/**
+	 * Static utilities. Do not instantiate.
+	 */
+	private DoFlow() {
+	}
+
+	/**
+	 * Searches through the elements of the specified publisher, as they arrive, for elements that satisfy the criteria that will be specified.
+	 *
+	 * @param items the publisher of the items to search through
+	 * @return DSL helper used to specify search criteria through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static <T> FindFlowDSL<T> findIn(Flow.Publisher<T> items) {
+		Objects.requireNonNull(items);
+
+		return new FindFlowDSL<>(items);
+	}
+
+	/**
+	 * Maps (transforms) the elements of the specified publisher, as they arrive, by applying a transformation function that will be specified.
+	 *
+	 * @param items the publisher of the items to transform
+	 * @return DSL helper used to specify transformation function through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static <T> MapFlowDSL<T> map(Flow.Publisher<T> items) {
+		Objects.requireNonNull(items);
+
+		return new MapFlowDSL<>(items);
+	}
+
+	/**
+	 * Groups the elements of the specified publisher, as they arrive, according to a classification function that will be specified.
+	 *
+	 * @param items the publisher of the items to group
+	 * @return DSL helper used to specify classification function through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static <T> GroupFlowDSL<T> group(Flow.Publisher<T> items) {
+		Objects.requireNonNull(items);
+
+		return new GroupFlowDSL<>(items);
+	}
+
+}
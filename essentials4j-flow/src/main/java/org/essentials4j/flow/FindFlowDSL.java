@@ -0,0 +1,105 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.flow;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Predicate;
+
+/**
+ * DSL helper used to specify search criteria and search through the elements of a publisher through method chain call.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class FindFlowDSL<T> {
+
+	private final Flow.Publisher<T> items;
+
+	FindFlowDSL(Flow.Publisher<T> items) {
+		this.items = items;
+	}
+
+	/**
+	 * Returns a publisher of all elements that satisfy the specified criteria (predicate), emitted as they arrive.
+	 * <p>
+	 * Each subscription of the returned publisher subscribes to the source. The source is asked for as many elements
+	 * as the subscriber requests, plus one more for each element that doesn't match.
+	 *
+	 * @param predicate the search criteria specified as a predicate function
+	 * @return a publisher of the matching elements
+	 * @throws NullPointerException if {@code predicate} is {@code null}
+	 */
+	public Flow.Publisher<T> all(Predicate<? super T> predicate) {
+		Objects.requireNonNull(predicate);
+
+		return Flows.publisher(items, () -> new Flows.Operator<T, T>() {
+			@Override
+			boolean next(T item, Flow.Subscriber<? super T> downstream) {
+				if (predicate.test(item)) {
+					downstream.onNext(item);
+					return true;
+				}
+
+				return false;
+			}
+		});
+	}
+
+	/**
+	 * Searches through the elements of the publisher, as they arrive, for the first element that satisfies the specified criteria (predicate).
+	 * <p>
+	 * The subscription is cancelled as soon as a matching element has been found.
+	 *
+	 * @param predicate the search criteria specified as a predicate function
+	 * @return a {@code CompletableFuture} of an {@code Optional} wrapping the first matching element if it has been found, or an empty {@code Optional} otherwise
+	 * @throws NullPointerException if {@code predicate} is {@code null}
+	 */
+	public CompletableFuture<Optional<T>> first(Predicate<? super T> predicate) {
+		Objects.requireNonNull(predicate);
+
+		CompletableFuture<Optional<T>> result = new CompletableFuture<>();
+		items.subscribe(new Flows.Sink<>(predicate, Optional::of, Optional.empty(), result));
+
+		return result;
+	}
+
+	/**
+	 * Searches through the elements of the publisher, as they arrive, for the existence of any element that satisfies the specified criteria (predicate).
+	 * <p>
+	 * The subscription is cancelled as soon as a matching element has been found.
+	 *
+	 * @param predicate the search criteria specified as a predicate function
+	 * @return a {@code CompletableFuture} of {@code true} if any matching element has been found, or {@code false} otherwise
+	 * @throws NullPointerException if {@code predicate} is {@code null}
+	 */
+	public CompletableFuture<Boolean> exists(Predicate<? super T> predicate) {
+		Objects.requireNonNull(predicate);
+
+		CompletableFuture<Boolean> result = new CompletableFuture<>();
+		items.subscribe(new Flows.Sink<>(predicate, item -> true, false, result));
+
+		return result;
+	}
+
+}
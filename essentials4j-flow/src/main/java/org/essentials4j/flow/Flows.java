@@ -0,0 +1,331 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.flow;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Reactive-streams ({@code java.util.concurrent.Flow}) building blocks of the Flow DSLs.
+ * <p>
+ * The stages never buffer elements: an element is transformed and emitted (or dropped) in the {@code onNext} signal that delivers it,
+ * and the upstream is asked only for as many elements as the downstream demand requires.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class Flows {
+
+	/**
+	 * The number of elements requested at once by the terminal subscribers.
+	 */
+	static final int BATCH = Flow.defaultBufferSize();
+
+	/**
+	 * Static utilities. Do not instantiate.
+	 */
+	private Flows() {
+	}
+
+	/**
+	 * Returns a publisher that subscribes a new stage with a new operator to the source, for each subscriber.
+	 */
+	static <T, R> Flow.Publisher<R> publisher(Flow.Publisher<T> source, Supplier<Operator<T, R>> operators) {
+		return subscriber -> {
+			Objects.requireNonNull(subscriber);
+			source.subscribe(new Stage<>(subscriber, operators.get()));
+		};
+	}
+
+	static long multiply(long n, long factor) {
+		long product = n * factor;
+		return n != 0 && product / n != factor ? Long.MAX_VALUE : product;
+	}
+
+	/**
+	 * The per-subscription logic of a stage.
+	 */
+	abstract static class Operator<T, R> {
+
+		/**
+		 * Translates the downstream demand into upstream demand.
+		 */
+		long demand(long n) {
+			return n;
+		}
+
+		/**
+		 * Processes an element, emitting any results to the downstream.
+		 *
+		 * @return {@code true} if the element consumed its demand, or {@code false} if another element must be requested instead
+		 */
+		abstract boolean next(T item, Flow.Subscriber<? super R> downstream);
+
+		/**
+		 * Emits any remaining results to the downstream, when the upstream has completed.
+		 */
+		void complete(Flow.Subscriber<? super R> downstream) {
+		}
+	}
+
+	/**
+	 * A subscriber of the upstream, which is also the subscription of the downstream.
+	 * <p>
+	 * The downstream signals are serial: the upstream signals are serial by contract, and the only signal emitted from the downstream's
+	 * thread (the error of an invalid request) is handed over to an upstream signal in progress, if there is one.
+	 */
+	static final class Stage<T, R> implements Flow.Subscriber<T>, Flow.Subscription {
+
+		private final Flow.Subscriber<? super R> downstream;
+
+		private final Operator<T, R> operator;
+
+		private volatile Flow.Subscription upstream;
+
+		/**
+		 * The number of signals that want to emit to the downstream, so only the first one emits while the others hand over to it.
+		 * It is never decreased after the error of an invalid request, which drops any later upstream signals.
+		 */
+		private final AtomicInteger emitters = new AtomicInteger();
+
+		private volatile Throwable invalidRequest;
+
+		private boolean done;
+
+		Stage(Flow.Subscriber<? super R> downstream, Operator<T, R> operator) {
+			this.downstream = downstream;
+			this.operator = operator;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			if (upstream != null) {
+				subscription.cancel();
+				return;
+			}
+
+			upstream = subscription;
+			downstream.onSubscribe(this);
+		}
+
+		@Override
+		public void onNext(T item) {
+			if (!enter()) {
+				return;
+			}
+
+			try {
+				next(item);
+			} finally {
+				exit();
+			}
+		}
+
+		private void next(T item) {
+			if (done) {
+				return;
+			}
+
+			boolean consumed;
+
+			try {
+				consumed = operator.next(item, downstream);
+
+			} catch (Throwable e) {
+				upstream.cancel();
+				error(e);
+				return;
+			}
+
+			if (!consumed) {
+				upstream.request(1);
+			}
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			if (!enter()) {
+				return;
+			}
+
+			try {
+				error(error);
+			} finally {
+				exit();
+			}
+		}
+
+		private void error(Throwable error) {
+			if (!done) {
+				done = true;
+				downstream.onError(error);
+			}
+		}
+
+		@Override
+		public void onComplete() {
+			if (!enter()) {
+				return;
+			}
+
+			try {
+				complete();
+			} finally {
+				exit();
+			}
+		}
+
+		private void complete() {
+			if (done) {
+				return;
+			}
+
+			done = true;
+
+			try {
+				operator.complete(downstream);
+
+			} catch (Throwable e) {
+				downstream.onError(e);
+				return;
+			}
+
+			downstream.onComplete();
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				invalidRequest = new IllegalArgumentException("The number of requested elements must be positive!");
+				upstream.cancel();
+
+				if (enter()) {
+					error(invalidRequest);
+				}
+
+				return;
+			}
+
+			upstream.request(operator.demand(n));
+		}
+
+		@Override
+		public void cancel() {
+			upstream.cancel();
+		}
+
+		private boolean enter() {
+			return emitters.getAndIncrement() == 0;
+		}
+
+		/**
+		 * Leaves the signal, emitting the error of an invalid request that has been handed over in the meantime.
+		 */
+		private void exit() {
+			if (emitters.decrementAndGet() != 0) {
+				error(invalidRequest);
+			}
+		}
+	}
+
+	/**
+	 * A terminal subscriber, which requests the elements in batches and completes a future.
+	 */
+	static final class Sink<T, R> implements Flow.Subscriber<T> {
+
+		private final Predicate<? super T> predicate;
+
+		private final CompletableFuture<R> result;
+
+		private final Function<T, R> found;
+
+		private final R notFound;
+
+		private Flow.Subscription subscription;
+
+		private int received;
+
+		/**
+		 * @param predicate the criteria of the element that completes the search
+		 * @param found     the result derived from the found element
+		 * @param notFound  the result if no element has been found
+		 */
+		Sink(Predicate<? super T> predicate, Function<T, R> found, R notFound, CompletableFuture<R> result) {
+			this.predicate = predicate;
+			this.found = found;
+			this.notFound = notFound;
+			this.result = result;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			if (this.subscription != null) {
+				subscription.cancel();
+				return;
+			}
+
+			this.subscription = subscription;
+			subscription.request(BATCH);
+		}
+
+		@Override
+		public void onNext(T item) {
+			if (result.isDone()) {
+				return;
+			}
+
+			try {
+				if (predicate.test(item)) {
+					subscription.cancel();
+					result.complete(found.apply(item));
+					return;
+				}
+
+			} catch (Throwable e) {
+				subscription.cancel();
+				result.completeExceptionally(e);
+				return;
+			}
+
+			// replenish the demand once half of the batch has been received
+			if (++received == BATCH / 2) {
+				received = 0;
+				subscription.request(BATCH / 2);
+			}
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			result.completeExceptionally(error);
+		}
+
+		@Override
+		public void onComplete() {
+			result.complete(notFound);
+		}
+	}
+
+}
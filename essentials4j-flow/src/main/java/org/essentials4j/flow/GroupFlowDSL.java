@@ -0,0 +1,106 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.flow;
+
+import org.essentials4j.GroupDSL;
+import org.essentials4j.New;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * DSL helper used to specify classification function and group the elements of a publisher through method chain call.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class GroupFlowDSL<T> {
+
+	private final Flow.Publisher<T> items;
+
+	GroupFlowDSL(Flow.Publisher<T> items) {
+		this.items = items;
+	}
+
+	/**
+	 * Returns a publisher of the groups of each consecutive window of {@code windowSize} elements, emitted as each window is complete.
+	 * The last window may be smaller.
+	 * <p>
+	 * Each group map has the same structure as in {@link GroupDSL#by(Function)}. Only the elements of the current window are kept,
+	 * and the source is asked for {@code windowSize} elements for each group map requested by the subscriber.
+	 *
+	 * @param classifier the classification function used to group the items
+	 * @param windowSize the number of elements grouped into each map
+	 * @return a publisher of the groups of each window
+	 * @throws NullPointerException     if {@code classifier} is {@code null}
+	 * @throws IllegalArgumentException if {@code windowSize} is not positive
+	 */
+	public <K> Flow.Publisher<Map<K, List<T>>> by(Function<? super T, ? extends K> classifier, int windowSize) {
+		Objects.requireNonNull(classifier);
+
+		if (windowSize <= 0) {
+			throw new IllegalArgumentException("The window size must be positive!");
+		}
+
+		return Flows.publisher(items, () -> new Flows.Operator<T, Map<K, List<T>>>() {
+
+			private Map<K, List<T>> groups = New.map();
+
+			private int count;
+
+			@Override
+			long demand(long n) {
+				return Flows.multiply(n, windowSize);
+			}
+
+			@Override
+			boolean next(T item, Flow.Subscriber<? super Map<K, List<T>>> downstream) {
+				groups.computeIfAbsent(classifier.apply(item), key -> New.list()).add(item);
+
+				if (++count == windowSize) {
+					emit(downstream);
+				}
+
+				return true;
+			}
+
+			@Override
+			void complete(Flow.Subscriber<? super Map<K, List<T>>> downstream) {
+				if (count > 0) {
+					emit(downstream);
+				}
+			}
+
+			private void emit(Flow.Subscriber<? super Map<K, List<T>>> downstream) {
+				Map<K, List<T>> window = groups;
+
+				groups = New.map();
+				count = 0;
+
+				downstream.onNext(window);
+			}
+		});
+	}
+
+}
@@ -0,0 +1,76 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.flow;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * DSL helper used to specify transformation function and transform the elements of a publisher through method chain call.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class MapFlowDSL<T> {
+
+	private final Flow.Publisher<T> items;
+
+	MapFlowDSL(Flow.Publisher<T> items) {
+		this.items = items;
+	}
+
+	/**
+	 * Returns a publisher of the elements derived by the specified transformation function, emitted as the source elements arrive.
+	 * <p>
+	 * Each subscription of the returned publisher subscribes to the source, which is asked for exactly as many elements as the subscriber requests.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @return a publisher of the derived elements
+	 * @throws NullPointerException if {@code transformation} is {@code null}
+	 */
+	public <R> Flow.Publisher<R> toPublisher(Function<? super T, ? extends R> transformation) {
+		Objects.requireNonNull(transformation);
+
+		return Flows.publisher(items, () -> new Flows.Operator<T, R>() {
+			@Override
+			boolean next(T item, Flow.Subscriber<? super R> downstream) {
+				downstream.onNext(transformation.apply(item));
+				return true;
+			}
+		});
+	}
+
+	/**
+	 * Subscribes the specified subscriber to the elements derived by the specified transformation function, emitted as the source elements arrive.
+	 *
+	 * @param subscriber     the subscriber of the derived elements
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @throws NullPointerException if {@code subscriber} is {@code null} or {@code transformation} is {@code null}
+	 * @see #toPublisher(Function)
+	 */
+	public <R> void to(Flow.Subscriber<? super R> subscriber, Function<? super T, ? extends R> transformation) {
+		Objects.requireNonNull(subscriber);
+
+		this.<R>toPublisher(transformation).subscribe(subscriber);
+	}
+
+}
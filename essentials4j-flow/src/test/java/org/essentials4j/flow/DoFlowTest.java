@@ -0,0 +1,288 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j.flow;
+
+import org.essentials4j.Do;
+import org.essentials4j.New;
+import org.essentials4j.TestCommons;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class DoFlowTest extends TestCommons {
+
+	/**
+	 * A synchronous publisher of a range of numbers, which emits only the requested numbers and tracks the total demand.
+	 */
+	private static final class RangePublisher implements Flow.Publisher<Integer> {
+
+		private final int size;
+
+		final AtomicLong requested = new AtomicLong();
+
+		RangePublisher(int size) {
+			this.size = size;
+		}
+
+		@Override
+		public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+			subscriber.onSubscribe(new Flow.Subscription() {
+
+				private int next;
+
+				private long demand;
+
+				private boolean emitting, cancelled;
+
+				@Override
+				public void request(long n) {
+					requested.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+					demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+
+					if (emitting) {
+						return;
+					}
+
+					emitting = true;
+
+					while (demand > 0 && next < size && !cancelled) {
+						demand--;
+						subscriber.onNext(next++);
+					}
+
+					if (next == size && !cancelled) {
+						cancelled = true;
+						subscriber.onComplete();
+					}
+
+					emitting = false;
+				}
+
+				@Override
+				public void cancel() {
+					cancelled = true;
+				}
+			});
+		}
+	}
+
+	/**
+	 * A subscriber that requests a fixed number of elements and collects them.
+	 */
+	private static final class Collecting<T> implements Flow.Subscriber<T> {
+
+		private final long demand;
+
+		final List<T> items = New.list();
+
+		final CountDownLatch done = new CountDownLatch(1);
+
+		volatile boolean completed;
+
+		volatile Throwable error;
+
+		Collecting(long demand) {
+			this.demand = demand;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			subscription.request(demand);
+		}
+
+		@Override
+		public void onNext(T item) {
+			items.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+			done.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+			done.countDown();
+		}
+	}
+
+	@Test
+	public void findWithBackpressure() {
+		RangePublisher source = new RangePublisher(1000);
+		Collecting<Integer> evens = new Collecting<>(5);
+
+		DoFlow.findIn(source).all(x -> x % 2 == 0).subscribe(evens);
+
+		eq(evens.items, New.list(0, 2, 4, 6, 8));
+		isFalse(evens.completed);
+
+		// 5 requested, plus 1 more for each of the 4 skipped odd numbers
+		eq(source.requested.get(), 9L);
+
+		Collecting<Integer> all = new Collecting<>(Long.MAX_VALUE);
+		DoFlow.findIn(new RangePublisher(10)).all(x -> x > 6).subscribe(all);
+
+		eq(all.items, New.list(7, 8, 9));
+		isTrue(all.completed);
+	}
+
+	@Test
+	public void findFirstCancelsTheSubscription() {
+		RangePublisher source = new RangePublisher(1_000_000);
+
+		eq(DoFlow.findIn(source).first(x -> x == 300).join(), Optional.of(300));
+		isTrue(source.requested.get() < 1000);
+
+		eq(DoFlow.findIn(new RangePublisher(100)).first(x -> x < 0).join(), Optional.empty());
+		isTrue(DoFlow.findIn(new RangePublisher(100)).exists(x -> x == 99).join());
+		isFalse(DoFlow.findIn(new RangePublisher(100)).exists(x -> x == 100).join());
+	}
+
+	@Test
+	public void mapWithBackpressure() {
+		RangePublisher source = new RangePublisher(1000);
+		Collecting<String> strings = new Collecting<>(3);
+
+		DoFlow.map(source).to(strings, x -> "#" + x);
+
+		eq(strings.items, New.list("#0", "#1", "#2"));
+		eq(source.requested.get(), 3L);
+	}
+
+	@Test
+	public void groupWindows() {
+		RangePublisher source = new RangePublisher(10);
+		Collecting<Map<Boolean, List<Integer>>> windows = new Collecting<>(2);
+
+		DoFlow.group(source).by(x -> x % 2 == 0, 4).subscribe(windows);
+
+		eq(windows.items.size(), 2);
+		expectMap(windows.items.get(0), New.map(true, New.list(0, 2), false, New.list(1, 3)));
+		expectMap(windows.items.get(1), New.map(true, New.list(4, 6), false, New.list(5, 7)));
+		eq(source.requested.get(), 8L);
+
+		Collecting<Map<Boolean, List<Integer>>> all = new Collecting<>(Long.MAX_VALUE);
+		DoFlow.group(new RangePublisher(10)).by(x -> x % 2 == 0, 4).subscribe(all);
+
+		eq(all.items.size(), 3);
+		expectMap(all.items.get(2), New.map(true, New.list(8), false, New.list(9)));
+		isTrue(all.completed);
+	}
+
+	@Test
+	public void asynchronousPublisher() throws Exception {
+		List<Integer> nums = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+		Collecting<Integer> squares = new Collecting<>(Long.MAX_VALUE);
+
+		try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+			DoFlow.map(DoFlow.findIn(publisher).all(x -> x % 3 == 0)).to(squares, x -> x * x);
+			CompletableFuture<Optional<Integer>> first = DoFlow.findIn(publisher).first(x -> x > 5000);
+
+			nums.forEach(publisher::submit);
+
+			eq(first.get(10, TimeUnit.SECONDS), Optional.of(5001));
+		}
+
+		isTrue(squares.done.await(10, TimeUnit.SECONDS));
+		eq(squares.items, Do.map(Do.findIn(nums).all(x -> x % 3 == 0)).toList(x -> x * x));
+	}
+
+	@Test
+	public void failures() {
+		Collecting<Integer> failing = new Collecting<>(Long.MAX_VALUE);
+
+		DoFlow.map(new RangePublisher(10)).to(failing, x -> 10 / (5 - x));
+
+		eq(failing.items, New.list(2, 2, 3, 5, 10));
+		isTrue(failing.error instanceof ArithmeticException);
+		isFalse(failing.completed);
+
+		CompletableFuture<Optional<Integer>> first = DoFlow.findIn(new RangePublisher(10)).first(x -> 10 / (5 - x) < 0);
+		isTrue(first.isCompletedExceptionally());
+	}
+
+	@Test
+	public void invalidRequestFailsAfterTheCurrentElement() {
+		List<String> signals = New.list();
+
+		DoFlow.map(new RangePublisher(10)).to(new Flow.Subscriber<Integer>() {
+
+			private Flow.Subscription subscription;
+
+			private boolean inNext;
+
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				this.subscription = subscription;
+				subscription.request(5);
+			}
+
+			@Override
+			public void onNext(Integer item) {
+				inNext = true;
+				signals.add("next " + item);
+
+				if (item == 2) {
+					subscription.request(0);
+				}
+
+				inNext = false;
+			}
+
+			@Override
+			public void onError(Throwable error) {
+				isFalse(inNext);
+				isTrue(error instanceof IllegalArgumentException);
+				signals.add("error");
+			}
+
+			@Override
+			public void onComplete() {
+				signals.add("complete");
+			}
+		}, x -> x);
+
+		eq(signals, New.list("next 0", "next 1", "next 2", "error"));
+
+		Collecting<Integer> invalid = new Collecting<>(-1);
+		DoFlow.findIn(new RangePublisher(10)).all(x -> true).subscribe(invalid);
+
+		isTrue(invalid.error instanceof IllegalArgumentException);
+		isTrue(invalid.items.isEmpty());
+	}
+
+}
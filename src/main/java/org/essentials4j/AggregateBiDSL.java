@@ -0,0 +1,132 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.stream.Collector;
+
+/**
+ * DSL helper used to specify the aggregation of the groups and execute the grouping through method chain call.
+ * <p>
+ * The aggregations are computed in a single pass, without keeping the entries of each group.
+ * The resulting {@code Map} keeps the encounter order of the classification keys.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class AggregateBiDSL<K, V, R> {
+
+	private final AggregateDSL<Map.Entry<K, V>, R> entries;
+
+	AggregateBiDSL(AggregateDSL<Map.Entry<K, V>, R> entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Counts the entries of each group.
+	 *
+	 * @return a new {@code Map} of the number of entries per classification key
+	 */
+	public Map<R, Long> count() {
+		return entries.count();
+	}
+
+	/**
+	 * Sums the {@code long} values of the entries of each group, as extracted by the specified function.
+	 *
+	 * @param value the function that extracts the value of an entry
+	 * @return a new {@code Map} of the sum of values per classification key
+	 * @throws NullPointerException if {@code value} is {@code null}
+	 */
+	public Map<R, Long> sumLong(ToLongBiFunction<? super K, ? super V> value) {
+		Objects.requireNonNull(value);
+
+		return entries.sumLong(e -> value.applyAsLong(e.getKey(), e.getValue()));
+	}
+
+	/**
+	 * Sums the {@code double} values of the entries of each group, as extracted by the specified function.
+	 *
+	 * @param value the function that extracts the value of an entry
+	 * @return a new {@code Map} of the sum of values per classification key
+	 * @throws NullPointerException if {@code value} is {@code null}
+	 */
+	public Map<R, Double> sumDouble(ToDoubleBiFunction<? super K, ? super V> value) {
+		Objects.requireNonNull(value);
+
+		return entries.sumDouble(e -> value.applyAsDouble(e.getKey(), e.getValue()));
+	}
+
+	/**
+	 * Finds the greatest entry of each group, according to the specified comparator.
+	 * The first of several equally greatest entries is kept.
+	 *
+	 * @param comparator the comparator used to compare the entries, e.g. {@code Map.Entry.comparingByValue()}
+	 * @return a new {@code Map} of the greatest entry per classification key
+	 * @throws NullPointerException if {@code comparator} is {@code null}
+	 */
+	public Map<R, Map.Entry<K, V>> max(Comparator<? super Map.Entry<K, V>> comparator) {
+		return entries.max(comparator);
+	}
+
+	/**
+	 * Finds the least entry of each group, according to the specified comparator.
+	 * The first of several equally least entries is kept.
+	 *
+	 * @param comparator the comparator used to compare the entries, e.g. {@code Map.Entry.comparingByValue()}
+	 * @return a new {@code Map} of the least entry per classification key
+	 * @throws NullPointerException if {@code comparator} is {@code null}
+	 */
+	public Map<R, Map.Entry<K, V>> min(Comparator<? super Map.Entry<K, V>> comparator) {
+		return entries.min(comparator);
+	}
+
+	/**
+	 * Reduces the values of the entries of each group, using the specified identity value and associative operator.
+	 *
+	 * @param identity the identity value of the reduction
+	 * @param operator the associative operator used to combine two values
+	 * @return a new {@code Map} of the reduced value per classification key
+	 * @throws NullPointerException if {@code operator} is {@code null}
+	 */
+	public Map<R, V> reduce(V identity, BinaryOperator<V> operator) {
+		Objects.requireNonNull(operator);
+
+		return entries.reduce(identity, (value, e) -> operator.apply(value, e.getValue()), operator);
+	}
+
+	/**
+	 * Aggregates the entries of each group with the specified collector.
+	 *
+	 * @param downstream the collector used to aggregate the entries of each group
+	 * @return a new {@code Map} of the aggregation result per classification key
+	 * @throws NullPointerException if {@code downstream} is {@code null}
+	 */
+	public <A, D> Map<R, D> aggregate(Collector<? super Map.Entry<K, V>, A, D> downstream) {
+		return entries.aggregate(downstream);
+	}
+
+}
@@ -0,0 +1,245 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * DSL helper used to specify the aggregation of the groups and execute the grouping through method chain call.
+ * <p>
+ * The aggregations are computed in a single pass, without keeping the elements of each group.
+ * The resulting {@code Map} keeps the encounter order of the classification keys.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class AggregateDSL<T, K> {
+
+	private final Stream<T> stream;
+
+	/**
+	 * The parallel execution settings, if the stream is parallel (or {@code null} otherwise).
+	 */
+	private final Parallel parallel;
+
+	/**
+	 * The source items of the stream, if they are known (or {@code null} otherwise), only used to report their number in the metrics.
+	 */
+	private final Iterable<T> items;
+
+	private final Function<? super T, ? extends K> classifier;
+
+	AggregateDSL(Stream<T> stream, Parallel parallel, Iterable<T> items, Function<? super T, ? extends K> classifier) {
+		this.stream = stream;
+		this.parallel = parallel;
+		this.items = items;
+		this.classifier = classifier;
+	}
+
+	/**
+	 * Counts the elements of each group.
+	 *
+	 * @return a new {@code Map} of the number of elements per classification key
+	 */
+	public Map<K, Long> count() {
+		return execute("AggregateDSL.count", grouping(() -> new long[1], (count, item) -> count[0]++, (a, b) -> {
+			a[0] += b[0];
+			return a;
+		}, count -> count[0]));
+	}
+
+	/**
+	 * Sums the {@code long} values of the elements of each group, as extracted by the specified function.
+	 *
+	 * @param value the function that extracts the value of an element
+	 * @return a new {@code Map} of the sum of values per classification key
+	 * @throws NullPointerException if {@code value} is {@code null}
+	 */
+	public Map<K, Long> sumLong(ToLongFunction<? super T> value) {
+		Objects.requireNonNull(value);
+
+		return execute("AggregateDSL.sumLong", grouping(() -> new long[1], (sum, item) -> sum[0] += value.applyAsLong(item), (a, b) -> {
+			a[0] += b[0];
+			return a;
+		}, sum -> sum[0]));
+	}
+
+	/**
+	 * Sums the {@code double} values of the elements of each group, as extracted by the specified function.
+	 *
+	 * @param value the function that extracts the value of an element
+	 * @return a new {@code Map} of the sum of values per classification key
+	 * @throws NullPointerException if {@code value} is {@code null}
+	 */
+	public Map<K, Double> sumDouble(ToDoubleFunction<? super T> value) {
+		Objects.requireNonNull(value);
+
+		return execute("AggregateDSL.sumDouble", grouping(() -> new double[1], (sum, item) -> sum[0] += value.applyAsDouble(item), (a, b) -> {
+			a[0] += b[0];
+			return a;
+		}, sum -> sum[0]));
+	}
+
+	/**
+	 * Finds the greatest element of each group, according to the specified comparator.
+	 * The first of several equally greatest elements is kept.
+	 *
+	 * @param comparator the comparator used to compare the elements
+	 * @return a new {@code Map} of the greatest element per classification key
+	 * @throws NullPointerException if {@code comparator} is {@code null}
+	 */
+	public Map<K, T> max(Comparator<? super T> comparator) {
+		Objects.requireNonNull(comparator);
+
+		return fold("AggregateDSL.max", (a, b) -> comparator.compare(b, a) > 0 ? b : a);
+	}
+
+	/**
+	 * Finds the least element of each group, according to the specified comparator.
+	 * The first of several equally least elements is kept.
+	 *
+	 * @param comparator the comparator used to compare the elements
+	 * @return a new {@code Map} of the least element per classification key
+	 * @throws NullPointerException if {@code comparator} is {@code null}
+	 */
+	public Map<K, T> min(Comparator<? super T> comparator) {
+		Objects.requireNonNull(comparator);
+
+		return fold("AggregateDSL.min", (a, b) -> comparator.compare(b, a) < 0 ? b : a);
+	}
+
+	/**
+	 * Reduces the elements of each group, using the specified identity value and associative operator.
+	 *
+	 * @param identity the identity value of the reduction
+	 * @param operator the associative operator used to combine two values
+	 * @return a new {@code Map} of the reduced value per classification key
+	 * @throws NullPointerException if {@code operator} is {@code null}
+	 */
+	public Map<K, T> reduce(T identity, BinaryOperator<T> operator) {
+		return reduce(identity, operator, operator);
+	}
+
+	/**
+	 * Reduces the elements of each group, using the specified identity value, accumulation and combining functions.
+	 *
+	 * @param identity    the identity value of the reduction
+	 * @param accumulator the associative function used to incorporate an element into a value
+	 * @param combiner    the associative function used to combine two values, which must be compatible with the accumulator
+	 * @return a new {@code Map} of the reduced value per classification key
+	 * @throws NullPointerException if {@code accumulator} is {@code null} or {@code combiner} is {@code null}
+	 */
+	public <U> Map<K, U> reduce(U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner) {
+		Objects.requireNonNull(accumulator);
+		Objects.requireNonNull(combiner);
+
+		return execute("AggregateDSL.reduce", grouping(() -> new Ref<>(identity), (ref, item) -> ref.value = accumulator.apply(ref.value, item), (a, b) -> {
+			a.value = combiner.apply(a.value, b.value);
+			return a;
+		}, ref -> ref.value));
+	}
+
+	/**
+	 * Aggregates the elements of each group with the specified collector.
+	 *
+	 * @param downstream the collector used to aggregate the elements of each group
+	 * @return a new {@code Map} of the aggregation result per classification key
+	 * @throws NullPointerException if {@code downstream} is {@code null}
+	 */
+	public <A, D> Map<K, D> aggregate(Collector<? super T, A, D> downstream) {
+		Objects.requireNonNull(downstream);
+
+		return execute("AggregateDSL.aggregate", Collectors.groupingBy(classifier, New::map, downstream));
+	}
+
+	private Map<K, T> fold(String name, BinaryOperator<T> operator) {
+		return execute(name, grouping(Ref<T>::new, (ref, item) -> {
+			if (ref.present) {
+				ref.value = operator.apply(ref.value, item);
+			} else {
+				ref.value = item;
+				ref.present = true;
+			}
+		}, (a, b) -> {
+			a.value = operator.apply(a.value, b.value);
+			return a;
+		}, ref -> ref.value));
+	}
+
+	/**
+	 * Accumulates each group into a mutable accumulator, which is converted to the result once per group at the end.
+	 */
+	private <A, R> Collector<T, ?, Map<K, R>> grouping(Supplier<A> supplier, BiConsumer<A, ? super T> accumulator,
+	                                                   BinaryOperator<A> combiner, Function<A, R> finisher) {
+		return Collector.<T, Map<K, A>, Map<K, R>>of(
+			New::map,
+			(groups, item) -> {
+				K key = Objects.requireNonNull(classifier.apply(item), "element cannot be mapped to a null key");
+				accumulator.accept(groups.computeIfAbsent(key, k -> supplier.get()), item);
+			},
+			(groups, other) -> {
+				other.forEach((key, acc) -> groups.merge(key, acc, combiner));
+				return groups;
+			},
+			groups -> {
+				Map<K, R> results = New.sizedMap(groups.size());
+				groups.forEach((key, acc) -> results.put(key, finisher.apply(acc)));
+				return results;
+			});
+	}
+
+	private <R> R execute(String name, Collector<? super T, ?, R> collector) {
+		long start = Metrics.start();
+		R result = parallel != null ? parallel.invoke(() -> stream.collect(collector)) : stream.collect(collector);
+
+		return Metrics.end(start, name, items, result);
+	}
+
+	/**
+	 * A mutable accumulator of a single value.
+	 */
+	private static final class Ref<T> {
+
+		T value;
+
+		boolean present;
+
+		Ref() {
+		}
+
+		Ref(T value) {
+			this.value = value;
+		}
+	}
+
+}
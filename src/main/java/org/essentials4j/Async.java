@@ -0,0 +1,154 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Asynchronous implementations of the DSL operations, executing the transformations concurrently with bounded concurrency.
+ * <p>
+ * Instead of submitting a task per item, at most {@code maxInFlight} worker tasks are submitted, and each of them
+ * transforms the next pending item until there are none left. The results are stored by index, so their order is kept.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class Async {
+
+	/**
+	 * The factory of virtual threads on Java 21+ (or {@code null} otherwise).
+	 */
+	private static final ThreadFactory VIRTUAL_THREADS = Jdk.virtualThreads();
+
+	/**
+	 * Executes each task in a new virtual thread on Java 21+, or in a new daemon platform thread otherwise.
+	 * As a worker task is submitted for each of the {@code maxInFlight} workers only, the threads live only during the call.
+	 */
+	static final Executor DEFAULT_EXECUTOR = task -> {
+		Thread thread;
+
+		if (VIRTUAL_THREADS != null) {
+			thread = VIRTUAL_THREADS.newThread(task);
+		} else {
+			thread = new Thread(task, "essentials4j-async");
+			thread.setDaemon(true);
+		}
+
+		thread.start();
+	};
+
+	/**
+	 * Static utilities. Do not instantiate.
+	 */
+	private Async() {
+	}
+
+	static boolean usesVirtualThreads() {
+		return VIRTUAL_THREADS != null;
+	}
+
+	static void requireValidMaxInFlight(int maxInFlight) {
+		if (maxInFlight <= 0) {
+			throw new IllegalArgumentException("The maximum number of tasks in flight must be positive!");
+		}
+	}
+
+	static <T, R> CompletableFuture<List<R>> toList(List<T> items, Function<? super T, ? extends R> transformation,
+	                                                Executor executor, int maxInFlight) {
+
+		CompletableFuture<List<R>> result = new CompletableFuture<>();
+		int size = items.size();
+
+		if (size == 0) {
+			result.complete(New.list());
+			return result;
+		}
+
+		Object[] results = new Object[size];
+		AtomicInteger next = new AtomicInteger();
+		int workers = Math.min(maxInFlight, size);
+		AtomicInteger running = new AtomicInteger(workers);
+
+		Runnable worker = () -> {
+			try {
+				for (int i; !result.isDone() && (i = next.getAndIncrement()) < size; ) {
+					results[i] = transformation.apply(items.get(i));
+				}
+
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			}
+
+			// the last finished worker sees the results of all workers
+			if (running.decrementAndGet() == 0 && !result.isDone()) {
+				result.complete(toList(results));
+			}
+		};
+
+		for (int i = 0; i < workers; i++) {
+			try {
+				executor.execute(worker);
+
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+				running.addAndGet(i - workers);
+				break;
+			}
+		}
+
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <R> List<R> toList(Object[] results) {
+		List<R> list = New.sizedList(results.length);
+		Collections.addAll(list, (R[]) results);
+		return list;
+	}
+
+	/**
+	 * Waits for the result, rethrowing the original exception of a failed transformation.
+	 */
+	static <R> R join(CompletableFuture<R> future) {
+		try {
+			return future.join();
+
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw e;
+		}
+	}
+
+}
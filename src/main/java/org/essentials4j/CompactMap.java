@@ -0,0 +1,587 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An insertion-ordered hash {@code Map}, with a smaller footprint than {@code LinkedHashMap}.
+ * <p>
+ * The entries are appended to dense arrays (keys and values interleaved in an {@code Object[]}, plus their hashes in an {@code int[]}),
+ * and a separate open-addressing index ({@code int[]}) maps the hashes to entry positions. There are no per-entry node objects,
+ * and the iteration is a sequential scan over the entries array.
+ * <p>
+ * The removed entries leave a gap in the arrays, which is reclaimed on the next resize.
+ * {@code null} keys and values are allowed. Not thread-safe.
+ *
+ * @param <K> the type of the map keys
+ * @param <V> the type of the map values
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class CompactMap<K, V> extends AbstractMap<K, V> {
+
+	/**
+	 * The key of a removed entry.
+	 */
+	private static final Object REMOVED = new Object();
+
+	/**
+	 * Marks a free index slot.
+	 */
+	private static final int FREE = 0;
+
+	/**
+	 * Marks an index slot of a removed entry, which must not stop the probing.
+	 */
+	private static final int DELETED = -1;
+
+	private static final int MIN_INDEX_LENGTH = 8;
+
+	private static final Object[] NO_ENTRIES = {};
+
+	private static final int[] NO_HASHES = {};
+
+	/**
+	 * The keys and values, in insertion order: {@code key1, value1, ..., keyN, valueN}.
+	 */
+	private Object[] entries = NO_ENTRIES;
+
+	private int[] hashes = NO_HASHES;
+
+	/**
+	 * The hash index, where each slot holds the entry number plus 1, or {@link #FREE} or {@link #DELETED}.
+	 * Allocated on the first insertion.
+	 */
+	private int[] index;
+
+	/**
+	 * The number of used entry positions, including the removed entries.
+	 */
+	private int used;
+
+	private int size;
+
+	private int modCount;
+
+	/**
+	 * Constructs a new empty map.
+	 */
+	public CompactMap() {
+	}
+
+	/**
+	 * Constructs a new empty map, big enough to hold the expected number of entries without resizing.
+	 *
+	 * @param expectedSize the expected number of entries
+	 * @throws IllegalArgumentException if {@code expectedSize} is negative
+	 */
+	public CompactMap(int expectedSize) {
+		if (New.requireValidSize(expectedSize) > 0) {
+			resize(capacity(indexLength(expectedSize)));
+		}
+	}
+
+	/**
+	 * Constructs a new map with the same entries as the specified source map.
+	 *
+	 * @param source the source map whose entries are being copied into the new map
+	 * @throws NullPointerException if {@code source} is {@code null}
+	 */
+	public CompactMap(Map<? extends K, ? extends V> source) {
+		this(source.size());
+		putAll(source);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return find(key, hash(key)) >= 0;
+	}
+
+	@Override
+	public V get(Object key) {
+		int slot = find(key, hash(key));
+		return slot >= 0 ? valueAt(index[slot] - 1) : null;
+	}
+
+	@Override
+	public V getOrDefault(Object key, V defaultValue) {
+		int slot = find(key, hash(key));
+		return slot >= 0 ? valueAt(index[slot] - 1) : defaultValue;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		int hash = hash(key);
+		int slot = find(key, hash);
+
+		if (slot >= 0) {
+			int pos = (index[slot] - 1) * 2 + 1;
+			V previous = valueAt(index[slot] - 1);
+			entries[pos] = value;
+			return previous;
+		}
+
+		append(key, value, hash);
+		return null;
+	}
+
+	@Override
+	public V remove(Object key) {
+		int slot = find(key, hash(key));
+
+		if (slot < 0) {
+			return null;
+		}
+
+		V previous = valueAt(index[slot] - 1);
+		removeAt(slot);
+
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		if (index != null) {
+			Arrays.fill(entries, 0, used * 2, null);
+			Arrays.fill(index, FREE);
+		}
+
+		used = 0;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		Objects.requireNonNull(action);
+
+		int expectedModCount = modCount;
+
+		for (int i = 0; i < used; i++) {
+			if (entries[i * 2] != REMOVED) {
+				action.accept(keyAt(i), valueAt(i));
+			}
+		}
+
+		if (modCount != expectedModCount) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<Entry<K, V>>() {
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				return new Cursor<Entry<K, V>>() {
+					@Override
+					Entry<K, V> element(int entry) {
+						return new Node(entry);
+					}
+				};
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				if (!(o instanceof Entry)) {
+					return false;
+				}
+
+				Entry<?, ?> e = (Entry<?, ?>) o;
+				int slot = find(e.getKey(), hash(e.getKey()));
+
+				return slot >= 0 && Objects.equals(valueAt(index[slot] - 1), e.getValue());
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public void clear() {
+				CompactMap.this.clear();
+			}
+		};
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return new AbstractSet<K>() {
+			@Override
+			public Iterator<K> iterator() {
+				return new Cursor<K>() {
+					@Override
+					K element(int entry) {
+						return keyAt(entry);
+					}
+				};
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return containsKey(o);
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public void clear() {
+				CompactMap.this.clear();
+			}
+		};
+	}
+
+	@Override
+	public Collection<V> values() {
+		return new AbstractCollection<V>() {
+			@Override
+			public Iterator<V> iterator() {
+				return new Cursor<V>() {
+					@Override
+					V element(int entry) {
+						return valueAt(entry);
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public void clear() {
+				CompactMap.this.clear();
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private K keyAt(int entry) {
+		return (K) entries[entry * 2];
+	}
+
+	@SuppressWarnings("unchecked")
+	private V valueAt(int entry) {
+		return (V) entries[entry * 2 + 1];
+	}
+
+	private static int hash(Object key) {
+		return Hashing.mix(Objects.hashCode(key));
+	}
+
+	/**
+	 * Finds the index slot of the key, or returns {@code -1} if there is no such key.
+	 */
+	private int find(Object key, int hash) {
+		if (size == 0) {
+			return -1;
+		}
+
+		int mask = index.length - 1;
+
+		for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+			int n = index[slot];
+
+			if (n == FREE) {
+				return -1;
+			}
+
+			if (n > 0 && hashes[n - 1] == hash && Objects.equals(entries[(n - 1) * 2], key)) {
+				return slot;
+			}
+		}
+	}
+
+	private void append(K key, V value, int hash) {
+		if (used == hashes.length) {
+			// reclaim the removed entries if they are at least half, otherwise double the capacity
+			resize(index == null ? capacity(MIN_INDEX_LENGTH) : size < used / 2 ? hashes.length : capacity(index.length * 2));
+		}
+
+		int entry = used++;
+		entries[entry * 2] = key;
+		entries[entry * 2 + 1] = value;
+		hashes[entry] = hash;
+
+		int mask = index.length - 1;
+		int slot = hash & mask;
+
+		while (index[slot] > 0) {
+			slot = (slot + 1) & mask;
+		}
+
+		index[slot] = entry + 1;
+		size++;
+		modCount++;
+	}
+
+	private void removeAt(int slot) {
+		int entry = index[slot] - 1;
+
+		entries[entry * 2] = REMOVED;
+		entries[entry * 2 + 1] = null;
+		index[slot] = DELETED;
+		size--;
+		modCount++;
+	}
+
+	private void removeEntry(int entry) {
+		int mask = index.length - 1;
+		int slot = hashes[entry] & mask;
+
+		while (index[slot] != entry + 1) {
+			slot = (slot + 1) & mask;
+		}
+
+		removeAt(slot);
+	}
+
+	/**
+	 * Reallocates the arrays for the specified maximum number of entries, compacting the entries and rebuilding the index.
+	 */
+	private void resize(int capacity) {
+		Object[] newEntries = new Object[capacity * 2];
+		int[] newHashes = new int[capacity];
+		int[] newIndex = new int[indexLength(capacity)];
+		int mask = newIndex.length - 1;
+		int n = 0;
+
+		for (int i = 0; i < used; i++) {
+			if (entries[i * 2] != REMOVED) {
+				newEntries[n * 2] = entries[i * 2];
+				newEntries[n * 2 + 1] = entries[i * 2 + 1];
+				newHashes[n] = hashes[i];
+
+				int slot = hashes[i] & mask;
+
+				while (newIndex[slot] != FREE) {
+					slot = (slot + 1) & mask;
+				}
+
+				newIndex[slot] = ++n;
+			}
+		}
+
+		entries = newEntries;
+		hashes = newHashes;
+		index = newIndex;
+		used = n;
+	}
+
+	/**
+	 * The maximum number of entries for the index length, keeping the index at most 75% full.
+	 */
+	private static int capacity(int indexLength) {
+		return indexLength / 4 * 3;
+	}
+
+	/**
+	 * The smallest index length (a power of 2) that can hold the specified number of entries.
+	 */
+	private static int indexLength(int entries) {
+		int length = MIN_INDEX_LENGTH;
+
+		while (capacity(length) < entries) {
+			if (length >= Hashing.MAX_CAPACITY) {
+				throw new IllegalStateException("The maximum capacity has been reached!");
+			}
+
+			length *= 2;
+		}
+
+		return length;
+	}
+
+	/**
+	 * Iterates over the live entries in insertion order.
+	 */
+	private abstract class Cursor<E> implements Iterator<E> {
+
+		private int next = advance(0);
+
+		private int last = -1;
+
+		private int expectedModCount = modCount;
+
+		abstract E element(int entry);
+
+		@Override
+		public boolean hasNext() {
+			return next < used;
+		}
+
+		@Override
+		public E next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+
+			if (next >= used) {
+				throw new NoSuchElementException();
+			}
+
+			last = next;
+			next = advance(next + 1);
+
+			return element(last);
+		}
+
+		@Override
+		public void remove() {
+			if (last < 0) {
+				throw new IllegalStateException();
+			}
+
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+
+			removeEntry(last);
+			last = -1;
+			expectedModCount = modCount;
+		}
+
+		private int advance(int from) {
+			while (from < used && entries[from * 2] == REMOVED) {
+				from++;
+			}
+
+			return from;
+		}
+
+	}
+
+	/**
+	 * A view of the entry of a key, which writes the value through to the map while the key is mapped.
+	 * <p>
+	 * The position of the entry is looked up again after a structural modification, as a resize compacts the entries.
+	 * Once the key is removed, the entry keeps its last value (as the entries of {@code HashMap} do).
+	 */
+	private final class Node implements Entry<K, V> {
+
+		private final K key;
+
+		private V value;
+
+		/**
+		 * The position of the entry, or {@code -1} if the key was removed, valid as long as the map has the expected modification count.
+		 */
+		private int entry;
+
+		private int expectedModCount;
+
+		Node(int entry) {
+			this.key = keyAt(entry);
+			this.value = valueAt(entry);
+			this.entry = entry;
+			this.expectedModCount = modCount;
+		}
+
+		private int entry() {
+			if (modCount != expectedModCount) {
+				int slot = find(key, hash(key));
+				entry = slot >= 0 ? index[slot] - 1 : -1;
+				expectedModCount = modCount;
+			}
+
+			return entry;
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			int pos = entry();
+
+			if (pos >= 0) {
+				value = valueAt(pos);
+			}
+
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			V previous = getValue();
+			int pos = entry();
+
+			if (pos >= 0) {
+				entries[pos * 2 + 1] = value;
+			}
+
+			this.value = value;
+			return previous;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+
+			Entry<?, ?> e = (Entry<?, ?>) o;
+
+			return Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+
+	}
+
+}
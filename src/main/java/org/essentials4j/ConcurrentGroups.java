@@ -0,0 +1,117 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Concurrent grouping container: a concurrent map of groups, where each group (bucket) is guarded by its own lock.
+ * <p>
+ * All threads accumulate into the same container, so there is no merging of partial results at the end.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class ConcurrentGroups<K, E> {
+
+	private final ConcurrentHashMap<K, List<E>> buckets = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns a concurrent {@code Collector} that groups the input elements, in no particular order inside each group.
+	 */
+	static <T, K, G> Collector<T, ?, ConcurrentMap<K, G>> unordered(Function<? super T, ? extends K> classifier,
+	                                                                Function<List<T>, G> finisher) {
+		return Collector.of(
+			ConcurrentGroups::new,
+			(ConcurrentGroups<K, T> groups, T element) -> groups.add(classifier.apply(element), element),
+			ConcurrentGroups::merge,
+			groups -> groups.finish(finisher),
+			Collector.Characteristics.CONCURRENT,
+			Collector.Characteristics.UNORDERED
+		);
+	}
+
+	/**
+	 * Returns a concurrent {@code Collector} that groups the input elements, restoring their encounter order inside each group at the end.
+	 */
+	static <T, K, G> Collector<Indexed<T>, ?, ConcurrentMap<K, G>> ordered(Function<? super T, ? extends K> classifier,
+	                                                                       Function<List<T>, G> finisher) {
+		return Collector.of(
+			ConcurrentGroups::new,
+			(ConcurrentGroups<K, Indexed<T>> groups, Indexed<T> element) -> groups.add(classifier.apply(element.value), element),
+			ConcurrentGroups::merge,
+			groups -> groups.finish(bucket -> {
+				bucket.sort(Indexed.BY_INDEX);
+
+				List<T> values = new ArrayList<>(bucket.size());
+
+				for (Indexed<T> element : bucket) {
+					values.add(element.value);
+				}
+
+				return finisher.apply(values);
+			}),
+			Collector.Characteristics.CONCURRENT,
+			Collector.Characteristics.UNORDERED
+		);
+	}
+
+	void add(K key, E element) {
+		if (key == null) {
+			throw new NullPointerException("element cannot be mapped to a null key");
+		}
+
+		// look up before computeIfAbsent, which may lock the hash bin even if the key exists
+		List<E> bucket = buckets.get(key);
+
+		if (bucket == null) {
+			bucket = buckets.computeIfAbsent(key, k -> new ArrayList<>());
+		}
+
+		synchronized (bucket) {
+			bucket.add(element);
+		}
+	}
+
+	ConcurrentGroups<K, E> merge(ConcurrentGroups<K, E> other) {
+		other.buckets.forEach((key, bucket) -> {
+			for (E element : bucket) {
+				add(key, element);
+			}
+		});
+
+		return this;
+	}
+
+	<G> ConcurrentMap<K, G> finish(Function<List<E>, G> finisher) {
+		ConcurrentMap<K, G> groups = new ConcurrentHashMap<>(buckets.size() * 4 / 3 + 1);
+
+		buckets.forEach((key, bucket) -> groups.put(key, finisher.apply(bucket)));
+
+		return groups;
+	}
+
+}
@@ -20,9 +20,17 @@
 
 package org.essentials4j;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author Nikolche Mihajlovski
@@ -30,6 +38,12 @@ import java.util.stream.Stream;
  */
 public final class Do {
 
+	/**
+	 * The default minimum number of items that are processed in parallel, when the parallel execution mode is used.
+	 * Fewer items are processed sequentially, as the parallelization overhead would outweigh the gain.
+	 */
+	public static final long DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
 	/**
 	 * Static utilities. Do not instantiate.
 	 */
@@ -58,7 +72,30 @@ public final class Do {
 	public static <T> FindDSL<T> findIn(Iterable<T> items) {
 		Objects.requireNonNull(items);
 
-		return findIn(New.stream(items));
+		return new FindDSL<>(items);
+	}
+
+	/**
+	 * Searches through the specified items (array elements) for elements that satisfy the criteria that will be specified.
+	 * <p>
+	 * The search will be executed as soon as the search criteria is specified as predicate through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.findIn(items).exists(item -> criteria)
+	 * Do.findIn(items).first(item -> criteria)
+	 * Do.findIn(items).last(item -> criteria)
+	 * Do.findIn(items).any(item -> criteria)
+	 * Do.findIn(items).all(item -> criteria)
+	 * </code></pre>
+	 *
+	 * @param items the items to search through
+	 * @return DSL helper used to specify search criteria and execute the search through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static <T> FindDSL<T> findIn(T[] items) {
+		Objects.requireNonNull(items);
+
+		return new FindDSL<>(Arrays.asList(items));
 	}
 
 	/**
@@ -107,6 +144,242 @@ public final class Do {
 		return new FindDSL<>(items);
 	}
 
+	/**
+	 * Searches through the specified {@code int} items (array elements) for elements that satisfy the criteria that will be specified, without boxing them.
+	 * <p>
+	 * The search will be executed as soon as the search criteria is specified as predicate through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.findIn(items).exists(item -> criteria)
+	 * Do.findIn(items).first(item -> criteria)
+	 * Do.findIn(items).last(item -> criteria)
+	 * Do.findIn(items).any(item -> criteria)
+	 * Do.findIn(items).all(item -> criteria)
+	 * </code></pre>
+	 *
+	 * @param items the items to search through
+	 * @return DSL helper used to specify search criteria and execute the search through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static FindIntDSL findIn(int[] items) {
+		Objects.requireNonNull(items);
+
+		return new FindIntDSL(items);
+	}
+
+	/**
+	 * Searches through the specified {@code long} items (array elements) for elements that satisfy the criteria that will be specified, without boxing them.
+	 * <p>
+	 * The search will be executed as soon as the search criteria is specified as predicate through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.findIn(items).exists(item -> criteria)
+	 * Do.findIn(items).first(item -> criteria)
+	 * Do.findIn(items).last(item -> criteria)
+	 * Do.findIn(items).any(item -> criteria)
+	 * Do.findIn(items).all(item -> criteria)
+	 * </code></pre>
+	 *
+	 * @param items the items to search through
+	 * @return DSL helper used to specify search criteria and execute the search through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static FindLongDSL findIn(long[] items) {
+		Objects.requireNonNull(items);
+
+		return new FindLongDSL(items);
+	}
+
+	/**
+	 * Searches through the specified {@code double} items (array elements) for elements that satisfy the criteria that will be specified, without boxing them.
+	 * <p>
+	 * The search will be executed as soon as the search criteria is specified as predicate through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.findIn(items).exists(item -> criteria)
+	 * Do.findIn(items).first(item -> criteria)
+	 * Do.findIn(items).last(item -> criteria)
+	 * Do.findIn(items).any(item -> criteria)
+	 * Do.findIn(items).all(item -> criteria)
+	 * </code></pre>
+	 *
+	 * @param items the items to search through
+	 * @return DSL helper used to specify search criteria and execute the search through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static FindDoubleDSL findIn(double[] items) {
+		Objects.requireNonNull(items);
+
+		return new FindDoubleDSL(items);
+	}
+
+	/**
+	 * Searches through the specified {@code int} items for elements that satisfy the criteria that will be specified, without boxing them.
+	 * <p>
+	 * The search will be executed as soon as the search criteria is specified as predicate through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.findIn(items).exists(item -> criteria)
+	 * Do.findIn(items).first(item -> criteria)
+	 * Do.findIn(items).last(item -> criteria)
+	 * Do.findIn(items).any(item -> criteria)
+	 * Do.findIn(items).all(item -> criteria)
+	 * </code></pre>
+	 *
+	 * @param items the items to search through
+	 * @return DSL helper used to specify search criteria and execute the search through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static FindIntDSL findIn(IntStream items) {
+		Objects.requireNonNull(items);
+
+		return new FindIntDSL(items);
+	}
+
+	/**
+	 * Searches through the specified {@code long} items for elements that satisfy the criteria that will be specified, without boxing them.
+	 * <p>
+	 * The search will be executed as soon as the search criteria is specified as predicate through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.findIn(items).exists(item -> criteria)
+	 * Do.findIn(items).first(item -> criteria)
+	 * Do.findIn(items).last(item -> criteria)
+	 * Do.findIn(items).any(item -> criteria)
+	 * Do.findIn(items).all(item -> criteria)
+	 * </code></pre>
+	 *
+	 * @param items the items to search through
+	 * @return DSL helper used to specify search criteria and execute the search through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static FindLongDSL findIn(LongStream items) {
+		Objects.requireNonNull(items);
+
+		return new FindLongDSL(items);
+	}
+
+	/**
+	 * Searches through the specified {@code double} items for elements that satisfy the criteria that will be specified, without boxing them.
+	 * <p>
+	 * The search will be executed as soon as the search criteria is specified as predicate through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.findIn(items).exists(item -> criteria)
+	 * Do.findIn(items).first(item -> criteria)
+	 * Do.findIn(items).last(item -> criteria)
+	 * Do.findIn(items).any(item -> criteria)
+	 * Do.findIn(items).all(item -> criteria)
+	 * </code></pre>
+	 *
+	 * @param items the items to search through
+	 * @return DSL helper used to specify search criteria and execute the search through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static FindDoubleDSL findIn(DoubleStream items) {
+		Objects.requireNonNull(items);
+
+		return new FindDoubleDSL(items);
+	}
+
+	/**
+	 * Searches through the specified {@code int} items ({@code IntList} elements) for elements that satisfy the criteria that will be specified, without boxing them.
+	 * <p>
+	 * The search will be executed as soon as the search criteria is specified as predicate through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.findIn(items).exists(item -> criteria)
+	 * Do.findIn(items).first(item -> criteria)
+	 * Do.findIn(items).last(item -> criteria)
+	 * Do.findIn(items).any(item -> criteria)
+	 * Do.findIn(items).all(item -> criteria)
+	 * </code></pre>
+	 *
+	 * @param items the items to search through
+	 * @return DSL helper used to specify search criteria and execute the search through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static FindIntDSL findIn(IntList items) {
+		Objects.requireNonNull(items);
+
+		return new FindIntDSL(items.elements(), items.size(), items);
+	}
+
+	/**
+	 * Searches through the specified {@code long} items ({@code LongList} elements) for elements that satisfy the criteria that will be specified, without boxing them.
+	 * <p>
+	 * The search will be executed as soon as the search criteria is specified as predicate through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.findIn(items).exists(item -> criteria)
+	 * Do.findIn(items).first(item -> criteria)
+	 * Do.findIn(items).last(item -> criteria)
+	 * Do.findIn(items).any(item -> criteria)
+	 * Do.findIn(items).all(item -> criteria)
+	 * </code></pre>
+	 *
+	 * @param items the items to search through
+	 * @return DSL helper used to specify search criteria and execute the search through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static FindLongDSL findIn(LongList items) {
+		Objects.requireNonNull(items);
+
+		return new FindLongDSL(items.elements(), items.size(), items);
+	}
+
+	/**
+	 * Searches through the specified {@code int} items ({@code IntSet} values) for elements that satisfy the criteria that will be specified, without boxing them.
+	 * <p>
+	 * The search will be executed as soon as the search criteria is specified as predicate through method chain call.
+	 * The values of the set are copied into an array first, in unspecified order.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.findIn(items).exists(item -> criteria)
+	 * Do.findIn(items).first(item -> criteria)
+	 * Do.findIn(items).last(item -> criteria)
+	 * Do.findIn(items).any(item -> criteria)
+	 * Do.findIn(items).all(item -> criteria)
+	 * </code></pre>
+	 *
+	 * @param items the items to search through
+	 * @return DSL helper used to specify search criteria and execute the search through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static FindIntDSL findIn(IntSet items) {
+		Objects.requireNonNull(items);
+
+		int[] values = items.toArray();
+
+		return new FindIntDSL(values, values.length, items);
+	}
+
+	/**
+	 * Searches through the specified {@code long} items ({@code LongSet} values) for elements that satisfy the criteria that will be specified, without boxing them.
+	 * <p>
+	 * The search will be executed as soon as the search criteria is specified as predicate through method chain call.
+	 * The values of the set are copied into an array first, in unspecified order.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.findIn(items).exists(item -> criteria)
+	 * Do.findIn(items).first(item -> criteria)
+	 * Do.findIn(items).last(item -> criteria)
+	 * Do.findIn(items).any(item -> criteria)
+	 * Do.findIn(items).all(item -> criteria)
+	 * </code></pre>
+	 *
+	 * @param items the items to search through
+	 * @return DSL helper used to specify search criteria and execute the search through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static FindLongDSL findIn(LongSet items) {
+		Objects.requireNonNull(items);
+
+		long[] values = items.toArray();
+
+		return new FindLongDSL(values, values.length, items);
+	}
+
 	/* map */
 
 	/**
@@ -127,7 +400,7 @@ public final class Do {
 	public static <T> MapDSL<T> map(Iterable<T> items) {
 		Objects.requireNonNull(items);
 
-		return map(New.stream(items));
+		return new MapDSL<>(items);
 	}
 
 	/**
@@ -169,51 +442,275 @@ public final class Do {
 	public static <T> MapDSL<T> map(Stream<T> items) {
 		Objects.requireNonNull(items);
 
-		return new MapDSL<>(items);
-	}
+		if (items.isParallel()) {
+			return new MapDSL<>(items);
+		}
 
-	/* group */
+		// the results are presized if the stream knows its size, the close handlers stay with the original stream
+		Spliterator<T> spliterator = items.spliterator();
+		Stream<T> stream = StreamSupport.stream(spliterator, false).onClose(items::close);
+
+		return new MapDSL<>(stream, Loops.sizeOf(spliterator));
+	}
 
 	/**
-	 * Groups the specified items according to a classification function that will be specified.
+	 * Maps (transforms) the specified {@code int} items (array elements) by applying the transformation function that will be specified, without boxing them.
 	 * <p>
-	 * The grouping will be executed as soon as the classification function is specified through method chain call.
+	 * The mapping will be executed as soon as the transformation function is specified through method chain call.
 	 * <p> Usage:
 	 * <pre><code>
-	 * Do.group(items).by(item -> classifier)
+	 * Do.map(items).toIntArray(item -> transformation)
+	 * Do.map(items).toList(item -> transformation)
+	 * Do.map(items).toSet(item -> transformation)
 	 * </code></pre>
 	 *
-	 * @param items the items to group
-	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @param items the items to map (transform)
+	 * @return DSL helper used to specify transformation function and execute the mapping through method chain call
 	 * @throws NullPointerException if {@code items} is {@code null}
 	 */
-	public static <T> GroupDSL<T> group(Iterable<T> items) {
+	public static MapIntDSL map(int[] items) {
 		Objects.requireNonNull(items);
 
-		return group(New.stream(items));
+		return new MapIntDSL(items);
 	}
 
 	/**
-	 * Groups the specified items according to a classification function that will be specified.
+	 * Maps (transforms) the specified {@code long} items (array elements) by applying the transformation function that will be specified, without boxing them.
 	 * <p>
-	 * The grouping will be executed as soon as the classification function is specified through method chain call.
+	 * The mapping will be executed as soon as the transformation function is specified through method chain call.
 	 * <p> Usage:
 	 * <pre><code>
-	 * Do.group(items).by((key, value) -> classifier)
+	 * Do.map(items).toLongArray(item -> transformation)
+	 * Do.map(items).toList(item -> transformation)
+	 * Do.map(items).toSet(item -> transformation)
 	 * </code></pre>
 	 *
-	 * @param items the items to group
-	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @param items the items to map (transform)
+	 * @return DSL helper used to specify transformation function and execute the mapping through method chain call
 	 * @throws NullPointerException if {@code items} is {@code null}
 	 */
-	public static <K, V> GroupBiDSL<K, V> group(Map<K, V> items) {
+	public static MapLongDSL map(long[] items) {
 		Objects.requireNonNull(items);
 
-		return new GroupBiDSL<>(items);
+		return new MapLongDSL(items);
 	}
 
 	/**
-	 * Groups the specified items according to a classification function that will be specified.
+	 * Maps (transforms) the specified {@code double} items (array elements) by applying the transformation function that will be specified, without boxing them.
+	 * <p>
+	 * The mapping will be executed as soon as the transformation function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.map(items).toDoubleArray(item -> transformation)
+	 * Do.map(items).toList(item -> transformation)
+	 * Do.map(items).toSet(item -> transformation)
+	 * </code></pre>
+	 *
+	 * @param items the items to map (transform)
+	 * @return DSL helper used to specify transformation function and execute the mapping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static MapDoubleDSL map(double[] items) {
+		Objects.requireNonNull(items);
+
+		return new MapDoubleDSL(items);
+	}
+
+	/**
+	 * Maps (transforms) the specified {@code int} items by applying the transformation function that will be specified, without boxing them.
+	 * <p>
+	 * The mapping will be executed as soon as the transformation function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.map(items).toIntArray(item -> transformation)
+	 * Do.map(items).toList(item -> transformation)
+	 * Do.map(items).toSet(item -> transformation)
+	 * </code></pre>
+	 *
+	 * @param items the items to map (transform)
+	 * @return DSL helper used to specify transformation function and execute the mapping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static MapIntDSL map(IntStream items) {
+		Objects.requireNonNull(items);
+
+		return new MapIntDSL(items);
+	}
+
+	/**
+	 * Maps (transforms) the specified {@code long} items by applying the transformation function that will be specified, without boxing them.
+	 * <p>
+	 * The mapping will be executed as soon as the transformation function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.map(items).toLongArray(item -> transformation)
+	 * Do.map(items).toList(item -> transformation)
+	 * Do.map(items).toSet(item -> transformation)
+	 * </code></pre>
+	 *
+	 * @param items the items to map (transform)
+	 * @return DSL helper used to specify transformation function and execute the mapping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static MapLongDSL map(LongStream items) {
+		Objects.requireNonNull(items);
+
+		return new MapLongDSL(items);
+	}
+
+	/**
+	 * Maps (transforms) the specified {@code double} items by applying the transformation function that will be specified, without boxing them.
+	 * <p>
+	 * The mapping will be executed as soon as the transformation function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.map(items).toDoubleArray(item -> transformation)
+	 * Do.map(items).toList(item -> transformation)
+	 * Do.map(items).toSet(item -> transformation)
+	 * </code></pre>
+	 *
+	 * @param items the items to map (transform)
+	 * @return DSL helper used to specify transformation function and execute the mapping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static MapDoubleDSL map(DoubleStream items) {
+		Objects.requireNonNull(items);
+
+		return new MapDoubleDSL(items);
+	}
+
+	/**
+	 * Maps (transforms) the specified {@code int} items ({@code IntList} elements) by applying the transformation function that will be specified, without boxing them.
+	 * <p>
+	 * The mapping will be executed as soon as the transformation function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.map(items).toIntArray(item -> transformation)
+	 * Do.map(items).toList(item -> transformation)
+	 * Do.map(items).toSet(item -> transformation)
+	 * </code></pre>
+	 *
+	 * @param items the items to map (transform)
+	 * @return DSL helper used to specify transformation function and execute the mapping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static MapIntDSL map(IntList items) {
+		Objects.requireNonNull(items);
+
+		return new MapIntDSL(items.elements(), items.size(), items);
+	}
+
+	/**
+	 * Maps (transforms) the specified {@code long} items ({@code LongList} elements) by applying the transformation function that will be specified, without boxing them.
+	 * <p>
+	 * The mapping will be executed as soon as the transformation function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.map(items).toLongArray(item -> transformation)
+	 * Do.map(items).toList(item -> transformation)
+	 * Do.map(items).toSet(item -> transformation)
+	 * </code></pre>
+	 *
+	 * @param items the items to map (transform)
+	 * @return DSL helper used to specify transformation function and execute the mapping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static MapLongDSL map(LongList items) {
+		Objects.requireNonNull(items);
+
+		return new MapLongDSL(items.elements(), items.size(), items);
+	}
+
+	/**
+	 * Maps (transforms) the specified {@code int} items ({@code IntSet} values) by applying the transformation function that will be specified, without boxing them.
+	 * <p>
+	 * The mapping will be executed as soon as the transformation function is specified through method chain call.
+	 * The values of the set are copied into an array first, in unspecified order.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.map(items).toIntArray(item -> transformation)
+	 * Do.map(items).toList(item -> transformation)
+	 * Do.map(items).toSet(item -> transformation)
+	 * </code></pre>
+	 *
+	 * @param items the items to map (transform)
+	 * @return DSL helper used to specify transformation function and execute the mapping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static MapIntDSL map(IntSet items) {
+		Objects.requireNonNull(items);
+
+		int[] values = items.toArray();
+
+		return new MapIntDSL(values, values.length, items);
+	}
+
+	/**
+	 * Maps (transforms) the specified {@code long} items ({@code LongSet} values) by applying the transformation function that will be specified, without boxing them.
+	 * <p>
+	 * The mapping will be executed as soon as the transformation function is specified through method chain call.
+	 * The values of the set are copied into an array first, in unspecified order.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.map(items).toLongArray(item -> transformation)
+	 * Do.map(items).toList(item -> transformation)
+	 * Do.map(items).toSet(item -> transformation)
+	 * </code></pre>
+	 *
+	 * @param items the items to map (transform)
+	 * @return DSL helper used to specify transformation function and execute the mapping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static MapLongDSL map(LongSet items) {
+		Objects.requireNonNull(items);
+
+		long[] values = items.toArray();
+
+		return new MapLongDSL(values, values.length, items);
+	}
+
+	/* group */
+
+	/**
+	 * Groups the specified items according to a classification function that will be specified.
+	 * <p>
+	 * The grouping will be executed as soon as the classification function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.group(items).by(item -> classifier)
+	 * </code></pre>
+	 *
+	 * @param items the items to group
+	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static <T> GroupDSL<T> group(Iterable<T> items) {
+		Objects.requireNonNull(items);
+
+		return new GroupDSL<>(New.stream(items), null, items);
+	}
+
+	/**
+	 * Groups the specified items according to a classification function that will be specified.
+	 * <p>
+	 * The grouping will be executed as soon as the classification function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.group(items).by((key, value) -> classifier)
+	 * </code></pre>
+	 *
+	 * @param items the items to group
+	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static <K, V> GroupBiDSL<K, V> group(Map<K, V> items) {
+		Objects.requireNonNull(items);
+
+		return new GroupBiDSL<>(items);
+	}
+
+	/**
+	 * Groups the specified items according to a classification function that will be specified.
 	 * <p>
 	 * The grouping will be executed as soon as the classification function is specified through method chain call.
 	 * <p> Usage:
@@ -231,4 +728,337 @@ public final class Do {
 		return new GroupDSL<>(items);
 	}
 
+	/**
+	 * Groups the specified {@code int} items (array elements) according to a classification function that will be specified, without boxing them.
+	 * <p>
+	 * The grouping will be executed as soon as the classification function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.group(items).by(item -> classifier)
+	 * </code></pre>
+	 *
+	 * @param items the items to group
+	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static GroupIntDSL group(int[] items) {
+		Objects.requireNonNull(items);
+
+		return new GroupIntDSL(items);
+	}
+
+	/**
+	 * Groups the specified {@code long} items (array elements) according to a classification function that will be specified, without boxing them.
+	 * <p>
+	 * The grouping will be executed as soon as the classification function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.group(items).by(item -> classifier)
+	 * </code></pre>
+	 *
+	 * @param items the items to group
+	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static GroupLongDSL group(long[] items) {
+		Objects.requireNonNull(items);
+
+		return new GroupLongDSL(items);
+	}
+
+	/**
+	 * Groups the specified {@code double} items (array elements) according to a classification function that will be specified, without boxing them.
+	 * <p>
+	 * The grouping will be executed as soon as the classification function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.group(items).by(item -> classifier)
+	 * </code></pre>
+	 *
+	 * @param items the items to group
+	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static GroupDoubleDSL group(double[] items) {
+		Objects.requireNonNull(items);
+
+		return new GroupDoubleDSL(items);
+	}
+
+	/**
+	 * Groups the specified {@code int} items according to a classification function that will be specified, without boxing them.
+	 * <p>
+	 * The grouping will be executed as soon as the classification function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.group(items).by(item -> classifier)
+	 * </code></pre>
+	 *
+	 * @param items the items to group
+	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static GroupIntDSL group(IntStream items) {
+		Objects.requireNonNull(items);
+
+		return new GroupIntDSL(items);
+	}
+
+	/**
+	 * Groups the specified {@code long} items according to a classification function that will be specified, without boxing them.
+	 * <p>
+	 * The grouping will be executed as soon as the classification function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.group(items).by(item -> classifier)
+	 * </code></pre>
+	 *
+	 * @param items the items to group
+	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static GroupLongDSL group(LongStream items) {
+		Objects.requireNonNull(items);
+
+		return new GroupLongDSL(items);
+	}
+
+	/**
+	 * Groups the specified {@code double} items according to a classification function that will be specified, without boxing them.
+	 * <p>
+	 * The grouping will be executed as soon as the classification function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.group(items).by(item -> classifier)
+	 * </code></pre>
+	 *
+	 * @param items the items to group
+	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static GroupDoubleDSL group(DoubleStream items) {
+		Objects.requireNonNull(items);
+
+		return new GroupDoubleDSL(items);
+	}
+
+	/**
+	 * Groups the specified {@code int} items ({@code IntList} elements) according to a classification function that will be specified, without boxing them.
+	 * <p>
+	 * The grouping will be executed as soon as the classification function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.group(items).by(item -> classifier)
+	 * </code></pre>
+	 *
+	 * @param items the items to group
+	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static GroupIntDSL group(IntList items) {
+		Objects.requireNonNull(items);
+
+		return new GroupIntDSL(items.elements(), items.size(), items);
+	}
+
+	/**
+	 * Groups the specified {@code long} items ({@code LongList} elements) according to a classification function that will be specified, without boxing them.
+	 * <p>
+	 * The grouping will be executed as soon as the classification function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.group(items).by(item -> classifier)
+	 * </code></pre>
+	 *
+	 * @param items the items to group
+	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static GroupLongDSL group(LongList items) {
+		Objects.requireNonNull(items);
+
+		return new GroupLongDSL(items.elements(), items.size(), items);
+	}
+
+	/**
+	 * Groups the specified {@code int} items ({@code IntSet} values) according to a classification function that will be specified, without boxing them.
+	 * <p>
+	 * The grouping will be executed as soon as the classification function is specified through method chain call.
+	 * The values of the set are copied into an array first, in unspecified order.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.group(items).by(item -> classifier)
+	 * </code></pre>
+	 *
+	 * @param items the items to group
+	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static GroupIntDSL group(IntSet items) {
+		Objects.requireNonNull(items);
+
+		int[] values = items.toArray();
+
+		return new GroupIntDSL(values, values.length, items);
+	}
+
+	/**
+	 * Groups the specified {@code long} items ({@code LongSet} values) according to a classification function that will be specified, without boxing them.
+	 * <p>
+	 * The grouping will be executed as soon as the classification function is specified through method chain call.
+	 * The values of the set are copied into an array first, in unspecified order.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.group(items).by(item -> classifier)
+	 * </code></pre>
+	 *
+	 * @param items the items to group
+	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static GroupLongDSL group(LongSet items) {
+		Objects.requireNonNull(items);
+
+		long[] values = items.toArray();
+
+		return new GroupLongDSL(values, values.length, items);
+	}
+
+	/* batch */
+
+	/**
+	 * Splits the specified items into consecutive batches of the specified size (the last batch may be smaller).
+	 * <p>
+	 * Nothing is copied for a random access {@code List}: the batches are {@code subList} views of it.
+	 * For any other items, each batch is collected into the same reused (unmodifiable) buffer,
+	 * so a batch is valid only until the next one is requested.
+	 * <p> Usage:
+	 * <pre><code>
+	 * for (List&lt;T&gt; batch : Do.batch(items, size)) { ... }
+	 * </code></pre>
+	 *
+	 * @param items     the items to split into batches
+	 * @param batchSize the maximum number of items in a batch
+	 * @return a lazy {@code Iterable} view of the batches
+	 * @throws NullPointerException     if {@code items} is {@code null}
+	 * @throws IllegalArgumentException if {@code batchSize} is not positive
+	 */
+	public static <T> Iterable<List<T>> batch(Iterable<T> items, int batchSize) {
+		Objects.requireNonNull(items);
+		Views.requireValidBatchSize(batchSize);
+
+		return Views.batches(items, batchSize);
+	}
+
+	/* index */
+
+	/**
+	 * Indexes the specified items according to a key function that will be specified.
+	 * <p>
+	 * The index will be built as soon as the key function is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.index(items).by(item -> key)
+	 * Do.index(items).unique(item -> key)
+	 * </code></pre>
+	 *
+	 * @param items the items to index
+	 * @return DSL helper used to specify the key function and build the index through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	public static <T> IndexDSL<T> index(Iterable<T> items) {
+		Objects.requireNonNull(items);
+
+		return new IndexDSL<>(New.frozenList(items));
+	}
+
+	/* join */
+
+	/**
+	 * Joins the specified left and right items by the matching keys that will be specified, through a hash join.
+	 * <p>
+	 * The join will be executed as soon as its kind is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.join(orders, customers).on(order -&gt; order.customerId, customer -&gt; customer.id).inner((order, customer) -&gt; result)
+	 * Do.join(orders, customers).on(order -&gt; order.customerId, customer -&gt; customer.id).leftOuter()
+	 * Do.join(orders, customers).on(order -&gt; order.customerId, customer -&gt; customer.id).anti()
+	 * </code></pre>
+	 *
+	 * @param left  the left items, which determine the order of the results
+	 * @param right the right items
+	 * @return DSL helper used to specify the keys and the kind of the join and execute it through method chain call
+	 * @throws NullPointerException if {@code left} or {@code right} is {@code null}
+	 */
+	public static <L, R> JoinDSL<L, R> join(Iterable<L> left, Iterable<R> right) {
+		Objects.requireNonNull(left);
+		Objects.requireNonNull(right);
+
+		return new JoinDSL<>(left, right, null);
+	}
+
+	/* pipeline */
+
+	/**
+	 * Starts the specification of a reusable pipeline, which will be compiled once and executed in a single loop on each run.
+	 * <p>
+	 * The pipeline will be compiled as soon as its result is specified through method chain call.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Pipeline&lt;T, List&lt;R&gt;&gt; pipeline = Do.pipeline(T.class).where(item -> criteria).map(item -> transformation).toList();
+	 * List&lt;R&gt; results = pipeline.run(items);
+	 * </code></pre>
+	 *
+	 * @param type the type of the input elements
+	 * @return DSL helper used to specify the stages and compile the pipeline through method chain call
+	 * @throws NullPointerException if {@code type} is {@code null}
+	 */
+	public static <T> PipelineDSL<T, T> pipeline(Class<T> type) {
+		Objects.requireNonNull(type);
+
+		return new PipelineDSL<>();
+	}
+
+	/* parallel */
+
+	/**
+	 * Executes the search, mapping or grouping operation that will be specified in parallel, inside the specified {@code ForkJoinPool}.
+	 * <p>
+	 * The common {@code ForkJoinPool} is never used. Fewer than {@link #DEFAULT_PARALLEL_THRESHOLD} items are processed sequentially.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.parallel(pool).findIn(items).all(item -> criteria)
+	 * Do.parallel(pool).map(items).toList(item -> transformation)
+	 * Do.parallel(pool).group(items).by(item -> classifier)
+	 * </code></pre>
+	 *
+	 * @param pool the pool that will execute the operation
+	 * @return DSL helper used to specify the items and the operation through method chain call
+	 * @throws NullPointerException if {@code pool} is {@code null}
+	 */
+	public static ParallelDSL parallel(ForkJoinPool pool) {
+		return parallel(pool, DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * Executes the search, mapping or grouping operation that will be specified in parallel, inside the specified {@code ForkJoinPool}.
+	 * <p>
+	 * The common {@code ForkJoinPool} is never used. Fewer than {@code threshold} items are processed sequentially.
+	 * <p> Usage:
+	 * <pre><code>
+	 * Do.parallel(pool, threshold).findIn(items).all(item -> criteria)
+	 * Do.parallel(pool, threshold).map(items).toList(item -> transformation)
+	 * Do.parallel(pool, threshold).group(items).by(item -> classifier)
+	 * </code></pre>
+	 *
+	 * @param pool      the pool that will execute the operation
+	 * @param threshold the minimum number of items that will be processed in parallel
+	 * @return DSL helper used to specify the items and the operation through method chain call
+	 * @throws NullPointerException     if {@code pool} is {@code null}
+	 * @throws IllegalArgumentException if {@code threshold} is negative
+	 */
+	public static ParallelDSL parallel(ForkJoinPool pool, long threshold) {
+		return new ParallelDSL(new Parallel(pool, threshold));
+	}
+
 }
@@ -0,0 +1,139 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * DSL helper used to specify classification function and execute a memory-bounded (external) grouping through method chain call.
+ * <p>
+ * The items are serialized into hash partitions as they arrive. While their total size fits in the memory budget, the partitions are
+ * kept in memory. Beyond it, they are spilled to temporary files. Then the partitions are grouped one at a time,
+ * and a partition that is still larger than the budget is split further by the next bits of the key hashes.
+ * <p>
+ * The groups are handed to a consumer one at a time, so only a single partition is grouped in memory at once.
+ * Each group must fit in memory by itself.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class ExternalGroupDSL<T> {
+
+	private static final int PARTITION_BITS = 6;
+
+	private static final int PARTITIONS = 1 << PARTITION_BITS;
+
+	/**
+	 * The deepest level of re-partitioning, after which the key hash bits are exhausted.
+	 */
+	private static final int MAX_LEVEL = 32 / PARTITION_BITS - 1;
+
+	private final Stream<T> stream;
+
+	private final long memoryBudget;
+
+	private final Serializer<T> serializer;
+
+	private final Path tempDir;
+
+	/**
+	 * The source items of the stream, if they are known (or {@code null} otherwise), only used to report their number in the metrics.
+	 */
+	private final Iterable<T> items;
+
+	ExternalGroupDSL(Stream<T> stream, long memoryBudget, Serializer<T> serializer, Path tempDir, Iterable<T> items) {
+		this.stream = stream;
+		this.memoryBudget = memoryBudget;
+		this.serializer = serializer;
+		this.tempDir = tempDir;
+		this.items = items;
+	}
+
+	/**
+	 * Groups the pre-specified items according to the specified classification function, which maps each element to a classification key,
+	 * and hands each group to the specified consumer.
+	 * <p>
+	 * The elements inside each group are kept in their encounter order, but the groups are handed in unspecified order.
+	 * The classification function may be invoked more than once per element.
+	 *
+	 * @param classifier the classification function used to group the items
+	 * @param consumer   the consumer of the groups, invoked with each classification key and a {@code List} of all elements that were mapped to that key
+	 * @throws NullPointerException         if {@code classifier} or {@code consumer} is {@code null}, or the classifier returns a {@code null} key
+	 * @throws java.io.UncheckedIOException if an I/O error occurs while spilling or reading back the items
+	 */
+	public <K> void by(Function<? super T, ? extends K> classifier, BiConsumer<? super K, ? super List<T>> consumer) {
+		Objects.requireNonNull(classifier);
+		Objects.requireNonNull(consumer);
+		long start = Metrics.start();
+
+		try (Spill<T> spill = new Spill<>(serializer, memoryBudget, tempDir, PARTITIONS)) {
+			stream.sequential().forEach(item -> spill.add(partition(classifier.apply(item), 0), item));
+
+			group(spill, classifier, consumer, 0);
+		}
+
+		// the groups are handed to the consumer, so there is no result to count
+		Metrics.end(start, "ExternalGroupDSL.by", items, null);
+	}
+
+	private <K> void group(Spill<T> spill, Function<? super T, ? extends K> classifier,
+	                       BiConsumer<? super K, ? super List<T>> consumer, int level) {
+
+		if (spill.spilled()) {
+			// leave the whole budget to the partition being grouped
+			spill.spillAll();
+		}
+
+		for (int p = 0; p < spill.partitions(); p++) {
+			if (spill.count(p) == 0) {
+				continue;
+			}
+
+			if (spill.bytes(p) > memoryBudget && level < MAX_LEVEL) {
+				int next = level + 1;
+
+				try (Spill<T> sub = new Spill<>(serializer, memoryBudget, tempDir, PARTITIONS)) {
+					spill.drain(p, item -> sub.add(partition(classifier.apply(item), next), item));
+					group(sub, classifier, consumer, next);
+				}
+
+			} else {
+				Map<K, List<T>> groups = New.map();
+
+				spill.drain(p, item -> groups.computeIfAbsent(classifier.apply(item), key -> New.list()).add(item));
+				groups.forEach(consumer);
+			}
+		}
+	}
+
+	private static int partition(Object key, int level) {
+		Objects.requireNonNull(key, "element cannot be mapped to a null key");
+
+		return (Hashing.mix(key.hashCode()) >>> (level * PARTITION_BITS)) & (PARTITIONS - 1);
+	}
+
+}
@@ -0,0 +1,254 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * DSL helper used to specify the kind of the join and execute a memory-bounded (external) join through method chain call.
+ * <p>
+ * This is a grace hash join: the left and right items are serialized into hash partitions by their keys, which are kept in memory while
+ * their total size fits in the memory budget, and spilled to temporary files beyond it. Then the partitions are joined one at a time:
+ * a hash table is built from the right items of the partition, and the left items of the partition look up their keys in it.
+ * A right partition that is still larger than the budget is split further (together with its left partition) by the next bits of the key hashes.
+ * <p>
+ * The right items are the build side, so only a single partition of them is kept in memory at once, while the left items are streamed.
+ * The larger side should therefore be specified as the left items. The items with equal keys must fit in memory together.
+ * <p>
+ * The results are handed to a consumer one at a time. The left items of each partition are handed in their original order,
+ * but the partitions are handed in unspecified order. The items with {@code null} keys never match.
+ * The key functions may be invoked more than once per item.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class ExternalJoinDSL<L, R, K> {
+
+	private static final int PARTITION_BITS = 6;
+
+	private static final int PARTITIONS = 1 << PARTITION_BITS;
+
+	/**
+	 * The deepest level of re-partitioning, after which the key hash bits are exhausted.
+	 */
+	private static final int MAX_LEVEL = 32 / PARTITION_BITS - 1;
+
+	private final Iterable<L> left;
+
+	private final Iterable<R> right;
+
+	private final Function<? super L, ? extends K> leftKey;
+
+	private final Function<? super R, ? extends K> rightKey;
+
+	private final long memoryBudget;
+
+	private final Serializer<L> leftSerializer;
+
+	private final Serializer<R> rightSerializer;
+
+	private final Path tempDir;
+
+	ExternalJoinDSL(Iterable<L> left, Iterable<R> right, Function<? super L, ? extends K> leftKey, Function<? super R, ? extends K> rightKey,
+	                long memoryBudget, Serializer<L> leftSerializer, Serializer<R> rightSerializer, Path tempDir) {
+		this.left = left;
+		this.right = right;
+		this.leftKey = leftKey;
+		this.rightKey = rightKey;
+		this.memoryBudget = memoryBudget;
+		this.leftSerializer = leftSerializer;
+		this.rightSerializer = rightSerializer;
+		this.tempDir = tempDir;
+	}
+
+	/**
+	 * Executes an inner join, handing each left item with each matching right item to the specified consumer.
+	 *
+	 * @param consumer the consumer of the pairs of matching items
+	 * @throws NullPointerException         if {@code consumer} is {@code null}
+	 * @throws java.io.UncheckedIOException if an I/O error occurs while spilling or reading back the items
+	 */
+	public void inner(BiConsumer<? super L, ? super R> consumer) {
+		Objects.requireNonNull(consumer);
+
+		join("ExternalJoinDSL.inner", (item, matches) -> {
+			for (R match : matches) {
+				consumer.accept(item, match);
+			}
+		});
+	}
+
+	/**
+	 * Executes a left outer join, handing each left item with each matching right item, or with {@code null} if there are none,
+	 * to the specified consumer.
+	 *
+	 * @param consumer the consumer of the pairs of matching items
+	 * @throws NullPointerException         if {@code consumer} is {@code null}
+	 * @throws java.io.UncheckedIOException if an I/O error occurs while spilling or reading back the items
+	 */
+	public void leftOuter(BiConsumer<? super L, ? super R> consumer) {
+		Objects.requireNonNull(consumer);
+
+		join("ExternalJoinDSL.leftOuter", (item, matches) -> {
+			if (matches.isEmpty()) {
+				consumer.accept(item, null);
+			}
+
+			for (R match : matches) {
+				consumer.accept(item, match);
+			}
+		});
+	}
+
+	/**
+	 * Executes a grouped join, handing each left item with all of its matching right items to the specified consumer.
+	 *
+	 * @param consumer the consumer of the left items and unmodifiable lists of their matches, which are empty for the left items without any
+	 * @throws NullPointerException         if {@code consumer} is {@code null}
+	 * @throws java.io.UncheckedIOException if an I/O error occurs while spilling or reading back the items
+	 */
+	public void grouped(BiConsumer<? super L, ? super List<R>> consumer) {
+		Objects.requireNonNull(consumer);
+
+		join("ExternalJoinDSL.grouped", (item, matches) -> consumer.accept(item, Collections.unmodifiableList(matches)));
+	}
+
+	/**
+	 * Executes a semi join, handing the left items that have any matching right items to the specified consumer.
+	 *
+	 * @param consumer the consumer of the left items that have any matches
+	 * @throws NullPointerException         if {@code consumer} is {@code null}
+	 * @throws java.io.UncheckedIOException if an I/O error occurs while spilling or reading back the items
+	 */
+	public void semi(Consumer<? super L> consumer) {
+		Objects.requireNonNull(consumer);
+
+		join("ExternalJoinDSL.semi", (item, matches) -> {
+			if (!matches.isEmpty()) {
+				consumer.accept(item);
+			}
+		});
+	}
+
+	/**
+	 * Executes an anti join, handing the left items that don't have any matching right items to the specified consumer.
+	 *
+	 * @param consumer the consumer of the left items that don't have any matches
+	 * @throws NullPointerException         if {@code consumer} is {@code null}
+	 * @throws java.io.UncheckedIOException if an I/O error occurs while spilling or reading back the items
+	 */
+	public void anti(Consumer<? super L> consumer) {
+		Objects.requireNonNull(consumer);
+
+		join("ExternalJoinDSL.anti", (item, matches) -> {
+			if (matches.isEmpty()) {
+				consumer.accept(item);
+			}
+		});
+	}
+
+	/**
+	 * Hands each left item with the list of its matches to the specified handler.
+	 */
+	private void join(String name, BiConsumer<L, List<R>> handler) {
+		long start = Metrics.start();
+
+		// the budget is shared by both sides while they are partitioned
+		long budget = Math.max(memoryBudget / 2, 1);
+
+		try (Spill<L> lefts = new Spill<>(leftSerializer, budget, tempDir, PARTITIONS);
+		     Spill<R> rights = new Spill<>(rightSerializer, budget, tempDir, PARTITIONS)) {
+
+			for (R item : right) {
+				K key = rightKey.apply(item);
+
+				if (key != null) {
+					rights.add(partition(key, 0), item);
+				}
+			}
+
+			for (L item : left) {
+				K key = leftKey.apply(item);
+
+				if (key != null) {
+					lefts.add(partition(key, 0), item);
+				} else {
+					handler.accept(item, Collections.emptyList());
+				}
+			}
+
+			join(lefts, rights, handler, 0);
+		}
+
+		// the results are handed to the consumer, so there is no result to count
+		Metrics.end(start, name, left, null);
+	}
+
+	private void join(Spill<L> lefts, Spill<R> rights, BiConsumer<L, List<R>> handler, int level) {
+		if (lefts.spilled() || rights.spilled()) {
+			// leave the whole budget to the partition being joined
+			lefts.spillAll();
+			rights.spillAll();
+		}
+
+		for (int p = 0; p < PARTITIONS; p++) {
+			if (lefts.count(p) == 0) {
+				continue;
+			}
+
+			if (rights.count(p) == 0) {
+				lefts.drain(p, item -> handler.accept(item, Collections.emptyList()));
+
+			} else if (rights.bytes(p) > memoryBudget && level < MAX_LEVEL) {
+				int next = level + 1;
+				long budget = Math.max(memoryBudget / 2, 1);
+
+				try (Spill<L> subLefts = new Spill<>(leftSerializer, budget, tempDir, PARTITIONS);
+				     Spill<R> subRights = new Spill<>(rightSerializer, budget, tempDir, PARTITIONS)) {
+
+					rights.drain(p, item -> subRights.add(partition(rightKey.apply(item), next), item));
+					lefts.drain(p, item -> subLefts.add(partition(leftKey.apply(item), next), item));
+
+					join(subLefts, subRights, handler, next);
+				}
+
+			} else {
+				Map<K, List<R>> table = New.map();
+				List<R> none = Collections.emptyList();
+
+				rights.drain(p, item -> table.computeIfAbsent(rightKey.apply(item), key -> New.list()).add(item));
+				lefts.drain(p, item -> handler.accept(item, table.getOrDefault(leftKey.apply(item), none)));
+			}
+		}
+	}
+
+	private static int partition(Object key, int level) {
+		return (Hashing.mix(key.hashCode()) >>> (level * PARTITION_BITS)) & (PARTITIONS - 1);
+	}
+
+}
@@ -20,12 +20,24 @@
 
 package org.essentials4j;
 
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
 import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
 
 /**
  * DSL helper used to specify search criteria and execute the search through method chain call.
+ * <p>
+ * The entries found by {@code first}, {@code last}, {@code any}, {@code max} and {@code min} are immutable copies,
+ * which don't change with the source map.
  *
  * @author Nikolche Mihajlovski
  * @since 1.0.0
@@ -34,8 +46,18 @@ public class FindBiDSL<K, V> {
 
 	private final Map<K, V> items;
 
+	/**
+	 * The parallel execution settings, if the entries should be processed in parallel (or {@code null} otherwise).
+	 */
+	private final Parallel parallel;
+
 	FindBiDSL(Map<K, V> items) {
+		this(items, null);
+	}
+
+	FindBiDSL(Map<K, V> items, Parallel parallel) {
 		this.items = items;
+		this.parallel = parallel;
 	}
 
 	/**
@@ -46,8 +68,10 @@ public class FindBiDSL<K, V> {
 	 * @throws NullPointerException if {@code predicate} is {@code null}
 	 */
 	public boolean exists(BiPredicate<? super K, ? super V> predicate) {
-		return items.entrySet().stream()
-			.anyMatch(e -> predicate.test(e.getKey(), e.getValue()));
+		Objects.requireNonNull(predicate);
+
+		return MapLoops.executeBulk("FindBiDSL.exists", items, parallel, threshold -> MapLoops.exists(items, predicate, threshold), entries -> entries
+			.anyMatch(e -> predicate.test(e.getKey(), e.getValue())));
 	}
 
 	/**
@@ -58,9 +82,11 @@ public class FindBiDSL<K, V> {
 	 * @throws NullPointerException if {@code predicate} is {@code null}
 	 */
 	public Optional<Map.Entry<K, V>> first(BiPredicate<? super K, ? super V> predicate) {
-		return items.entrySet().stream()
+		Objects.requireNonNull(predicate);
+
+		return MapLoops.snapshot(MapLoops.execute("FindBiDSL.first", items, parallel, () -> MapLoops.first(items.entrySet(), predicate), entries -> entries
 			.filter(e -> predicate.test(e.getKey(), e.getValue()))
-			.findFirst();
+			.findFirst()));
 	}
 
 	/**
@@ -71,9 +97,20 @@ public class FindBiDSL<K, V> {
 	 * @throws NullPointerException if {@code predicate} is {@code null}
 	 */
 	public Optional<Map.Entry<K, V>> last(BiPredicate<? super K, ? super V> predicate) {
-		return items.entrySet().stream()
+		Objects.requireNonNull(predicate);
+
+		Set<Map.Entry<K, V>> reversed = Loops.reverseEntries(items);
+
+		if (reversed != null) {
+			long start = Metrics.start();
+
+			// the first match in reverse order is the last match
+			return Metrics.end(start, "FindBiDSL.last", items, MapLoops.snapshot(MapLoops.first(reversed, predicate)));
+		}
+
+		return MapLoops.snapshot(MapLoops.execute("FindBiDSL.last", items, parallel, () -> MapLoops.last(items, predicate), entries -> entries
 			.filter(e -> predicate.test(e.getKey(), e.getValue()))
-			.reduce((prev, next) -> next);
+			.reduce((prev, next) -> next)));
 	}
 
 	/**
@@ -84,9 +121,11 @@ public class FindBiDSL<K, V> {
 	 * @throws NullPointerException if {@code predicate} is {@code null}
 	 */
 	public Optional<Map.Entry<K, V>> any(BiPredicate<? super K, ? super V> predicate) {
-		return items.entrySet().stream()
+		Objects.requireNonNull(predicate);
+
+		return MapLoops.snapshot(MapLoops.executeBulk("FindBiDSL.any", items, parallel, threshold -> MapLoops.any(items, predicate, threshold), entries -> entries
 			.filter(e -> predicate.test(e.getKey(), e.getValue()))
-			.findAny();
+			.findAny()));
 	}
 
 	/**
@@ -97,9 +136,308 @@ public class FindBiDSL<K, V> {
 	 * @throws NullPointerException if {@code predicate} is {@code null}
 	 */
 	public Map<K, V> all(BiPredicate<? super K, ? super V> predicate) {
-		return items.entrySet().stream()
+		Objects.requireNonNull(predicate);
+
+		return MapLoops.execute("FindBiDSL.all", items, parallel, () -> MapLoops.all(items, predicate, New.map()), entries -> entries
+			.filter(e -> predicate.test(e.getKey(), e.getValue()))
+			.collect(To.map()));
+	}
+
+	/**
+	 * Searches through the pre-specified items ({@code Map} entries) for all entries that satisfy the specified criteria (predicate).
+	 *
+	 * @param predicate  the search criteria specified as a predicate function, to be applied on {@code (key, value)} entries
+	 * @param mapFactory the supplier of the new (empty) result map, e.g. {@code New::compactMap}
+	 * @return a new {@code Map} consisting of all matching entries that have been found, if any
+	 * @throws NullPointerException if {@code predicate} is {@code null} or {@code mapFactory} is {@code null}
+	 */
+	public <M extends Map<K, V>> M all(BiPredicate<? super K, ? super V> predicate, Supplier<M> mapFactory) {
+		Objects.requireNonNull(predicate);
+		Collector<Map.Entry<K, V>, ?, M> collector = To.map(mapFactory);
+
+		return MapLoops.execute("FindBiDSL.all", items, parallel, () -> MapLoops.all(items, predicate, mapFactory.get()), entries -> entries
+			.filter(e -> predicate.test(e.getKey(), e.getValue()))
+			.collect(collector));
+	}
+
+	/**
+	 * Searches through the pre-specified items ({@code Map} entries) for the greatest {@code k} entries, according to the specified comparator.
+	 * <p>
+	 * Only a bounded heap of {@code k} entries is kept during the search, which takes {@code O(n log k)} time.
+	 * In a parallel execution, the heaps of the threads are merged at the end.
+	 *
+	 * @param k          the maximum number of entries to find
+	 * @param comparator the comparator used to compare the entries, e.g. {@code Map.Entry.comparingByValue()}
+	 * @return a new {@code Map} of the greatest entries, ordered from the greatest to the least (the order of equal entries is unspecified)
+	 * @throws NullPointerException     if {@code comparator} is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 */
+	public Map<K, V> top(int k, Comparator<? super Map.Entry<K, V>> comparator) {
+		return top((key, value) -> true, k, comparator);
+	}
+
+	/**
+	 * Searches through the pre-specified items ({@code Map} entries) for the greatest {@code k} entries that satisfy the specified criteria (predicate),
+	 * according to the specified comparator.
+	 *
+	 * @param predicate  the search criteria specified as a predicate function, to be applied on {@code (key, value)} entries
+	 * @param k          the maximum number of entries to find
+	 * @param comparator the comparator used to compare the entries, e.g. {@code Map.Entry.comparingByValue()}
+	 * @return a new {@code Map} of the greatest matching entries, ordered from the greatest to the least (the order of equal entries is unspecified)
+	 * @throws NullPointerException     if {@code predicate} is {@code null} or {@code comparator} is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @see #top(int, Comparator)
+	 */
+	public Map<K, V> top(BiPredicate<? super K, ? super V> predicate, int k, Comparator<? super Map.Entry<K, V>> comparator) {
+		return top("FindBiDSL.top", predicate, k, comparator);
+	}
+
+	/**
+	 * Searches through the pre-specified items ({@code Map} entries) for the least {@code k} entries, according to the specified comparator.
+	 *
+	 * @param k          the maximum number of entries to find
+	 * @param comparator the comparator used to compare the entries, e.g. {@code Map.Entry.comparingByValue()}
+	 * @return a new {@code Map} of the least entries, ordered from the least to the greatest (the order of equal entries is unspecified)
+	 * @throws NullPointerException     if {@code comparator} is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @see #top(int, Comparator)
+	 */
+	public Map<K, V> bottom(int k, Comparator<? super Map.Entry<K, V>> comparator) {
+		return bottom((key, value) -> true, k, comparator);
+	}
+
+	/**
+	 * Searches through the pre-specified items ({@code Map} entries) for the least {@code k} entries that satisfy the specified criteria (predicate),
+	 * according to the specified comparator.
+	 *
+	 * @param predicate  the search criteria specified as a predicate function, to be applied on {@code (key, value)} entries
+	 * @param k          the maximum number of entries to find
+	 * @param comparator the comparator used to compare the entries, e.g. {@code Map.Entry.comparingByValue()}
+	 * @return a new {@code Map} of the least matching entries, ordered from the least to the greatest (the order of equal entries is unspecified)
+	 * @throws NullPointerException     if {@code predicate} is {@code null} or {@code comparator} is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @see #top(int, Comparator)
+	 */
+	public Map<K, V> bottom(BiPredicate<? super K, ? super V> predicate, int k, Comparator<? super Map.Entry<K, V>> comparator) {
+		Objects.requireNonNull(comparator);
+
+		return top("FindBiDSL.bottom", predicate, k, (a, b) -> comparator.compare(b, a));
+	}
+
+	/**
+	 * Searches through the pre-specified items ({@code Map} entries) for the greatest entry, according to the specified comparator.
+	 * The first of several equally greatest entries is found.
+	 *
+	 * @param comparator the comparator used to compare the entries, e.g. {@code Map.Entry.comparingByValue()}
+	 * @return {@code Optional} wrapping the greatest entry if there is one, or an empty {@code Optional} otherwise
+	 * @throws NullPointerException if {@code comparator} is {@code null}
+	 */
+	public Optional<Map.Entry<K, V>> max(Comparator<? super Map.Entry<K, V>> comparator) {
+		return max((key, value) -> true, comparator);
+	}
+
+	/**
+	 * Searches through the pre-specified items ({@code Map} entries) for the greatest entry that satisfies the specified criteria (predicate),
+	 * according to the specified comparator. The first of several equally greatest entries is found.
+	 *
+	 * @param predicate  the search criteria specified as a predicate function, to be applied on {@code (key, value)} entries
+	 * @param comparator the comparator used to compare the entries, e.g. {@code Map.Entry.comparingByValue()}
+	 * @return {@code Optional} wrapping the greatest matching entry if it has been found, or an empty {@code Optional} otherwise
+	 * @throws NullPointerException if {@code predicate} is {@code null} or {@code comparator} is {@code null}
+	 */
+	public Optional<Map.Entry<K, V>> max(BiPredicate<? super K, ? super V> predicate, Comparator<? super Map.Entry<K, V>> comparator) {
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(comparator);
+
+		return MapLoops.snapshot(MapLoops.executeBulk("FindBiDSL.max", items, parallel, threshold -> MapLoops.max(items, predicate, comparator, threshold), entries -> entries
 			.filter(e -> predicate.test(e.getKey(), e.getValue()))
-			.collect(To.map());
+			.max(comparator)));
+	}
+
+	/**
+	 * Searches through the pre-specified items ({@code Map} entries) for the least entry, according to the specified comparator.
+	 * The first of several equally least entries is found.
+	 *
+	 * @param comparator the comparator used to compare the entries, e.g. {@code Map.Entry.comparingByValue()}
+	 * @return {@code Optional} wrapping the least entry if there is one, or an empty {@code Optional} otherwise
+	 * @throws NullPointerException if {@code comparator} is {@code null}
+	 */
+	public Optional<Map.Entry<K, V>> min(Comparator<? super Map.Entry<K, V>> comparator) {
+		return min((key, value) -> true, comparator);
+	}
+
+	/**
+	 * Searches through the pre-specified items ({@code Map} entries) for the least entry that satisfies the specified criteria (predicate),
+	 * according to the specified comparator. The first of several equally least entries is found.
+	 *
+	 * @param predicate  the search criteria specified as a predicate function, to be applied on {@code (key, value)} entries
+	 * @param comparator the comparator used to compare the entries, e.g. {@code Map.Entry.comparingByValue()}
+	 * @return {@code Optional} wrapping the least matching entry if it has been found, or an empty {@code Optional} otherwise
+	 * @throws NullPointerException if {@code predicate} is {@code null} or {@code comparator} is {@code null}
+	 */
+	public Optional<Map.Entry<K, V>> min(BiPredicate<? super K, ? super V> predicate, Comparator<? super Map.Entry<K, V>> comparator) {
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(comparator);
+		Comparator<Map.Entry<K, V>> reversed = (a, b) -> comparator.compare(b, a);
+
+		return MapLoops.snapshot(MapLoops.executeBulk("FindBiDSL.min", items, parallel, threshold -> MapLoops.max(items, predicate, reversed, threshold), entries -> entries
+			.filter(e -> predicate.test(e.getKey(), e.getValue()))
+			.min(comparator)));
+	}
+
+	/**
+	 * Returns a lazy view of all pre-specified items ({@code Map} entries) that satisfy the specified criteria (predicate).
+	 * <p>
+	 * Nothing is copied: the predicate is evaluated on each access of the view, sequentially in the calling thread.
+	 * The lookups by key take the same time as in the source map, but {@code size()} requires a full scan.
+	 *
+	 * @param predicate the search criteria specified as a predicate function, to be applied on {@code (key, value)} entries
+	 * @return a lazy {@code Map} view of the matching entries
+	 * @throws NullPointerException if {@code predicate} is {@code null}
+	 */
+	public Map<K, V> lazyAll(BiPredicate<? super K, ? super V> predicate) {
+		Objects.requireNonNull(predicate);
+
+		return Views.filter(items, predicate);
+	}
+
+	/**
+	 * Looks up the entries of the specified keys in the pre-specified items ({@code Map} entries), without scanning the map.
+	 * <p>
+	 * It takes {@code O(k)} lookups for {@code k} keys (e.g. {@code O(k log n)} in a {@code TreeMap}), sequentially in the calling thread.
+	 * The missing keys are skipped.
+	 *
+	 * @param keys the keys to look up
+	 * @return a new {@code Map} consisting of the entries of the keys that have been found, in the order of the keys
+	 * @throws NullPointerException if {@code keys} is {@code null}
+	 */
+	public Map<K, V> byKeys(Collection<? extends K> keys) {
+		Objects.requireNonNull(keys);
+		long start = Metrics.start();
+
+		Map<K, V> results = New.sizedMap(keys.size());
+
+		for (K key : keys) {
+			V value = items.get(key);
+
+			if (value != null || items.containsKey(key)) {
+				results.put(key, value);
+			}
+		}
+
+		return Metrics.end(start, "FindBiDSL.byKeys", items, results);
+	}
+
+	/**
+	 * Looks up the entries of the specified keys in the pre-specified items ({@code Map} entries), in the order of the keys,
+	 * until the first one is found, sequentially in the calling thread.
+	 *
+	 * @param keys the keys to look up, e.g. the preferred key followed by its fallbacks
+	 * @return {@code Optional} wrapping the entry of the first key that has been found, or an empty {@code Optional} otherwise
+	 * @throws NullPointerException if {@code keys} is {@code null}
+	 */
+	public Optional<Map.Entry<K, V>> firstKey(Iterable<? extends K> keys) {
+		Objects.requireNonNull(keys);
+		long start = Metrics.start();
+
+		Optional<Map.Entry<K, V>> result = Optional.empty();
+
+		for (K key : keys) {
+			V value = items.get(key);
+
+			if (value != null || items.containsKey(key)) {
+				result = Optional.of(new AbstractMap.SimpleImmutableEntry<>(key, value));
+				break;
+			}
+		}
+
+		return Metrics.end(start, "FindBiDSL.firstKey", items, result);
+	}
+
+	/**
+	 * Searches through the pre-specified items ({@code SortedMap} entries) for the entries with keys in the specified range,
+	 * from {@code fromKey} (inclusive) to {@code toKey} (exclusive).
+	 * <p>
+	 * Only the range is traversed, through a {@code subMap} view of the source map, sequentially in the calling thread.
+	 *
+	 * @param fromKey the lowest key of the range (inclusive)
+	 * @param toKey   the highest key of the range (exclusive)
+	 * @return a new {@code Map} consisting of the entries in the range, in the order of their keys
+	 * @throws UnsupportedOperationException if the source items are not a {@code SortedMap}
+	 * @throws IllegalArgumentException      if {@code fromKey} is greater than {@code toKey}
+	 */
+	public Map<K, V> range(K fromKey, K toKey) {
+		return copy("FindBiDSL.range", sorted().subMap(fromKey, toKey));
+	}
+
+	/**
+	 * Searches through the pre-specified items ({@code SortedMap} entries) for the entries with keys lower than {@code toKey}.
+	 * <p>
+	 * Only the range is traversed, through a {@code headMap} view of the source map, sequentially in the calling thread.
+	 *
+	 * @param toKey the highest key of the range (exclusive)
+	 * @return a new {@code Map} consisting of the entries in the range, in the order of their keys
+	 * @throws UnsupportedOperationException if the source items are not a {@code SortedMap}
+	 * @see #range(Object, Object)
+	 */
+	public Map<K, V> headKeys(K toKey) {
+		return copy("FindBiDSL.headKeys", sorted().headMap(toKey));
+	}
+
+	/**
+	 * Searches through the pre-specified items ({@code SortedMap} entries) for the entries with keys greater than or equal to {@code fromKey}.
+	 * <p>
+	 * Only the range is traversed, through a {@code tailMap} view of the source map, sequentially in the calling thread.
+	 *
+	 * @param fromKey the lowest key of the range (inclusive)
+	 * @return a new {@code Map} consisting of the entries in the range, in the order of their keys
+	 * @throws UnsupportedOperationException if the source items are not a {@code SortedMap}
+	 * @see #range(Object, Object)
+	 */
+	public Map<K, V> tailKeys(K fromKey) {
+		return copy("FindBiDSL.tailKeys", sorted().tailMap(fromKey));
+	}
+
+	private SortedMap<K, V> sorted() {
+		if (!(items instanceof SortedMap)) {
+			throw new UnsupportedOperationException("Only a SortedMap source can be searched by key range!");
+		}
+
+		return (SortedMap<K, V>) items;
+	}
+
+	private Map<K, V> copy(String name, SortedMap<K, V> range) {
+		long start = Metrics.start();
+
+		Map<K, V> results = New.map();
+
+		for (Map.Entry<K, V> e : range.entrySet()) {
+			results.put(e.getKey(), e.getValue());
+		}
+
+		return Metrics.end(start, name, items, results);
+	}
+
+	private Map<K, V> top(String name, BiPredicate<? super K, ? super V> predicate, int k, Comparator<? super Map.Entry<K, V>> comparator) {
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(comparator);
+		TopK.requireValidCount(k);
+
+		List<Map.Entry<K, V>> top = MapLoops.execute(name, items, parallel, () -> {
+			TopK<Map.Entry<K, V>> heap = new TopK<>(k, comparator);
+			MapLoops.forEach(items, predicate, heap::add);
+			return heap.toList();
+		}, entries -> entries
+			.filter(e -> predicate.test(e.getKey(), e.getValue()))
+			.collect(TopK.collector(k, comparator)));
+
+		Map<K, V> results = New.sizedMap(top.size());
+
+		for (Map.Entry<K, V> e : top) {
+			results.put(e.getKey(), e.getValue());
+		}
+
+		return results;
 	}
 
 }
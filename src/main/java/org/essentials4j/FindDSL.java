@@ -20,8 +20,12 @@
 
 package org.essentials4j;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -35,10 +39,35 @@ public class FindDSL<T> {
 
 	private static final Predicate<Object> TRUE = x -> true;
 
+	/**
+	 * The source items, if the search is executed as a loop (or {@code null} otherwise).
+	 */
+	private final Iterable<T> items;
+
+	/**
+	 * The source stream, if the search is executed as a stream pipeline (or {@code null} otherwise).
+	 */
 	private final Stream<T> stream;
 
+	/**
+	 * The parallel execution settings, if the stream is parallel (or {@code null} otherwise).
+	 */
+	private final Parallel parallel;
+
+	FindDSL(Iterable<T> items) {
+		this.items = items;
+		this.stream = null;
+		this.parallel = null;
+	}
+
 	FindDSL(Stream<T> stream) {
+		this(stream, null);
+	}
+
+	FindDSL(Stream<T> stream, Parallel parallel) {
+		this.items = null;
 		this.stream = stream;
+		this.parallel = parallel;
 	}
 
 	/**
@@ -49,7 +78,15 @@ public class FindDSL<T> {
 	 * @throws NullPointerException if {@code predicate} is {@code null}
 	 */
 	public boolean exists(Predicate<? super T> predicate) {
-		return stream.anyMatch(predicate);
+		Objects.requireNonNull(predicate);
+
+		long start = Metrics.start();
+
+		boolean found = items != null
+			? Loops.exists(Index.narrow(items, predicate), predicate)
+			: execute(s -> s.anyMatch(predicate));
+
+		return Metrics.end(start, "FindDSL.exists", items, found);
 	}
 
 	/**
@@ -60,8 +97,15 @@ public class FindDSL<T> {
 	 * @throws NullPointerException if {@code predicate} is {@code null}
 	 */
 	public Optional<T> first(Predicate<? super T> predicate) {
-		return stream.filter(predicate)
-			.findFirst();
+		Objects.requireNonNull(predicate);
+
+		long start = Metrics.start();
+
+		Optional<T> first = items != null
+			? Loops.first(Index.narrow(items, predicate), predicate)
+			: execute(s -> s.filter(predicate).findFirst());
+
+		return Metrics.end(start, "FindDSL.first", items, first);
 	}
 
 	/**
@@ -81,8 +125,15 @@ public class FindDSL<T> {
 	 * @throws NullPointerException if {@code predicate} is {@code null}
 	 */
 	public Optional<T> last(Predicate<? super T> predicate) {
-		return stream.filter(predicate)
-			.reduce((prev, next) -> next);
+		Objects.requireNonNull(predicate);
+
+		long start = Metrics.start();
+
+		Optional<T> last = items != null
+			? Loops.last(Index.narrow(items, predicate), predicate)
+			: execute(s -> s.filter(predicate).reduce((prev, next) -> next));
+
+		return Metrics.end(start, "FindDSL.last", items, last);
 	}
 
 	/**
@@ -102,8 +153,16 @@ public class FindDSL<T> {
 	 * @throws NullPointerException if {@code predicate} is {@code null}
 	 */
 	public Optional<T> any(Predicate<? super T> predicate) {
-		return stream.filter(predicate)
-			.findAny();
+		Objects.requireNonNull(predicate);
+
+		long start = Metrics.start();
+
+		// in a loop, the first match is as good as any, and the cheapest to find
+		Optional<T> any = items != null
+			? Loops.first(Index.narrow(items, predicate), predicate)
+			: execute(s -> s.filter(predicate).findAny());
+
+		return Metrics.end(start, "FindDSL.any", items, any);
 	}
 
 	/**
@@ -114,8 +173,215 @@ public class FindDSL<T> {
 	 * @throws NullPointerException if {@code predicate} is {@code null}
 	 */
 	public List<T> all(Predicate<? super T> predicate) {
-		return stream.filter(predicate)
-			.collect(To.list());
+		Objects.requireNonNull(predicate);
+
+		long start = Metrics.start();
+
+		List<T> results = items != null
+			? Loops.all(Index.narrow(items, predicate), predicate)
+			: execute(s -> s.filter(predicate).collect(To.list()));
+
+		return Metrics.end(start, "FindDSL.all", items, results);
+	}
+
+	/**
+	 * Searches through the pre-specified items in batches, for all elements found by the specified batch search function,
+	 * so that the per-call overhead of the search (e.g. a database round trip) is paid once per batch.
+	 * <p>
+	 * The batch search function returns the matching elements of each batch. The batches are processed sequentially
+	 * in the calling thread, as in {@link Do#batch(Iterable, int)}, so the search function must not keep a reference to a batch.
+	 *
+	 * @param batchSize   the maximum number of items in a batch
+	 * @param batchSearch the search function that finds the matching elements of a batch
+	 * @return a new {@code List} consisting of the matching elements of all batches, in the order of the batches
+	 * @throws NullPointerException     if {@code batchSearch} is {@code null}
+	 * @throws IllegalArgumentException if {@code batchSize} is not positive
+	 */
+	public List<T> allInBatches(int batchSize, Function<? super List<T>, ? extends Collection<? extends T>> batchSearch) {
+		Objects.requireNonNull(batchSearch);
+		Views.requireValidBatchSize(batchSize);
+
+		long start = Metrics.start();
+		List<T> results = New.list();
+
+		for (List<T> batch : Views.batches(items != null ? items : Views.once(stream), batchSize)) {
+			results.addAll(batchSearch.apply(batch));
+		}
+
+		return Metrics.end(start, "FindDSL.allInBatches", items, results);
+	}
+
+	/**
+	 * Searches through the pre-specified items for the greatest {@code k} elements, according to the specified comparator.
+	 * <p>
+	 * Only a bounded heap of {@code k} elements is kept during the search, which takes {@code O(n log k)} time.
+	 * In a parallel execution, the heaps of the threads are merged at the end.
+	 *
+	 * @param k          the maximum number of elements to find
+	 * @param comparator the comparator used to compare the elements
+	 * @return a new {@code List} of the greatest elements, from the greatest to the least (the order of equal elements is unspecified)
+	 * @throws NullPointerException     if {@code comparator} is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 */
+	public List<T> top(int k, Comparator<? super T> comparator) {
+		return top(TRUE, k, comparator);
+	}
+
+	/**
+	 * Searches through the pre-specified items for the greatest {@code k} elements that satisfy the specified criteria (predicate),
+	 * according to the specified comparator.
+	 *
+	 * @param predicate  the search criteria specified as a predicate function
+	 * @param k          the maximum number of elements to find
+	 * @param comparator the comparator used to compare the elements
+	 * @return a new {@code List} of the greatest matching elements, from the greatest to the least (the order of equal elements is unspecified)
+	 * @throws NullPointerException     if {@code predicate} is {@code null} or {@code comparator} is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @see #top(int, Comparator)
+	 */
+	public List<T> top(Predicate<? super T> predicate, int k, Comparator<? super T> comparator) {
+		return top("FindDSL.top", predicate, k, comparator);
+	}
+
+	/**
+	 * Searches through the pre-specified items for the least {@code k} elements, according to the specified comparator.
+	 *
+	 * @param k          the maximum number of elements to find
+	 * @param comparator the comparator used to compare the elements
+	 * @return a new {@code List} of the least elements, from the least to the greatest (the order of equal elements is unspecified)
+	 * @throws NullPointerException     if {@code comparator} is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @see #top(int, Comparator)
+	 */
+	public List<T> bottom(int k, Comparator<? super T> comparator) {
+		return bottom(TRUE, k, comparator);
+	}
+
+	/**
+	 * Searches through the pre-specified items for the least {@code k} elements that satisfy the specified criteria (predicate),
+	 * according to the specified comparator.
+	 *
+	 * @param predicate  the search criteria specified as a predicate function
+	 * @param k          the maximum number of elements to find
+	 * @param comparator the comparator used to compare the elements
+	 * @return a new {@code List} of the least matching elements, from the least to the greatest (the order of equal elements is unspecified)
+	 * @throws NullPointerException     if {@code predicate} is {@code null} or {@code comparator} is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 * @see #top(int, Comparator)
+	 */
+	public List<T> bottom(Predicate<? super T> predicate, int k, Comparator<? super T> comparator) {
+		Objects.requireNonNull(comparator);
+
+		return top("FindDSL.bottom", predicate, k, reversed(comparator));
+	}
+
+	/**
+	 * Searches through the pre-specified items for the greatest element, according to the specified comparator.
+	 * The first of several equally greatest elements is found.
+	 *
+	 * @param comparator the comparator used to compare the elements
+	 * @return {@code Optional} wrapping the greatest element if there is one, or an empty {@code Optional} otherwise
+	 * @throws NullPointerException if {@code comparator} is {@code null}, or the greatest element is {@code null}
+	 */
+	public Optional<T> max(Comparator<? super T> comparator) {
+		return max(TRUE, comparator);
+	}
+
+	/**
+	 * Searches through the pre-specified items for the greatest element that satisfies the specified criteria (predicate),
+	 * according to the specified comparator. The first of several equally greatest elements is found.
+	 *
+	 * @param predicate  the search criteria specified as a predicate function
+	 * @param comparator the comparator used to compare the elements
+	 * @return {@code Optional} wrapping the greatest matching element if it has been found, or an empty {@code Optional} otherwise
+	 * @throws NullPointerException if {@code predicate} is {@code null} or {@code comparator} is {@code null}, or the greatest element is {@code null}
+	 */
+	public Optional<T> max(Predicate<? super T> predicate, Comparator<? super T> comparator) {
+		return max("FindDSL.max", predicate, comparator);
+	}
+
+	/**
+	 * Searches through the pre-specified items for the least element, according to the specified comparator.
+	 * The first of several equally least elements is found.
+	 *
+	 * @param comparator the comparator used to compare the elements
+	 * @return {@code Optional} wrapping the least element if there is one, or an empty {@code Optional} otherwise
+	 * @throws NullPointerException if {@code comparator} is {@code null}, or the least element is {@code null}
+	 */
+	public Optional<T> min(Comparator<? super T> comparator) {
+		return min(TRUE, comparator);
+	}
+
+	/**
+	 * Searches through the pre-specified items for the least element that satisfies the specified criteria (predicate),
+	 * according to the specified comparator. The first of several equally least elements is found.
+	 *
+	 * @param predicate  the search criteria specified as a predicate function
+	 * @param comparator the comparator used to compare the elements
+	 * @return {@code Optional} wrapping the least matching element if it has been found, or an empty {@code Optional} otherwise
+	 * @throws NullPointerException if {@code predicate} is {@code null} or {@code comparator} is {@code null}, or the least element is {@code null}
+	 */
+	public Optional<T> min(Predicate<? super T> predicate, Comparator<? super T> comparator) {
+		Objects.requireNonNull(comparator);
+
+		return max("FindDSL.min", predicate, reversed(comparator));
+	}
+
+	/**
+	 * Returns a lazy view of all pre-specified items that satisfy the specified criteria (predicate).
+	 * <p>
+	 * Nothing is copied: the predicate is evaluated on each iteration of the view, sequentially in the calling thread.
+	 * If the source is a {@code Stream}, the view can be iterated only once.
+	 *
+	 * @param predicate the search criteria specified as a predicate function
+	 * @return a lazy {@code Iterable} view of the matching elements
+	 * @throws NullPointerException if {@code predicate} is {@code null}
+	 */
+	public Iterable<T> lazyAll(Predicate<? super T> predicate) {
+		Objects.requireNonNull(predicate);
+
+		return items != null ? Views.filter(Index.narrow(items, predicate), predicate) : Views.once(stream.filter(predicate));
+	}
+
+	private List<T> top(String operation, Predicate<? super T> predicate, int k, Comparator<? super T> comparator) {
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(comparator);
+		TopK.requireValidCount(k);
+
+		long start = Metrics.start();
+		List<T> results;
+
+		if (items != null) {
+			TopK<T> top = new TopK<>(k, comparator);
+			Loops.forEach(Index.narrow(items, predicate), predicate, top::add);
+			results = top.toList();
+
+		} else {
+			results = execute(s -> s.filter(predicate).collect(TopK.collector(k, comparator)));
+		}
+
+		return Metrics.end(start, operation, items, results);
+	}
+
+	private Optional<T> max(String operation, Predicate<? super T> predicate, Comparator<? super T> comparator) {
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(comparator);
+
+		long start = Metrics.start();
+
+		Optional<T> max = items != null
+			? Loops.max(Index.narrow(items, predicate), predicate, comparator)
+			: execute(s -> s.filter(predicate).max(comparator));
+
+		return Metrics.end(start, operation, items, max);
+	}
+
+	private static <T> Comparator<T> reversed(Comparator<? super T> comparator) {
+		return (a, b) -> comparator.compare(b, a);
+	}
+
+	private <R> R execute(Function<Stream<T>, R> operation) {
+		return parallel != null ? parallel.invoke(() -> operation.apply(stream)) : operation.apply(stream);
 	}
 
 }
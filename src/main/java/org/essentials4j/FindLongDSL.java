@@ -0,0 +1,237 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+
+/**
+ * DSL helper used to specify search criteria and execute the search through method chain call, on {@code long} items.
+ * <p>
+ * The items are never boxed.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class FindLongDSL {
+
+	/**
+	 * The source items, if the search is executed as a loop (or {@code null} otherwise).
+	 */
+	private final long[] items;
+
+	/**
+	 * The number of source items, which may be less than the array length.
+	 */
+	private final int size;
+
+	/**
+	 * The source stream, if the search is executed as a stream pipeline (or {@code null} otherwise).
+	 */
+	private final LongStream stream;
+
+	/**
+	 * The source items (an array or a list), if they are known (or {@code null} otherwise), only used to report their number in the metrics.
+	 */
+	private final Object source;
+
+	FindLongDSL(long[] items) {
+		this(items, items.length, items);
+	}
+
+	FindLongDSL(long[] items, int size, Object source) {
+		this.items = items;
+		this.size = size;
+		this.stream = null;
+		this.source = source;
+	}
+
+	FindLongDSL(LongStream stream) {
+		this.items = null;
+		this.size = 0;
+		this.stream = stream;
+		this.source = null;
+	}
+
+	/**
+	 * Searches through the pre-specified items for the existence of any element that satisfies the specified criteria (predicate).
+	 *
+	 * @param predicate the search criteria specified as a predicate function
+	 * @return {@code true} if any matching element has been found, or {@code false} otherwise
+	 * @throws NullPointerException if {@code predicate} is {@code null}
+	 */
+	public boolean exists(LongPredicate predicate) {
+		Objects.requireNonNull(predicate);
+		long start = Metrics.start();
+
+		boolean found = items != null ? indexOf(predicate) >= 0 : stream.anyMatch(predicate);
+
+		return Metrics.end(start, "FindLongDSL.exists", source, found);
+	}
+
+	/**
+	 * Searches through the pre-specified items for the first element that satisfies the specified criteria (predicate).
+	 *
+	 * @param predicate the search criteria specified as a predicate function
+	 * @return {@code OptionalLong} wrapping the first matching element if it has been found, or an empty {@code OptionalLong} otherwise
+	 * @throws NullPointerException if {@code predicate} is {@code null}
+	 */
+	public OptionalLong first(LongPredicate predicate) {
+		Objects.requireNonNull(predicate);
+		long start = Metrics.start();
+
+		OptionalLong first = items != null
+			? at(indexOf(predicate))
+			: stream.filter(predicate).findFirst();
+
+		return Metrics.end(start, "FindLongDSL.first", source, first);
+	}
+
+	/**
+	 * Simple find the first element if there is one
+	 *
+	 * @return {@code OptionalLong} wrapping the first element if it exists, or an empty {@code OptionalLong}
+	 */
+	public OptionalLong first() {
+		long start = Metrics.start();
+
+		OptionalLong first = items != null ? at(size > 0 ? 0 : -1) : stream.findFirst();
+
+		return Metrics.end(start, "FindLongDSL.first", source, first);
+	}
+
+	/**
+	 * Searches through the pre-specified items for the last element that satisfies the specified criteria (predicate).
+	 *
+	 * @param predicate the search criteria specified as a predicate function
+	 * @return {@code OptionalLong} wrapping the last matching element if it has been found, or an empty {@code OptionalLong} otherwise
+	 * @throws NullPointerException if {@code predicate} is {@code null}
+	 */
+	public OptionalLong last(LongPredicate predicate) {
+		Objects.requireNonNull(predicate);
+		long start = Metrics.start();
+
+		OptionalLong last = items != null
+			? at(lastIndexOf(predicate))
+			: stream.filter(predicate).reduce((prev, next) -> next);
+
+		return Metrics.end(start, "FindLongDSL.last", source, last);
+	}
+
+	/**
+	 * Simple find the last element if there is one
+	 *
+	 * @return {@code OptionalLong} wrapping the last element if it exists, or an empty {@code OptionalLong}
+	 */
+	public OptionalLong last() {
+		long start = Metrics.start();
+
+		OptionalLong last = items != null ? at(size - 1) : stream.reduce((prev, next) -> next);
+
+		return Metrics.end(start, "FindLongDSL.last", source, last);
+	}
+
+	/**
+	 * Searches through the pre-specified items for any element that satisfies the specified criteria (predicate).
+	 *
+	 * @param predicate the search criteria specified as a predicate function
+	 * @return {@code OptionalLong} wrapping any matching element if it has been found, or an empty {@code OptionalLong} otherwise
+	 * @throws NullPointerException if {@code predicate} is {@code null}
+	 */
+	public OptionalLong any(LongPredicate predicate) {
+		Objects.requireNonNull(predicate);
+		long start = Metrics.start();
+
+		// the first match is as good as any, and the cheapest to find in a loop
+		OptionalLong any = items != null
+			? at(indexOf(predicate))
+			: stream.filter(predicate).findAny();
+
+		return Metrics.end(start, "FindLongDSL.any", source, any);
+	}
+
+	/**
+	 * Searches through the pre-specified items for all elements that satisfy the specified criteria (predicate).
+	 *
+	 * @param predicate the search criteria specified as a predicate function
+	 * @return a new array consisting of all matching elements that have been found, if any
+	 * @throws NullPointerException if {@code predicate} is {@code null}
+	 */
+	public long[] all(LongPredicate predicate) {
+		Objects.requireNonNull(predicate);
+		long start = Metrics.start();
+		long[] all;
+
+		if (items != null) {
+			long[] results = new long[size];
+			int count = 0;
+
+			for (int i = 0; i < size; i++) {
+				long item = items[i];
+
+				if (predicate.test(item)) {
+					results[count++] = item;
+				}
+			}
+
+			all = count == results.length ? results : Arrays.copyOf(results, count);
+
+		} else {
+			all = stream.filter(predicate).toArray();
+		}
+
+		return Metrics.end(start, "FindLongDSL.all", source, all);
+	}
+
+	/**
+	 * The position of the first matching item, or {@code -1} if there is no such item.
+	 */
+	private int indexOf(LongPredicate predicate) {
+		for (int i = 0; i < size; i++) {
+			if (predicate.test(items[i])) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * The position of the last matching item, or {@code -1} if there is no such item.
+	 */
+	private int lastIndexOf(LongPredicate predicate) {
+		for (int i = size - 1; i >= 0; i--) {
+			if (predicate.test(items[i])) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	private OptionalLong at(int index) {
+		return index >= 0 ? OptionalLong.of(items[index]) : OptionalLong.empty();
+	}
+
+}
@@ -0,0 +1,116 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * An immutable {@code List}, backed by an array of exactly the list size.
+ * <p>
+ * Unlike {@code Collections.unmodifiableList}, there is no wrapped list behind it, so the footprint is a single object and an array.
+ * <p>
+ * All mutating methods throw {@code UnsupportedOperationException}. {@code null} elements are allowed.
+ *
+ * @param <E> the type of the list elements
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class FrozenList<E> extends AbstractList<E> implements RandomAccess {
+
+	private static final FrozenList<?> EMPTY = new FrozenList<>(new Object[0]);
+
+	private final Object[] elements;
+
+	/**
+	 * Constructs a list from the specified elements, taking ownership of the array.
+	 */
+	FrozenList(Object[] elements) {
+		this.elements = elements;
+	}
+
+	@SuppressWarnings("unchecked")
+	static <E> FrozenList<E> empty() {
+		return (FrozenList<E>) EMPTY;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		return (E) elements[index];
+	}
+
+	@Override
+	public int size() {
+		return elements.length;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		for (int i = 0; i < elements.length; i++) {
+			if (Objects.equals(elements[i], o)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	@Override
+	public int lastIndexOf(Object o) {
+		for (int i = elements.length - 1; i >= 0; i--) {
+			if (Objects.equals(elements[i], o)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+	@Override
+	public Object[] toArray() {
+		return elements.clone();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(Consumer<? super E> action) {
+		Objects.requireNonNull(action);
+
+		for (Object element : elements) {
+			action.accept((E) element);
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(elements);
+	}
+
+}
@@ -0,0 +1,237 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable insertion-ordered {@code Map}, which keeps its keys and values in a single array.
+ * <p>
+ * Small maps are searched by a linear scan, which is faster than hashing for a few entries.
+ * Maps with more than {@link #SCAN_THRESHOLD} entries also get a compact open-addressing hash index (an {@code int} array).
+ * There are no per-entry objects, so the footprint is a fraction of a {@code LinkedHashMap} with the same entries.
+ * <p>
+ * All mutating methods throw {@code UnsupportedOperationException}. {@code null} keys and values are allowed.
+ *
+ * @param <K> the type of the map keys
+ * @param <V> the type of the map values
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class FrozenMap<K, V> extends AbstractMap<K, V> {
+
+	/**
+	 * The maximum number of entries that are searched by a linear scan, without a hash index.
+	 */
+	public static final int SCAN_THRESHOLD = 8;
+
+	private static final FrozenMap<?, ?> EMPTY = new FrozenMap<>(new Object[0]);
+
+	/**
+	 * The keys and values, in insertion order: {@code key1, value1, ..., keyN, valueN}.
+	 */
+	private final Object[] entries;
+
+	/**
+	 * The hash index of the entries (for maps with more than {@link #SCAN_THRESHOLD} entries, or {@code null} otherwise).
+	 * Each slot holds the entry number plus 1, or {@code 0} if it is free.
+	 */
+	private final int[] index;
+
+	/**
+	 * Constructs a map from the specified keys and values, taking ownership of the array.
+	 *
+	 * @throws IllegalArgumentException if there are duplicate keys
+	 */
+	FrozenMap(Object[] entries) {
+		this.entries = entries;
+		this.index = entries.length / 2 > SCAN_THRESHOLD ? buildIndex(entries) : null;
+
+		if (index == null) {
+			for (int i = 2; i < entries.length; i += 2) {
+				if (scan(entries[i], i) >= 0) {
+					throw duplicateKey(i);
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	static <K, V> FrozenMap<K, V> empty() {
+		return (FrozenMap<K, V>) EMPTY;
+	}
+
+	@Override
+	public int size() {
+		return entries.length / 2;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return find(key) >= 0;
+	}
+
+	@Override
+	public V get(Object key) {
+		int pos = find(key);
+		return pos >= 0 ? valueAt(pos) : null;
+	}
+
+	@Override
+	public V getOrDefault(Object key, V defaultValue) {
+		int pos = find(key);
+		return pos >= 0 ? valueAt(pos) : defaultValue;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		Objects.requireNonNull(action);
+
+		for (int i = 0; i < entries.length; i += 2) {
+			action.accept(keyAt(i), valueAt(i));
+		}
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<Entry<K, V>>() {
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				return new Iterator<Entry<K, V>>() {
+
+					private int pos;
+
+					@Override
+					public boolean hasNext() {
+						return pos < entries.length;
+					}
+
+					@Override
+					public Entry<K, V> next() {
+						if (pos >= entries.length) {
+							throw new NoSuchElementException();
+						}
+
+						Entry<K, V> entry = new SimpleImmutableEntry<>(keyAt(pos), valueAt(pos));
+						pos += 2;
+
+						return entry;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return FrozenMap.this.size();
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private K keyAt(int pos) {
+		return (K) entries[pos];
+	}
+
+	@SuppressWarnings("unchecked")
+	private V valueAt(int pos) {
+		return (V) entries[pos + 1];
+	}
+
+	/**
+	 * Finds the position of the key in the entries array, or returns {@code -1} if there is no such key.
+	 */
+	private int find(Object key) {
+		if (index == null) {
+			return scan(key, entries.length);
+		}
+
+		int mask = index.length - 1;
+		int slot = hash(key) & mask;
+		int n;
+
+		while ((n = index[slot]) != 0) {
+			int pos = (n - 1) * 2;
+
+			if (Objects.equals(entries[pos], key)) {
+				return pos;
+			}
+
+			slot = (slot + 1) & mask;
+		}
+
+		return -1;
+	}
+
+	private int scan(Object key, int end) {
+		for (int i = 0; i < end; i += 2) {
+			if (Objects.equals(entries[i], key)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	private static int[] buildIndex(Object[] entries) {
+		int size = entries.length / 2;
+		int[] index = new int[Integer.highestOneBit(size) << 2];
+		int mask = index.length - 1;
+
+		for (int i = 0; i < size; i++) {
+			Object key = entries[i * 2];
+			int slot = hash(key) & mask;
+			int n;
+
+			while ((n = index[slot]) != 0) {
+				if (Objects.equals(entries[(n - 1) * 2], key)) {
+					throw duplicateKey(entries, i * 2);
+				}
+
+				slot = (slot + 1) & mask;
+			}
+
+			index[slot] = i + 1;
+		}
+
+		return index;
+	}
+
+	private static int hash(Object key) {
+		int h = Objects.hashCode(key) * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private IllegalArgumentException duplicateKey(int pos) {
+		return duplicateKey(entries, pos);
+	}
+
+	private static IllegalArgumentException duplicateKey(Object[] entries, int pos) {
+		return new IllegalArgumentException(String.format("Duplicate key [%s]!", entries[pos]));
+	}
+
+}
@@ -21,8 +21,14 @@
 package org.essentials4j;
 
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * DSL helper used to specify classification function and execute the grouping through method chain call.
@@ -34,8 +40,18 @@ public class GroupBiDSL<K, V> {
 
 	private final Map<K, V> items;
 
+	/**
+	 * The parallel execution settings, if the entries should be processed in parallel (or {@code null} otherwise).
+	 */
+	private final Parallel parallel;
+
 	GroupBiDSL(Map<K, V> items) {
+		this(items, null);
+	}
+
+	GroupBiDSL(Map<K, V> items, Parallel parallel) {
 		this.items = items;
+		this.parallel = parallel;
 	}
 
 	/**
@@ -52,8 +68,86 @@ public class GroupBiDSL<K, V> {
 	 * @throws NullPointerException if {@code classifier} is {@code null}
 	 */
 	public <R> Map<R, Map<K, V>> by(BiFunction<? super K, ? super V, ? extends R> classifier) {
-		return items.entrySet().stream()
-			.collect(Collectors.groupingBy(e -> classifier.apply(e.getKey(), e.getValue()), New::map, To.map()));
+		Objects.requireNonNull(classifier);
+
+		return MapLoops.execute("GroupBiDSL.by", items, parallel, () -> MapLoops.group(items, classifier, New.map(), New::map), entries -> entries
+			.collect(Collectors.groupingBy(e -> classifier.apply(e.getKey(), e.getValue()), New::map, To.map())));
+	}
+
+	/**
+	 * Groups the pre-specified items ({@code Map} entries) according to the specified classification function, which maps each entry to a classification key.
+	 * <p>
+	 * The resulting groups of entries are stored into a new {@code Map} with the same structure as in {@link #by(BiFunction)},
+	 * but both the result map and the group maps are created by the specified factories.
+	 *
+	 * @param classifier   the classification function used to group the items
+	 * @param mapFactory   the supplier of the new (empty) result map, e.g. {@code New::compactMap}
+	 * @param groupFactory the supplier of the new (empty) map of each group, e.g. {@code New::compactMap}
+	 * @return a new {@code Map} consisting of the grouped items
+	 * @throws NullPointerException if {@code classifier}, {@code mapFactory} or {@code groupFactory} is {@code null}
+	 */
+	public <R, G extends Map<K, V>, M extends Map<R, G>> M by(BiFunction<? super K, ? super V, ? extends R> classifier,
+	                                                         Supplier<M> mapFactory, Supplier<G> groupFactory) {
+		Objects.requireNonNull(classifier);
+		Objects.requireNonNull(mapFactory);
+		Collector<Map.Entry<K, V>, ?, G> groups = To.map(groupFactory);
+
+		return MapLoops.execute("GroupBiDSL.by", items, parallel, () -> MapLoops.group(items, classifier, mapFactory.get(), groupFactory), entries -> entries
+			.collect(Collectors.groupingBy(e -> classifier.apply(e.getKey(), e.getValue()), mapFactory, groups)));
+	}
+
+	/**
+	 * Groups the pre-specified items ({@code Map} entries) according to the specified classification function, which maps each entry to a classification key.
+	 * <p>
+	 * Unlike {@link #by(BiFunction)}, all threads of a parallel execution accumulate the groups into the same concurrent {@code Map},
+	 * so there are no partial results to merge at the end. The entries inside each group are not kept in their encounter order.
+	 *
+	 * @param classifier the classification function used to group the items
+	 * @return a new {@code ConcurrentMap} consisting of the grouped items
+	 * @throws NullPointerException if {@code classifier} is {@code null}, or it returns a {@code null} key
+	 * @see #byConcurrentOrdered(BiFunction)
+	 */
+	public <R> ConcurrentMap<R, Map<K, V>> byConcurrent(BiFunction<? super K, ? super V, ? extends R> classifier) {
+		Objects.requireNonNull(classifier);
+
+		return MapLoops.executeBulk("GroupBiDSL.byConcurrent", items, parallel, threshold -> MapLoops.groupConcurrently(items, classifier, threshold), entries -> entries
+			.collect(ConcurrentGroups.unordered(e -> classifier.apply(e.getKey(), e.getValue()), MapLoops::toMap)));
+	}
+
+	/**
+	 * Groups the pre-specified items ({@code Map} entries) according to the specified classification function, which maps each entry to a classification key.
+	 * <p>
+	 * Like {@link #byConcurrent(BiFunction)}, all threads of a parallel execution accumulate the groups into the same concurrent {@code Map},
+	 * but the encounter order of the entries inside each group is restored at the end.
+	 *
+	 * @param classifier the classification function used to group the items
+	 * @return a new {@code ConcurrentMap} consisting of the grouped items
+	 * @throws NullPointerException if {@code classifier} is {@code null}, or it returns a {@code null} key
+	 * @see #byConcurrent(BiFunction)
+	 */
+	public <R> ConcurrentMap<R, Map<K, V>> byConcurrentOrdered(BiFunction<? super K, ? super V, ? extends R> classifier) {
+		Objects.requireNonNull(classifier);
+
+		return MapLoops.execute("GroupBiDSL.byConcurrentOrdered", items, parallel, () -> MapLoops.groupConcurrently(items, classifier, MapLoops.SEQUENTIAL),
+			entries -> StreamSupport.stream(Indexed.spliterator(entries.spliterator()), entries.isParallel())
+				.collect(ConcurrentGroups.ordered(e -> classifier.apply(e.getKey(), e.getValue()), MapLoops::toMap)));
+	}
+
+	/**
+	 * Switches to a grouping that aggregates each group in a single pass, without keeping its entries,
+	 * according to the specified classification function, which maps each entry to a classification key.
+	 *
+	 * @param classifier the classification function used to group the items
+	 * @return DSL helper used to specify the aggregation and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code classifier} is {@code null}
+	 * @see AggregateBiDSL
+	 */
+	public <R> AggregateBiDSL<K, V, R> aggregateBy(BiFunction<? super K, ? super V, ? extends R> classifier) {
+		Objects.requireNonNull(classifier);
+
+		Stream<Map.Entry<K, V>> entries = parallel != null ? items.entrySet().parallelStream() : items.entrySet().stream();
+
+		return new AggregateBiDSL<>(new AggregateDSL<>(entries, parallel, items.entrySet(), e -> classifier.apply(e.getKey(), e.getValue())));
 	}
 
 }
@@ -20,11 +20,20 @@
 
 package org.essentials4j;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * DSL helper used to specify classification function and execute the grouping through method chain call.
@@ -36,8 +45,28 @@ public class GroupDSL<T> {
 
 	private final Stream<T> stream;
 
+	/**
+	 * The parallel execution settings, if the stream is parallel (or {@code null} otherwise).
+	 */
+	private final Parallel parallel;
+
+	/**
+	 * The source items of the stream, if they are known (or {@code null} otherwise), only used to report their number in the metrics.
+	 */
+	private final Iterable<T> items;
+
 	GroupDSL(Stream<T> stream) {
+		this(stream, null, null);
+	}
+
+	GroupDSL(Stream<T> stream, Parallel parallel) {
+		this(stream, parallel, null);
+	}
+
+	GroupDSL(Stream<T> stream, Parallel parallel, Iterable<T> items) {
 		this.stream = stream;
+		this.parallel = parallel;
+		this.items = items;
 	}
 
 	/**
@@ -54,7 +83,170 @@ public class GroupDSL<T> {
 	 * @throws NullPointerException if {@code classifier} is {@code null}
 	 */
 	public <K> Map<K, List<T>> by(Function<? super T, ? extends K> classifier) {
-		return stream.collect(Collectors.groupingBy(classifier, New::map, To.list()));
+		return execute("GroupDSL.by", s -> s.collect(Collectors.groupingBy(classifier, New::map, To.list())));
+	}
+
+	/**
+	 * Groups the pre-specified items according to the specified classification function, which maps each element to a classification key.
+	 * <p>
+	 * The resulting groups of elements are stored into a new {@code Map}, created by the specified factory, with the same structure as in {@link #by(Function)}.
+	 *
+	 * @param classifier the classification function used to group the items
+	 * @param mapFactory the supplier of the new (empty) result map, e.g. {@code New::compactMap}
+	 * @return a new {@code Map} consisting of the grouped items
+	 * @throws NullPointerException if {@code classifier} is {@code null} or {@code mapFactory} is {@code null}
+	 */
+	public <K, M extends Map<K, List<T>>> M by(Function<? super T, ? extends K> classifier, Supplier<M> mapFactory) {
+		return execute("GroupDSL.by", s -> s.collect(Collectors.groupingBy(classifier, mapFactory, To.list())));
+	}
+
+	/**
+	 * Groups the pre-specified items according to the specified classification function, which maps each element to a classification key.
+	 * <p>
+	 * Unlike {@link #by(Function)}, all threads of a parallel execution accumulate the groups into the same concurrent {@code Map},
+	 * so there are no partial results to merge at the end. The elements inside each group are not kept in their encounter order.
+	 *
+	 * @param classifier the classification function used to group the items
+	 * @return a new {@code ConcurrentMap} consisting of the grouped items
+	 * @throws NullPointerException if {@code classifier} is {@code null}, or it returns a {@code null} key
+	 * @see #byConcurrentOrdered(Function)
+	 */
+	public <K> ConcurrentMap<K, List<T>> byConcurrent(Function<? super T, ? extends K> classifier) {
+		Objects.requireNonNull(classifier);
+
+		return execute("GroupDSL.byConcurrent", s -> s.collect(ConcurrentGroups.unordered(classifier, Function.identity())));
+	}
+
+	/**
+	 * Groups the pre-specified items according to the specified classification function, which maps each element to a classification key.
+	 * <p>
+	 * Like {@link #byConcurrent(Function)}, all threads of a parallel execution accumulate the groups into the same concurrent {@code Map},
+	 * but the encounter order of the elements inside each group is restored at the end.
+	 *
+	 * @param classifier the classification function used to group the items
+	 * @return a new {@code ConcurrentMap} consisting of the grouped items
+	 * @throws NullPointerException if {@code classifier} is {@code null}, or it returns a {@code null} key
+	 * @see #byConcurrent(Function)
+	 */
+	public <K> ConcurrentMap<K, List<T>> byConcurrentOrdered(Function<? super T, ? extends K> classifier) {
+		Objects.requireNonNull(classifier);
+
+		return execute("GroupDSL.byConcurrentOrdered", s -> StreamSupport.stream(Indexed.spliterator(s.spliterator()), s.isParallel())
+			.collect(ConcurrentGroups.ordered(classifier, Function.identity())));
+	}
+
+	/**
+	 * Groups the pre-specified items according to the specified classification function, which maps each element to an {@code int} classification key.
+	 * <p>
+	 * The keys are never boxed, and the resulting groups of elements are stored into a new {@code IntObjectMap} with the following structure:
+	 * <p>
+	 * - keys: the distinct set of classification keys, in unspecified order,
+	 * <p>
+	 * - values: for each classification key, a {@code List} of all elements that were mapped to that key.
+	 *
+	 * @param classifier the classification function used to group the items
+	 * @return a new {@code IntObjectMap} consisting of the grouped items
+	 * @throws NullPointerException if {@code classifier} is {@code null}
+	 */
+	public IntObjectMap<List<T>> byInt(ToIntFunction<? super T> classifier) {
+		Objects.requireNonNull(classifier);
+
+		return execute("GroupDSL.byInt", s -> s.collect(Collector.of(
+			IntObjectMap<List<T>>::new,
+			(groups, item) -> groups.computeIfAbsent(classifier.applyAsInt(item), key -> New.list()).add(item),
+			(groups, other) -> {
+				other.forEach((key, items) -> groups.computeIfAbsent(key, k -> New.list()).addAll(items));
+				return groups;
+			})));
+	}
+
+	/**
+	 * Groups the pre-specified items according to the specified classification function, which maps each element to a {@code long} classification key.
+	 * <p>
+	 * The keys are never boxed, and the resulting groups of elements are stored into a new {@code LongObjectMap} with the following structure:
+	 * <p>
+	 * - keys: the distinct set of classification keys, in unspecified order,
+	 * <p>
+	 * - values: for each classification key, a {@code List} of all elements that were mapped to that key.
+	 *
+	 * @param classifier the classification function used to group the items
+	 * @return a new {@code LongObjectMap} consisting of the grouped items
+	 * @throws NullPointerException if {@code classifier} is {@code null}
+	 */
+	public LongObjectMap<List<T>> byLong(ToLongFunction<? super T> classifier) {
+		Objects.requireNonNull(classifier);
+
+		return execute("GroupDSL.byLong", s -> s.collect(Collector.of(
+			LongObjectMap<List<T>>::new,
+			(groups, item) -> groups.computeIfAbsent(classifier.applyAsLong(item), key -> New.list()).add(item),
+			(groups, other) -> {
+				other.forEach((key, items) -> groups.computeIfAbsent(key, k -> New.list()).addAll(items));
+				return groups;
+			})));
+	}
+
+	/**
+	 * Switches to a grouping that aggregates each group in a single pass, without keeping its elements,
+	 * according to the specified classification function, which maps each element to a classification key.
+	 *
+	 * @param classifier the classification function used to group the items
+	 * @return DSL helper used to specify the aggregation and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code classifier} is {@code null}
+	 * @see AggregateDSL
+	 */
+	public <K> AggregateDSL<T, K> aggregateBy(Function<? super T, ? extends K> classifier) {
+		Objects.requireNonNull(classifier);
+
+		return new AggregateDSL<>(stream, parallel, items, classifier);
+	}
+
+	/**
+	 * Switches to a memory-bounded (external) grouping, which spills the items to temporary files in the default temporary-file directory
+	 * when their serialized size exceeds the specified memory budget.
+	 * <p>
+	 * The external grouping is always executed sequentially.
+	 *
+	 * @param memoryBudget the maximum number of bytes of serialized items to keep in memory
+	 * @param serializer   the serializer used to write the items to the temporary files and read them back
+	 * @return DSL helper used to specify classification function and execute the external grouping through method chain call
+	 * @throws NullPointerException     if {@code serializer} is {@code null}
+	 * @throws IllegalArgumentException if {@code memoryBudget} is not positive
+	 * @see ExternalGroupDSL
+	 */
+	public ExternalGroupDSL<T> external(long memoryBudget, Serializer<T> serializer) {
+		return external(memoryBudget, serializer, Paths.get(System.getProperty("java.io.tmpdir")));
+	}
+
+	/**
+	 * Switches to a memory-bounded (external) grouping, which spills the items to temporary files in the specified directory
+	 * when their serialized size exceeds the specified memory budget.
+	 * <p>
+	 * The external grouping is always executed sequentially.
+	 *
+	 * @param memoryBudget the maximum number of bytes of serialized items to keep in memory
+	 * @param serializer   the serializer used to write the items to the temporary files and read them back
+	 * @param tempDir      the directory of the temporary files
+	 * @return DSL helper used to specify classification function and execute the external grouping through method chain call
+	 * @throws NullPointerException     if {@code serializer} is {@code null} or {@code tempDir} is {@code null}
+	 * @throws IllegalArgumentException if {@code memoryBudget} is not positive
+	 * @see ExternalGroupDSL
+	 */
+	public ExternalGroupDSL<T> external(long memoryBudget, Serializer<T> serializer, Path tempDir) {
+		Objects.requireNonNull(serializer);
+		Objects.requireNonNull(tempDir);
+
+		if (memoryBudget <= 0) {
+			throw new IllegalArgumentException("The memory budget must be positive!");
+		}
+
+		return new ExternalGroupDSL<>(stream, memoryBudget, serializer, tempDir, items);
+	}
+
+	private <R> R execute(String name, Function<Stream<T>, R> operation) {
+		long start = Metrics.start();
+		R result = parallel != null ? parallel.invoke(() -> operation.apply(stream)) : operation.apply(stream);
+
+		return Metrics.end(start, name, items, result);
 	}
 
 }
@@ -0,0 +1,235 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * DSL helper used to specify classification function and execute the grouping through method chain call, on {@code long} items.
+ * <p>
+ * The items are never boxed.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class GroupLongDSL {
+
+	/**
+	 * The source items, if the grouping is executed as a loop (or {@code null} otherwise).
+	 */
+	private final long[] items;
+
+	/**
+	 * The number of source items, which may be less than the array length.
+	 */
+	private final int size;
+
+	/**
+	 * The source stream, if the grouping is executed as a stream pipeline (or {@code null} otherwise).
+	 */
+	private final LongStream stream;
+
+	/**
+	 * The source items (an array or a list), if they are known (or {@code null} otherwise), only used to report their number in the metrics.
+	 */
+	private final Object source;
+
+	GroupLongDSL(long[] items) {
+		this(items, items.length, items);
+	}
+
+	GroupLongDSL(long[] items, int size, Object source) {
+		this.items = items;
+		this.size = size;
+		this.stream = null;
+		this.source = source;
+	}
+
+	GroupLongDSL(LongStream stream) {
+		this.items = null;
+		this.size = 0;
+		this.stream = stream;
+		this.source = null;
+	}
+
+	/**
+	 * Groups the pre-specified items according to the specified classification function, which maps each element to a classification key.
+	 * <p>
+	 * The resulting groups of elements are stored into a new {@code Map} with the following structure:
+	 * <p>
+	 * - keys: the distinct set of classification keys,
+	 * <p>
+	 * - values: for each classification key, an array of all elements that were mapped to that key.
+	 *
+	 * @param classifier the classification function used to group the items
+	 * @return a new {@code Map} consisting of the grouped items
+	 * @throws NullPointerException if {@code classifier} is {@code null}
+	 */
+	public <K> Map<K, long[]> by(LongFunction<? extends K> classifier) {
+		return by(classifier, New::map);
+	}
+
+	/**
+	 * Groups the pre-specified items according to the specified classification function, which maps each element to a classification key.
+	 * <p>
+	 * The resulting groups of elements are stored into a new {@code Map}, created by the specified factory, with the same structure as in {@link #by(LongFunction)}.
+	 *
+	 * @param classifier the classification function used to group the items
+	 * @param mapFactory the supplier of the new (empty) result map, e.g. {@code New::compactMap}
+	 * @return a new {@code Map} consisting of the grouped items
+	 * @throws NullPointerException if {@code classifier} is {@code null} or {@code mapFactory} is {@code null}
+	 */
+	public <K, M extends Map<K, long[]>> M by(LongFunction<? extends K> classifier, Supplier<M> mapFactory) {
+		Objects.requireNonNull(classifier);
+		Objects.requireNonNull(mapFactory);
+		long start = Metrics.start();
+
+		Map<K, Group> groups = New.map();
+
+		if (items != null) {
+			for (int i = 0; i < size; i++) {
+				long item = items[i];
+
+				add(groups, classifier.apply(item), item);
+			}
+
+		} else {
+			stream.forEachOrdered(item -> add(groups, classifier.apply(item), item));
+		}
+
+		M results = mapFactory.get();
+
+		groups.forEach((key, group) -> results.put(key, group.toArray()));
+
+		return Metrics.end(start, "GroupLongDSL.by", source, results);
+	}
+
+	/**
+	 * Groups the pre-specified items according to the specified classification function, which maps each element to an {@code int} classification key.
+	 * <p>
+	 * Neither the items nor the keys are boxed, and the resulting groups of elements are stored into a new {@code IntObjectMap} with the following structure:
+	 * <p>
+	 * - keys: the distinct set of classification keys, in unspecified order,
+	 * <p>
+	 * - values: for each classification key, an array of all elements that were mapped to that key.
+	 *
+	 * @param classifier the classification function used to group the items
+	 * @return a new {@code IntObjectMap} consisting of the grouped items
+	 * @throws NullPointerException if {@code classifier} is {@code null}
+	 */
+	public IntObjectMap<long[]> byInt(LongToIntFunction classifier) {
+		Objects.requireNonNull(classifier);
+		long start = Metrics.start();
+
+		IntObjectMap<Group> groups = new IntObjectMap<>();
+
+		if (items != null) {
+			for (int i = 0; i < size; i++) {
+				long item = items[i];
+
+				groups.computeIfAbsent(classifier.applyAsInt(item), key -> new Group()).add(item);
+			}
+
+		} else {
+			stream.forEachOrdered(item -> groups.computeIfAbsent(classifier.applyAsInt(item), key -> new Group()).add(item));
+		}
+
+		IntObjectMap<long[]> results = new IntObjectMap<>(groups.size());
+
+		groups.forEach((key, group) -> results.put(key, group.toArray()));
+
+		return Metrics.end(start, "GroupLongDSL.byInt", source, results);
+	}
+
+	/**
+	 * Groups the pre-specified items according to the specified classification function, which maps each element to a {@code long} classification key.
+	 * <p>
+	 * Neither the items nor the keys are boxed, and the resulting groups of elements are stored into a new {@code LongObjectMap} with the following structure:
+	 * <p>
+	 * - keys: the distinct set of classification keys, in unspecified order,
+	 * <p>
+	 * - values: for each classification key, an array of all elements that were mapped to that key.
+	 *
+	 * @param classifier the classification function used to group the items
+	 * @return a new {@code LongObjectMap} consisting of the grouped items
+	 * @throws NullPointerException if {@code classifier} is {@code null}
+	 */
+	public LongObjectMap<long[]> byLong(LongUnaryOperator classifier) {
+		Objects.requireNonNull(classifier);
+		long start = Metrics.start();
+
+		LongObjectMap<Group> groups = new LongObjectMap<>();
+
+		if (items != null) {
+			for (int i = 0; i < size; i++) {
+				long item = items[i];
+
+				groups.computeIfAbsent(classifier.applyAsLong(item), key -> new Group()).add(item);
+			}
+
+		} else {
+			stream.forEachOrdered(item -> groups.computeIfAbsent(classifier.applyAsLong(item), key -> new Group()).add(item));
+		}
+
+		LongObjectMap<long[]> results = new LongObjectMap<>(groups.size());
+
+		groups.forEach((key, group) -> results.put(key, group.toArray()));
+
+		return Metrics.end(start, "GroupLongDSL.byLong", source, results);
+	}
+
+	private static <K> void add(Map<K, Group> groups, K key, long item) {
+		Objects.requireNonNull(key, "element cannot be mapped to a null key");
+
+		groups.computeIfAbsent(key, k -> new Group()).add(item);
+	}
+
+	/**
+	 * Growable array of the elements in a group.
+	 */
+	private static final class Group {
+
+		private long[] elements = new long[8];
+
+		private int size;
+
+		void add(long element) {
+			if (size == elements.length) {
+				elements = Arrays.copyOf(elements, size * 2);
+			}
+
+			elements[size++] = element;
+		}
+
+		long[] toArray() {
+			return Arrays.copyOf(elements, size);
+		}
+
+	}
+
+}
@@ -0,0 +1,96 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+/**
+ * Hashing utilities for the open-addressing hash tables of the primitive collections.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class Hashing {
+
+	/**
+	 * The maximum ratio of occupied slots in the hash tables.
+	 */
+	static final float LOAD_FACTOR = 0.75f;
+
+	static final int MAX_CAPACITY = 1 << 30;
+
+	/**
+	 * Static utilities. Do not instantiate.
+	 */
+	private Hashing() {
+	}
+
+	/**
+	 * Scrambles the bits of the key (Fibonacci hashing), so the consecutive keys are spread across the table.
+	 */
+	static int mix(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Scrambles the bits of the key (Fibonacci hashing), so the consecutive keys are spread across the table.
+	 */
+	static int mix(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		h ^= h >>> 32;
+		return (int) (h ^ (h >>> 16));
+	}
+
+	/**
+	 * Calculates the table capacity (a power of 2) that can hold the expected number of keys without resizing.
+	 */
+	static int capacity(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("The expected size must not be negative!");
+		}
+
+		long needed = (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1;
+
+		if (needed > MAX_CAPACITY) {
+			throw new IllegalArgumentException("The expected size is too large: " + expectedSize);
+		}
+
+		return Math.max(4, Integer.highestOneBit((int) needed - 1) << 1);
+	}
+
+	/**
+	 * The capacity of the resized table.
+	 */
+	static int grow(int capacity) {
+		if (capacity >= MAX_CAPACITY) {
+			throw new IllegalStateException("The maximum capacity has been reached!");
+		}
+
+		return capacity * 2;
+	}
+
+	/**
+	 * The number of occupied slots that will trigger resizing of the table, leaving at least one free slot.
+	 */
+	static int maxFill(int capacity) {
+		return Math.min(capacity - 1, (int) Math.ceil(capacity * LOAD_FACTOR));
+	}
+
+}
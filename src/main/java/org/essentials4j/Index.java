@@ -0,0 +1,275 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An immutable hash index of items by key, for constant-time lookups of the items with a given key.
+ * <p>
+ * The index iterates over all indexed items in their original order, so it can also be used as a source of the search DSL:
+ * a search with the {@link #eq(Object)} predicate of the index is answered by a lookup, while any other predicate scans the items.
+ * <p> Usage:
+ * <pre><code>
+ * Index&lt;Integer, User&gt; byId = Do.index(users).unique(user -&gt; user.id);
+ * Optional&lt;User&gt; user = Do.findIn(byId).first(byId.eq(id));
+ * </code></pre>
+ *
+ * @param <K> the type of the keys
+ * @param <T> the type of the indexed items
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class Index<K, T> implements Iterable<T> {
+
+	private final FrozenList<T> items;
+
+	private final Function<? super T, ? extends K> keyFn;
+
+	/**
+	 * The items of each key: a single item is stored directly, several items in a {@code Multi} holder.
+	 */
+	private final Map<K, Object> index;
+
+	private final boolean unique;
+
+	private Index(FrozenList<T> items, Function<? super T, ? extends K> keyFn, Map<K, Object> index, boolean unique) {
+		this.items = items;
+		this.keyFn = keyFn;
+		this.index = index;
+		this.unique = unique;
+	}
+
+	/**
+	 * Builds an index of the specified items in one pass, allowing several items per key.
+	 */
+	static <K, T> Index<K, T> multi(FrozenList<T> items, Function<? super T, ? extends K> keyFn) {
+		Map<K, Object> index = new CompactMap<>();
+
+		for (int i = 0, size = items.size(); i < size; i++) {
+			T item = items.get(i);
+			K key = keyFn.apply(item);
+
+			Object existing = index.get(key);
+
+			if (existing instanceof Multi) {
+				((Multi) existing).add(item);
+
+			} else if (existing != null || index.containsKey(key)) {
+				index.put(key, new Multi(existing, item));
+
+			} else {
+				index.put(key, item);
+			}
+		}
+
+		for (Object value : index.values()) {
+			if (value instanceof Multi) {
+				((Multi) value).freeze();
+			}
+		}
+
+		return new Index<>(items, keyFn, index, false);
+	}
+
+	/**
+	 * Builds an index of the specified items in one pass, requiring a distinct key for each item.
+	 */
+	static <K, T> Index<K, T> unique(FrozenList<T> items, Function<? super T, ? extends K> keyFn) {
+		Map<K, Object> index = new CompactMap<>(items.size());
+
+		for (int i = 0, size = items.size(); i < size; i++) {
+			T item = items.get(i);
+			K key = keyFn.apply(item);
+
+			if (index.containsKey(key)) {
+				throw new IllegalArgumentException(String.format("Duplicate key [%s]!", key));
+			}
+
+			index.put(key, item);
+		}
+
+		return new Index<>(items, keyFn, index, true);
+	}
+
+	/**
+	 * Returns the first item with the specified key, in the original order of the items.
+	 *
+	 * @param key the key to look up
+	 * @return {@code Optional} wrapping the first item with the specified key if there is one, or an empty {@code Optional} otherwise
+	 * @throws NullPointerException if the found item is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public Optional<T> get(Object key) {
+		Object value = index.get(key);
+
+		if (value instanceof Multi) {
+			return Optional.of((T) ((Multi) value).list.get(0));
+		}
+
+		return value != null || index.containsKey(key) ? Optional.of((T) value) : Optional.empty();
+	}
+
+	/**
+	 * Returns all items with the specified key, in the original order of the items.
+	 *
+	 * @param key the key to look up
+	 * @return an immutable {@code List} of the items with the specified key, which is empty if there are none
+	 */
+	@SuppressWarnings("unchecked")
+	public List<T> getAll(Object key) {
+		Object value = index.get(key);
+
+		if (value instanceof Multi) {
+			return (List<T>) ((Multi) value).list;
+		}
+
+		return value != null || index.containsKey(key) ? Collections.singletonList((T) value) : Collections.emptyList();
+	}
+
+	/**
+	 * Checks whether there are any items with the specified key.
+	 *
+	 * @param key the key to look up
+	 * @return {@code true} if there are any items with the specified key, or {@code false} otherwise
+	 */
+	public boolean contains(Object key) {
+		return index.containsKey(key);
+	}
+
+	/**
+	 * Returns a predicate that matches the items with the specified key.
+	 * <p>
+	 * When it is used to search this index through the search DSL, the matching items are found by a lookup instead of a scan.
+	 *
+	 * @param key the key of the items to match
+	 * @return a predicate that matches the items with the specified key
+	 */
+	public Predicate<T> eq(K key) {
+		return new KeyPredicate<>(this, key);
+	}
+
+	/**
+	 * Returns the distinct keys, in the order of their first occurrence.
+	 *
+	 * @return an unmodifiable {@code Set} view of the keys
+	 */
+	public Set<K> keys() {
+		return Collections.unmodifiableSet(index.keySet());
+	}
+
+	/**
+	 * Returns all indexed items, in their original order.
+	 *
+	 * @return an immutable {@code List} of the indexed items
+	 */
+	public List<T> items() {
+		return items;
+	}
+
+	/**
+	 * Checks whether the index was built with a distinct key for each item.
+	 *
+	 * @return {@code true} if the index is unique, or {@code false} otherwise
+	 */
+	public boolean isUnique() {
+		return unique;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return items.iterator();
+	}
+
+	/**
+	 * Returns the items with the key of the specified predicate, if it is the {@link #eq(Object)} predicate of the specified index,
+	 * or the specified items otherwise.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> Iterable<T> narrow(Iterable<T> items, Predicate<? super T> predicate) {
+		if (predicate instanceof KeyPredicate && ((KeyPredicate<?, ?>) predicate).index == items) {
+			return (List<T>) ((KeyPredicate<?, ?>) predicate).lookup();
+		}
+
+		return items;
+	}
+
+	private static final class KeyPredicate<K, T> implements Predicate<T> {
+
+		private final Index<K, T> index;
+
+		private final K key;
+
+		KeyPredicate(Index<K, T> index, K key) {
+			this.index = index;
+			this.key = key;
+		}
+
+		List<T> lookup() {
+			return index.getAll(key);
+		}
+
+		@Override
+		public boolean test(T item) {
+			return Objects.equals(index.keyFn.apply(item), key);
+		}
+	}
+
+	/**
+	 * A holder of several items with the same key, growing while the index is built.
+	 */
+	private static final class Multi {
+
+		private Object[] items;
+
+		private int size;
+
+		private List<Object> list;
+
+		Multi(Object first, Object second) {
+			this.items = new Object[]{first, second, null, null};
+			this.size = 2;
+		}
+
+		void add(Object item) {
+			if (size == items.length) {
+				items = Arrays.copyOf(items, size * 2);
+			}
+
+			items[size++] = item;
+		}
+
+		void freeze() {
+			list = new FrozenList<>(size == items.length ? items : Arrays.copyOf(items, size));
+			items = null;
+		}
+	}
+
+}
@@ -0,0 +1,69 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * DSL helper used to specify the key function and build the index through method chain call.
+ * <p>
+ * The items are copied once, so several indexes (e.g. by primary and secondary keys) built through the same helper share them.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class IndexDSL<T> {
+
+	private final FrozenList<T> items;
+
+	IndexDSL(FrozenList<T> items) {
+		this.items = items;
+	}
+
+	/**
+	 * Builds an index of the pre-specified items by the specified key function, allowing several items per key.
+	 *
+	 * @param keyFn the function that derives the key of each item
+	 * @return a new immutable {@code Index} of the items
+	 * @throws NullPointerException if {@code keyFn} is {@code null}
+	 */
+	public <K> Index<K, T> by(Function<? super T, ? extends K> keyFn) {
+		Objects.requireNonNull(keyFn);
+
+		return Index.multi(items, keyFn);
+	}
+
+	/**
+	 * Builds an index of the pre-specified items by the specified key function, requiring a distinct key for each item.
+	 *
+	 * @param keyFn the function that derives the key of each item
+	 * @return a new immutable {@code Index} of the items
+	 * @throws NullPointerException     if {@code keyFn} is {@code null}
+	 * @throws IllegalArgumentException if several items have the same key
+	 */
+	public <K> Index<K, T> unique(Function<? super T, ? extends K> keyFn) {
+		Objects.requireNonNull(keyFn);
+
+		return Index.unique(items, keyFn);
+	}
+
+}
@@ -0,0 +1,128 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * An element tagged with its position in the encounter order of the source.
+ * <p>
+ * Used to restore the encounter order of elements that were processed concurrently, in no particular order.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class Indexed<T> {
+
+	static final Comparator<Indexed<?>> BY_INDEX = (a, b) -> Long.compare(a.index, b.index);
+
+	final long index;
+
+	final T value;
+
+	Indexed(long index, T value) {
+		this.index = index;
+		this.value = value;
+	}
+
+	/**
+	 * Tags each element of the specified source with its position in the encounter order, while keeping the source splittable.
+	 */
+	static <T> Spliterator<Indexed<T>> spliterator(Spliterator<T> source) {
+		if (source.hasCharacteristics(Spliterator.SUBSIZED)) {
+			return new SubsizedSpliterator<>(source, 0);
+		}
+
+		// the elements are numbered in the order they are pulled from the iterator, which happens sequentially
+		Iterator<T> it = Spliterators.iterator(source);
+
+		Iterator<Indexed<T>> indexing = new Iterator<Indexed<T>>() {
+			private long next;
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public Indexed<T> next() {
+				return new Indexed<>(next++, it.next());
+			}
+		};
+
+		int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+
+		return source.hasCharacteristics(Spliterator.SIZED)
+			? Spliterators.spliterator(indexing, source.estimateSize(), characteristics)
+			: Spliterators.spliteratorUnknownSize(indexing, characteristics);
+	}
+
+	/**
+	 * The exact size of the split prefixes is known for {@code SUBSIZED} sources, so the indices of each part can be calculated.
+	 */
+	private static final class SubsizedSpliterator<T> implements Spliterator<Indexed<T>> {
+
+		private final Spliterator<T> source;
+
+		private long index;
+
+		SubsizedSpliterator(Spliterator<T> source, long index) {
+			this.source = source;
+			this.index = index;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Indexed<T>> action) {
+			return source.tryAdvance(x -> action.accept(new Indexed<>(index++, x)));
+		}
+
+		@Override
+		public Spliterator<Indexed<T>> trySplit() {
+			Spliterator<T> prefix = source.trySplit();
+
+			if (prefix == null) {
+				return null;
+			}
+
+			Spliterator<Indexed<T>> indexedPrefix = new SubsizedSpliterator<>(prefix, index);
+			index += prefix.getExactSizeIfKnown();
+
+			return indexedPrefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return source.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			int inherited = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE | Spliterator.CONCURRENT;
+			return (source.characteristics() & inherited) | Spliterator.NONNULL;
+		}
+
+	}
+
+}
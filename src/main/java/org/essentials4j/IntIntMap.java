@@ -0,0 +1,437 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Arrays;
+
+/**
+ * A hash map with {@code int} keys and {@code int} values, implemented as an open-addressing hash table with linear probing.
+ * <p>
+ * The keys and values are never boxed and are kept in two parallel arrays, which makes the map a compact counter or index.
+ * The iteration order is not specified.
+ * <p>
+ * Not thread-safe.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class IntIntMap {
+
+	/**
+	 * The hash table of the keys, where {@code 0} marks a free slot.
+	 */
+	private int[] keys;
+
+	private int[] values;
+
+	/**
+	 * The key {@code 0} can't be stored in the table, so its entry is kept separately.
+	 */
+	private boolean containsZeroKey;
+
+	private int zeroValue;
+
+	private int size;
+
+	private int mask;
+
+	private int maxFill;
+
+	/**
+	 * Constructs a new empty map.
+	 */
+	public IntIntMap() {
+		this(0);
+	}
+
+	/**
+	 * Constructs a new empty map, big enough to hold the expected number of entries without resizing.
+	 *
+	 * @param expectedSize the expected number of entries
+	 * @throws IllegalArgumentException if {@code expectedSize} is negative
+	 */
+	public IntIntMap(int expectedSize) {
+		allocate(Hashing.capacity(expectedSize));
+	}
+
+	/**
+	 * Returns the value mapped to the specified key, or {@code 0} if there is no such key.
+	 *
+	 * @param key the key to search for
+	 * @return the value mapped to the key, or {@code 0}
+	 */
+	public int get(int key) {
+		return getOrDefault(key, 0);
+	}
+
+	/**
+	 * Returns the value mapped to the specified key, or {@code defaultValue} if there is no such key.
+	 *
+	 * @param key          the key to search for
+	 * @param defaultValue the value to return if there is no such key
+	 * @return the value mapped to the key, or {@code defaultValue}
+	 */
+	public int getOrDefault(int key, int defaultValue) {
+		if (key == 0) {
+			return containsZeroKey ? zeroValue : defaultValue;
+		}
+
+		int pos = slot(key);
+		return pos >= 0 ? values[pos] : defaultValue;
+	}
+
+	/**
+	 * Checks whether the map contains the specified key.
+	 *
+	 * @param key the key to search for
+	 * @return {@code true} if the map contains the key, or {@code false} otherwise
+	 */
+	public boolean containsKey(int key) {
+		return key == 0 ? containsZeroKey : slot(key) >= 0;
+	}
+
+	/**
+	 * Maps the specified key to the specified value, replacing the previous value (if any).
+	 *
+	 * @param key   the key
+	 * @param value the value
+	 * @return the previous value mapped to the key, or {@code 0} if there was no such key
+	 */
+	public int put(int key, int value) {
+		if (key == 0) {
+			int previous = zeroValue;
+			zeroValue = value;
+
+			if (!containsZeroKey) {
+				containsZeroKey = true;
+				size++;
+			}
+
+			return previous;
+		}
+
+		int pos = slot(key);
+
+		if (pos >= 0) {
+			int previous = values[pos];
+			values[pos] = value;
+			return previous;
+		}
+
+		insert(-pos - 1, key, value);
+		return 0;
+	}
+
+	/**
+	 * Adds the specified increment to the value mapped to the specified key, treating a missing key as mapped to {@code 0}.
+	 *
+	 * @param key       the key
+	 * @param increment the increment to add
+	 * @return the new value mapped to the key
+	 */
+	public int addTo(int key, int increment) {
+		if (key == 0) {
+			if (!containsZeroKey) {
+				containsZeroKey = true;
+				size++;
+			}
+
+			return zeroValue += increment;
+		}
+
+		int pos = slot(key);
+
+		if (pos >= 0) {
+			return values[pos] += increment;
+		}
+
+		insert(-pos - 1, key, increment);
+		return increment;
+	}
+
+	/**
+	 * Removes the entry of the specified key, if it is present.
+	 *
+	 * @param key the key to remove
+	 * @return {@code true} if the map contained the key, or {@code false} otherwise
+	 */
+	public boolean remove(int key) {
+		if (key == 0) {
+			if (!containsZeroKey) {
+				return false;
+			}
+
+			containsZeroKey = false;
+			zeroValue = 0;
+			size--;
+			return true;
+		}
+
+		int pos = slot(key);
+
+		if (pos < 0) {
+			return false;
+		}
+
+		size--;
+		shiftKeys(pos);
+
+		return true;
+	}
+
+	/**
+	 * @return the number of entries in the map
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return {@code true} if the map has no entries, or {@code false} otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all entries from the map, keeping its capacity.
+	 */
+	public void clear() {
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, 0);
+		containsZeroKey = false;
+		zeroValue = 0;
+		size = 0;
+	}
+
+	/**
+	 * Performs the specified action on each entry of the map.
+	 *
+	 * @param action the action to perform on each entry
+	 * @throws NullPointerException if {@code action} is {@code null}
+	 */
+	public void forEach(EntryConsumer action) {
+		if (containsZeroKey) {
+			action.accept(0, zeroValue);
+		}
+
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				action.accept(keys[i], values[i]);
+			}
+		}
+	}
+
+	/**
+	 * @return a new array consisting of the keys of the map, in the same order as {@link #values()}
+	 */
+	public int[] keys() {
+		int[] result = new int[size];
+		int n = containsZeroKey ? 1 : 0;
+
+		for (int key : keys) {
+			if (key != 0) {
+				result[n++] = key;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return a new array consisting of the values of the map, in the same order as {@link #keys()}
+	 */
+	public int[] values() {
+		int[] result = new int[size];
+		int n = 0;
+
+		if (containsZeroKey) {
+			result[n++] = zeroValue;
+		}
+
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				result[n++] = values[i];
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Finds the slot of the key, returning its position if present, or {@code -(free position + 1)} otherwise.
+	 */
+	private int slot(int key) {
+		int pos = Hashing.mix(key) & mask;
+		int curr;
+
+		while ((curr = keys[pos]) != 0) {
+			if (curr == key) {
+				return pos;
+			}
+
+			pos = (pos + 1) & mask;
+		}
+
+		return -pos - 1;
+	}
+
+	private void insert(int pos, int key, int value) {
+		keys[pos] = key;
+		values[pos] = value;
+		size++;
+
+		if ((containsZeroKey ? size - 1 : size) >= maxFill) {
+			rehash(Hashing.grow(keys.length));
+		}
+	}
+
+	/**
+	 * Fills the slot of a removed key by shifting back the subsequent entries of the same cluster, so no tombstones are needed.
+	 */
+	private void shiftKeys(int pos) {
+		int last, slot;
+		int curr;
+
+		for (; ; ) {
+			pos = ((last = pos) + 1) & mask;
+
+			for (; ; ) {
+				if ((curr = keys[pos]) == 0) {
+					keys[last] = 0;
+					values[last] = 0;
+					return;
+				}
+
+				slot = Hashing.mix(curr) & mask;
+
+				if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+					break;
+				}
+
+				pos = (pos + 1) & mask;
+			}
+
+			keys[last] = curr;
+			values[last] = values[pos];
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new int[capacity];
+		values = new int[capacity];
+		mask = capacity - 1;
+		maxFill = Hashing.maxFill(capacity);
+	}
+
+	private void rehash(int capacity) {
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(capacity);
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != 0) {
+				int pos = Hashing.mix(oldKeys[i]) & mask;
+
+				while (keys[pos] != 0) {
+					pos = (pos + 1) & mask;
+				}
+
+				keys[pos] = oldKeys[i];
+				values[pos] = oldValues[i];
+			}
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof IntIntMap)) {
+			return false;
+		}
+
+		IntIntMap other = (IntIntMap) obj;
+
+		if (size != other.size || containsZeroKey != other.containsZeroKey || zeroValue != other.zeroValue) {
+			return false;
+		}
+
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				int pos = other.slot(keys[i]);
+
+				if (pos < 0 || other.values[pos] != values[i]) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = containsZeroKey ? Integer.hashCode(zeroValue) : 0;
+
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				hash += Integer.hashCode(keys[i]) ^ Integer.hashCode(values[i]);
+			}
+		}
+
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("{");
+
+		forEach((key, value) -> {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+
+			sb.append(key).append('=').append(value);
+		});
+
+		return sb.append('}').toString();
+	}
+
+	/**
+	 * Represents an operation that accepts an {@code int} key and an {@code int} value.
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer {
+
+		/**
+		 * Performs this operation on the given entry.
+		 *
+		 * @param key   the key
+		 * @param value the value
+		 */
+		void accept(int key, int value);
+
+	}
+
+}
@@ -0,0 +1,456 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * A hash map with {@code int} keys and object values, implemented as an open-addressing hash table with linear probing.
+ * <p>
+ * The keys are never boxed and are kept in an array parallel to the values.
+ * The iteration order is not specified.
+ * <p>
+ * Not thread-safe.
+ *
+ * @param <V> the type of the values
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class IntObjectMap<V> {
+
+	/**
+	 * The hash table of the keys, where {@code 0} marks a free slot.
+	 */
+	private int[] keys;
+
+	private Object[] values;
+
+	/**
+	 * The key {@code 0} can't be stored in the table, so its entry is kept separately.
+	 */
+	private boolean containsZeroKey;
+
+	private V zeroValue;
+
+	private int size;
+
+	private int mask;
+
+	private int maxFill;
+
+	/**
+	 * Constructs a new empty map.
+	 */
+	public IntObjectMap() {
+		this(0);
+	}
+
+	/**
+	 * Constructs a new empty map, big enough to hold the expected number of entries without resizing.
+	 *
+	 * @param expectedSize the expected number of entries
+	 * @throws IllegalArgumentException if {@code expectedSize} is negative
+	 */
+	public IntObjectMap(int expectedSize) {
+		allocate(Hashing.capacity(expectedSize));
+	}
+
+	/**
+	 * Returns the value mapped to the specified key, or {@code null} if there is no such key.
+	 *
+	 * @param key the key to search for
+	 * @return the value mapped to the key, or {@code null}
+	 */
+	public V get(int key) {
+		return getOrDefault(key, null);
+	}
+
+	/**
+	 * Returns the value mapped to the specified key, or {@code defaultValue} if there is no such key.
+	 *
+	 * @param key          the key to search for
+	 * @param defaultValue the value to return if there is no such key
+	 * @return the value mapped to the key, or {@code defaultValue}
+	 */
+	public V getOrDefault(int key, V defaultValue) {
+		if (key == 0) {
+			return containsZeroKey ? zeroValue : defaultValue;
+		}
+
+		int pos = slot(key);
+		return pos >= 0 ? valueAt(pos) : defaultValue;
+	}
+
+	/**
+	 * Checks whether the map contains the specified key.
+	 *
+	 * @param key the key to search for
+	 * @return {@code true} if the map contains the key, or {@code false} otherwise
+	 */
+	public boolean containsKey(int key) {
+		return key == 0 ? containsZeroKey : slot(key) >= 0;
+	}
+
+	/**
+	 * Maps the specified key to the specified value, replacing the previous value (if any).
+	 *
+	 * @param key   the key
+	 * @param value the value
+	 * @return the previous value mapped to the key, or {@code null} if there was no such key
+	 */
+	public V put(int key, V value) {
+		if (key == 0) {
+			V previous = zeroValue;
+			zeroValue = value;
+
+			if (!containsZeroKey) {
+				containsZeroKey = true;
+				size++;
+			}
+
+			return previous;
+		}
+
+		int pos = slot(key);
+
+		if (pos >= 0) {
+			V previous = valueAt(pos);
+			values[pos] = value;
+			return previous;
+		}
+
+		insert(-pos - 1, key, value);
+		return null;
+	}
+
+	/**
+	 * Returns the value mapped to the specified key, computing and inserting it first if there is no such key.
+	 * If the computed value is {@code null}, no entry is inserted.
+	 *
+	 * @param key             the key
+	 * @param mappingFunction the function that computes the value of a missing key
+	 * @return the current (existing or computed) value mapped to the key
+	 * @throws NullPointerException if {@code mappingFunction} is {@code null}
+	 */
+	public V computeIfAbsent(int key, IntFunction<? extends V> mappingFunction) {
+		Objects.requireNonNull(mappingFunction);
+
+		if (key == 0) {
+			if (!containsZeroKey) {
+				V value = mappingFunction.apply(key);
+
+				if (value != null) {
+					zeroValue = value;
+					containsZeroKey = true;
+					size++;
+				}
+			}
+
+			return zeroValue;
+		}
+
+		int pos = slot(key);
+
+		if (pos >= 0) {
+			return valueAt(pos);
+		}
+
+		V value = mappingFunction.apply(key);
+
+		if (value != null) {
+			insert(-pos - 1, key, value);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Removes the entry of the specified key, if it is present.
+	 *
+	 * @param key the key to remove
+	 * @return the value that was mapped to the key, or {@code null} if there was no such key
+	 */
+	public V remove(int key) {
+		if (key == 0) {
+			V previous = zeroValue;
+
+			if (containsZeroKey) {
+				containsZeroKey = false;
+				zeroValue = null;
+				size--;
+			}
+
+			return previous;
+		}
+
+		int pos = slot(key);
+
+		if (pos < 0) {
+			return null;
+		}
+
+		V previous = valueAt(pos);
+		size--;
+		shiftKeys(pos);
+
+		return previous;
+	}
+
+	/**
+	 * @return the number of entries in the map
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return {@code true} if the map has no entries, or {@code false} otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all entries from the map, keeping its capacity.
+	 */
+	public void clear() {
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, null);
+		containsZeroKey = false;
+		zeroValue = null;
+		size = 0;
+	}
+
+	/**
+	 * Performs the specified action on each entry of the map.
+	 *
+	 * @param action the action to perform on each entry
+	 * @throws NullPointerException if {@code action} is {@code null}
+	 */
+	public void forEach(EntryConsumer<? super V> action) {
+		if (containsZeroKey) {
+			action.accept(0, zeroValue);
+		}
+
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				action.accept(keys[i], valueAt(i));
+			}
+		}
+	}
+
+	/**
+	 * @return a new array consisting of the keys of the map, in the same order as {@link #values()}
+	 */
+	public int[] keys() {
+		int[] result = new int[size];
+		int n = containsZeroKey ? 1 : 0;
+
+		for (int key : keys) {
+			if (key != 0) {
+				result[n++] = key;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return a new list consisting of the values of the map, in the same order as {@link #keys()}
+	 */
+	public List<V> values() {
+		List<V> result = new ArrayList<>(size);
+
+		forEach((key, value) -> result.add(value));
+
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private V valueAt(int pos) {
+		return (V) values[pos];
+	}
+
+	/**
+	 * Finds the slot of the key, returning its position if present, or {@code -(free position + 1)} otherwise.
+	 */
+	private int slot(int key) {
+		int pos = Hashing.mix(key) & mask;
+		int curr;
+
+		while ((curr = keys[pos]) != 0) {
+			if (curr == key) {
+				return pos;
+			}
+
+			pos = (pos + 1) & mask;
+		}
+
+		return -pos - 1;
+	}
+
+	private void insert(int pos, int key, V value) {
+		keys[pos] = key;
+		values[pos] = value;
+		size++;
+
+		if ((containsZeroKey ? size - 1 : size) >= maxFill) {
+			rehash(Hashing.grow(keys.length));
+		}
+	}
+
+	/**
+	 * Fills the slot of a removed key by shifting back the subsequent entries of the same cluster, so no tombstones are needed.
+	 */
+	private void shiftKeys(int pos) {
+		int last, slot;
+		int curr;
+
+		for (; ; ) {
+			pos = ((last = pos) + 1) & mask;
+
+			for (; ; ) {
+				if ((curr = keys[pos]) == 0) {
+					keys[last] = 0;
+					values[last] = null;
+					return;
+				}
+
+				slot = Hashing.mix(curr) & mask;
+
+				if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+					break;
+				}
+
+				pos = (pos + 1) & mask;
+			}
+
+			keys[last] = curr;
+			values[last] = values[pos];
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new int[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+		maxFill = Hashing.maxFill(capacity);
+	}
+
+	private void rehash(int capacity) {
+		int[] oldKeys = keys;
+		Object[] oldValues = values;
+		allocate(capacity);
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != 0) {
+				int pos = Hashing.mix(oldKeys[i]) & mask;
+
+				while (keys[pos] != 0) {
+					pos = (pos + 1) & mask;
+				}
+
+				keys[pos] = oldKeys[i];
+				values[pos] = oldValues[i];
+			}
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof IntObjectMap)) {
+			return false;
+		}
+
+		IntObjectMap<?> other = (IntObjectMap<?>) obj;
+
+		if (size != other.size || containsZeroKey != other.containsZeroKey || !Objects.equals(zeroValue, other.zeroValue)) {
+			return false;
+		}
+
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				int pos = other.slot(keys[i]);
+
+				if (pos < 0 || !Objects.equals(other.values[pos], values[i])) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = containsZeroKey ? Objects.hashCode(zeroValue) : 0;
+
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				hash += Integer.hashCode(keys[i]) ^ Objects.hashCode(values[i]);
+			}
+		}
+
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("{");
+
+		forEach((key, value) -> {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+
+			sb.append(key).append('=').append(value);
+		});
+
+		return sb.append('}').toString();
+	}
+
+	/**
+	 * Represents an operation that accepts an {@code int} key and an object value.
+	 *
+	 * @param <V> the type of the value
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer<V> {
+
+		/**
+		 * Performs this operation on the given entry.
+		 *
+		 * @param key   the key
+		 * @param value the value
+		 */
+		void accept(int key, V value);
+
+	}
+
+}
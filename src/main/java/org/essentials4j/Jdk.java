@@ -0,0 +1,83 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The JDK-specific fast paths, which are overridden by newer implementations in the multi-release JAR ({@code META-INF/versions/N}).
+ * <p>
+ * This is the Java 8 baseline. Each override must keep the same contract, and may only take advantage of the newer JDK APIs.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class Jdk {
+
+	/**
+	 * Static utilities. Do not instantiate.
+	 */
+	private Jdk() {
+	}
+
+	/**
+	 * The feature version of the JDK this implementation is built for.
+	 * <p>
+	 * A method rather than a constant, so the callers compiled against the baseline don't inline its version.
+	 */
+	static int version() {
+		return 8;
+	}
+
+	/**
+	 * Returns an iterator that traverses the specified items in reverse order, if the JDK can reverse them
+	 * without a full scan (or {@code null} otherwise). Only the items not already handled by {@link Loops#reverseIterator(Iterable)} are checked.
+	 */
+	static <T> Iterator<T> reverseIterator(Iterable<T> items) {
+		return null;
+	}
+
+	/**
+	 * Returns the entries of the specified map in reverse order, if the JDK can reverse them
+	 * without a full scan (or {@code null} otherwise). Only the maps not already handled by {@link Loops#reverseEntries(Map)} are checked.
+	 */
+	static <K, V> Set<Map.Entry<K, V>> reverseEntries(Map<K, V> map) {
+		return null;
+	}
+
+	/**
+	 * Returns a factory of virtual threads, if they are supported (or {@code null} otherwise).
+	 */
+	static ThreadFactory virtualThreads() {
+		try {
+			// the Java 21 API, when this baseline runs on a newer JDK without the multi-release JAR (e.g. from a classes directory)
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,269 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * The hash-join engine of the join DSL.
+ * <p>
+ * A hash table is built on the smaller side, chaining the positions of the items with equal keys, and the items of the other side
+ * look up their keys in it (in parallel, if requested). The matches are then collected by the position of the left item, so they are
+ * always in the order of the left items, and the matches of each left item are in the order of the right items, whichever side is built.
+ * <p>
+ * The items with {@code null} keys never match.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class Join {
+
+	private static final int NONE = -1;
+
+	/**
+	 * Static utilities. Do not instantiate.
+	 */
+	private Join() {
+	}
+
+	/**
+	 * The items as a random access list, copied if necessary.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> List<T> list(Iterable<T> items) {
+		return Loops.isRandomAccess(items) ? (List<T>) items : New.list(items);
+	}
+
+	/**
+	 * Finds the matching right items of each left item.
+	 */
+	static <L, R, K> Matches match(List<L> left, List<R> right, Function<? super L, ? extends K> leftKey,
+	                               Function<? super R, ? extends K> rightKey, Parallel parallel) {
+
+		int[] offsets = new int[left.size() + 1];
+		int[] rights;
+
+		if (right.size() <= left.size()) {
+			Table<K> table = new Table<>(right, rightKey);
+			int[] heads = probe(left, leftKey, table, parallel);
+
+			for (int i = 0; i < heads.length; i++) {
+				offsets[i + 1] = add(offsets[i], table.count(heads[i]));
+			}
+
+			rights = new int[offsets[left.size()]];
+
+			for (int i = 0, pos = 0; i < heads.length; i++) {
+				for (int j = heads[i]; j != NONE; j = table.next[j]) {
+					rights[pos++] = j;
+				}
+			}
+
+		} else {
+			Table<K> table = new Table<>(left, leftKey);
+			int[] heads = probe(right, rightKey, table, parallel);
+
+			for (int head : heads) {
+				for (int i = head; i != NONE; i = table.next[i]) {
+					offsets[i + 1]++;
+				}
+			}
+
+			for (int i = 0; i < left.size(); i++) {
+				offsets[i + 1] = add(offsets[i + 1], offsets[i]);
+			}
+
+			rights = new int[offsets[left.size()]];
+			int[] cursors = new int[left.size()];
+			System.arraycopy(offsets, 0, cursors, 0, cursors.length);
+
+			// the right items are visited in their order, so the matches of each left item are in the same order
+			for (int j = 0; j < heads.length; j++) {
+				for (int i = heads[j]; i != NONE; i = table.next[i]) {
+					rights[cursors[i]++] = j;
+				}
+			}
+		}
+
+		return new Matches(offsets, rights);
+	}
+
+	/**
+	 * Finds which left items have any matching right items, without collecting the matches.
+	 */
+	static <L, R, K> boolean[] matched(List<L> left, List<R> right, Function<? super L, ? extends K> leftKey,
+	                                   Function<? super R, ? extends K> rightKey, Parallel parallel) {
+
+		boolean[] matched = new boolean[left.size()];
+
+		if (right.size() <= left.size()) {
+			Table<K> table = new Table<>(right, rightKey);
+			int[] heads = probe(left, leftKey, table, parallel);
+
+			for (int i = 0; i < heads.length; i++) {
+				matched[i] = heads[i] != NONE;
+			}
+
+		} else {
+			Table<K> table = new Table<>(left, leftKey);
+			int[] heads = probe(right, rightKey, table, parallel);
+
+			for (int head : heads) {
+				// the whole chain has the same key, so it has been marked already if its head has
+				if (head != NONE && !matched[head]) {
+					for (int i = head; i != NONE; i = table.next[i]) {
+						matched[i] = true;
+					}
+				}
+			}
+		}
+
+		return matched;
+	}
+
+	/**
+	 * Looks up the key of each item in the table, returning the head of the chain of its matches (or {@code NONE}) by position.
+	 */
+	private static <T, K> int[] probe(List<T> items, Function<? super T, ? extends K> keyFn, Table<K> table, Parallel parallel) {
+		int[] heads = new int[items.size()];
+		IntConsumer lookup = i -> heads[i] = table.head(keyFn.apply(items.get(i)));
+
+		if (parallel != null && parallel.accepts(heads.length)) {
+			// each task writes to its own positions, and the pool's completion publishes them to this thread
+			parallel.invoke(() -> {
+				IntStream.range(0, heads.length).parallel().forEach(lookup);
+				return null;
+			});
+
+		} else {
+			for (int i = 0; i < heads.length; i++) {
+				lookup.accept(i);
+			}
+		}
+
+		return heads;
+	}
+
+	private static int add(int a, int b) {
+		int sum = a + b;
+
+		if (sum < 0) {
+			throw new IllegalStateException("The join has too many results!");
+		}
+
+		return sum;
+	}
+
+	/**
+	 * The positions of the matching right items of each left item, in the compressed sparse row layout:
+	 * the matches of the left item {@code i} are {@code rights[offsets[i]]} to {@code rights[offsets[i + 1] - 1]}.
+	 */
+	static final class Matches {
+
+		final int[] offsets;
+
+		final int[] rights;
+
+		Matches(int[] offsets, int[] rights) {
+			this.offsets = offsets;
+			this.rights = rights;
+		}
+
+		int count(int left) {
+			return offsets[left + 1] - offsets[left];
+		}
+
+		/**
+		 * The total number of matches.
+		 */
+		int size() {
+			return rights.length;
+		}
+
+		/**
+		 * The number of left items without matches.
+		 */
+		int unmatched() {
+			int count = 0;
+
+			for (int i = 0; i < offsets.length - 1; i++) {
+				if (offsets[i] == offsets[i + 1]) {
+					count++;
+				}
+			}
+
+			return count;
+		}
+
+	}
+
+	/**
+	 * A hash table of the positions of the items by key, chaining the positions of the items with equal keys in ascending order.
+	 */
+	private static final class Table<K> {
+
+		private final Map<K, Integer> heads;
+
+		final int[] next;
+
+		<T> Table(List<T> items, Function<? super T, ? extends K> keyFn) {
+			int size = items.size();
+
+			heads = new HashMap<>(New.hashCapacity(size));
+			next = new int[size];
+
+			// the items are added in reverse order, so each chain starts with the first item of the key
+			for (int i = size - 1; i >= 0; i--) {
+				K key = keyFn.apply(items.get(i));
+
+				if (key != null) {
+					Integer head = heads.put(key, i);
+					next[i] = head != null ? head : NONE;
+
+				} else {
+					next[i] = NONE;
+				}
+			}
+		}
+
+		int head(K key) {
+			Integer head = key != null ? heads.get(key) : null;
+			return head != null ? head : NONE;
+		}
+
+		int count(int head) {
+			int count = 0;
+
+			for (int i = head; i != NONE; i = next[i]) {
+				count++;
+			}
+
+			return count;
+		}
+
+	}
+
+}
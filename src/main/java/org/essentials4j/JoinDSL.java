@@ -0,0 +1,65 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * DSL helper used to specify the keys of the items and execute the join through method chain call.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class JoinDSL<L, R> {
+
+	private final Iterable<L> left;
+
+	private final Iterable<R> right;
+
+	/**
+	 * The parallel execution settings, if the lookups should be executed in parallel (or {@code null} otherwise).
+	 */
+	private final Parallel parallel;
+
+	JoinDSL(Iterable<L> left, Iterable<R> right, Parallel parallel) {
+		this.left = left;
+		this.right = right;
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Specifies the key functions, which map the left and right items to the keys by which they match.
+	 * The items with equal (non-{@code null}) keys match, while the items with {@code null} keys never match.
+	 *
+	 * @param leftKey  the function that derives the key of each left item
+	 * @param rightKey the function that derives the key of each right item
+	 * @return DSL helper used to specify the kind of the join and execute it through method chain call
+	 * @throws NullPointerException if {@code leftKey} or {@code rightKey} is {@code null}
+	 */
+	public <K> JoinOnDSL<L, R, K> on(Function<? super L, ? extends K> leftKey, Function<? super R, ? extends K> rightKey) {
+		Objects.requireNonNull(leftKey);
+		Objects.requireNonNull(rightKey);
+
+		return new JoinOnDSL<>(left, right, parallel, leftKey, rightKey);
+	}
+
+}
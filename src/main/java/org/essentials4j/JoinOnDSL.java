@@ -0,0 +1,244 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * DSL helper used to specify the kind of the join and execute it through method chain call.
+ * <p>
+ * A hash table is built on the smaller side, and the items of the larger side look up their keys in it, so the join takes
+ * {@code O(n + m)} time instead of {@code O(n * m)}. In a parallel execution, the lookups are executed in parallel.
+ * <p>
+ * The results are always in the order of the left items, and the matches of each left item are in the order of the right items.
+ * The items with {@code null} keys never match. The key functions may be invoked in any order.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class JoinOnDSL<L, R, K> {
+
+	private final Iterable<L> left;
+
+	private final Iterable<R> right;
+
+	/**
+	 * The parallel execution settings, if the lookups should be executed in parallel (or {@code null} otherwise).
+	 */
+	private final Parallel parallel;
+
+	private final Function<? super L, ? extends K> leftKey;
+
+	private final Function<? super R, ? extends K> rightKey;
+
+	JoinOnDSL(Iterable<L> left, Iterable<R> right, Parallel parallel,
+	          Function<? super L, ? extends K> leftKey, Function<? super R, ? extends K> rightKey) {
+		this.left = left;
+		this.right = right;
+		this.parallel = parallel;
+		this.leftKey = leftKey;
+		this.rightKey = rightKey;
+	}
+
+	/**
+	 * Executes an inner join, pairing each left item with each matching right item.
+	 *
+	 * @return a new {@code List} of the {@code (left, right)} pairs of matching items, as {@code Map} entries
+	 */
+	public List<Map.Entry<L, R>> inner() {
+		return inner(AbstractMap.SimpleImmutableEntry::new);
+	}
+
+	/**
+	 * Executes an inner join, combining each left item with each matching right item by the specified combiner function.
+	 *
+	 * @param combiner the function used to derive a result from each pair of matching items
+	 * @return a new {@code List} of the results derived from the pairs of matching items
+	 * @throws NullPointerException if {@code combiner} is {@code null}
+	 */
+	public <T> List<T> inner(BiFunction<? super L, ? super R, ? extends T> combiner) {
+		return combine("JoinOnDSL.inner", combiner, false);
+	}
+
+	/**
+	 * Executes a left outer join, pairing each left item with each matching right item, or with {@code null} if there are none.
+	 *
+	 * @return a new {@code List} of the {@code (left, right)} pairs of matching items, as {@code Map} entries
+	 */
+	public List<Map.Entry<L, R>> leftOuter() {
+		return leftOuter(AbstractMap.SimpleImmutableEntry::new);
+	}
+
+	/**
+	 * Executes a left outer join, combining each left item with each matching right item by the specified combiner function,
+	 * or with {@code null} if there are none.
+	 *
+	 * @param combiner the function used to derive a result from each pair of matching items
+	 * @return a new {@code List} of the results derived from the pairs of matching items
+	 * @throws NullPointerException if {@code combiner} is {@code null}
+	 */
+	public <T> List<T> leftOuter(BiFunction<? super L, ? super R, ? extends T> combiner) {
+		return combine("JoinOnDSL.leftOuter", combiner, true);
+	}
+
+	/**
+	 * Executes a grouped join, pairing each left item with all of its matching right items.
+	 *
+	 * @return a new {@code List} of the {@code (left, matches)} pairs, as {@code Map} entries, with an empty list of matches
+	 * for the left items without any
+	 */
+	public List<Map.Entry<L, List<R>>> grouped() {
+		long start = Metrics.start();
+
+		List<L> lefts = Join.list(left);
+		List<R> rights = Join.list(right);
+		Join.Matches matches = Join.match(lefts, rights, leftKey, rightKey, parallel);
+
+		List<Map.Entry<L, List<R>>> results = New.sizedList(lefts.size());
+
+		for (int i = 0; i < lefts.size(); i++) {
+			List<R> group = New.sizedList(matches.count(i));
+
+			for (int k = matches.offsets[i]; k < matches.offsets[i + 1]; k++) {
+				group.add(rights.get(matches.rights[k]));
+			}
+
+			results.add(new AbstractMap.SimpleImmutableEntry<>(lefts.get(i), group));
+		}
+
+		return Metrics.end(start, "JoinOnDSL.grouped", lefts, results);
+	}
+
+	/**
+	 * Executes a semi join, finding the left items that have any matching right items.
+	 *
+	 * @return a new {@code List} of the left items that have any matches
+	 */
+	public List<L> semi() {
+		return filter("JoinOnDSL.semi", true);
+	}
+
+	/**
+	 * Executes an anti join, finding the left items that don't have any matching right items.
+	 *
+	 * @return a new {@code List} of the left items that don't have any matches
+	 */
+	public List<L> anti() {
+		return filter("JoinOnDSL.anti", false);
+	}
+
+	/**
+	 * Switches to a memory-bounded (external) join, which partitions the items by the hashes of their keys, and spills the partitions
+	 * to temporary files in the default temporary-file directory when their serialized size exceeds the specified memory budget.
+	 * <p>
+	 * The external join is always executed sequentially.
+	 *
+	 * @param memoryBudget    the maximum number of bytes of serialized items to keep in memory
+	 * @param leftSerializer  the serializer used to write the left items to the temporary files and read them back
+	 * @param rightSerializer the serializer used to write the right items to the temporary files and read them back
+	 * @return DSL helper used to specify the kind of the join and execute it through method chain call
+	 * @throws NullPointerException     if {@code leftSerializer} or {@code rightSerializer} is {@code null}
+	 * @throws IllegalArgumentException if {@code memoryBudget} is not positive
+	 * @see ExternalJoinDSL
+	 */
+	public ExternalJoinDSL<L, R, K> external(long memoryBudget, Serializer<L> leftSerializer, Serializer<R> rightSerializer) {
+		return external(memoryBudget, leftSerializer, rightSerializer, Paths.get(System.getProperty("java.io.tmpdir")));
+	}
+
+	/**
+	 * Switches to a memory-bounded (external) join, which partitions the items by the hashes of their keys, and spills the partitions
+	 * to temporary files in the specified directory when their serialized size exceeds the specified memory budget.
+	 * <p>
+	 * The external join is always executed sequentially.
+	 *
+	 * @param memoryBudget    the maximum number of bytes of serialized items to keep in memory
+	 * @param leftSerializer  the serializer used to write the left items to the temporary files and read them back
+	 * @param rightSerializer the serializer used to write the right items to the temporary files and read them back
+	 * @param tempDir         the directory of the temporary files
+	 * @return DSL helper used to specify the kind of the join and execute it through method chain call
+	 * @throws NullPointerException     if {@code leftSerializer}, {@code rightSerializer} or {@code tempDir} is {@code null}
+	 * @throws IllegalArgumentException if {@code memoryBudget} is not positive
+	 * @see ExternalJoinDSL
+	 */
+	public ExternalJoinDSL<L, R, K> external(long memoryBudget, Serializer<L> leftSerializer, Serializer<R> rightSerializer, Path tempDir) {
+		Objects.requireNonNull(leftSerializer);
+		Objects.requireNonNull(rightSerializer);
+		Objects.requireNonNull(tempDir);
+
+		if (memoryBudget <= 0) {
+			throw new IllegalArgumentException("The memory budget must be positive!");
+		}
+
+		return new ExternalJoinDSL<>(left, right, leftKey, rightKey, memoryBudget, leftSerializer, rightSerializer, tempDir);
+	}
+
+	private <T> List<T> combine(String name, BiFunction<? super L, ? super R, ? extends T> combiner, boolean outer) {
+		Objects.requireNonNull(combiner);
+		long start = Metrics.start();
+
+		List<L> lefts = Join.list(left);
+		List<R> rights = Join.list(right);
+		Join.Matches matches = Join.match(lefts, rights, leftKey, rightKey, parallel);
+
+		List<T> results = New.sizedList(outer ? matches.size() + matches.unmatched() : matches.size());
+
+		for (int i = 0; i < lefts.size(); i++) {
+			L item = lefts.get(i);
+			int from = matches.offsets[i];
+			int to = matches.offsets[i + 1];
+
+			if (outer && from == to) {
+				results.add(combiner.apply(item, null));
+			}
+
+			for (int k = from; k < to; k++) {
+				results.add(combiner.apply(item, rights.get(matches.rights[k])));
+			}
+		}
+
+		return Metrics.end(start, name, lefts, results);
+	}
+
+	private List<L> filter(String name, boolean matching) {
+		long start = Metrics.start();
+
+		List<L> lefts = Join.list(left);
+		boolean[] matched = Join.matched(lefts, Join.list(right), leftKey, rightKey, parallel);
+
+		List<L> results = New.list();
+
+		for (int i = 0; i < matched.length; i++) {
+			if (matched[i] == matching) {
+				results.add(lefts.get(i));
+			}
+		}
+
+		return Metrics.end(start, name, lefts, results);
+	}
+
+}
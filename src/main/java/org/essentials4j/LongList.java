@@ -0,0 +1,272 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * A growable list of {@code long} values, backed by a {@code long[]} array.
+ * <p>
+ * The values are never boxed, so the memory per element equals the primitive size (plus the spare capacity).
+ * <p>
+ * Not thread-safe.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class LongList {
+
+	private static final long[] EMPTY = {};
+
+	private long[] elements;
+
+	private int size;
+
+	/**
+	 * Constructs a new empty list.
+	 */
+	public LongList() {
+		this.elements = EMPTY;
+	}
+
+	/**
+	 * Constructs a new empty list with the specified initial capacity.
+	 *
+	 * @param capacity the initial capacity of the list
+	 * @throws IllegalArgumentException if {@code capacity} is negative
+	 */
+	public LongList(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("The capacity must not be negative!");
+		}
+
+		this.elements = capacity > 0 ? new long[capacity] : EMPTY;
+	}
+
+	/**
+	 * Appends the specified value to the end of the list.
+	 *
+	 * @param value the value to append
+	 */
+	public void add(long value) {
+		if (size == elements.length) {
+			grow(size + 1);
+		}
+
+		elements[size++] = value;
+	}
+
+	/**
+	 * Appends the specified values to the end of the list.
+	 *
+	 * @param values the values to append
+	 * @throws NullPointerException if {@code values} is {@code null}
+	 */
+	public void addAll(long... values) {
+		if (size + values.length > elements.length) {
+			grow(size + values.length);
+		}
+
+		System.arraycopy(values, 0, elements, size, values.length);
+		size += values.length;
+	}
+
+	/**
+	 * Returns the value at the specified position in the list.
+	 *
+	 * @param index the position of the value
+	 * @return the value at the specified position
+	 * @throws IndexOutOfBoundsException if {@code index} is out of range
+	 */
+	public long get(int index) {
+		checkIndex(index);
+		return elements[index];
+	}
+
+	/**
+	 * Replaces the value at the specified position in the list.
+	 *
+	 * @param index the position of the value
+	 * @param value the new value
+	 * @return the previous value at the specified position
+	 * @throws IndexOutOfBoundsException if {@code index} is out of range
+	 */
+	public long set(int index, long value) {
+		checkIndex(index);
+
+		long previous = elements[index];
+		elements[index] = value;
+
+		return previous;
+	}
+
+	/**
+	 * Removes the value at the specified position in the list, shifting the subsequent values to the left.
+	 *
+	 * @param index the position of the value
+	 * @return the removed value
+	 * @throws IndexOutOfBoundsException if {@code index} is out of range
+	 */
+	public long removeAt(int index) {
+		checkIndex(index);
+
+		long removed = elements[index];
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		size--;
+
+		return removed;
+	}
+
+	/**
+	 * Returns the position of the first occurrence of the specified value in the list, or {@code -1} if there is no such value.
+	 *
+	 * @param value the value to search for
+	 * @return the position of the first occurrence of the value, or {@code -1}
+	 */
+	public int indexOf(long value) {
+		for (int i = 0; i < size; i++) {
+			if (elements[i] == value) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Checks whether the list contains the specified value.
+	 *
+	 * @param value the value to search for
+	 * @return {@code true} if the list contains the value, or {@code false} otherwise
+	 */
+	public boolean contains(long value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * @return the number of values in the list
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return {@code true} if the list has no values, or {@code false} otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all values from the list, keeping its capacity.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Performs the specified action on each value of the list, in order.
+	 *
+	 * @param action the action to perform on each value
+	 * @throws NullPointerException if {@code action} is {@code null}
+	 */
+	public void forEach(LongConsumer action) {
+		for (int i = 0; i < size; i++) {
+			action.accept(elements[i]);
+		}
+	}
+
+	/**
+	 * @return a new array consisting of the values of the list, in order
+	 */
+	public long[] toArray() {
+		return Arrays.copyOf(elements, size);
+	}
+
+	/**
+	 * @return a sequential {@code LongStream} of the values of the list, in order
+	 */
+	public LongStream stream() {
+		return Arrays.stream(elements, 0, size);
+	}
+
+	/**
+	 * Returns the backing array, which may be longer than the list. Used by the DSLs to read the values without copying them.
+	 */
+	long[] elements() {
+		return elements;
+	}
+
+	private void grow(int minCapacity) {
+		int capacity = Math.max(Math.max(minCapacity, elements.length + (elements.length >> 1)), 8);
+		elements = Arrays.copyOf(elements, capacity);
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof LongList)) {
+			return false;
+		}
+
+		LongList other = (LongList) obj;
+
+		if (size != other.size) {
+			return false;
+		}
+
+		for (int i = 0; i < size; i++) {
+			if (elements[i] != other.elements[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+
+		for (int i = 0; i < size; i++) {
+			hash = 31 * hash + Long.hashCode(elements[i]);
+		}
+
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+}
@@ -0,0 +1,437 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Arrays;
+
+/**
+ * A hash map with {@code long} keys and {@code long} values, implemented as an open-addressing hash table with linear probing.
+ * <p>
+ * The keys and values are never boxed and are kept in two parallel arrays, which makes the map a compact counter or index.
+ * The iteration order is not specified.
+ * <p>
+ * Not thread-safe.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class LongLongMap {
+
+	/**
+	 * The hash table of the keys, where {@code 0} marks a free slot.
+	 */
+	private long[] keys;
+
+	private long[] values;
+
+	/**
+	 * The key {@code 0} can't be stored in the table, so its entry is kept separately.
+	 */
+	private boolean containsZeroKey;
+
+	private long zeroValue;
+
+	private int size;
+
+	private int mask;
+
+	private int maxFill;
+
+	/**
+	 * Constructs a new empty map.
+	 */
+	public LongLongMap() {
+		this(0);
+	}
+
+	/**
+	 * Constructs a new empty map, big enough to hold the expected number of entries without resizing.
+	 *
+	 * @param expectedSize the expected number of entries
+	 * @throws IllegalArgumentException if {@code expectedSize} is negative
+	 */
+	public LongLongMap(int expectedSize) {
+		allocate(Hashing.capacity(expectedSize));
+	}
+
+	/**
+	 * Returns the value mapped to the specified key, or {@code 0} if there is no such key.
+	 *
+	 * @param key the key to search for
+	 * @return the value mapped to the key, or {@code 0}
+	 */
+	public long get(long key) {
+		return getOrDefault(key, 0);
+	}
+
+	/**
+	 * Returns the value mapped to the specified key, or {@code defaultValue} if there is no such key.
+	 *
+	 * @param key          the key to search for
+	 * @param defaultValue the value to return if there is no such key
+	 * @return the value mapped to the key, or {@code defaultValue}
+	 */
+	public long getOrDefault(long key, long defaultValue) {
+		if (key == 0) {
+			return containsZeroKey ? zeroValue : defaultValue;
+		}
+
+		int pos = slot(key);
+		return pos >= 0 ? values[pos] : defaultValue;
+	}
+
+	/**
+	 * Checks whether the map contains the specified key.
+	 *
+	 * @param key the key to search for
+	 * @return {@code true} if the map contains the key, or {@code false} otherwise
+	 */
+	public boolean containsKey(long key) {
+		return key == 0 ? containsZeroKey : slot(key) >= 0;
+	}
+
+	/**
+	 * Maps the specified key to the specified value, replacing the previous value (if any).
+	 *
+	 * @param key   the key
+	 * @param value the value
+	 * @return the previous value mapped to the key, or {@code 0} if there was no such key
+	 */
+	public long put(long key, long value) {
+		if (key == 0) {
+			long previous = zeroValue;
+			zeroValue = value;
+
+			if (!containsZeroKey) {
+				containsZeroKey = true;
+				size++;
+			}
+
+			return previous;
+		}
+
+		int pos = slot(key);
+
+		if (pos >= 0) {
+			long previous = values[pos];
+			values[pos] = value;
+			return previous;
+		}
+
+		insert(-pos - 1, key, value);
+		return 0;
+	}
+
+	/**
+	 * Adds the specified increment to the value mapped to the specified key, treating a missing key as mapped to {@code 0}.
+	 *
+	 * @param key       the key
+	 * @param increment the increment to add
+	 * @return the new value mapped to the key
+	 */
+	public long addTo(long key, long increment) {
+		if (key == 0) {
+			if (!containsZeroKey) {
+				containsZeroKey = true;
+				size++;
+			}
+
+			return zeroValue += increment;
+		}
+
+		int pos = slot(key);
+
+		if (pos >= 0) {
+			return values[pos] += increment;
+		}
+
+		insert(-pos - 1, key, increment);
+		return increment;
+	}
+
+	/**
+	 * Removes the entry of the specified key, if it is present.
+	 *
+	 * @param key the key to remove
+	 * @return {@code true} if the map contained the key, or {@code false} otherwise
+	 */
+	public boolean remove(long key) {
+		if (key == 0) {
+			if (!containsZeroKey) {
+				return false;
+			}
+
+			containsZeroKey = false;
+			zeroValue = 0;
+			size--;
+			return true;
+		}
+
+		int pos = slot(key);
+
+		if (pos < 0) {
+			return false;
+		}
+
+		size--;
+		shiftKeys(pos);
+
+		return true;
+	}
+
+	/**
+	 * @return the number of entries in the map
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return {@code true} if the map has no entries, or {@code false} otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all entries from the map, keeping its capacity.
+	 */
+	public void clear() {
+		Arrays.fill(keys, (long) 0);
+		Arrays.fill(values, (long) 0);
+		containsZeroKey = false;
+		zeroValue = 0;
+		size = 0;
+	}
+
+	/**
+	 * Performs the specified action on each entry of the map.
+	 *
+	 * @param action the action to perform on each entry
+	 * @throws NullPointerException if {@code action} is {@code null}
+	 */
+	public void forEach(EntryConsumer action) {
+		if (containsZeroKey) {
+			action.accept(0, zeroValue);
+		}
+
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				action.accept(keys[i], values[i]);
+			}
+		}
+	}
+
+	/**
+	 * @return a new array consisting of the keys of the map, in the same order as {@link #values()}
+	 */
+	public long[] keys() {
+		long[] result = new long[size];
+		int n = containsZeroKey ? 1 : 0;
+
+		for (long key : keys) {
+			if (key != 0) {
+				result[n++] = key;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return a new array consisting of the values of the map, in the same order as {@link #keys()}
+	 */
+	public long[] values() {
+		long[] result = new long[size];
+		int n = 0;
+
+		if (containsZeroKey) {
+			result[n++] = zeroValue;
+		}
+
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				result[n++] = values[i];
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Finds the slot of the key, returning its position if present, or {@code -(free position + 1)} otherwise.
+	 */
+	private int slot(long key) {
+		int pos = Hashing.mix(key) & mask;
+		long curr;
+
+		while ((curr = keys[pos]) != 0) {
+			if (curr == key) {
+				return pos;
+			}
+
+			pos = (pos + 1) & mask;
+		}
+
+		return -pos - 1;
+	}
+
+	private void insert(int pos, long key, long value) {
+		keys[pos] = key;
+		values[pos] = value;
+		size++;
+
+		if ((containsZeroKey ? size - 1 : size) >= maxFill) {
+			rehash(Hashing.grow(keys.length));
+		}
+	}
+
+	/**
+	 * Fills the slot of a removed key by shifting back the subsequent entries of the same cluster, so no tombstones are needed.
+	 */
+	private void shiftKeys(int pos) {
+		int last, slot;
+		long curr;
+
+		for (; ; ) {
+			pos = ((last = pos) + 1) & mask;
+
+			for (; ; ) {
+				if ((curr = keys[pos]) == 0) {
+					keys[last] = 0;
+					values[last] = 0;
+					return;
+				}
+
+				slot = Hashing.mix(curr) & mask;
+
+				if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+					break;
+				}
+
+				pos = (pos + 1) & mask;
+			}
+
+			keys[last] = curr;
+			values[last] = values[pos];
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new long[capacity];
+		mask = capacity - 1;
+		maxFill = Hashing.maxFill(capacity);
+	}
+
+	private void rehash(int capacity) {
+		long[] oldKeys = keys;
+		long[] oldValues = values;
+		allocate(capacity);
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != 0) {
+				int pos = Hashing.mix(oldKeys[i]) & mask;
+
+				while (keys[pos] != 0) {
+					pos = (pos + 1) & mask;
+				}
+
+				keys[pos] = oldKeys[i];
+				values[pos] = oldValues[i];
+			}
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof LongLongMap)) {
+			return false;
+		}
+
+		LongLongMap other = (LongLongMap) obj;
+
+		if (size != other.size || containsZeroKey != other.containsZeroKey || zeroValue != other.zeroValue) {
+			return false;
+		}
+
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				int pos = other.slot(keys[i]);
+
+				if (pos < 0 || other.values[pos] != values[i]) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = containsZeroKey ? Long.hashCode(zeroValue) : 0;
+
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				hash += Long.hashCode(keys[i]) ^ Long.hashCode(values[i]);
+			}
+		}
+
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("{");
+
+		forEach((key, value) -> {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+
+			sb.append(key).append('=').append(value);
+		});
+
+		return sb.append('}').toString();
+	}
+
+	/**
+	 * Represents an operation that accepts a {@code long} key and a {@code long} value.
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer {
+
+		/**
+		 * Performs this operation on the given entry.
+		 *
+		 * @param key   the key
+		 * @param value the value
+		 */
+		void accept(long key, long value);
+
+	}
+
+}
@@ -0,0 +1,330 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * A hash set of {@code long} values, implemented as an open-addressing hash table with linear probing.
+ * <p>
+ * The values are never boxed, so the memory per element is close to the primitive size.
+ * The iteration order is not specified.
+ * <p>
+ * Not thread-safe.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class LongSet {
+
+	/**
+	 * The hash table, where {@code 0} marks a free slot.
+	 */
+	private long[] keys;
+
+	/**
+	 * The value {@code 0} can't be stored in the table, so its presence is tracked separately.
+	 */
+	private boolean containsZero;
+
+	private int size;
+
+	private int mask;
+
+	private int maxFill;
+
+	/**
+	 * Constructs a new empty set.
+	 */
+	public LongSet() {
+		this(0);
+	}
+
+	/**
+	 * Constructs a new empty set, big enough to hold the expected number of values without resizing.
+	 *
+	 * @param expectedSize the expected number of values
+	 * @throws IllegalArgumentException if {@code expectedSize} is negative
+	 */
+	public LongSet(int expectedSize) {
+		allocate(Hashing.capacity(expectedSize));
+	}
+
+	/**
+	 * Adds the specified value to the set, if it is not already present.
+	 *
+	 * @param value the value to add
+	 * @return {@code true} if the set didn't contain the value, or {@code false} otherwise
+	 */
+	public boolean add(long value) {
+		if (value == 0) {
+			if (containsZero) {
+				return false;
+			}
+
+			containsZero = true;
+			size++;
+			return true;
+		}
+
+		int pos = Hashing.mix(value) & mask;
+		long curr;
+
+		while ((curr = keys[pos]) != 0) {
+			if (curr == value) {
+				return false;
+			}
+
+			pos = (pos + 1) & mask;
+		}
+
+		keys[pos] = value;
+		size++;
+
+		if (tableSize() >= maxFill) {
+			rehash(Hashing.grow(keys.length));
+		}
+
+		return true;
+	}
+
+	/**
+	 * Checks whether the set contains the specified value.
+	 *
+	 * @param value the value to search for
+	 * @return {@code true} if the set contains the value, or {@code false} otherwise
+	 */
+	public boolean contains(long value) {
+		if (value == 0) {
+			return containsZero;
+		}
+
+		return find(value) >= 0;
+	}
+
+	/**
+	 * Removes the specified value from the set, if it is present.
+	 *
+	 * @param value the value to remove
+	 * @return {@code true} if the set contained the value, or {@code false} otherwise
+	 */
+	public boolean remove(long value) {
+		if (value == 0) {
+			if (!containsZero) {
+				return false;
+			}
+
+			containsZero = false;
+			size--;
+			return true;
+		}
+
+		int pos = find(value);
+
+		if (pos < 0) {
+			return false;
+		}
+
+		size--;
+		shiftKeys(pos);
+
+		return true;
+	}
+
+	/**
+	 * @return the number of values in the set
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return {@code true} if the set has no values, or {@code false} otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all values from the set, keeping its capacity.
+	 */
+	public void clear() {
+		Arrays.fill(keys, (long) 0);
+		containsZero = false;
+		size = 0;
+	}
+
+	/**
+	 * Performs the specified action on each value of the set.
+	 *
+	 * @param action the action to perform on each value
+	 * @throws NullPointerException if {@code action} is {@code null}
+	 */
+	public void forEach(LongConsumer action) {
+		if (containsZero) {
+			action.accept(0);
+		}
+
+		for (long key : keys) {
+			if (key != 0) {
+				action.accept(key);
+			}
+		}
+	}
+
+	/**
+	 * @return a new array consisting of the values of the set
+	 */
+	public long[] toArray() {
+		long[] values = new long[size];
+		int i = containsZero ? 1 : 0;
+
+		for (long key : keys) {
+			if (key != 0) {
+				values[i++] = key;
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * @return a sequential {@code LongStream} of the values of the set
+	 */
+	public LongStream stream() {
+		return LongStream.of(toArray());
+	}
+
+	private int tableSize() {
+		return containsZero ? size - 1 : size;
+	}
+
+	private int find(long key) {
+		int pos = Hashing.mix(key) & mask;
+		long curr;
+
+		while ((curr = keys[pos]) != 0) {
+			if (curr == key) {
+				return pos;
+			}
+
+			pos = (pos + 1) & mask;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Fills the slot of a removed key by shifting back the subsequent keys of the same cluster, so no tombstones are needed.
+	 */
+	private void shiftKeys(int pos) {
+		int last, slot;
+		long curr;
+
+		for (; ; ) {
+			pos = ((last = pos) + 1) & mask;
+
+			for (; ; ) {
+				if ((curr = keys[pos]) == 0) {
+					keys[last] = 0;
+					return;
+				}
+
+				slot = Hashing.mix(curr) & mask;
+
+				if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+					break;
+				}
+
+				pos = (pos + 1) & mask;
+			}
+
+			keys[last] = curr;
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		mask = capacity - 1;
+		maxFill = Hashing.maxFill(capacity);
+	}
+
+	private void rehash(int capacity) {
+		long[] oldKeys = keys;
+		allocate(capacity);
+
+		for (long key : oldKeys) {
+			if (key != 0) {
+				int pos = Hashing.mix(key) & mask;
+
+				while (keys[pos] != 0) {
+					pos = (pos + 1) & mask;
+				}
+
+				keys[pos] = key;
+			}
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof LongSet)) {
+			return false;
+		}
+
+		LongSet other = (LongSet) obj;
+
+		if (size != other.size || containsZero != other.containsZero) {
+			return false;
+		}
+
+		for (long key : keys) {
+			if (key != 0 && !other.contains(key)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 0;
+
+		for (long key : keys) {
+			hash += Long.hashCode(key);
+		}
+
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+}
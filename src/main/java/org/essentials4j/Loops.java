@@ -0,0 +1,268 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Loop-based implementations of the DSL operations, used instead of a {@code Stream} pipeline when the source is an {@code Iterable}.
+ * <p>
+ * Random access lists are traversed by index, other iterables through their iterator.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class Loops {
+
+	/**
+	 * Static utilities. Do not instantiate.
+	 */
+	private Loops() {
+	}
+
+	static boolean isRandomAccess(Iterable<?> items) {
+		return items instanceof List && items instanceof RandomAccess;
+	}
+
+	/**
+	 * The number of items, if the source is a {@code Collection} (or {@code -1} otherwise).
+	 */
+	static int sizeOf(Iterable<?> items) {
+		return items instanceof Collection ? ((Collection<?>) items).size() : -1;
+	}
+
+	/**
+	 * The exact number of items, if the spliterator knows it and it fits in an {@code int} (or {@code -1} otherwise).
+	 */
+	static int sizeOf(Spliterator<?> spliterator) {
+		long size = spliterator.getExactSizeIfKnown();
+		return size <= Integer.MAX_VALUE ? (int) size : -1;
+	}
+
+	static <T> boolean exists(Iterable<T> items, Predicate<? super T> predicate) {
+		if (isRandomAccess(items)) {
+			List<T> list = (List<T>) items;
+
+			for (int i = 0, size = list.size(); i < size; i++) {
+				if (predicate.test(list.get(i))) {
+					return true;
+				}
+			}
+
+		} else {
+			for (T item : items) {
+				if (predicate.test(item)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	static <T> Optional<T> first(Iterable<T> items, Predicate<? super T> predicate) {
+		if (isRandomAccess(items)) {
+			List<T> list = (List<T>) items;
+
+			for (int i = 0, size = list.size(); i < size; i++) {
+				T item = list.get(i);
+
+				if (predicate.test(item)) {
+					return Optional.of(item);
+				}
+			}
+
+		} else {
+			for (T item : items) {
+				if (predicate.test(item)) {
+					return Optional.of(item);
+				}
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	static <T> Optional<T> last(Iterable<T> items, Predicate<? super T> predicate) {
+		if (isRandomAccess(items)) {
+			List<T> list = (List<T>) items;
+
+			for (int i = list.size() - 1; i >= 0; i--) {
+				T item = list.get(i);
+
+				if (predicate.test(item)) {
+					return Optional.of(item);
+				}
+			}
+
+			return Optional.empty();
+		}
+
+		Iterator<T> reversed = reverseIterator(items);
+
+		if (reversed != null) {
+			// the first match in reverse order is the last match
+			while (reversed.hasNext()) {
+				T item = reversed.next();
+
+				if (predicate.test(item)) {
+					return Optional.of(item);
+				}
+			}
+
+			return Optional.empty();
+		}
+
+		boolean found = false;
+		T last = null;
+
+		for (T item : items) {
+			if (predicate.test(item)) {
+				found = true;
+				last = item;
+			}
+		}
+
+		return found ? Optional.of(last) : Optional.empty();
+	}
+
+	/**
+	 * Returns an iterator that traverses the specified items in reverse order,
+	 * or {@code null} if the items cannot be traversed backwards without a full scan.
+	 */
+	static <T> Iterator<T> reverseIterator(Iterable<T> items) {
+		if (items instanceof List) {
+			ListIterator<T> it = ((List<T>) items).listIterator(((List<T>) items).size());
+
+			return new Iterator<T>() {
+				@Override
+				public boolean hasNext() {
+					return it.hasPrevious();
+				}
+
+				@Override
+				public T next() {
+					return it.previous();
+				}
+			};
+
+		} else if (items instanceof Deque) {
+			return ((Deque<T>) items).descendingIterator();
+
+		} else if (items instanceof NavigableSet) {
+			return ((NavigableSet<T>) items).descendingIterator();
+		}
+
+		return Jdk.reverseIterator(items);
+	}
+
+	/**
+	 * Returns the entries of the specified map in reverse order,
+	 * or {@code null} if the map cannot be traversed backwards without a full scan.
+	 */
+	static <K, V> Set<Map.Entry<K, V>> reverseEntries(Map<K, V> map) {
+		if (map instanceof NavigableMap) {
+			return ((NavigableMap<K, V>) map).descendingMap().entrySet();
+		}
+
+		return Jdk.reverseEntries(map);
+	}
+
+	static <T> List<T> all(Iterable<T> items, Predicate<? super T> predicate) {
+		List<T> results = New.list();
+
+		if (isRandomAccess(items)) {
+			List<T> list = (List<T>) items;
+
+			for (int i = 0, size = list.size(); i < size; i++) {
+				T item = list.get(i);
+
+				if (predicate.test(item)) {
+					results.add(item);
+				}
+			}
+
+		} else {
+			for (T item : items) {
+				if (predicate.test(item)) {
+					results.add(item);
+				}
+			}
+		}
+
+		return results;
+	}
+
+	static <T> void forEach(Iterable<T> items, Predicate<? super T> predicate, Consumer<? super T> action) {
+		if (isRandomAccess(items)) {
+			List<T> list = (List<T>) items;
+
+			for (int i = 0, size = list.size(); i < size; i++) {
+				T item = list.get(i);
+
+				if (predicate.test(item)) {
+					action.accept(item);
+				}
+			}
+
+		} else {
+			for (T item : items) {
+				if (predicate.test(item)) {
+					action.accept(item);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds the greatest matching element, keeping the first of several equally greatest elements.
+	 */
+	static <T> Optional<T> max(Iterable<T> items, Predicate<? super T> predicate, Comparator<? super T> comparator) {
+		boolean found = false;
+		T max = null;
+
+		if (isRandomAccess(items)) {
+			List<T> list = (List<T>) items;
+
+			for (int i = 0, size = list.size(); i < size; i++) {
+				T item = list.get(i);
+
+				if (predicate.test(item) && (!found || comparator.compare(item, max) > 0)) {
+					found = true;
+					max = item;
+				}
+			}
+
+		} else {
+			for (T item : items) {
+				if (predicate.test(item) && (!found || comparator.compare(item, max) > 0)) {
+					found = true;
+					max = item;
+				}
+			}
+		}
+
+		return found ? Optional.of(max) : Optional.empty();
+	}
+
+}
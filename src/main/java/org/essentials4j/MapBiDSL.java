@@ -20,10 +20,15 @@
 
 package org.essentials4j;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
 
 /**
  * DSL helper used to specify transformation function and execute the mapping through method chain call.
@@ -35,8 +40,18 @@ public class MapBiDSL<K, V> {
 
 	private final Map<K, V> items;
 
+	/**
+	 * The parallel execution settings, if the entries should be processed in parallel (or {@code null} otherwise).
+	 */
+	private final Parallel parallel;
+
 	MapBiDSL(Map<K, V> items) {
+		this(items, null);
+	}
+
+	MapBiDSL(Map<K, V> items, Parallel parallel) {
 		this.items = items;
+		this.parallel = parallel;
 	}
 
 	/**
@@ -49,9 +64,11 @@ public class MapBiDSL<K, V> {
 	 * @throws NullPointerException if {@code transformation} is {@code null}
 	 */
 	public <R> List<R> toList(BiFunction<? super K, ? super V, ? extends R> transformation) {
-		return items.entrySet().stream()
+		Objects.requireNonNull(transformation);
+
+		return MapLoops.execute("MapBiDSL.toList", items, parallel, () -> MapLoops.map(items, transformation, New.sizedList(items.size())), entries -> entries
 			.map(e -> transformation.apply(e.getKey(), e.getValue()))
-			.collect(To.list());
+			.collect(To.list()));
 	}
 
 	/**
@@ -64,9 +81,11 @@ public class MapBiDSL<K, V> {
 	 * @throws NullPointerException if {@code transformation} is {@code null}
 	 */
 	public <R> Set<R> toSet(BiFunction<? super K, ? super V, ? extends R> transformation) {
-		return items.entrySet().stream()
+		Objects.requireNonNull(transformation);
+
+		return MapLoops.execute("MapBiDSL.toSet", items, parallel, () -> MapLoops.map(items, transformation, new HashSet<>(New.hashCapacity(items.size()))), entries -> entries
 			.map(e -> transformation.apply(e.getKey(), e.getValue()))
-			.collect(To.set());
+			.collect(To.set()));
 	}
 
 	/**
@@ -81,11 +100,39 @@ public class MapBiDSL<K, V> {
 	 */
 	public <K2, V2> Map<K2, V2> toMap(BiFunction<? super K, ? super V, ? extends K2> keyTransformation,
 	                                  BiFunction<? super K, ? super V, ? extends V2> valueTransformation) {
-		return items.entrySet().stream()
-			.collect(To.map(
-				e -> keyTransformation.apply(e.getKey(), e.getValue()),
-				e -> valueTransformation.apply(e.getKey(), e.getValue())
-			));
+		Objects.requireNonNull(keyTransformation);
+		Objects.requireNonNull(valueTransformation);
+
+		Function<Map.Entry<K, V>, K2> keys = e -> keyTransformation.apply(e.getKey(), e.getValue());
+		Function<Map.Entry<K, V>, V2> values = e -> valueTransformation.apply(e.getKey(), e.getValue());
+
+		return MapLoops.execute("MapBiDSL.toMap", items, parallel, () -> MapLoops.map(items, keyTransformation, valueTransformation, New.sizedMap(items.size())),
+			entries -> entries.collect(To.map(keys, values)));
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items ({@code Map} entries) by applying the specified transformation function.
+	 * <p>
+	 * The resulting elements derived from this transformation are stored into a new {@code Map}, created by the specified factory.
+	 *
+	 * @param keyTransformation   the transformation function used to derive a resulting entry key from each {@code (key, value)} entry
+	 * @param valueTransformation the transformation function used to derive a resulting entry value from each {@code (key, value)} entry
+	 * @param mapFactory          the supplier of the new (empty) result map, e.g. {@code New::compactMap}
+	 * @return a new {@code Map} consisting of the derived {@code (key, value)} entries
+	 * @throws NullPointerException if {@code keyTransformation}, {@code valueTransformation} or {@code mapFactory} is {@code null}
+	 */
+	public <K2, V2, M extends Map<K2, V2>> M toMap(BiFunction<? super K, ? super V, ? extends K2> keyTransformation,
+	                                               BiFunction<? super K, ? super V, ? extends V2> valueTransformation,
+	                                               Supplier<M> mapFactory) {
+		Objects.requireNonNull(keyTransformation);
+		Objects.requireNonNull(valueTransformation);
+
+		Function<Map.Entry<K, V>, K2> keys = e -> keyTransformation.apply(e.getKey(), e.getValue());
+		Function<Map.Entry<K, V>, V2> values = e -> valueTransformation.apply(e.getKey(), e.getValue());
+		Collector<Map.Entry<K, V>, ?, M> collector = To.map(keys, values, mapFactory);
+
+		return MapLoops.execute("MapBiDSL.toMap", items, parallel, () -> MapLoops.map(items, keyTransformation, valueTransformation, mapFactory.get()),
+			entries -> entries.collect(collector));
 	}
 
 }
@@ -20,10 +20,19 @@
 
 package org.essentials4j;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 /**
@@ -34,10 +43,50 @@ import java.util.stream.Stream;
  */
 public class MapDSL<T> {
 
+	/**
+	 * The source items, if the source is an {@code Iterable} (or {@code null} otherwise).
+	 * They are traversed only once, by the single operation that is executed, so a one-shot {@code Iterable} can be mapped too.
+	 */
+	private final Iterable<T> items;
+
+	/**
+	 * The source stream, if the source is a {@code Stream} (or {@code null} otherwise).
+	 */
 	private final Stream<T> stream;
 
+	/**
+	 * The parallel execution settings, if the stream is parallel (or {@code null} otherwise).
+	 */
+	private final Parallel parallel;
+
+	/**
+	 * The number of source items, if it is known and the stream is sequential (or {@code -1} otherwise), used to presize the results.
+	 */
+	private final int size;
+
+	MapDSL(Iterable<T> items) {
+		this.items = items;
+		this.stream = null;
+		this.parallel = null;
+		this.size = Loops.sizeOf(items);
+	}
+
 	MapDSL(Stream<T> stream) {
+		this(stream, -1);
+	}
+
+	MapDSL(Stream<T> stream, int size) {
+		this.items = null;
+		this.stream = stream;
+		this.parallel = null;
+		this.size = size;
+	}
+
+	MapDSL(Stream<T> stream, Parallel parallel) {
+		this.items = null;
 		this.stream = stream;
+		this.parallel = parallel;
+		this.size = -1;
 	}
 
 	/**
@@ -50,7 +99,9 @@ public class MapDSL<T> {
 	 * @throws NullPointerException if {@code transformation} is {@code null}
 	 */
 	public <R> List<R> toList(Function<? super T, ? extends R> transformation) {
-		return stream.map(transformation).collect(To.list());
+		Collector<R, ?, List<R>> collector = size >= 0 ? To.list(size) : To.list();
+
+		return execute("MapDSL.toList", s -> s.map(transformation).collect(collector));
 	}
 
 	/**
@@ -63,7 +114,9 @@ public class MapDSL<T> {
 	 * @throws NullPointerException if {@code transformation} is {@code null}
 	 */
 	public <R> Set<R> toSet(Function<? super T, ? extends R> transformation) {
-		return stream.map(transformation).collect(To.set());
+		Collector<R, ?, Set<R>> collector = size >= 0 ? To.set(size) : To.set();
+
+		return execute("MapDSL.toSet", s -> s.map(transformation).collect(collector));
 	}
 
 	/**
@@ -78,7 +131,259 @@ public class MapDSL<T> {
 	 */
 	public <K, V> Map<K, V> toMap(Function<? super T, ? extends K> keyTransformation,
 	                              Function<? super T, ? extends V> valueTransformation) {
-		return stream.collect(To.map(keyTransformation, valueTransformation));
+		Collector<T, ?, Map<K, V>> collector = size >= 0
+			? To.map(keyTransformation, valueTransformation, size)
+			: To.map(keyTransformation, valueTransformation);
+
+		return execute("MapDSL.toMap", s -> s.collect(collector));
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items by applying the specified transformation function.
+	 * <p>
+	 * The resulting elements derived from this transformation are stored into a new {@code Map}, created by the specified factory.
+	 *
+	 * @param keyTransformation   the transformation function used to derive a resulting entry key from each item
+	 * @param valueTransformation the transformation function used to derive a resulting entry value from each item
+	 * @param mapFactory          the supplier of the new (empty) result map, e.g. {@code New::compactMap}
+	 * @return a new {@code Map} consisting of the derived {@code (key, value)} entries
+	 * @throws NullPointerException if {@code keyTransformation}, {@code valueTransformation} or {@code mapFactory} is {@code null}
+	 */
+	public <K, V, M extends Map<K, V>> M toMap(Function<? super T, ? extends K> keyTransformation,
+	                                           Function<? super T, ? extends V> valueTransformation,
+	                                           Supplier<M> mapFactory) {
+		Collector<T, ?, M> collector = To.map(keyTransformation, valueTransformation, mapFactory);
+
+		return execute("MapDSL.toMap", s -> s.collect(collector));
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items by applying the specified transformation function.
+	 * <p>
+	 * The resulting elements derived from this transformation are stored into a new {@code int} array, without boxing them.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @return a new array consisting of the derived elements
+	 * @throws NullPointerException if {@code transformation} is {@code null}
+	 */
+	public int[] toIntArray(ToIntFunction<? super T> transformation) {
+		return execute("MapDSL.toIntArray", s -> s.mapToInt(transformation).toArray());
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items by applying the specified transformation function.
+	 * <p>
+	 * The resulting elements derived from this transformation are stored into a new {@code long} array, without boxing them.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @return a new array consisting of the derived elements
+	 * @throws NullPointerException if {@code transformation} is {@code null}
+	 */
+	public long[] toLongArray(ToLongFunction<? super T> transformation) {
+		return execute("MapDSL.toLongArray", s -> s.mapToLong(transformation).toArray());
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items by applying the specified transformation function.
+	 * <p>
+	 * The resulting elements derived from this transformation are stored into a new {@code double} array, without boxing them.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @return a new array consisting of the derived elements
+	 * @throws NullPointerException if {@code transformation} is {@code null}
+	 */
+	public double[] toDoubleArray(ToDoubleFunction<? super T> transformation) {
+		return execute("MapDSL.toDoubleArray", s -> s.mapToDouble(transformation).toArray());
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items by applying the specified transformation function.
+	 * <p>
+	 * The resulting elements derived from this transformation are stored into a new {@code IntList}, without boxing them.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @return a new {@code IntList} consisting of the derived elements
+	 * @throws NullPointerException if {@code transformation} is {@code null}
+	 */
+	public IntList toIntList(ToIntFunction<? super T> transformation) {
+		Objects.requireNonNull(transformation);
+
+		return execute("MapDSL.toIntList", s -> s.mapToInt(transformation)
+			.collect(() -> size >= 0 ? new IntList(size) : new IntList(), IntList::add, (a, b) -> a.addAll(b.toArray())));
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items by applying the specified transformation function.
+	 * <p>
+	 * The resulting elements derived from this transformation are stored into a new {@code LongList}, without boxing them.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @return a new {@code LongList} consisting of the derived elements
+	 * @throws NullPointerException if {@code transformation} is {@code null}
+	 */
+	public LongList toLongList(ToLongFunction<? super T> transformation) {
+		Objects.requireNonNull(transformation);
+
+		return execute("MapDSL.toLongList", s -> s.mapToLong(transformation)
+			.collect(() -> size >= 0 ? new LongList(size) : new LongList(), LongList::add, (a, b) -> a.addAll(b.toArray())));
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items by applying the specified transformation function concurrently,
+	 * with at most {@code maxInFlight} transformations in progress at any time, and waits for the results.
+	 * <p>
+	 * The transformations are executed in virtual threads on Java 21+, or in short-lived daemon threads otherwise.
+	 * The resulting elements are stored into a new {@code List}, in the order of the items.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @param maxInFlight    the maximum number of concurrent transformations
+	 * @return a new {@code List} consisting of the derived elements
+	 * @throws NullPointerException     if {@code transformation} is {@code null}
+	 * @throws IllegalArgumentException if {@code maxInFlight} is not positive
+	 * @see #toListFuture(Function, int)
+	 */
+	public <R> List<R> toListAsync(Function<? super T, ? extends R> transformation, int maxInFlight) {
+		return toListAsync(transformation, Async.DEFAULT_EXECUTOR, maxInFlight);
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items by applying the specified transformation function concurrently in the specified executor,
+	 * with at most {@code maxInFlight} transformations in progress at any time, and waits for the results.
+	 * <p>
+	 * The resulting elements are stored into a new {@code List}, in the order of the items.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @param executor       the executor of the transformations
+	 * @param maxInFlight    the maximum number of concurrent transformations
+	 * @return a new {@code List} consisting of the derived elements
+	 * @throws NullPointerException     if {@code transformation} is {@code null} or {@code executor} is {@code null}
+	 * @throws IllegalArgumentException if {@code maxInFlight} is not positive
+	 * @see #toListFuture(Function, Executor, int)
+	 */
+	public <R> List<R> toListAsync(Function<? super T, ? extends R> transformation, Executor executor, int maxInFlight) {
+		long start = Metrics.start();
+		List<R> results = Async.join(toListFuture(transformation, executor, maxInFlight));
+
+		return Metrics.end(start, "MapDSL.toListAsync", items, results);
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items by applying the specified transformation function concurrently,
+	 * with at most {@code maxInFlight} transformations in progress at any time, without waiting for the results.
+	 * <p>
+	 * The transformations are executed in virtual threads on Java 21+, or in short-lived daemon threads otherwise.
+	 * The items are collected in the calling thread. If any transformation fails, the future fails with its exception,
+	 * and no further transformations are started.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @param maxInFlight    the maximum number of concurrent transformations
+	 * @return a {@code CompletableFuture} of a new {@code List} consisting of the derived elements, in the order of the items
+	 * @throws NullPointerException     if {@code transformation} is {@code null}
+	 * @throws IllegalArgumentException if {@code maxInFlight} is not positive
+	 */
+	public <R> CompletableFuture<List<R>> toListFuture(Function<? super T, ? extends R> transformation, int maxInFlight) {
+		return toListFuture(transformation, Async.DEFAULT_EXECUTOR, maxInFlight);
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items by applying the specified transformation function concurrently in the specified executor,
+	 * with at most {@code maxInFlight} transformations in progress at any time, without waiting for the results.
+	 * <p>
+	 * The items are collected in the calling thread. At most {@code maxInFlight} tasks are submitted to the executor,
+	 * each of them transforming the next pending item until there are none left. If any transformation fails,
+	 * the future fails with its exception, and no further transformations are started.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @param executor       the executor of the transformations
+	 * @param maxInFlight    the maximum number of concurrent transformations
+	 * @return a {@code CompletableFuture} of a new {@code List} consisting of the derived elements, in the order of the items
+	 * @throws NullPointerException     if {@code transformation} is {@code null} or {@code executor} is {@code null}
+	 * @throws IllegalArgumentException if {@code maxInFlight} is not positive
+	 */
+	public <R> CompletableFuture<List<R>> toListFuture(Function<? super T, ? extends R> transformation, Executor executor, int maxInFlight) {
+		Objects.requireNonNull(transformation);
+		Objects.requireNonNull(executor);
+		Async.requireValidMaxInFlight(maxInFlight);
+
+		// a snapshot, so the source can be changed while the transformations are in progress
+		List<T> snapshot = New.list(items != null ? items : Views.once(stream));
+
+		return Async.toList(snapshot, transformation, executor, maxInFlight);
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items in batches, by applying the specified transformation function on each batch,
+	 * so that the per-call overhead of the transformation (e.g. a database round trip) is paid once per batch.
+	 * <p>
+	 * The resulting elements of all batches are stored into a new {@code List}, in the order of the batches.
+	 * The batches are processed sequentially in the calling thread, as in {@link Do#batch(Iterable, int)},
+	 * so the transformation function must not keep a reference to a batch.
+	 *
+	 * @param batchSize           the maximum number of items in a batch
+	 * @param batchTransformation the transformation function used to derive the resulting elements from each batch of items
+	 * @return a new {@code List} consisting of the derived elements
+	 * @throws NullPointerException     if {@code batchTransformation} is {@code null}
+	 * @throws IllegalArgumentException if {@code batchSize} is not positive
+	 */
+	public <R> List<R> toListInBatches(int batchSize, Function<? super List<T>, ? extends Collection<? extends R>> batchTransformation) {
+		Objects.requireNonNull(batchTransformation);
+		Views.requireValidBatchSize(batchSize);
+
+		long start = Metrics.start();
+		List<R> results = size >= 0 ? New.sizedList(size) : New.list();
+
+		for (List<T> batch : Views.batches(items != null ? items : Views.once(stream), batchSize)) {
+			results.addAll(batchTransformation.apply(batch));
+		}
+
+		return Metrics.end(start, "MapDSL.toListInBatches", items, results);
+	}
+
+	/**
+	 * Returns a lazy view of the pre-specified items, transformed by the specified transformation function.
+	 * <p>
+	 * Nothing is copied: the transformation is applied on each access of an element, sequentially in the calling thread.
+	 * The view reflects the later changes of the source {@code List}.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @return a lazy {@code List} view of the derived elements
+	 * @throws NullPointerException          if {@code transformation} is {@code null}
+	 * @throws UnsupportedOperationException if the source items are not a {@code List}
+	 */
+	public <R> List<R> asView(Function<? super T, ? extends R> transformation) {
+		Objects.requireNonNull(transformation);
+
+		if (!(items instanceof List)) {
+			throw new UnsupportedOperationException("Only a List source can be viewed as a List!");
+		}
+
+		return Views.transform((List<T>) items, transformation);
+	}
+
+	/**
+	 * Returns a lazy view of the pre-specified items, transformed by the specified transformation function.
+	 * <p>
+	 * Nothing is copied: the transformation is applied on each iteration of the view, sequentially in the calling thread.
+	 * If the source is a {@code Stream}, the view can be iterated only once.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @return a lazy {@code Iterable} view of the derived elements
+	 * @throws NullPointerException if {@code transformation} is {@code null}
+	 */
+	public <R> Iterable<R> lazy(Function<? super T, ? extends R> transformation) {
+		Objects.requireNonNull(transformation);
+
+		return items != null ? Views.transform(items, transformation) : Views.once(stream.map(transformation));
+	}
+
+	private <R> R execute(String name, Function<Stream<T>, R> operation) {
+		long start = Metrics.start();
+
+		// the stream over the source items is created only for the operation that needs it
+		Stream<T> source = stream != null ? stream : New.stream(items);
+		R result = parallel != null ? parallel.invoke(() -> operation.apply(source)) : operation.apply(source);
+
+		return Metrics.end(start, name, items, result);
 	}
 
 }
@@ -0,0 +1,224 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+/**
+ * DSL helper used to specify transformation function and execute the mapping through method chain call, on {@code long} items.
+ * <p>
+ * The items are never boxed, and neither are the results of the primitive transformations.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class MapLongDSL {
+
+	/**
+	 * The source items, if the mapping is executed as a loop (or {@code null} otherwise).
+	 */
+	private final long[] items;
+
+	/**
+	 * The number of source items, which may be less than the array length.
+	 */
+	private final int size;
+
+	/**
+	 * The source stream, if the mapping is executed as a stream pipeline (or {@code null} otherwise).
+	 */
+	private final LongStream stream;
+
+	/**
+	 * The source items (an array or a list), if they are known (or {@code null} otherwise), only used to report their number in the metrics.
+	 */
+	private final Object source;
+
+	MapLongDSL(long[] items) {
+		this(items, items.length, items);
+	}
+
+	MapLongDSL(long[] items, int size, Object source) {
+		this.items = items;
+		this.size = size;
+		this.stream = null;
+		this.source = source;
+	}
+
+	MapLongDSL(LongStream stream) {
+		this.items = null;
+		this.size = 0;
+		this.stream = stream;
+		this.source = null;
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items by applying the specified transformation function.
+	 * <p>
+	 * The resulting elements derived from this transformation are stored into a new {@code long} array.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @return a new array consisting of the derived elements
+	 * @throws NullPointerException if {@code transformation} is {@code null}
+	 */
+	public long[] toLongArray(LongUnaryOperator transformation) {
+		Objects.requireNonNull(transformation);
+		long start = Metrics.start();
+		long[] results;
+
+		if (items != null) {
+			results = new long[size];
+
+			for (int i = 0; i < size; i++) {
+				results[i] = transformation.applyAsLong(items[i]);
+			}
+
+		} else {
+			results = stream.map(transformation).toArray();
+		}
+
+		return Metrics.end(start, "MapLongDSL.toLongArray", source, results);
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items by applying the specified transformation function.
+	 * <p>
+	 * The resulting elements derived from this transformation are stored into a new {@code int} array.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @return a new array consisting of the derived elements
+	 * @throws NullPointerException if {@code transformation} is {@code null}
+	 */
+	public int[] toIntArray(LongToIntFunction transformation) {
+		Objects.requireNonNull(transformation);
+		long start = Metrics.start();
+		int[] results;
+
+		if (items != null) {
+			results = new int[size];
+
+			for (int i = 0; i < size; i++) {
+				results[i] = transformation.applyAsInt(items[i]);
+			}
+
+		} else {
+			results = stream.mapToInt(transformation).toArray();
+		}
+
+		return Metrics.end(start, "MapLongDSL.toIntArray", source, results);
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items by applying the specified transformation function.
+	 * <p>
+	 * The resulting elements derived from this transformation are stored into a new {@code double} array.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @return a new array consisting of the derived elements
+	 * @throws NullPointerException if {@code transformation} is {@code null}
+	 */
+	public double[] toDoubleArray(LongToDoubleFunction transformation) {
+		Objects.requireNonNull(transformation);
+		long start = Metrics.start();
+		double[] results;
+
+		if (items != null) {
+			results = new double[size];
+
+			for (int i = 0; i < size; i++) {
+				results[i] = transformation.applyAsDouble(items[i]);
+			}
+
+		} else {
+			results = stream.mapToDouble(transformation).toArray();
+		}
+
+		return Metrics.end(start, "MapLongDSL.toDoubleArray", source, results);
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items by applying the specified transformation function.
+	 * <p>
+	 * The resulting elements derived from this transformation are stored into a new {@code List}.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @return a new {@code List} consisting of the derived elements
+	 * @throws NullPointerException if {@code transformation} is {@code null}
+	 */
+	public <R> List<R> toList(LongFunction<? extends R> transformation) {
+		Objects.requireNonNull(transformation);
+		long start = Metrics.start();
+		List<R> results;
+
+		if (items != null) {
+			results = New.sizedList(size);
+
+			for (int i = 0; i < size; i++) {
+				long item = items[i];
+
+				results.add(transformation.apply(item));
+			}
+
+		} else {
+			results = stream.mapToObj(transformation).collect(To.list());
+		}
+
+		return Metrics.end(start, "MapLongDSL.toList", source, results);
+	}
+
+	/**
+	 * Maps (transforms) the pre-specified items by applying the specified transformation function.
+	 * <p>
+	 * The resulting elements derived from this transformation are stored into a new {@code Set}.
+	 *
+	 * @param transformation the transformation function used to derive a resulting element from each item
+	 * @return a new {@code Set} consisting of the derived elements
+	 * @throws NullPointerException if {@code transformation} is {@code null}
+	 */
+	public <R> Set<R> toSet(LongFunction<? extends R> transformation) {
+		Objects.requireNonNull(transformation);
+		long start = Metrics.start();
+		Set<R> results;
+
+		if (items != null) {
+			results = New.sizedSet(size);
+
+			for (int i = 0; i < size; i++) {
+				long item = items[i];
+
+				results.add(transformation.apply(item));
+			}
+
+		} else {
+			results = stream.mapToObj(transformation).collect(To.set());
+		}
+
+		return Metrics.end(start, "MapLongDSL.toSet", source, results);
+	}
+
+}
@@ -0,0 +1,265 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Map-specialized implementations of the Bi DSL operations, used instead of a {@code Stream} pipeline over the map entries.
+ * <p>
+ * The full traversals are executed by {@code Map.forEach}, which needs no iterator (and, for most maps, no entry objects),
+ * while the searches that can stop early iterate over the entries. The same results are collected in the same way
+ * as by the stream pipelines, e.g. the maps are populated by {@code merge}, so a duplicate key or a {@code null} value fails just the same.
+ * <p>
+ * A {@code ConcurrentHashMap} is searched, reduced and traversed by its own bulk operations, which are executed
+ * in the calling thread with the {@link #SEQUENTIAL} parallelism threshold, or split into tasks of the current
+ * {@code ForkJoinPool} with the {@link #PARALLEL} threshold (the caller must be executed inside the pool, so the common pool isn't used).
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class MapLoops {
+
+	/**
+	 * The parallelism threshold of the bulk operations of {@code ConcurrentHashMap}, which makes them sequential.
+	 */
+	static final long SEQUENTIAL = Long.MAX_VALUE;
+
+	/**
+	 * The parallelism threshold of the bulk operations of {@code ConcurrentHashMap}, which makes them as parallel as possible.
+	 */
+	static final long PARALLEL = 1;
+
+	/**
+	 * Static utilities. Do not instantiate.
+	 */
+	private MapLoops() {
+	}
+
+	/**
+	 * Whether the map has bulk operations, which should be used even for the parallel execution.
+	 */
+	static boolean hasBulkOperations(Map<?, ?> items) {
+		return items instanceof ConcurrentHashMap;
+	}
+
+	/**
+	 * Executes the operation of a Bi DSL as a loop over the map, or as a stream pipeline over its entries if it is parallel.
+	 */
+	static <K, V, R> R execute(String name, Map<K, V> items, Parallel parallel, Supplier<R> loop,
+	                           Function<Stream<Map.Entry<K, V>>, R> pipeline) {
+		long start = Metrics.start();
+
+		R result = parallel != null
+			? parallel.invoke(() -> pipeline.apply(items.entrySet().parallelStream()))
+			: loop.get();
+
+		return Metrics.end(start, name, items, result);
+	}
+
+	/**
+	 * Executes the operation of a Bi DSL as a loop over the map, or by the bulk operations of the map (if it has them), which are parallel
+	 * inside the pool if the execution is parallel, or as a parallel stream pipeline over the entries otherwise.
+	 */
+	static <K, V, R> R executeBulk(String name, Map<K, V> items, Parallel parallel, LongFunction<R> loop,
+	                               Function<Stream<Map.Entry<K, V>>, R> pipeline) {
+		long start = Metrics.start();
+		R result;
+
+		if (parallel == null) {
+			result = loop.apply(SEQUENTIAL);
+
+		} else if (hasBulkOperations(items)) {
+			result = parallel.invoke(() -> loop.apply(PARALLEL));
+
+		} else {
+			result = parallel.invoke(() -> pipeline.apply(items.entrySet().parallelStream()));
+		}
+
+		return Metrics.end(start, name, items, result);
+	}
+
+	static <K, V> boolean exists(Map<K, V> items, BiPredicate<? super K, ? super V> predicate, long threshold) {
+		if (items instanceof ConcurrentHashMap) {
+			return ((ConcurrentHashMap<K, V>) items).search(threshold, (k, v) -> predicate.test(k, v) ? Boolean.TRUE : null) != null;
+		}
+
+		for (Map.Entry<K, V> e : items.entrySet()) {
+			if (predicate.test(e.getKey(), e.getValue())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	static <K, V> Optional<Map.Entry<K, V>> first(Iterable<Map.Entry<K, V>> entries, BiPredicate<? super K, ? super V> predicate) {
+		for (Map.Entry<K, V> e : entries) {
+			if (predicate.test(e.getKey(), e.getValue())) {
+				return Optional.of(e);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	static <K, V> Optional<Map.Entry<K, V>> last(Map<K, V> items, BiPredicate<? super K, ? super V> predicate) {
+		Map.Entry<K, V> last = null;
+
+		for (Map.Entry<K, V> e : items.entrySet()) {
+			if (predicate.test(e.getKey(), e.getValue())) {
+				last = e;
+			}
+		}
+
+		return Optional.ofNullable(last);
+	}
+
+	static <K, V> Optional<Map.Entry<K, V>> any(Map<K, V> items, BiPredicate<? super K, ? super V> predicate, long threshold) {
+		if (items instanceof ConcurrentHashMap) {
+			return Optional.ofNullable(((ConcurrentHashMap<K, V>) items).searchEntries(threshold,
+				e -> predicate.test(e.getKey(), e.getValue()) ? e : null));
+		}
+
+		// the first match is as good as any, and the cheapest to find
+		return first(items.entrySet(), predicate);
+	}
+
+	/**
+	 * A copy of the found entry, as the entries of some maps depend on the state of the map (e.g. the position in a {@code CompactMap}).
+	 */
+	static <K, V> Optional<Map.Entry<K, V>> snapshot(Optional<Map.Entry<K, V>> entry) {
+		if (!entry.isPresent()) {
+			return entry;
+		}
+
+		return Optional.of(new AbstractMap.SimpleImmutableEntry<>(entry.get()));
+	}
+
+	static <K, V, M extends Map<K, V>> M all(Map<K, V> items, BiPredicate<? super K, ? super V> predicate, M results) {
+		BinaryOperator<V> merger = To.throwingMerger();
+
+		items.forEach((k, v) -> {
+			if (predicate.test(k, v)) {
+				results.merge(k, v, merger);
+			}
+		});
+
+		return results;
+	}
+
+	static <K, V> void forEach(Map<K, V> items, BiPredicate<? super K, ? super V> predicate, Consumer<Map.Entry<K, V>> action) {
+		for (Map.Entry<K, V> e : items.entrySet()) {
+			if (predicate.test(e.getKey(), e.getValue())) {
+				action.accept(e);
+			}
+		}
+	}
+
+	/**
+	 * Finds the greatest matching entry, keeping the first of several equally greatest entries (as {@code Stream.max} does).
+	 */
+	static <K, V> Optional<Map.Entry<K, V>> max(Map<K, V> items, BiPredicate<? super K, ? super V> predicate,
+	                                            Comparator<? super Map.Entry<K, V>> comparator, long threshold) {
+		if (items instanceof ConcurrentHashMap) {
+			// the partial results are reduced from left to right, so the first of the equal entries is kept
+			return Optional.ofNullable(((ConcurrentHashMap<K, V>) items).reduceEntries(threshold,
+				e -> predicate.test(e.getKey(), e.getValue()) ? e : null,
+				(a, b) -> comparator.compare(a, b) >= 0 ? a : b));
+		}
+
+		return Loops.max(items.entrySet(), e -> predicate.test(e.getKey(), e.getValue()), comparator);
+	}
+
+	static <K, V, R, C extends Collection<R>> C map(Map<K, V> items, BiFunction<? super K, ? super V, ? extends R> transformation,
+	                                                C results) {
+		items.forEach((k, v) -> results.add(transformation.apply(k, v)));
+
+		return results;
+	}
+
+	static <K, V, K2, V2, M extends Map<K2, V2>> M map(Map<K, V> items, BiFunction<? super K, ? super V, ? extends K2> keyTransformation,
+	                                                   BiFunction<? super K, ? super V, ? extends V2> valueTransformation, M results) {
+		BinaryOperator<V2> merger = To.throwingMerger();
+
+		items.forEach((k, v) -> results.merge(keyTransformation.apply(k, v), valueTransformation.apply(k, v), merger));
+
+		return results;
+	}
+
+	static <K, V, R, G extends Map<K, V>, M extends Map<R, G>> M group(Map<K, V> items, BiFunction<? super K, ? super V, ? extends R> classifier,
+	                                                                   M groups, Supplier<G> groupFactory) {
+		BinaryOperator<V> merger = To.throwingMerger();
+
+		items.forEach((k, v) -> {
+			R key = Objects.requireNonNull(classifier.apply(k, v), "element cannot be mapped to a null key");
+			groups.computeIfAbsent(key, g -> groupFactory.get()).merge(k, v, merger);
+		});
+
+		return groups;
+	}
+
+	/**
+	 * Groups the entries into concurrent groups, in the order of the map if the grouping is sequential.
+	 */
+	static <K, V, R> ConcurrentMap<R, Map<K, V>> groupConcurrently(Map<K, V> items, BiFunction<? super K, ? super V, ? extends R> classifier,
+	                                                               long threshold) {
+		ConcurrentGroups<R, Map.Entry<K, V>> groups = new ConcurrentGroups<>();
+
+		if (items instanceof ConcurrentHashMap) {
+			((ConcurrentHashMap<K, V>) items).forEach(threshold,
+				(k, v) -> groups.add(classifier.apply(k, v), new AbstractMap.SimpleImmutableEntry<>(k, v)));
+
+		} else {
+			for (Map.Entry<K, V> e : items.entrySet()) {
+				groups.add(classifier.apply(e.getKey(), e.getValue()), e);
+			}
+		}
+
+		return groups.finish(MapLoops::toMap);
+	}
+
+	static <K, V> Map<K, V> toMap(Collection<Map.Entry<K, V>> entries) {
+		Map<K, V> map = New.sizedMap(entries.size());
+
+		for (Map.Entry<K, V> e : entries) {
+			map.put(e.getKey(), e.getValue());
+		}
+
+		return map;
+	}
+
+}
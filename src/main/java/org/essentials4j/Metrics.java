@@ -0,0 +1,298 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * Opt-in instrumentation of the DSL operations: the executed operations are reported to the registered listener, if any.
+ * <p>
+ * No metrics are collected while no listener is registered and the flight recorder events are disabled:
+ * then each operation only checks a flag.
+ * <p> Usage:
+ * <pre><code>
+ * MetricsAggregator metrics = new MetricsAggregator();
+ * metrics.registerMBean(); // published over JMX as "org.essentials4j:type=Metrics"
+ * Metrics.setListener(metrics);
+ *
+ * try (Metrics.Tag tag = Metrics.tag("orders")) {
+ *     Do.findIn(orders).all(Order::isPending); // reported as "FindDSL.all", with tag "orders"
+ * }
+ * </code></pre>
+ * <p>
+ * On Java 11+, the slow operations can also be recorded as Java Flight Recorder events,
+ * see {@link #enableFlightRecorderEvents(long)}.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public final class Metrics {
+
+	/**
+	 * The start time of an operation that is not measured, because no listener was registered.
+	 */
+	static final long OFF = Long.MIN_VALUE;
+
+	/**
+	 * The system property that enables the flight recorder events on startup, specifying their threshold in microseconds.
+	 */
+	public static final String FLIGHT_RECORDER_THRESHOLD_PROPERTY = "essentials4j.jfr.thresholdMicros";
+
+	private static final ThreadLocal<String> TAGS = new ThreadLocal<>();
+
+	private static volatile MetricsListener listener;
+
+	/**
+	 * The minimum duration of the operations recorded as flight recorder events, in nanoseconds (or {@code -1} if disabled).
+	 */
+	private static volatile long flightRecorderThreshold = -1;
+
+	/**
+	 * Whether the operations are measured at all, i.e. there is a listener or the flight recorder events are enabled.
+	 */
+	private static volatile boolean active;
+
+	static {
+		Long thresholdMicros = Long.getLong(FLIGHT_RECORDER_THRESHOLD_PROPERTY);
+
+		if (thresholdMicros != null) {
+			enableFlightRecorderEvents(thresholdMicros);
+		}
+	}
+
+	/**
+	 * Static utilities. Do not instantiate.
+	 */
+	private Metrics() {
+	}
+
+	/**
+	 * Registers the listener that will receive a report after each executed DSL operation, replacing the previous one, if any.
+	 *
+	 * @param listener the listener to register, or {@code null} to stop collecting metrics
+	 */
+	public static synchronized void setListener(MetricsListener listener) {
+		Metrics.listener = listener;
+		updateActive();
+	}
+
+	/**
+	 * Returns the registered listener.
+	 *
+	 * @return the registered listener, or {@code null} if there is none
+	 */
+	public static MetricsListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * Records each DSL operation and bulk copy ({@code New.list(Iterable)}, {@code New.map(Map)}, etc.) that takes at least
+	 * the specified time as a Java Flight Recorder event named {@code org.essentials4j.Operation}, with its stack trace,
+	 * call-site tag, source type, number of elements, result size and elapsed time.
+	 * <p>
+	 * The events are emitted only while a recording with the event enabled is in progress.
+	 * The flight recorder events are also enabled on startup if the {@value #FLIGHT_RECORDER_THRESHOLD_PROPERTY}
+	 * system property specifies the threshold.
+	 * <p>
+	 * The events are supported on Java 11+ only (through the {@code META-INF/versions/11} classes of the multi-release JAR).
+	 *
+	 * @param thresholdMicros the minimum duration of the recorded operations, in microseconds
+	 * @return {@code true} if the events are supported and have been enabled, or {@code false} if they are not supported
+	 * @throws IllegalArgumentException if {@code thresholdMicros} is negative
+	 */
+	public static synchronized boolean enableFlightRecorderEvents(long thresholdMicros) {
+		if (thresholdMicros < 0) {
+			throw new IllegalArgumentException("The threshold must not be negative!");
+		}
+
+		if (!Jfr.isSupported()) {
+			return false;
+		}
+
+		flightRecorderThreshold = thresholdMicros * 1000;
+		updateActive();
+
+		return true;
+	}
+
+	/**
+	 * Stops recording the DSL operations as Java Flight Recorder events.
+	 */
+	public static synchronized void disableFlightRecorderEvents() {
+		flightRecorderThreshold = -1;
+		updateActive();
+	}
+
+	private static void updateActive() {
+		active = listener != null || flightRecorderThreshold >= 0;
+	}
+
+	/**
+	 * Tags the DSL operations executed by the current thread, until the returned tag is closed.
+	 * The tags identify the call sites in the metrics, so they should be constant strings.
+	 * <p>
+	 * The tags can be nested: closing a tag restores the previous one.
+	 *
+	 * @param tag the call-site tag
+	 * @return the tag, which should be closed in a {@code try-with-resources} statement
+	 * @throws NullPointerException if {@code tag} is {@code null}
+	 */
+	public static Tag tag(String tag) {
+		Objects.requireNonNull(tag);
+
+		String previous = TAGS.get();
+		TAGS.set(tag);
+
+		return new Tag(previous);
+	}
+
+	/**
+	 * Marks the start of an operation.
+	 *
+	 * @return the current time, if the operations are measured (or {@link #OFF} otherwise)
+	 */
+	static long start() {
+		return active ? System.nanoTime() : OFF;
+	}
+
+	/**
+	 * Marks the end of an operation that was started by {@link #start()}, reporting it to the listener
+	 * and recording it as a flight recorder event, if enabled.
+	 *
+	 * @return the specified result of the operation
+	 */
+	static <R> R end(long start, String operation, Object source, R result) {
+		if (start != OFF) {
+			long nanos = System.nanoTime() - start;
+
+			MetricsListener listener = Metrics.listener;
+			long threshold = flightRecorderThreshold;
+			boolean slow = threshold >= 0 && nanos >= threshold;
+
+			if (listener != null || slow) {
+				String tag = TAGS.get();
+				long elements = sizeOf(source);
+				long results = sizeOf(result);
+
+				if (listener != null) {
+					listener.onOperation(operation, tag, elements, results, nanos);
+				}
+
+				if (slow) {
+					Jfr.commit(operation, tag, source != null ? source.getClass() : null, elements, results, nanos);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private static long sizeOf(Object items) {
+		if (items instanceof Collection) {
+			return ((Collection<?>) items).size();
+
+		} else if (items instanceof Map) {
+			return ((Map<?, ?>) items).size();
+
+		} else if (items instanceof Optional) {
+			return ((Optional<?>) items).isPresent() ? 1 : 0;
+
+		} else if (items instanceof OptionalInt) {
+			return ((OptionalInt) items).isPresent() ? 1 : 0;
+
+		} else if (items instanceof OptionalLong) {
+			return ((OptionalLong) items).isPresent() ? 1 : 0;
+
+		} else if (items instanceof OptionalDouble) {
+			return ((OptionalDouble) items).isPresent() ? 1 : 0;
+
+		} else if (items instanceof Boolean) {
+			return (Boolean) items ? 1 : 0;
+
+		} else if (items instanceof IntObjectMap) {
+			return ((IntObjectMap<?>) items).size();
+
+		} else if (items instanceof LongObjectMap) {
+			return ((LongObjectMap<?>) items).size();
+
+		} else if (items instanceof IntList) {
+			return ((IntList) items).size();
+
+		} else if (items instanceof LongList) {
+			return ((LongList) items).size();
+
+		} else if (items instanceof IntSet) {
+			return ((IntSet) items).size();
+
+		} else if (items instanceof LongSet) {
+			return ((LongSet) items).size();
+
+		} else if (items instanceof IntIntMap) {
+			return ((IntIntMap) items).size();
+
+		} else if (items instanceof LongLongMap) {
+			return ((LongLongMap) items).size();
+
+		} else if (items instanceof int[]) {
+			return ((int[]) items).length;
+
+		} else if (items instanceof long[]) {
+			return ((long[]) items).length;
+
+		} else if (items instanceof double[]) {
+			return ((double[]) items).length;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * The call-site tag of the current thread, which restores the previous tag when it is closed.
+	 */
+	public static final class Tag implements AutoCloseable {
+
+		private final String previous;
+
+		private Tag(String previous) {
+			this.previous = previous;
+		}
+
+		/**
+		 * Restores the previous tag of the current thread.
+		 */
+		@Override
+		public void close() {
+			if (previous != null) {
+				TAGS.set(previous);
+			} else {
+				TAGS.remove();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,199 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A low-overhead {@link MetricsListener}, which aggregates the number of calls, elements, results and the elapsed time
+ * (total, maximum and a histogram) of each operation and call-site tag, and can be published as a JMX MXBean.
+ * <p>
+ * The metrics are accumulated in striped counters ({@code LongAdder}), so the concurrent reports don't contend
+ * for the same memory location.
+ *
+ * @author Nikolche Mihajlovski
+ * @see Metrics#setListener(MetricsListener)
+ * @since 1.0.1
+ */
+public class MetricsAggregator implements MetricsListener, MetricsAggregatorMXBean {
+
+	/**
+	 * The name of the JMX MXBean, used by {@link #registerMBean()}.
+	 */
+	public static final String MBEAN_NAME = "org.essentials4j:type=Metrics";
+
+	private static final int BUCKETS = 64;
+
+	private final Map<String, Map<String, Counters>> operations = new ConcurrentHashMap<>();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onOperation(String operation, String tag, long elements, long results, long nanos) {
+		Counters counters = counters(operation, tag != null ? tag : "");
+
+		counters.calls.increment();
+		counters.results.add(results);
+		counters.nanos.add(nanos);
+		counters.maxNanos.accumulate(nanos);
+		counters.histogram[bucket(nanos)].increment();
+
+		if (elements >= 0) {
+			counters.elements.add(elements);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getTotalCalls() {
+		long total = 0;
+
+		for (Map<String, Counters> tags : operations.values()) {
+			for (Counters counters : tags.values()) {
+				total += counters.calls.sum();
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<OperationMetrics> getOperations() {
+		List<OperationMetrics> snapshot = new ArrayList<>();
+
+		operations.forEach((operation, tags) -> tags.forEach((tag, counters) -> snapshot.add(counters.snapshot(operation, tag))));
+
+		snapshot.sort(Comparator.comparingLong(OperationMetrics::getTotalNanos).reversed());
+
+		return snapshot;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void reset() {
+		operations.clear();
+	}
+
+	/**
+	 * Publishes this aggregator in the platform MBean server, under the name {@value #MBEAN_NAME}.
+	 *
+	 * @throws IllegalStateException if the registration fails, e.g. because another aggregator is already registered
+	 */
+	public void registerMBean() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(MBEAN_NAME));
+
+		} catch (JMException e) {
+			throw new IllegalStateException("Couldn't register the metrics MBean!", e);
+		}
+	}
+
+	/**
+	 * Removes the aggregator published under the name {@value #MBEAN_NAME} from the platform MBean server, if any.
+	 *
+	 * @throws IllegalStateException if the removal fails
+	 */
+	public static void unregisterMBean() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(MBEAN_NAME);
+
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+
+		} catch (JMException e) {
+			throw new IllegalStateException("Couldn't unregister the metrics MBean!", e);
+		}
+	}
+
+	private Counters counters(String operation, String tag) {
+		// the plain lookups don't lock, unlike computeIfAbsent on Java 8
+		Map<String, Counters> tags = operations.get(operation);
+
+		if (tags == null) {
+			tags = operations.computeIfAbsent(operation, op -> new ConcurrentHashMap<>());
+		}
+
+		Counters counters = tags.get(tag);
+
+		return counters != null ? counters : tags.computeIfAbsent(tag, t -> new Counters());
+	}
+
+	/**
+	 * The histogram bucket of the specified elapsed time: {@code i} for the times in the range {@code [2^(i-1), 2^i)}.
+	 */
+	static int bucket(long nanos) {
+		return nanos > 0 ? BUCKETS - Long.numberOfLeadingZeros(nanos) : 0;
+	}
+
+	private static final class Counters {
+
+		final LongAdder calls = new LongAdder();
+
+		final LongAdder elements = new LongAdder();
+
+		final LongAdder results = new LongAdder();
+
+		final LongAdder nanos = new LongAdder();
+
+		final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+		final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+		Counters() {
+			for (int i = 0; i < BUCKETS; i++) {
+				histogram[i] = new LongAdder();
+			}
+		}
+
+		OperationMetrics snapshot(String operation, String tag) {
+			long[] buckets = new long[BUCKETS];
+
+			for (int i = 0; i < BUCKETS; i++) {
+				buckets[i] = histogram[i].sum();
+			}
+
+			return new OperationMetrics(operation, tag, calls.sum(), elements.sum(), results.sum(),
+				nanos.sum(), maxNanos.get(), buckets);
+		}
+
+	}
+
+}
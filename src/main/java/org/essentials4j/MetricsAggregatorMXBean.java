@@ -0,0 +1,52 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.List;
+
+/**
+ * The JMX management interface of the {@link MetricsAggregator}.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public interface MetricsAggregatorMXBean {
+
+	/**
+	 * Returns the total number of the reported operations.
+	 *
+	 * @return the total number of the reported operations
+	 */
+	long getTotalCalls();
+
+	/**
+	 * Returns a snapshot of the metrics of each operation and call-site tag.
+	 *
+	 * @return a new {@code List} with the metrics of each operation and call-site tag, ordered by the total elapsed time (descending)
+	 */
+	List<OperationMetrics> getOperations();
+
+	/**
+	 * Discards all collected metrics.
+	 */
+	void reset();
+
+}
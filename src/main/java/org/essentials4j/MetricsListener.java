@@ -0,0 +1,48 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+/**
+ * Receives a report after each executed DSL operation (e.g. {@code FindDSL.all}, {@code GroupDSL.by}, {@code MapBiDSL.toMap}).
+ * <p>
+ * The listener is invoked synchronously in the thread that executed the operation, so it must be thread-safe and fast.
+ *
+ * @author Nikolche Mihajlovski
+ * @see Metrics#setListener(MetricsListener)
+ * @see MetricsAggregator
+ * @since 1.0.1
+ */
+@FunctionalInterface
+public interface MetricsListener {
+
+	/**
+	 * Reports an executed DSL operation.
+	 *
+	 * @param operation the name of the operation, e.g. {@code "FindDSL.all"}
+	 * @param tag       the call-site tag of the current thread (or {@code null} if there is none)
+	 * @param elements  the number of source elements (or {@code -1} if it is unknown, e.g. for a {@code Stream} source)
+	 * @param results   the size of the result, where a found {@code Optional} or {@code true} counts as 1 result
+	 * @param nanos     the elapsed time, in nanoseconds
+	 * @see Metrics#tag(String)
+	 */
+	void onOperation(String operation, String tag, long elements, long results, long nanos);
+
+}
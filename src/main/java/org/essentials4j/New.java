@@ -65,6 +65,18 @@ public final class New {
 		return new LinkedHashSet<>();
 	}
 
+	/**
+	 * Constructs a new empty insertion-ordered {@code LinkedHashSet} instance, big enough to hold the expected number of elements without rehashing.
+	 *
+	 * @param expectedSize the expected number of elements
+	 * @param <T>          the type of the set elements
+	 * @return a new empty insertion-ordered {@code LinkedHashSet} instance
+	 * @throws IllegalArgumentException if {@code expectedSize} is negative
+	 */
+	public static <T> Set<T> sizedSet(int expectedSize) {
+		return new LinkedHashSet<>(hashCapacity(expectedSize));
+	}
+
 	/**
 	 * Constructs a new insertion-ordered {@code LinkedHashSet} instance and adds the specified elements to it.
 	 *
@@ -75,13 +87,15 @@ public final class New {
 	 */
 	public static <T> Set<T> set(Iterable<? extends T> elements) {
 		Objects.requireNonNull(elements);
-		Set<T> set = set();
+
+		long start = Metrics.start();
+		Set<T> set = elements instanceof Collection ? sizedSet(((Collection<?>) elements).size()) : set();
 
 		for (T val : elements) {
 			set.add(val);
 		}
 
-		return set;
+		return Metrics.end(start, "New.set", elements, set);
 	}
 
 	/**
@@ -96,7 +110,7 @@ public final class New {
 	@SuppressWarnings({"varargs", "unchecked"})
 	public static <T> Set<T> set(T... elements) {
 		Objects.requireNonNull(elements);
-		Set<T> set = set();
+		Set<T> set = sizedSet(elements.length);
 
 		Collections.addAll(set, elements);
 
@@ -115,6 +129,18 @@ public final class New {
 		return new ArrayList<>();
 	}
 
+	/**
+	 * Constructs a new empty {@code ArrayList} instance, big enough to hold the expected number of elements without resizing.
+	 *
+	 * @param expectedSize the expected number of elements
+	 * @param <T>          the type of the list elements
+	 * @return a new empty {@code ArrayList} instance
+	 * @throws IllegalArgumentException if {@code expectedSize} is negative
+	 */
+	public static <T> List<T> sizedList(int expectedSize) {
+		return new ArrayList<>(requireValidSize(expectedSize));
+	}
+
 	/**
 	 * Constructs a new {@code ArrayList} instance and adds the specified elements to it.
 	 *
@@ -125,13 +151,15 @@ public final class New {
 	 */
 	public static <T> List<T> list(Iterable<? extends T> elements) {
 		Objects.requireNonNull(elements);
-		List<T> list = list();
+
+		long start = Metrics.start();
+		List<T> list = elements instanceof Collection ? sizedList(((Collection<?>) elements).size()) : list();
 
 		for (T item : elements) {
 			list.add(item);
 		}
 
-		return list;
+		return Metrics.end(start, "New.list", elements, list);
 	}
 
 	/**
@@ -146,7 +174,7 @@ public final class New {
 	@SuppressWarnings({"varargs", "unchecked"})
 	public static <T> List<T> list(T... elements) {
 		Objects.requireNonNull(elements);
-		List<T> list = list();
+		List<T> list = sizedList(elements.length);
 
 		Collections.addAll(list, elements);
 
@@ -166,6 +194,60 @@ public final class New {
 		return new LinkedHashMap<>();
 	}
 
+	/**
+	 * Constructs an empty insertion-ordered {@code LinkedHashMap} instance, big enough to hold the expected number of entries without rehashing.
+	 *
+	 * @param expectedSize the expected number of entries
+	 * @param <K>          the type of the map keys
+	 * @param <V>          the type of the map values
+	 * @return a new empty {@code LinkedHashMap} instance
+	 * @throws IllegalArgumentException if {@code expectedSize} is negative
+	 */
+	public static <K, V> Map<K, V> sizedMap(int expectedSize) {
+		return new LinkedHashMap<>(hashCapacity(expectedSize));
+	}
+
+	/**
+	 * Constructs an empty insertion-ordered {@code CompactMap} instance, a memory-lean alternative to {@code LinkedHashMap}.
+	 *
+	 * @param <K> the type of the map keys
+	 * @param <V> the type of the map values
+	 * @return a new empty {@code CompactMap} instance
+	 */
+	public static <K, V> CompactMap<K, V> compactMap() {
+		return new CompactMap<>();
+	}
+
+	/**
+	 * Constructs an empty insertion-ordered {@code CompactMap} instance, big enough to hold the expected number of entries without resizing.
+	 *
+	 * @param expectedSize the expected number of entries
+	 * @param <K>          the type of the map keys
+	 * @param <V>          the type of the map values
+	 * @return a new empty {@code CompactMap} instance
+	 * @throws IllegalArgumentException if {@code expectedSize} is negative
+	 */
+	public static <K, V> CompactMap<K, V> compactMap(int expectedSize) {
+		return new CompactMap<>(expectedSize);
+	}
+
+	/**
+	 * Constructs an insertion-ordered {@code CompactMap} instance with the same entries as the specified source map.
+	 *
+	 * @param source the source map whose entries are being copied into a new map
+	 * @param <K>    the type of the map keys
+	 * @param <V>    the type of the map values
+	 * @return a new {@code CompactMap} instance consisting of the same entries as the specified source map
+	 * @throws NullPointerException if {@code source} is {@code null}
+	 */
+	public static <K, V> CompactMap<K, V> compactMap(Map<? extends K, ? extends V> source) {
+		Objects.requireNonNull(source);
+
+		long start = Metrics.start();
+
+		return Metrics.end(start, "New.compactMap", source, new CompactMap<>(source));
+	}
+
 	/**
 	 * Constructs an insertion-ordered {@code LinkedHashMap} instance with the same entries as the specified source map.
 	 *
@@ -177,11 +259,13 @@ public final class New {
 	 */
 	public static <K, V> Map<K, V> map(Map<? extends K, ? extends V> source) {
 		Objects.requireNonNull(source);
-		Map<K, V> map = map();
+
+		long start = Metrics.start();
+		Map<K, V> map = sizedMap(source.size());
 
 		map.putAll(source);
 
-		return map;
+		return Metrics.end(start, "New.map", source, map);
 	}
 
 	/**
@@ -298,7 +382,7 @@ public final class New {
 			throw new IllegalArgumentException("Expected even number of arguments (key-value pairs)!");
 		}
 
-		Map<K, V> map = map();
+		Map<K, V> map = sizedMap(keysAndValues.length / 2 + 1);
 		map.put(key1, value1);
 
 		for (int i = 0; i < keysAndValues.length / 2; i++) {
@@ -308,4 +392,362 @@ public final class New {
 		return map;
 	}
 
+	/**
+	 * Checks that the expected number of elements is not negative.
+	 */
+	static int requireValidSize(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("The expected size must not be negative!");
+		}
+
+		return expectedSize;
+	}
+
+	/**
+	 * Calculates the initial capacity of a {@code HashMap} (or {@code HashSet}) that can hold the expected number of entries without rehashing.
+	 */
+	static int hashCapacity(int expectedSize) {
+		requireValidSize(expectedSize);
+
+		return expectedSize < (1 << 29) ? (int) (expectedSize / 0.75f) + 1 : Integer.MAX_VALUE;
+	}
+
+	/* frozen (immutable) collections */
+
+	/**
+	 * Constructs an immutable {@code FrozenList} instance consisting of the specified elements.
+	 *
+	 * @param elements the elements of the new list
+	 * @param <T>      the type of the list elements
+	 * @return a new immutable {@code FrozenList} instance consisting of the specified elements
+	 * @throws NullPointerException if {@code elements} is {@code null}
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <T> FrozenList<T> frozenList(T... elements) {
+		Objects.requireNonNull(elements);
+
+		return elements.length > 0 ? new FrozenList<>(Arrays.copyOf(elements, elements.length, Object[].class)) : FrozenList.empty();
+	}
+
+	/**
+	 * Constructs an immutable {@code FrozenList} instance consisting of the specified elements.
+	 *
+	 * @param elements the elements of the new list
+	 * @param <T>      the type of the list elements
+	 * @return a new immutable {@code FrozenList} instance consisting of the specified elements
+	 * @throws NullPointerException if {@code elements} is {@code null}
+	 */
+	public static <T> FrozenList<T> frozenList(Iterable<? extends T> elements) {
+		Objects.requireNonNull(elements);
+
+		long start = Metrics.start();
+		Object[] array = elements instanceof Collection ? ((Collection<?>) elements).toArray() : list(elements).toArray();
+		FrozenList<T> list = array.length > 0 ? new FrozenList<>(Arrays.copyOf(array, array.length, Object[].class)) : FrozenList.empty();
+
+		return Metrics.end(start, "New.frozenList", elements, list);
+	}
+
+	/**
+	 * Returns an empty immutable {@code FrozenMap} instance.
+	 *
+	 * @param <K> the type of the map keys
+	 * @param <V> the type of the map values
+	 * @return an empty immutable {@code FrozenMap} instance
+	 */
+	public static <K, V> FrozenMap<K, V> frozenMap() {
+		return FrozenMap.empty();
+	}
+
+	/**
+	 * Constructs an immutable insertion-ordered {@code FrozenMap} instance with a single entry (specified as a key-value pair).
+	 *
+	 * @param key   the key of the map's single entry
+	 * @param value the value of the map's single entry
+	 * @param <K>   the type of the map keys
+	 * @param <V>   the type of the map values
+	 * @return a new immutable {@code FrozenMap} instance consisting of the specified key-value pair as entry
+	 */
+	public static <K, V> FrozenMap<K, V> frozenMap(K key, V value) {
+		return new FrozenMap<>(new Object[]{key, value});
+	}
+
+	/**
+	 * Constructs an immutable insertion-ordered {@code FrozenMap} instance with 2 entries (specified as key-value pairs).
+	 *
+	 * @param key1   the key of the map's 1st entry
+	 * @param value1 the value of the map's 1st entry
+	 * @param key2   the key of the map's 2nd entry
+	 * @param value2 the value of the map's 2nd entry
+	 * @param <K>    the type of the map keys
+	 * @param <V>    the type of the map values
+	 * @return a new immutable {@code FrozenMap} instance consisting of the specified key-value pairs as entries
+	 * @throws IllegalArgumentException if there are duplicate keys
+	 */
+	public static <K, V> FrozenMap<K, V> frozenMap(K key1, V value1, K key2, V value2) {
+		return new FrozenMap<>(new Object[]{key1, value1, key2, value2});
+	}
+
+	/**
+	 * Constructs an immutable insertion-ordered {@code FrozenMap} instance with 3 entries (specified as key-value pairs).
+	 *
+	 * @param key1   the key of the map's 1st entry
+	 * @param value1 the value of the map's 1st entry
+	 * @param key2   the key of the map's 2nd entry
+	 * @param value2 the value of the map's 2nd entry
+	 * @param key3   the key of the map's 3rd entry
+	 * @param value3 the value of the map's 3rd entry
+	 * @param <K>    the type of the map keys
+	 * @param <V>    the type of the map values
+	 * @return a new immutable {@code FrozenMap} instance consisting of the specified key-value pairs as entries
+	 * @throws IllegalArgumentException if there are duplicate keys
+	 */
+	public static <K, V> FrozenMap<K, V> frozenMap(K key1, V value1, K key2, V value2, K key3, V value3) {
+		return new FrozenMap<>(new Object[]{key1, value1, key2, value2, key3, value3});
+	}
+
+	/**
+	 * Constructs an immutable insertion-ordered {@code FrozenMap} instance with 4 entries (specified as key-value pairs).
+	 *
+	 * @param key1   the key of the map's 1st entry
+	 * @param value1 the value of the map's 1st entry
+	 * @param key2   the key of the map's 2nd entry
+	 * @param value2 the value of the map's 2nd entry
+	 * @param key3   the key of the map's 3rd entry
+	 * @param value3 the value of the map's 3rd entry
+	 * @param key4   the key of the map's 4th entry
+	 * @param value4 the value of the map's 4th entry
+	 * @param <K>    the type of the map keys
+	 * @param <V>    the type of the map values
+	 * @return a new immutable {@code FrozenMap} instance consisting of the specified key-value pairs as entries
+	 * @throws IllegalArgumentException if there are duplicate keys
+	 */
+	public static <K, V> FrozenMap<K, V> frozenMap(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4) {
+		return new FrozenMap<>(new Object[]{key1, value1, key2, value2, key3, value3, key4, value4});
+	}
+
+	/**
+	 * Constructs an immutable insertion-ordered {@code FrozenMap} instance with 5 entries (specified as key-value pairs).
+	 *
+	 * @param key1   the key of the map's 1st entry
+	 * @param value1 the value of the map's 1st entry
+	 * @param key2   the key of the map's 2nd entry
+	 * @param value2 the value of the map's 2nd entry
+	 * @param key3   the key of the map's 3rd entry
+	 * @param value3 the value of the map's 3rd entry
+	 * @param key4   the key of the map's 4th entry
+	 * @param value4 the value of the map's 4th entry
+	 * @param key5   the key of the map's 5th entry
+	 * @param value5 the value of the map's 5th entry
+	 * @param <K>    the type of the map keys
+	 * @param <V>    the type of the map values
+	 * @return a new immutable {@code FrozenMap} instance consisting of the specified key-value pairs as entries
+	 * @throws IllegalArgumentException if there are duplicate keys
+	 */
+	public static <K, V> FrozenMap<K, V> frozenMap(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4, K key5, V value5) {
+		return new FrozenMap<>(new Object[]{key1, value1, key2, value2, key3, value3, key4, value4, key5, value5});
+	}
+
+	/**
+	 * Constructs an immutable insertion-ordered {@code FrozenMap} instance with {@code N} entries (specified as key-value pairs).
+	 *
+	 * @param keysAndValues the map's key-value pairs, in the form: {@code key1, value1, ..., keyN, valueN}
+	 * @param key1
+	 * @param value1
+	 * @param <K>           the type of the map keys
+	 * @param <V>           the type of the map values
+	 * @return a new immutable {@code FrozenMap} instance consisting of the specified key-value pairs as entries
+	 * @throws NullPointerException     if {@code keysAndValues} is {@code null}
+	 * @throws IllegalArgumentException if there are duplicate keys
+	 */
+	public static <K, V> FrozenMap<K, V> frozenMap(K key1, V value1, Object... keysAndValues) {
+		Objects.requireNonNull(keysAndValues);
+
+		if (keysAndValues.length % 2 != 0) {
+			throw new IllegalArgumentException("Expected even number of arguments (key-value pairs)!");
+		}
+
+		Object[] entries = new Object[keysAndValues.length + 2];
+		entries[0] = key1;
+		entries[1] = value1;
+		System.arraycopy(keysAndValues, 0, entries, 2, keysAndValues.length);
+
+		return new FrozenMap<>(entries);
+	}
+
+	/**
+	 * Constructs an immutable insertion-ordered {@code FrozenMap} instance with the same entries as the specified source map.
+	 *
+	 * @param source the source map whose entries are being copied into a new map
+	 * @param <K>    the type of the map keys
+	 * @param <V>    the type of the map values
+	 * @return a new immutable {@code FrozenMap} instance consisting of the same entries as the specified source map
+	 * @throws NullPointerException if {@code source} is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> FrozenMap<K, V> frozenMap(Map<? extends K, ? extends V> source) {
+		Objects.requireNonNull(source);
+
+		if (source instanceof FrozenMap) {
+			return (FrozenMap<K, V>) source;
+		}
+
+		long start = Metrics.start();
+		Object[] entries = new Object[source.size() * 2];
+		int i = 0;
+
+		for (Map.Entry<? extends K, ? extends V> entry : source.entrySet()) {
+			entries[i++] = entry.getKey();
+			entries[i++] = entry.getValue();
+		}
+
+		FrozenMap<K, V> map = i > 0 ? new FrozenMap<>(entries) : FrozenMap.empty();
+
+		return Metrics.end(start, "New.frozenMap", source, map);
+	}
+
+	/* primitive collections */
+
+	/**
+	 * Constructs a new empty {@code IntList} instance, which stores {@code int} values without boxing them.
+	 *
+	 * @return a new empty {@code IntList} instance
+	 */
+	public static IntList intList() {
+		return new IntList();
+	}
+
+	/**
+	 * Constructs a new {@code IntList} instance and adds the specified values to it.
+	 *
+	 * @param values the values that will be added to the new list
+	 * @return a new {@code IntList} instance consisting of the specified values
+	 * @throws NullPointerException if {@code values} is {@code null}
+	 */
+	public static IntList intList(int... values) {
+		Objects.requireNonNull(values);
+		IntList list = new IntList(values.length);
+
+		list.addAll(values);
+
+		return list;
+	}
+
+	/**
+	 * Constructs a new empty {@code IntSet} instance, which stores {@code int} values without boxing them.
+	 *
+	 * @return a new empty {@code IntSet} instance
+	 */
+	public static IntSet intSet() {
+		return new IntSet();
+	}
+
+	/**
+	 * Constructs a new {@code IntSet} instance and adds the specified values to it.
+	 *
+	 * @param values the values that will be added to the new set
+	 * @return a new {@code IntSet} instance consisting of the specified values
+	 * @throws NullPointerException if {@code values} is {@code null}
+	 */
+	public static IntSet intSet(int... values) {
+		Objects.requireNonNull(values);
+		IntSet set = new IntSet(values.length);
+
+		for (int value : values) {
+			set.add(value);
+		}
+
+		return set;
+	}
+
+	/**
+	 * Constructs a new empty {@code IntIntMap} instance, which stores {@code int} keys and values without boxing them.
+	 *
+	 * @return a new empty {@code IntIntMap} instance
+	 */
+	public static IntIntMap intIntMap() {
+		return new IntIntMap();
+	}
+
+	/**
+	 * Constructs a new empty {@code IntObjectMap} instance, which stores {@code int} keys without boxing them.
+	 *
+	 * @param <V> the type of the map values
+	 * @return a new empty {@code IntObjectMap} instance
+	 */
+	public static <V> IntObjectMap<V> intObjectMap() {
+		return new IntObjectMap<>();
+	}
+
+	/**
+	 * Constructs a new empty {@code LongList} instance, which stores {@code long} values without boxing them.
+	 *
+	 * @return a new empty {@code LongList} instance
+	 */
+	public static LongList longList() {
+		return new LongList();
+	}
+
+	/**
+	 * Constructs a new {@code LongList} instance and adds the specified values to it.
+	 *
+	 * @param values the values that will be added to the new list
+	 * @return a new {@code LongList} instance consisting of the specified values
+	 * @throws NullPointerException if {@code values} is {@code null}
+	 */
+	public static LongList longList(long... values) {
+		Objects.requireNonNull(values);
+		LongList list = new LongList(values.length);
+
+		list.addAll(values);
+
+		return list;
+	}
+
+	/**
+	 * Constructs a new empty {@code LongSet} instance, which stores {@code long} values without boxing them.
+	 *
+	 * @return a new empty {@code LongSet} instance
+	 */
+	public static LongSet longSet() {
+		return new LongSet();
+	}
+
+	/**
+	 * Constructs a new {@code LongSet} instance and adds the specified values to it.
+	 *
+	 * @param values the values that will be added to the new set
+	 * @return a new {@code LongSet} instance consisting of the specified values
+	 * @throws NullPointerException if {@code values} is {@code null}
+	 */
+	public static LongSet longSet(long... values) {
+		Objects.requireNonNull(values);
+		LongSet set = new LongSet(values.length);
+
+		for (long value : values) {
+			set.add(value);
+		}
+
+		return set;
+	}
+
+	/**
+	 * Constructs a new empty {@code LongLongMap} instance, which stores {@code long} keys and values without boxing them.
+	 *
+	 * @return a new empty {@code LongLongMap} instance
+	 */
+	public static LongLongMap longLongMap() {
+		return new LongLongMap();
+	}
+
+	/**
+	 * Constructs a new empty {@code LongObjectMap} instance, which stores {@code long} keys without boxing them.
+	 *
+	 * @param <V> the type of the map values
+	 * @return a new empty {@code LongObjectMap} instance
+	 */
+	public static <V> LongObjectMap<V> longObjectMap() {
+		return new LongObjectMap<>();
+	}
+
 }
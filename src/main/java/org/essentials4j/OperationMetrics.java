@@ -0,0 +1,162 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+/**
+ * A snapshot of the aggregated metrics of a DSL operation, executed at a call site with the same tag.
+ *
+ * @author Nikolche Mihajlovski
+ * @see MetricsAggregator
+ * @since 1.0.1
+ */
+public final class OperationMetrics {
+
+	private final String operation;
+
+	private final String tag;
+
+	private final long calls;
+
+	private final long elements;
+
+	private final long results;
+
+	private final long totalNanos;
+
+	private final long maxNanos;
+
+	private final long[] histogram;
+
+	OperationMetrics(String operation, String tag, long calls, long elements, long results,
+	                 long totalNanos, long maxNanos, long[] histogram) {
+		this.operation = operation;
+		this.tag = tag;
+		this.calls = calls;
+		this.elements = elements;
+		this.results = results;
+		this.totalNanos = totalNanos;
+		this.maxNanos = maxNanos;
+		this.histogram = histogram;
+	}
+
+	/**
+	 * @return the name of the operation, e.g. {@code "FindDSL.all"}
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return the call-site tag (or an empty string for the untagged calls)
+	 */
+	public String getTag() {
+		return tag;
+	}
+
+	/**
+	 * @return the number of calls
+	 */
+	public long getCalls() {
+		return calls;
+	}
+
+	/**
+	 * @return the total number of source elements, counting only the calls with a known number of elements
+	 */
+	public long getElements() {
+		return elements;
+	}
+
+	/**
+	 * @return the total size of the results
+	 */
+	public long getResults() {
+		return results;
+	}
+
+	/**
+	 * @return the total elapsed time, in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	/**
+	 * @return the longest elapsed time of a call, in nanoseconds
+	 */
+	public long getMaxNanos() {
+		return maxNanos;
+	}
+
+	/**
+	 * @return the mean elapsed time of a call, in nanoseconds
+	 */
+	public long getMeanNanos() {
+		return calls > 0 ? totalNanos / calls : 0;
+	}
+
+	/**
+	 * @return the median elapsed time of a call, in nanoseconds, rounded up to a power of 2
+	 */
+	public long getMedianNanos() {
+		return percentile(0.5);
+	}
+
+	/**
+	 * @return the 99th percentile of the elapsed time of a call, in nanoseconds, rounded up to a power of 2
+	 */
+	public long getP99Nanos() {
+		return percentile(0.99);
+	}
+
+	/**
+	 * The number of calls in each bucket of the elapsed time: bucket {@code i} counts the calls that took
+	 * less than {@code 2^i} nanoseconds, but not less than {@code 2^(i-1)}.
+	 *
+	 * @return a copy of the histogram of the elapsed times
+	 */
+	public long[] getHistogram() {
+		return histogram.clone();
+	}
+
+	private long percentile(double fraction) {
+		long rank = (long) Math.ceil(calls * fraction);
+		long count = 0;
+
+		for (int i = 0; i < histogram.length; i++) {
+			count += histogram[i];
+
+			if (count >= rank && count > 0) {
+				return i < 63 ? 1L << i : Long.MAX_VALUE;
+			}
+		}
+
+		return 0;
+	}
+
+	@Override
+	public String toString() {
+		return operation + (tag.isEmpty() ? "" : "@" + tag)
+			+ " {calls=" + calls + ", elements=" + elements + ", results=" + results
+			+ ", totalNanos=" + totalNanos + ", maxNanos=" + maxNanos + "}";
+	}
+
+}
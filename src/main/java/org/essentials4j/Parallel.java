@@ -0,0 +1,98 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Parallel execution settings and engine: the operations on parallel streams are executed inside the specified {@code ForkJoinPool},
+ * so they never use the common pool.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class Parallel {
+
+	private final ForkJoinPool pool;
+
+	private final long threshold;
+
+	Parallel(ForkJoinPool pool, long threshold) {
+		Objects.requireNonNull(pool);
+
+		if (threshold < 0) {
+			throw new IllegalArgumentException("The parallelism threshold must not be negative!");
+		}
+
+		this.pool = pool;
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Decides whether the specified number of items is large enough for parallel execution.
+	 * An unknown size is reported as {@code Long.MAX_VALUE} by the spliterators, so it qualifies.
+	 */
+	boolean accepts(long size) {
+		return size >= threshold;
+	}
+
+	/**
+	 * Executes the specified operation inside the pool and waits for its result.
+	 * The exceptions thrown by the operation are propagated as they are.
+	 */
+	<R> R invoke(Callable<R> operation) {
+		try {
+			return pool.submit(operation).get();
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the parallel operation to complete!", e);
+
+		} catch (ExecutionException e) {
+			Throwable cause = original(e.getCause());
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * The exceptions thrown in other worker threads are re-thrown by {@code ForkJoinTask} as copies, wrapping the original exception as cause.
+	 */
+	private static Throwable original(Throwable e) {
+		while (e.getCause() != null && e.getClass() == e.getCause().getClass()
+			&& (e.getMessage() == null || e.getMessage().equals(e.getCause().toString()))) {
+			e = e.getCause();
+		}
+
+		return e;
+	}
+
+}
@@ -0,0 +1,248 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * DSL helper used to execute the search, mapping and grouping operations in parallel, inside a specific {@code ForkJoinPool}.
+ * <p>
+ * The items are processed in parallel only if their number reaches the parallelism threshold, otherwise sequentially on the calling thread.
+ * A {@code Stream} is always processed in parallel, as its size can't be known before it is consumed.
+ * Regardless of the execution mode, the encounter order of the items is respected by the {@code first}, {@code last}, {@code all}
+ * and {@code toList} operations.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class ParallelDSL {
+
+	private final Parallel parallel;
+
+	ParallelDSL(Parallel parallel) {
+		this.parallel = parallel;
+	}
+
+	/* findIn */
+
+	/**
+	 * Searches through the specified items in parallel, for elements that satisfy the criteria that will be specified.
+	 *
+	 * @param items the items to search through
+	 * @return DSL helper used to specify search criteria and execute the search through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 * @see Do#findIn(Iterable)
+	 */
+	public <T> FindDSL<T> findIn(Iterable<T> items) {
+		Objects.requireNonNull(items);
+
+		if (items instanceof Collection) {
+			return parallel.accepts(((Collection<?>) items).size())
+				? new FindDSL<>(StreamSupport.stream(items.spliterator(), true), parallel)
+				: new FindDSL<>(items);
+		}
+
+		// the items are traversed only through this spliterator, as some Iterables can be traversed only once
+		Spliterator<T> spliterator = items.spliterator();
+		boolean par = parallel.accepts(spliterator.estimateSize());
+
+		return new FindDSL<>(StreamSupport.stream(spliterator, par), par ? parallel : null);
+	}
+
+	/**
+	 * Searches through the specified items (array elements) in parallel, for elements that satisfy the criteria that will be specified.
+	 *
+	 * @param items the items to search through
+	 * @return DSL helper used to specify search criteria and execute the search through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 * @see Do#findIn(Object[])
+	 */
+	public <T> FindDSL<T> findIn(T[] items) {
+		Objects.requireNonNull(items);
+
+		return findIn(Arrays.asList(items));
+	}
+
+	/**
+	 * Searches through the specified items in parallel, for {@code Map} entries that satisfy the criteria that will be specified.
+	 *
+	 * @param items the items to search through
+	 * @return DSL helper used to specify search criteria and execute the search through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 * @see Do#findIn(Map)
+	 */
+	public <K, V> FindBiDSL<K, V> findIn(Map<K, V> items) {
+		Objects.requireNonNull(items);
+
+		return new FindBiDSL<>(items, parallel.accepts(items.size()) ? parallel : null);
+	}
+
+	/**
+	 * Searches through the specified items in parallel, for elements that satisfy the criteria that will be specified.
+	 * <p>
+	 * The stream is always switched to parallel, regardless of the parallelism threshold, keeping its pipeline and close handlers.
+	 *
+	 * @param items the items to search through
+	 * @return DSL helper used to specify search criteria and execute the search through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 * @see Do#findIn(Stream)
+	 */
+	public <T> FindDSL<T> findIn(Stream<T> items) {
+		Objects.requireNonNull(items);
+
+		return new FindDSL<>(items.parallel(), parallel);
+	}
+
+	/* map */
+
+	/**
+	 * Maps (transforms) the specified items in parallel, by applying the transformation function that will be specified.
+	 *
+	 * @param items the items to map (transform)
+	 * @return DSL helper used to specify transformation function and execute the mapping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 * @see Do#map(Iterable)
+	 */
+	public <T> MapDSL<T> map(Iterable<T> items) {
+		Objects.requireNonNull(items);
+
+		if (items instanceof Collection) {
+			return parallel.accepts(((Collection<?>) items).size())
+				? new MapDSL<>(StreamSupport.stream(items.spliterator(), true), parallel)
+				: new MapDSL<>(items);
+		}
+
+		// the items are traversed only through this spliterator, as some Iterables can be traversed only once
+		Spliterator<T> spliterator = items.spliterator();
+		boolean par = parallel.accepts(spliterator.estimateSize());
+		Stream<T> stream = StreamSupport.stream(spliterator, par);
+
+		return par ? new MapDSL<>(stream, parallel) : new MapDSL<>(stream, Loops.sizeOf(spliterator));
+	}
+
+	/**
+	 * Maps (transforms) the specified items in parallel, by applying the transformation function that will be specified.
+	 *
+	 * @param items the items to map (transform)
+	 * @return DSL helper used to specify transformation function and execute the mapping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 * @see Do#map(Map)
+	 */
+	public <K, V> MapBiDSL<K, V> map(Map<K, V> items) {
+		Objects.requireNonNull(items);
+
+		return new MapBiDSL<>(items, parallel.accepts(items.size()) ? parallel : null);
+	}
+
+	/**
+	 * Maps (transforms) the specified items in parallel, by applying the transformation function that will be specified.
+	 * <p>
+	 * The stream is always switched to parallel, regardless of the parallelism threshold, keeping its pipeline and close handlers.
+	 *
+	 * @param items the items to map (transform)
+	 * @return DSL helper used to specify transformation function and execute the mapping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 * @see Do#map(Stream)
+	 */
+	public <T> MapDSL<T> map(Stream<T> items) {
+		Objects.requireNonNull(items);
+
+		return new MapDSL<>(items.parallel(), parallel);
+	}
+
+	/* group */
+
+	/**
+	 * Groups the specified items in parallel, according to a classification function that will be specified.
+	 *
+	 * @param items the items to group
+	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 * @see Do#group(Iterable)
+	 */
+	public <T> GroupDSL<T> group(Iterable<T> items) {
+		Objects.requireNonNull(items);
+
+		// the items are traversed only through this spliterator, as some Iterables can be traversed only once
+		Spliterator<T> spliterator = items.spliterator();
+		boolean par = parallel.accepts(items instanceof Collection ? ((Collection<?>) items).size() : spliterator.estimateSize());
+
+		return new GroupDSL<>(StreamSupport.stream(spliterator, par), par ? parallel : null, items);
+	}
+
+	/**
+	 * Groups the specified items in parallel, according to a classification function that will be specified.
+	 *
+	 * @param items the items to group
+	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 * @see Do#group(Map)
+	 */
+	public <K, V> GroupBiDSL<K, V> group(Map<K, V> items) {
+		Objects.requireNonNull(items);
+
+		return new GroupBiDSL<>(items, parallel.accepts(items.size()) ? parallel : null);
+	}
+
+	/**
+	 * Groups the specified items in parallel, according to a classification function that will be specified.
+	 * <p>
+	 * The stream is always switched to parallel, regardless of the parallelism threshold, keeping its pipeline and close handlers.
+	 *
+	 * @param items the items to group
+	 * @return DSL helper used to specify classification function and execute the grouping through method chain call
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 * @see Do#group(Stream)
+	 */
+	public <T> GroupDSL<T> group(Stream<T> items) {
+		Objects.requireNonNull(items);
+
+		return new GroupDSL<>(items.parallel(), parallel);
+	}
+
+	/* join */
+
+	/**
+	 * Joins the specified left and right items by the matching keys that will be specified, looking up the keys in parallel.
+	 * <p>
+	 * The hash table is built sequentially, and the lookups are executed in parallel if the number of the items on the larger side
+	 * reaches the parallelism threshold.
+	 *
+	 * @param left  the left items, which determine the order of the results
+	 * @param right the right items
+	 * @return DSL helper used to specify the keys and the kind of the join and execute it through method chain call
+	 * @throws NullPointerException if {@code left} or {@code right} is {@code null}
+	 * @see Do#join(Iterable, Iterable)
+	 */
+	public <L, R> JoinDSL<L, R> join(Iterable<L> left, Iterable<R> right) {
+		Objects.requireNonNull(left);
+		Objects.requireNonNull(right);
+
+		return new JoinDSL<>(left, right, parallel);
+	}
+
+}
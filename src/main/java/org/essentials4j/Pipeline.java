@@ -0,0 +1,232 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * A compiled pipeline of filter, map, distinct and limit stages, followed by a collector.
+ * <p>
+ * All stages are executed in a single loop over the input, without intermediate collections or stream objects.
+ * Apart from the result, a run allocates only the state of its distinct and limit stages, if there are any.
+ * <p>
+ * The pipeline is immutable, and can be run any number of times, concurrently from any number of threads.
+ *
+ * @param <T> the type of the input elements
+ * @param <R> the type of the result
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ * @see Do#pipeline(Class)
+ */
+public class Pipeline<T, R> {
+
+	static final byte WHERE = 0;
+
+	static final byte MAP = 1;
+
+	static final byte DISTINCT = 2;
+
+	static final byte LIMIT = 3;
+
+	/**
+	 * The kinds of the stages.
+	 */
+	private final byte[] kinds;
+
+	/**
+	 * The predicates or transformation functions of the stages.
+	 */
+	private final Object[] functions;
+
+	/**
+	 * The maximum sizes of the limit stages.
+	 */
+	private final long[] limits;
+
+	/**
+	 * The index of the state of each distinct and limit stage, in the run state arrays.
+	 */
+	private final int[] slots;
+
+	private final int distinctCount;
+
+	private final int limitCount;
+
+	/**
+	 * Whether there is a {@code limit(0)} stage, so no elements can pass.
+	 */
+	private final boolean empty;
+
+	private final Supplier<Object> supplier;
+
+	private final BiConsumer<Object, Object> accumulator;
+
+	private final Function<Object, R> finisher;
+
+	@SuppressWarnings("unchecked")
+	Pipeline(Stage[] stages, Collector<?, ?, R> collector) {
+		int n = stages.length;
+
+		this.kinds = new byte[n];
+		this.functions = new Object[n];
+		this.limits = new long[n];
+		this.slots = new int[n];
+
+		int distincts = 0, limited = 0;
+		boolean none = false;
+
+		for (int i = 0; i < n; i++) {
+			Stage stage = stages[i];
+
+			kinds[i] = stage.kind;
+			functions[i] = stage.function;
+			limits[i] = stage.limit;
+
+			if (stage.kind == DISTINCT) {
+				slots[i] = distincts++;
+
+			} else if (stage.kind == LIMIT) {
+				slots[i] = limited++;
+				none |= stage.limit == 0;
+			}
+		}
+
+		this.distinctCount = distincts;
+		this.limitCount = limited;
+		this.empty = none;
+
+		Collector<Object, Object, R> c = (Collector<Object, Object, R>) collector;
+
+		this.supplier = c.supplier();
+		this.accumulator = c.accumulator();
+		this.finisher = c.finisher();
+	}
+
+	/**
+	 * Runs the pipeline on the specified items, in the calling thread.
+	 *
+	 * @param items the input items
+	 * @return the result of the pipeline
+	 * @throws NullPointerException if {@code items} is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public R run(Iterable<? extends T> items) {
+		Objects.requireNonNull(items);
+		long start = Metrics.start();
+
+		Object container = supplier.get();
+
+		if (!empty) {
+			Object[] seen = distinctCount > 0 ? new Object[distinctCount] : null;
+			long[] counts = limitCount > 0 ? new long[limitCount] : null;
+
+			for (int i = 0; i < distinctCount; i++) {
+				seen[i] = new HashSet<>();
+			}
+
+			if (Loops.isRandomAccess(items)) {
+				List<? extends T> list = (List<? extends T>) items;
+
+				for (int i = 0, size = list.size(); i < size; i++) {
+					if (!push(list.get(i), container, seen, counts)) {
+						break;
+					}
+				}
+
+			} else {
+				for (T item : items) {
+					if (!push(item, container, seen, counts)) {
+						break;
+					}
+				}
+			}
+		}
+
+		return Metrics.end(start, "Pipeline.run", items, finisher.apply(container));
+	}
+
+	/**
+	 * Pushes an input element through the stages, accumulating it into the container if it passes all of them.
+	 *
+	 * @return {@code true} if more elements can pass the stages, or {@code false} if the iteration can stop
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean push(Object item, Object container, Object[] seen, long[] counts) {
+		boolean more = true;
+
+		for (int i = 0; i < kinds.length; i++) {
+			switch (kinds[i]) {
+				case WHERE:
+					if (!((Predicate<Object>) functions[i]).test(item)) {
+						return more;
+					}
+					break;
+
+				case MAP:
+					item = ((Function<Object, Object>) functions[i]).apply(item);
+					break;
+
+				case DISTINCT:
+					if (!((Set<Object>) seen[slots[i]]).add(item)) {
+						return more;
+					}
+					break;
+
+				default:
+					if (++counts[slots[i]] == limits[i]) {
+						// this is the last element that can pass the limit
+						more = false;
+					}
+			}
+		}
+
+		accumulator.accept(container, item);
+
+		return more;
+	}
+
+	/**
+	 * A stage of a pipeline, as specified through the DSL.
+	 */
+	static final class Stage {
+
+		final byte kind;
+
+		final Object function;
+
+		final long limit;
+
+		Stage(byte kind, Object function, long limit) {
+			this.kind = kind;
+			this.function = function;
+			this.limit = limit;
+		}
+	}
+
+}
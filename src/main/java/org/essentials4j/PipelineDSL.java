@@ -0,0 +1,177 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * DSL helper used to specify the stages of a pipeline and compile it through method chain call.
+ * <p>
+ * Each method returns a new helper, so a partially specified pipeline can be shared and extended in different ways.
+ * <p> Usage:
+ * <pre><code>
+ * Pipeline&lt;User, List&lt;String&gt;&gt; activeNames = Do.pipeline(User.class).where(User::isActive).map(User::getName).toList();
+ * List&lt;String&gt; names = activeNames.run(users);
+ * </code></pre>
+ *
+ * @param <T> the type of the input elements
+ * @param <R> the type of the elements produced by the specified stages
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class PipelineDSL<T, R> {
+
+	private final Pipeline.Stage[] stages;
+
+	PipelineDSL() {
+		this(new Pipeline.Stage[0]);
+	}
+
+	private PipelineDSL(Pipeline.Stage[] stages) {
+		this.stages = stages;
+	}
+
+	/**
+	 * Adds a stage that keeps only the elements that satisfy the specified criteria (predicate).
+	 *
+	 * @param predicate the criteria specified as a predicate function
+	 * @return a new DSL helper with the added stage
+	 * @throws NullPointerException if {@code predicate} is {@code null}
+	 */
+	public PipelineDSL<T, R> where(Predicate<? super R> predicate) {
+		Objects.requireNonNull(predicate);
+
+		return then(new Pipeline.Stage(Pipeline.WHERE, predicate, 0));
+	}
+
+	/**
+	 * Adds a stage that transforms each element with the specified transformation function.
+	 *
+	 * @param transformation the transformation function
+	 * @return a new DSL helper with the added stage
+	 * @throws NullPointerException if {@code transformation} is {@code null}
+	 */
+	public <R2> PipelineDSL<T, R2> map(Function<? super R, ? extends R2> transformation) {
+		Objects.requireNonNull(transformation);
+
+		return then(new Pipeline.Stage(Pipeline.MAP, transformation, 0));
+	}
+
+	/**
+	 * Adds a stage that drops the elements that are equal to a previous element.
+	 * <p>
+	 * The distinct elements are tracked in a set, which is created on each run of the pipeline.
+	 *
+	 * @return a new DSL helper with the added stage
+	 */
+	public PipelineDSL<T, R> distinct() {
+		return then(new Pipeline.Stage(Pipeline.DISTINCT, null, 0));
+	}
+
+	/**
+	 * Adds a stage that passes at most the specified number of elements.
+	 * <p>
+	 * The iteration of the input stops as soon as no more elements can pass the stage.
+	 *
+	 * @param maxSize the maximum number of elements to pass
+	 * @return a new DSL helper with the added stage
+	 * @throws IllegalArgumentException if {@code maxSize} is negative
+	 */
+	public PipelineDSL<T, R> limit(long maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("The limit must not be negative!");
+		}
+
+		return then(new Pipeline.Stage(Pipeline.LIMIT, null, maxSize));
+	}
+
+	/**
+	 * Compiles a pipeline that accumulates the resulting elements into a new {@code List}.
+	 *
+	 * @return a new reusable, thread-safe pipeline
+	 */
+	public Pipeline<T, List<R>> toList() {
+		return collect(To.list());
+	}
+
+	/**
+	 * Compiles a pipeline that accumulates the resulting elements into a new {@code Set}.
+	 *
+	 * @return a new reusable, thread-safe pipeline
+	 */
+	public Pipeline<T, Set<R>> toSet() {
+		return collect(To.set());
+	}
+
+	/**
+	 * Compiles a pipeline that groups the resulting elements according to the specified classification function,
+	 * into a new {@code Map} with the same structure as in {@link GroupDSL#by(Function)}.
+	 *
+	 * @param classifier the classification function used to group the elements
+	 * @return a new reusable, thread-safe pipeline
+	 * @throws NullPointerException if {@code classifier} is {@code null}
+	 */
+	public <K> Pipeline<T, Map<K, List<R>>> groupBy(Function<? super R, ? extends K> classifier) {
+		Objects.requireNonNull(classifier);
+
+		return collect(Collectors.groupingBy(classifier, New::map, To.list()));
+	}
+
+	/**
+	 * Compiles a pipeline that counts the resulting elements.
+	 *
+	 * @return a new reusable, thread-safe pipeline
+	 */
+	public Pipeline<T, Long> count() {
+		return collect(Collectors.counting());
+	}
+
+	/**
+	 * Compiles a pipeline that accumulates the resulting elements with the specified collector.
+	 * <p>
+	 * The collector must be reusable, i.e. each call of its supplier must return a new accumulation container.
+	 *
+	 * @param collector the collector used to accumulate the resulting elements
+	 * @return a new reusable, thread-safe pipeline
+	 * @throws NullPointerException if {@code collector} is {@code null}
+	 */
+	public <A, D> Pipeline<T, D> collect(Collector<? super R, A, D> collector) {
+		Objects.requireNonNull(collector);
+
+		return new Pipeline<>(stages, collector);
+	}
+
+	private <R2> PipelineDSL<T, R2> then(Pipeline.Stage stage) {
+		Pipeline.Stage[] next = Arrays.copyOf(stages, stages.length + 1);
+		next[stages.length] = stage;
+
+		return new PipelineDSL<>(next);
+	}
+
+}
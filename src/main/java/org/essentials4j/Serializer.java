@@ -0,0 +1,56 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Converts values to bytes and back, so they can be written to (and read from) temporary files.
+ * <p>
+ * The {@link #read(DataInput)} method must consume exactly the bytes written by {@link #write(Object, DataOutput)} for the same value.
+ *
+ * @param <T> the type of the serialized values
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public interface Serializer<T> {
+
+	/**
+	 * Writes the specified value to the output.
+	 *
+	 * @param value the value to write
+	 * @param out   the output to write to
+	 * @throws IOException if an I/O error occurs
+	 */
+	void write(T value, DataOutput out) throws IOException;
+
+	/**
+	 * Reads a value from the input.
+	 *
+	 * @param in the input to read from
+	 * @return the value that has been read
+	 * @throws IOException if an I/O error occurs
+	 */
+	T read(DataInput in) throws IOException;
+
+}
@@ -0,0 +1,237 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * A set of partitions of serialized items, which are buffered in memory up to a byte budget, and spilled to temporary files beyond it.
+ * <p>
+ * The items of each partition are read back in the same order they have been added. The spill files are read through a buffered stream,
+ * so they can be deleted as soon as they have been read (a memory-mapped file can't be deleted on some platforms while it is mapped).
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class Spill<T> implements Closeable {
+
+	private final Serializer<T> serializer;
+
+	private final long budget;
+
+	private final Path dir;
+
+	private final Buffer[] buffers;
+
+	private final Path[] files;
+
+	private final long[] fileBytes;
+
+	private final long[] fileCounts;
+
+	/**
+	 * The total number of bytes buffered in memory, in all partitions.
+	 */
+	private long buffered;
+
+	Spill(Serializer<T> serializer, long budget, Path dir, int partitions) {
+		this.serializer = serializer;
+		this.budget = budget;
+		this.dir = dir;
+		this.buffers = new Buffer[partitions];
+		this.files = new Path[partitions];
+		this.fileBytes = new long[partitions];
+		this.fileCounts = new long[partitions];
+	}
+
+	int partitions() {
+		return buffers.length;
+	}
+
+	/**
+	 * The total size of the serialized items in the partition, in memory and on disk.
+	 */
+	long bytes(int partition) {
+		return fileBytes[partition] + (buffers[partition] != null ? buffers[partition].size() : 0);
+	}
+
+	/**
+	 * Whether any items have been spilled to disk.
+	 */
+	boolean spilled() {
+		for (Path file : files) {
+			if (file != null) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * The number of items in the partition, in memory and on disk.
+	 */
+	long count(int partition) {
+		return fileCounts[partition] + (buffers[partition] != null ? buffers[partition].items : 0);
+	}
+
+	void add(int partition, T item) {
+		Buffer buffer = buffers[partition];
+
+		if (buffer == null) {
+			buffer = buffers[partition] = new Buffer();
+		}
+
+		int before = buffer.size();
+
+		try {
+			serializer.write(item, buffer.data);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		buffer.items++;
+		buffered += buffer.size() - before;
+
+		if (buffered > budget) {
+			spillAll();
+		}
+	}
+
+	/**
+	 * Reads back the items of the partition, in the order they have been added, and releases its memory buffer.
+	 */
+	void drain(int partition, Consumer<? super T> consumer) {
+		try {
+			if (files[partition] != null) {
+				readFile(files[partition], fileCounts[partition], consumer);
+				delete(partition);
+			}
+
+			Buffer buffer = buffers[partition];
+
+			if (buffer != null) {
+				buffers[partition] = null;
+				buffered -= buffer.size();
+
+				read(new ByteArrayInputStream(buffer.bytes(), 0, buffer.size()), buffer.items, consumer);
+			}
+
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void close() {
+		for (int i = 0; i < files.length; i++) {
+			delete(i);
+			buffers[i] = null;
+		}
+
+		buffered = 0;
+	}
+
+	/**
+	 * Moves the buffered items of all partitions to their spill files, releasing the memory of the buffers.
+	 */
+	void spillAll() {
+		try {
+			for (int i = 0; i < buffers.length; i++) {
+				Buffer buffer = buffers[i];
+
+				if (buffer != null && buffer.size() > 0) {
+					if (files[i] == null) {
+						files[i] = Files.createTempFile(dir, "essentials4j-", ".spill");
+					}
+
+					try (OutputStream out = Files.newOutputStream(files[i], StandardOpenOption.APPEND)) {
+						out.write(buffer.bytes(), 0, buffer.size());
+					}
+
+					fileBytes[i] += buffer.size();
+					fileCounts[i] += buffer.items;
+				}
+
+				// a reset buffer would keep its grown array, so it is dropped and a new one is created on demand
+				buffers[i] = null;
+			}
+
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		buffered = 0;
+	}
+
+	private void readFile(Path file, long count, Consumer<? super T> consumer) throws IOException {
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+			read(in, count, consumer);
+		}
+	}
+
+	private void read(InputStream input, long count, Consumer<? super T> consumer) throws IOException {
+		DataInputStream in = new DataInputStream(input);
+
+		for (long i = 0; i < count; i++) {
+			consumer.accept(serializer.read(in));
+		}
+	}
+
+	private void delete(int partition) {
+		Path file = files[partition];
+
+		if (file != null) {
+			files[partition] = null;
+			fileBytes[partition] = 0;
+			fileCounts[partition] = 0;
+
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				file.toFile().deleteOnExit();
+			}
+		}
+	}
+
+	/**
+	 * The in-memory buffer of a partition, with direct access to its bytes.
+	 */
+	private static final class Buffer extends ByteArrayOutputStream {
+
+		final DataOutputStream data = new DataOutputStream(this);
+
+		/**
+		 * The number of items in the buffer.
+		 */
+		int items;
+
+		byte[] bytes() {
+			return buf;
+		}
+
+	}
+
+}
@@ -20,11 +20,15 @@
 
 package org.essentials4j;
 
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
@@ -59,6 +63,23 @@ public final class To {
 		return Collectors.toList();
 	}
 
+	/**
+	 * Returns a {@code Collector} that accumulates the input elements into a new {@code ArrayList}, presized for the expected number of elements.
+	 * <p>
+	 * Intended for sequential streams of known size. In a parallel stream, each partial result would be presized for the total.
+	 *
+	 * @param expectedSize the expected number of elements
+	 * @param <T>          the type of the output list elements
+	 * @return a new collector that accumulates the input elements into a new {@code List}
+	 * @throws IllegalArgumentException if {@code expectedSize} is negative
+	 * @see New#sizedList(int)
+	 */
+	public static <T> Collector<T, ?, List<T>> list(int expectedSize) {
+		New.requireValidSize(expectedSize);
+
+		return Collectors.toCollection(() -> New.sizedList(expectedSize));
+	}
+
 	/**
 	 * Returns a {@code Collector} that accumulates the input elements into a new {@code Set}.
 	 * <p>
@@ -72,6 +93,25 @@ public final class To {
 		return Collectors.toSet();
 	}
 
+	/**
+	 * Returns a {@code Collector} that accumulates the input elements into a new {@code HashSet}, presized for the expected number of elements.
+	 * <p>
+	 * Intended for sequential streams of known size. In a parallel stream, each partial result would be presized for the total.
+	 *
+	 * @param expectedSize the expected number of elements
+	 * @param <T>          the type of the output set elements
+	 * @return a new collector that accumulates the input elements into a new {@code Set}
+	 * @throws IllegalArgumentException if {@code expectedSize} is negative
+	 */
+	public static <T> Collector<T, ?, Set<T>> set(int expectedSize) {
+		int capacity = New.hashCapacity(expectedSize);
+
+		return Collector.of(() -> new HashSet<>(capacity), Set::add, (left, right) -> {
+			left.addAll(right);
+			return left;
+		}, Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+	}
+
 	/**
 	 * Returns a {@code Collector} that accumulates the input map entries into a new {@code LinkedHashMap}.
 	 *
@@ -84,6 +124,35 @@ public final class To {
 		return map(Map.Entry::getKey, Map.Entry::getValue);
 	}
 
+	/**
+	 * Returns a {@code Collector} that accumulates the input map entries into a new {@code LinkedHashMap}, presized for the expected number of entries.
+	 *
+	 * @param expectedSize the expected number of entries
+	 * @param <K>          the type of the output map keys
+	 * @param <V>          the type of the output map values
+	 * @return a new collector that accumulates the input map entries into a new {@code LinkedHashMap}
+	 * @throws IllegalArgumentException if {@code expectedSize} is negative
+	 * @see #map(Function, Function, int)
+	 */
+	public static <K, V> Collector<Map.Entry<K, V>, ?, Map<K, V>> map(int expectedSize) {
+		return map(Map.Entry::getKey, Map.Entry::getValue, expectedSize);
+	}
+
+	/**
+	 * Returns a {@code Collector} that accumulates the input map entries into a new {@code Map}, created by the specified factory.
+	 *
+	 * @param mapFactory the supplier of the new (empty) result map, e.g. {@code New::compactMap}
+	 * @param <K>        the type of the output map keys
+	 * @param <V>        the type of the output map values
+	 * @param <M>        the type of the output map
+	 * @return a new collector that accumulates the input map entries into a new {@code Map}
+	 * @throws NullPointerException if {@code mapFactory} is {@code null}
+	 * @see #map(Function, Function, Supplier)
+	 */
+	public static <K, V, M extends Map<K, V>> Collector<Map.Entry<K, V>, ?, M> map(Supplier<M> mapFactory) {
+		return map(Map.Entry::getKey, Map.Entry::getValue, mapFactory);
+	}
+
 	/**
 	 * Returns a {@code Collector} that accumulates the input elements into a new {@code LinkedHashMap}.
 	 *
@@ -103,8 +172,92 @@ public final class To {
 		return Collectors.toMap(keyTransformation, valueTransformation, merger, New::map);
 	}
 
+	/**
+	 * Returns a {@code Collector} that accumulates the input elements into a new {@code LinkedHashMap}, presized for the expected number of entries.
+	 * <p>
+	 * Intended for sequential streams of known size. In a parallel stream, each partial result would be presized for the total.
+	 *
+	 * @param keyTransformation   the transformation function used to derive a resulting entry key from each item
+	 * @param valueTransformation the transformation function used to derive a resulting entry value from each item
+	 * @param expectedSize        the expected number of entries
+	 * @param <T>                 the type of the input elements
+	 * @param <K>                 the type of the output map keys
+	 * @param <V>                 the type of the output map values
+	 * @return a new collector that accumulates the input elements into a new {@code LinkedHashMap}
+	 * @throws IllegalArgumentException if {@code expectedSize} is negative
+	 * @see New#sizedMap(int)
+	 */
+	public static <T, K, V> Collector<T, ?, Map<K, V>> map(Function<? super T, ? extends K> keyTransformation,
+	                                                       Function<? super T, ? extends V> valueTransformation,
+	                                                       int expectedSize) {
+
+		New.requireValidSize(expectedSize);
+		BinaryOperator<V> merger = throwingMerger();
+
+		return Collectors.toMap(keyTransformation, valueTransformation, merger, () -> New.sizedMap(expectedSize));
+	}
+
+	/**
+	 * Returns a {@code Collector} that accumulates the input elements into a new {@code Map}, created by the specified factory.
+	 *
+	 * @param keyTransformation   the transformation function used to derive a resulting entry key from each item
+	 * @param valueTransformation the transformation function used to derive a resulting entry value from each item
+	 * @param mapFactory          the supplier of the new (empty) result map, e.g. {@code New::compactMap}
+	 * @param <T>                 the type of the input elements
+	 * @param <K>                 the type of the output map keys
+	 * @param <V>                 the type of the output map values
+	 * @param <M>                 the type of the output map
+	 * @return a new collector that accumulates the input elements into a new {@code Map}
+	 * @throws NullPointerException if {@code mapFactory} is {@code null}
+	 */
+	public static <T, K, V, M extends Map<K, V>> Collector<T, ?, M> map(Function<? super T, ? extends K> keyTransformation,
+	                                                                    Function<? super T, ? extends V> valueTransformation,
+	                                                                    Supplier<M> mapFactory) {
+
+		Objects.requireNonNull(mapFactory);
+		BinaryOperator<V> merger = throwingMerger();
+
+		return Collectors.toMap(keyTransformation, valueTransformation, merger, mapFactory);
+	}
+
+	/**
+	 * Returns a {@code Collector} that keeps only the greatest {@code k} input elements, according to the specified comparator,
+	 * in a bounded heap. In a parallel execution, the partial heaps are merged.
+	 *
+	 * @param k          the maximum number of elements to keep
+	 * @param comparator the comparator used to compare the elements
+	 * @param <T>        the type of the input elements
+	 * @return a new collector that accumulates the greatest elements into a new {@code List}, from the greatest to the least
+	 * @throws NullPointerException     if {@code comparator} is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 */
+	public static <T> Collector<T, ?, List<T>> top(int k, Comparator<? super T> comparator) {
+		Objects.requireNonNull(comparator);
+		TopK.requireValidCount(k);
+
+		return TopK.collector(k, comparator);
+	}
+
+	/**
+	 * Returns a {@code Collector} that keeps only the least {@code k} input elements, according to the specified comparator,
+	 * in a bounded heap. In a parallel execution, the partial heaps are merged.
+	 *
+	 * @param k          the maximum number of elements to keep
+	 * @param comparator the comparator used to compare the elements
+	 * @param <T>        the type of the input elements
+	 * @return a new collector that accumulates the least elements into a new {@code List}, from the least to the greatest
+	 * @throws NullPointerException     if {@code comparator} is {@code null}
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 */
+	public static <T> Collector<T, ?, List<T>> bottom(int k, Comparator<? super T> comparator) {
+		Objects.requireNonNull(comparator);
+		TopK.requireValidCount(k);
+
+		return TopK.collector(k, (T a, T b) -> comparator.compare(b, a));
+	}
+
 	@SuppressWarnings("unchecked")
-	private static <V> BinaryOperator<V> throwingMerger() {
+	static <V> BinaryOperator<V> throwingMerger() {
 		return (BinaryOperator<V>) THROWING_MERGER;
 	}
 
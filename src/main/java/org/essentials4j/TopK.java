@@ -0,0 +1,148 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * A bounded heap that keeps the greatest {@code k} of the added elements, according to a comparator.
+ * <p>
+ * The root of the heap is the least of the kept elements, so each addition takes {@code O(log k)} time
+ * and the memory is bounded by {@code k} elements.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class TopK<T> {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final int k;
+
+	private final Comparator<? super T> comparator;
+
+	private Object[] heap;
+
+	private int size;
+
+	TopK(int k, Comparator<? super T> comparator) {
+		this.k = k;
+		this.comparator = comparator;
+		this.heap = new Object[Math.min(k, INITIAL_CAPACITY)];
+	}
+
+	static void requireValidCount(int k) {
+		if (k < 0) {
+			throw new IllegalArgumentException("The number of elements must not be negative!");
+		}
+	}
+
+	/**
+	 * Returns a {@code Collector} that keeps the greatest {@code k} input elements, merging the partial heaps of a parallel execution.
+	 */
+	static <T> Collector<T, ?, List<T>> collector(int k, Comparator<? super T> comparator) {
+		return Collector.of(() -> new TopK<T>(k, comparator), TopK::add, TopK::addAll, TopK::toList);
+	}
+
+	void add(T item) {
+		if (size < k) {
+			if (size == heap.length) {
+				heap = Arrays.copyOf(heap, (int) Math.min((long) heap.length * 2, k));
+			}
+
+			siftUp(size++, item);
+
+		} else if (k > 0 && comparator.compare(item, root()) > 0) {
+			siftDown(0, item);
+		}
+	}
+
+	TopK<T> addAll(TopK<T> other) {
+		for (int i = 0; i < other.size; i++) {
+			add(other.at(i));
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns the kept elements, from the greatest to the least.
+	 */
+	List<T> toList() {
+		@SuppressWarnings("unchecked")
+		T[] items = (T[]) Arrays.copyOf(heap, size);
+
+		Arrays.sort(items, (a, b) -> comparator.compare(b, a));
+
+		return New.list(items);
+	}
+
+	private T root() {
+		return at(0);
+	}
+
+	@SuppressWarnings("unchecked")
+	private T at(int index) {
+		return (T) heap[index];
+	}
+
+	private void siftUp(int index, T item) {
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			T p = at(parent);
+
+			if (comparator.compare(item, p) >= 0) {
+				break;
+			}
+
+			heap[index] = p;
+			index = parent;
+		}
+
+		heap[index] = item;
+	}
+
+	private void siftDown(int index, T item) {
+		int half = size >>> 1;
+
+		while (index < half) {
+			int child = 2 * index + 1;
+			int right = child + 1;
+
+			if (right < size && comparator.compare(at(right), at(child)) < 0) {
+				child = right;
+			}
+
+			if (comparator.compare(item, at(child)) <= 0) {
+				break;
+			}
+
+			heap[index] = heap[child];
+			index = child;
+		}
+
+		heap[index] = item;
+	}
+
+}
@@ -0,0 +1,294 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Lazy views over the source items, which evaluate the DSL functions on access, without copying the items.
+ * <p>
+ * The views reflect the later changes of the source, but they can't be structurally modified themselves.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class Views {
+
+	/**
+	 * Static utilities. Do not instantiate.
+	 */
+	private Views() {
+	}
+
+	static <T> Iterable<T> filter(Iterable<T> items, Predicate<? super T> predicate) {
+		return () -> filter(items.iterator(), predicate);
+	}
+
+	static <T, R> Iterable<R> transform(Iterable<T> items, Function<? super T, ? extends R> transformation) {
+		return () -> transform(items.iterator(), transformation);
+	}
+
+	static <T, R> List<R> transform(List<T> items, Function<? super T, ? extends R> transformation) {
+		return items instanceof RandomAccess
+			? new RandomAccessTransformedList<>(items, transformation)
+			: new TransformedList<>(items, transformation);
+	}
+
+	static <K, V> Map<K, V> filter(Map<K, V> items, BiPredicate<? super K, ? super V> predicate) {
+		return new FilteredMap<>(items, predicate);
+	}
+
+	/**
+	 * A view of a stream, which can be iterated only once (just like the stream can be consumed only once).
+	 */
+	static <T> Iterable<T> once(Stream<T> stream) {
+		return stream::iterator;
+	}
+
+	static void requireValidBatchSize(int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("The batch size must be positive!");
+		}
+	}
+
+	/**
+	 * A view of the items in consecutive batches of the specified size (the last batch may be smaller).
+	 * <p>
+	 * The batches of a random access list are {@code subList} views of it. Otherwise, each iteration fills
+	 * and returns the same (unmodifiable) buffer, so a batch is valid only until the next one is requested.
+	 */
+	static <T> Iterable<List<T>> batches(Iterable<T> items, int batchSize) {
+		if (Loops.isRandomAccess(items)) {
+			List<T> list = (List<T>) items;
+
+			return () -> new Iterator<List<T>>() {
+
+				private int from;
+
+				@Override
+				public boolean hasNext() {
+					return from < list.size();
+				}
+
+				@Override
+				public List<T> next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+
+					int to = (int) Math.min((long) from + batchSize, list.size());
+					List<T> batch = list.subList(from, to);
+					from = to;
+
+					return batch;
+				}
+			};
+		}
+
+		return () -> new Iterator<List<T>>() {
+
+			private final Iterator<T> it = items.iterator();
+
+			private final List<T> buffer = new ArrayList<>(Math.min(batchSize, 1024));
+
+			private final List<T> batch = Collections.unmodifiableList(buffer);
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public List<T> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				buffer.clear();
+
+				while (buffer.size() < batchSize && it.hasNext()) {
+					buffer.add(it.next());
+				}
+
+				return batch;
+			}
+		};
+	}
+
+	static <T> Iterator<T> filter(Iterator<T> it, Predicate<? super T> predicate) {
+		return new Iterator<T>() {
+
+			private T next;
+
+			private boolean ready;
+
+			@Override
+			public boolean hasNext() {
+				while (!ready && it.hasNext()) {
+					T item = it.next();
+
+					if (predicate.test(item)) {
+						next = item;
+						ready = true;
+					}
+				}
+
+				return ready;
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				T item = next;
+				next = null;
+				ready = false;
+
+				return item;
+			}
+		};
+	}
+
+	static <T, R> Iterator<R> transform(Iterator<T> it, Function<? super T, ? extends R> transformation) {
+		return new Iterator<R>() {
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public R next() {
+				return transformation.apply(it.next());
+			}
+		};
+	}
+
+	private static class TransformedList<T, R> extends AbstractList<R> {
+
+		final List<T> items;
+
+		final Function<? super T, ? extends R> transformation;
+
+		TransformedList(List<T> items, Function<? super T, ? extends R> transformation) {
+			this.items = items;
+			this.transformation = transformation;
+		}
+
+		@Override
+		public R get(int index) {
+			return transformation.apply(items.get(index));
+		}
+
+		@Override
+		public int size() {
+			return items.size();
+		}
+
+		@Override
+		public Iterator<R> iterator() {
+			return transform(items.iterator(), transformation);
+		}
+
+	}
+
+	private static final class RandomAccessTransformedList<T, R> extends TransformedList<T, R> implements RandomAccess {
+
+		RandomAccessTransformedList(List<T> items, Function<? super T, ? extends R> transformation) {
+			super(items, transformation);
+		}
+
+		@Override
+		public Iterator<R> iterator() {
+			// indexed access is the cheapest traversal of a random access list
+			return listIterator();
+		}
+
+	}
+
+	private static final class FilteredMap<K, V> extends AbstractMap<K, V> {
+
+		private final Map<K, V> items;
+
+		private final BiPredicate<? super K, ? super V> predicate;
+
+		FilteredMap(Map<K, V> items, BiPredicate<? super K, ? super V> predicate) {
+			this.items = items;
+			this.predicate = predicate;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return matches(key, items.get(key));
+		}
+
+		@Override
+		public V get(Object key) {
+			V value = items.get(key);
+			return matches(key, value) ? value : null;
+		}
+
+		@SuppressWarnings("unchecked")
+		private boolean matches(Object key, V value) {
+			return (value != null || items.containsKey(key)) && predicate.test((K) key, value);
+		}
+
+		@Override
+		public Set<Entry<K, V>> entrySet() {
+			return new AbstractSet<Entry<K, V>>() {
+				@Override
+				public Iterator<Entry<K, V>> iterator() {
+					return filter(items.entrySet().iterator(), e -> predicate.test(e.getKey(), e.getValue()));
+				}
+
+				@Override
+				public int size() {
+					int count = 0;
+
+					for (Entry<K, V> e : items.entrySet()) {
+						if (predicate.test(e.getKey(), e.getValue())) {
+							count++;
+						}
+					}
+
+					return count;
+				}
+			};
+		}
+
+	}
+
+}
@@ -0,0 +1,58 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+/**
+ * Records the DSL operations as Java Flight Recorder events.
+ * <p>
+ * This is the Java 11+ override of the Java 8 baseline, in {@code META-INF/versions/11} of the multi-release JAR.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class Jfr {
+
+	/**
+	 * Static utilities. Do not instantiate.
+	 */
+	private Jfr() {
+	}
+
+	static boolean isSupported() {
+		return true;
+	}
+
+	static void commit(String operation, String tag, Class<?> sourceType, long elements, long results, long nanos) {
+		OperationEvent event = new OperationEvent();
+
+		// only while a recording with the event enabled is in progress
+		if (event.isEnabled()) {
+			event.operation = operation;
+			event.tag = tag;
+			event.sourceType = sourceType;
+			event.elements = elements;
+			event.results = results;
+			event.elapsed = nanos;
+			event.commit();
+		}
+	}
+
+}
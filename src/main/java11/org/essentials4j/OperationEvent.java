@@ -0,0 +1,72 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A Java Flight Recorder event of a DSL operation or bulk copy that took at least the configured threshold.
+ * <p>
+ * The operation is measured before the event is created, so the elapsed time is recorded in the {@code elapsed} field,
+ * and the stack trace shows the call site of the operation.
+ *
+ * @author Nikolche Mihajlovski
+ * @see Metrics#enableFlightRecorderEvents(long)
+ * @since 1.0.1
+ */
+@Name("org.essentials4j.Operation")
+@Label("essentials4j Operation")
+@Category("essentials4j")
+@Description("A DSL operation or bulk copy that took at least the configured threshold")
+@StackTrace(true)
+class OperationEvent extends Event {
+
+	@Label("Operation")
+	@Description("The name of the operation, e.g. FindDSL.all")
+	String operation;
+
+	@Label("Tag")
+	@Description("The call-site tag of the thread")
+	String tag;
+
+	@Label("Source Type")
+	@Description("The type of the source items")
+	Class<?> sourceType;
+
+	@Label("Elements")
+	@Description("The number of source elements, or -1 if unknown")
+	long elements;
+
+	@Label("Results")
+	@Description("The size of the result")
+	long results;
+
+	@Label("Elapsed")
+	@Timespan(Timespan.NANOSECONDS)
+	long elapsed;
+
+}
@@ -0,0 +1,68 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SequencedCollection;
+import java.util.SequencedMap;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The Java 21 fast paths, packaged as {@code META-INF/versions/21/org/essentials4j/Jdk.class} of the multi-release JAR.
+ * <p>
+ * Any sequenced collection or map (e.g. {@code LinkedHashSet} and {@code LinkedHashMap}) can be traversed backwards,
+ * and the virtual threads are available without reflection.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+final class Jdk {
+
+	/**
+	 * Static utilities. Do not instantiate.
+	 */
+	private Jdk() {
+	}
+
+	/**
+	 * The feature version of the JDK this implementation is built for.
+	 * <p>
+	 * A method rather than a constant, so the callers compiled against the baseline don't inline its version.
+	 */
+	static int version() {
+		return 21;
+	}
+
+	static <T> Iterator<T> reverseIterator(Iterable<T> items) {
+		return items instanceof SequencedCollection ? ((SequencedCollection<T>) items).reversed().iterator() : null;
+	}
+
+	static <K, V> Set<Map.Entry<K, V>> reverseEntries(Map<K, V> map) {
+		return map instanceof SequencedMap ? ((SequencedMap<K, V>) map).sequencedEntrySet().reversed() : null;
+	}
+
+	static ThreadFactory virtualThreads() {
+		return Thread.ofVirtual().factory();
+	}
+
+}
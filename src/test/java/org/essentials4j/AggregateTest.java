@@ -0,0 +1,119 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class AggregateTest extends TestCommons {
+
+	private final List<String> words = New.list("a", "bbb", "cc", "dd", "e", "fff", "gg");
+
+	@Test
+	public void aggregateCollections() {
+		expectMap(Do.group(words).aggregateBy(String::length).count(), New.map(1, 2L, 3, 2L, 2, 3L));
+
+		expectMap(Do.group(words).aggregateBy(String::length).sumLong(s -> s.charAt(0)),
+			New.map(1, (long) 'a' + 'e', 3, (long) 'b' + 'f', 2, (long) 'c' + 'd' + 'g'));
+
+		expectMap(Do.group(words).aggregateBy(String::length).sumDouble(s -> 0.5), New.map(1, 1.0, 3, 1.0, 2, 1.5));
+
+		expectMap(Do.group(words).aggregateBy(String::length).max(Comparator.naturalOrder()), New.map(1, "e", 3, "fff", 2, "gg"));
+		expectMap(Do.group(words).aggregateBy(String::length).min(Comparator.naturalOrder()), New.map(1, "a", 3, "bbb", 2, "cc"));
+
+		expectMap(Do.group(words).aggregateBy(String::length).reduce("", String::concat), New.map(1, "ae", 3, "bbbfff", 2, "ccddgg"));
+
+		expectMap(Do.group(words).aggregateBy(String::length).reduce(0, (n, s) -> n + 1, Integer::sum), New.map(1, 2, 3, 2, 2, 3));
+
+		expectMap(Do.group(words).aggregateBy(String::length).aggregate(Collectors.joining(",")),
+			New.map(1, "a,e", 3, "bbb,fff", 2, "cc,dd,gg"));
+	}
+
+	@Test
+	public void keepFirstOfEqualExtremes() {
+		Comparator<String> byLength = Comparator.comparing(String::length);
+
+		expectMap(Do.group(words).aggregateBy(s -> true).max(byLength), New.map(true, "bbb"));
+		expectMap(Do.group(words).aggregateBy(s -> true).min(byLength), New.map(true, "a"));
+	}
+
+	@Test
+	public void aggregateMaps() {
+		Map<Integer, String> nums = New.map(1, "one", 2, "two", 3, "three", 4, "four");
+
+		expectMap(Do.group(nums).aggregateBy((k, v) -> k % 2 == 0).count(), New.map(false, 2L, true, 2L));
+		expectMap(Do.group(nums).aggregateBy((k, v) -> k % 2 == 0).sumLong((k, v) -> k), New.map(false, 4L, true, 6L));
+		expectMap(Do.group(nums).aggregateBy((k, v) -> k % 2 == 0).sumDouble((k, v) -> v.length()), New.map(false, 8.0, true, 7.0));
+		expectMap(Do.group(nums).aggregateBy((k, v) -> k % 2 == 0).reduce("", String::concat), New.map(false, "onethree", true, "twofour"));
+
+		Map<Boolean, Map.Entry<Integer, String>> longest = Do.group(nums).aggregateBy((k, v) -> k % 2 == 0)
+			.max(Comparator.comparing(e -> e.getValue().length()));
+
+		eq(longest.get(false).getKey().intValue(), 3);
+		eq(longest.get(true).getKey().intValue(), 4);
+
+		Map<Boolean, Map.Entry<Integer, String>> shortest = Do.group(nums).aggregateBy((k, v) -> k % 2 == 0)
+			.min(Map.Entry.comparingByValue());
+
+		eq(shortest.get(false).getKey().intValue(), 1);
+		eq(shortest.get(true).getKey().intValue(), 4);
+
+		expectMap(Do.group(nums).aggregateBy((k, v) -> k % 2 == 0).aggregate(Collectors.counting()), New.map(false, 2L, true, 2L));
+	}
+
+	@Test
+	public void aggregateInParallel() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+			List<Integer> nums = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+			eq(Do.parallel(pool, 100).group(nums).aggregateBy(x -> x % 7).count(), Do.group(nums).aggregateBy(x -> x % 7).count());
+			eq(Do.parallel(pool, 100).group(nums).aggregateBy(x -> x % 7).sumLong(x -> x), Do.group(nums).aggregateBy(x -> x % 7).sumLong(x -> x));
+			eq(Do.parallel(pool, 100).group(nums).aggregateBy(x -> x % 7).max(Comparator.naturalOrder()),
+				Do.group(nums).aggregateBy(x -> x % 7).max(Comparator.naturalOrder()));
+			eq(Do.parallel(pool, 100).group(nums).aggregateBy(x -> x % 7).reduce(0, Integer::sum),
+				Do.group(nums).aggregateBy(x -> x % 7).reduce(0, Integer::sum));
+
+			Map<Integer, String> map = Do.map(nums).toMap(x -> x, String::valueOf);
+			eq(Do.parallel(pool, 100).group(map).aggregateBy((k, v) -> v.length()).count(), Do.group(map).aggregateBy((k, v) -> v.length()).count());
+
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void nullKeysAreRejected() {
+		Do.group(words).aggregateBy(s -> null).count();
+	}
+
+}
@@ -0,0 +1,130 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class AsyncTest extends TestCommons {
+
+	private static final long LATENCY_MS = 50;
+
+	private final List<Integer> nums = IntStream.range(0, 40).boxed().collect(Collectors.toList());
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger maxObserved = new AtomicInteger();
+
+	/**
+	 * A stand-in for a remote call with artificial latency, which tracks the number of concurrent calls.
+	 */
+	private final Function<Integer, String> remoteCall = x -> {
+		maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+		try {
+			Thread.sleep(LATENCY_MS);
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		} finally {
+			inFlight.decrementAndGet();
+		}
+
+		return "#" + x;
+	};
+
+	@Test
+	public void boundedConcurrency() {
+		long start = System.nanoTime();
+
+		List<String> results = Do.map(nums).toListAsync(remoteCall, 8);
+
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		eq(results, Do.map(nums).toList(x -> "#" + x));
+		isTrue(maxObserved.get() > 1 && maxObserved.get() <= 8);
+
+		// (40 / 8) * 50ms = 250ms instead of 40 * 50ms = 2000ms
+		isTrue(elapsedMs < 1000);
+	}
+
+	@Test
+	public void suppliedExecutor() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(10);
+
+		try {
+			CompletableFuture<List<String>> future = Do.map(nums.stream()).toListFuture(remoteCall, executor, 4);
+
+			eq(future.get(), Do.map(nums).toList(x -> "#" + x));
+			isTrue(maxObserved.get() <= 4);
+
+			eq(Do.map(New.<Integer>list()).toListAsync(remoteCall, executor, 4), New.list());
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void failures() {
+		Function<Integer, Integer> failing = x -> {
+			if (x == 13) {
+				throw new IllegalStateException("unlucky");
+			}
+			return x;
+		};
+
+		try {
+			Do.map(nums).toListAsync(failing, 3);
+			isTrue(false);
+		} catch (IllegalStateException e) {
+			eq(e.getMessage(), "unlucky");
+		}
+
+		CompletableFuture<List<Integer>> future = Do.map(nums).toListFuture(failing, 3);
+
+		try {
+			future.join();
+			isTrue(false);
+		} catch (CompletionException e) {
+			isTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void maxInFlightMustBePositive() {
+		Do.map(nums).toListAsync(x -> x, 0);
+	}
+
+}
@@ -0,0 +1,130 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class BatchTest extends TestCommons {
+
+	private final List<Integer> nums = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+	private static <T> List<List<T>> copies(Iterable<List<T>> batches) {
+		List<List<T>> copies = New.list();
+
+		for (List<T> batch : batches) {
+			copies.add(New.list(batch));
+		}
+
+		return copies;
+	}
+
+	@Test
+	public void batchesOfLists() {
+		List<List<Integer>> expected = New.list(New.list(0, 1, 2, 3), New.list(4, 5, 6, 7), New.list(8, 9));
+
+		eq(copies(Do.batch(nums, 4)), expected);
+		eq(copies(Do.batch(new LinkedList<>(nums), 4)), expected);
+		eq(copies(Do.batch(New.set(nums), 4)), expected);
+
+		eq(copies(Do.batch(nums, 5)), New.list(New.list(0, 1, 2, 3, 4), New.list(5, 6, 7, 8, 9)));
+		eq(copies(Do.batch(nums, 100)), Collections.singletonList(nums));
+		eq(copies(Do.batch(New.<Integer>list(), 3)), New.list());
+	}
+
+	@Test
+	public void randomAccessBatchesAreViews() {
+		List<Integer> list = new ArrayList<>(nums);
+
+		List<Integer> first = Do.batch(list, 3).iterator().next();
+		list.set(1, 100);
+
+		eq(first, New.list(0, 100, 2));
+	}
+
+	@Test
+	public void otherBatchesReuseTheBuffer() {
+		Iterable<List<Integer>> batches = Do.batch(new LinkedList<>(nums), 3);
+
+		List<Integer> first = batches.iterator().next();
+		eq(first, New.list(0, 1, 2));
+
+		List<List<Integer>> all = New.list();
+		batches.forEach(all::add);
+
+		isTrue(all.get(0) == all.get(1));
+
+		try {
+			all.get(0).add(1);
+			isTrue(false);
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void noMoreBatches() {
+		Do.batch(Collections.emptyList(), 3).iterator().next();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void batchSizeMustBePositive() {
+		Do.batch(nums, 0);
+	}
+
+	@Test
+	public void mapInBatches() {
+		List<Integer> sizes = New.list();
+
+		List<String> strings = Do.map(new LinkedList<>(nums)).toListInBatches(4, batch -> {
+			sizes.add(batch.size());
+			return Do.map(batch).toList(String::valueOf);
+		});
+
+		eq(strings, Do.map(nums).toList(String::valueOf));
+		eq(sizes, New.list(4, 4, 2));
+
+		eq(Do.map(nums.stream()).toListInBatches(3, batch -> New.list(batch.size())), New.list(3, 3, 3, 1));
+	}
+
+	@Test
+	public void findInBatches() {
+		Set<Integer> stored = New.set(1, 4, 5, 8);
+
+		List<Integer> found = Do.findIn(nums).allInBatches(3, batch -> Do.findIn(batch).all(stored::contains));
+		eq(found, New.list(1, 4, 5, 8));
+
+		eq(Do.findIn(nums.stream()).allInBatches(4, batch -> batch.subList(0, 1)), New.list(0, 4, 8));
+	}
+
+}
@@ -0,0 +1,173 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class CompactMapTest extends TestCommons {
+
+	@Test
+	public void matchesLinkedHashMap() {
+		Random rnd = new Random(3);
+		Map<Integer, Integer> map = New.compactMap();
+		Map<Integer, Integer> expected = new LinkedHashMap<>();
+
+		for (int i = 0; i < 100000; i++) {
+			Integer key = rnd.nextInt(20) == 0 ? null : rnd.nextInt(3000);
+
+			if (rnd.nextInt(3) > 0) {
+				eq(map.put(key, i), expected.put(key, i));
+			} else {
+				eq(map.remove(key), expected.remove(key));
+			}
+		}
+
+		eq(map.size(), expected.size());
+		eq(map, expected);
+		eq(expected, map);
+		eq(map.hashCode(), expected.hashCode());
+
+		eq(New.list(map.keySet()), New.list(expected.keySet()));
+		eq(New.list(map.values()), New.list(expected.values()));
+		eq(New.list(map.entrySet()), New.list(expected.entrySet()));
+		eq(map.toString(), expected.toString());
+	}
+
+	@Test
+	public void iteratorRemoval() {
+		Map<String, Integer> map = New.compactMap(New.map("a", 1, "b", 2, "c", 3, "d", 4));
+
+		map.values().removeIf(x -> x % 2 == 0);
+		eq(map, New.map("a", 1, "c", 3));
+
+		map.entrySet().iterator().next().setValue(10);
+		map.put("e", 5);
+		eq(New.list(map.keySet()), New.list("a", "c", "e"));
+		eq(map.get("a").intValue(), 10);
+
+		map.clear();
+		isTrue(map.isEmpty());
+		isTrue(map.get("a") == null);
+	}
+
+	@Test
+	public void entriesFollowTheirKeysAcrossResizes() {
+		Map<String, Integer> map = New.compactMap();
+
+		for (int i = 0; i < 6; i++) {
+			map.put("k" + i, i);
+		}
+
+		Iterator<Map.Entry<String, Integer>> it = map.entrySet().iterator();
+		it.next();
+		Map.Entry<String, Integer> k1 = it.next();
+
+		// the removal leaves a gap, which is compacted by the resize
+		map.remove("k0");
+
+		for (int i = 6; i < 100; i++) {
+			map.put("k" + i, i);
+		}
+
+		eq(k1.getKey(), "k1");
+		eq(k1.getValue().intValue(), 1);
+
+		eq(k1.setValue(10).intValue(), 1);
+		eq(map.get("k1").intValue(), 10);
+		eq(map.get("k2").intValue(), 2);
+
+		// a removed entry keeps its last value, and doesn't write through to the map any more
+		map.remove("k1");
+		eq(k1.getKey(), "k1");
+		eq(k1.getValue().intValue(), 10);
+
+		k1.setValue(20);
+		isFalse(map.containsKey("k1"));
+		eq(map.size(), 98);
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void failFastIteration() {
+		Map<String, Integer> map = New.compactMap(New.map("a", 1, "b", 2));
+		Iterator<String> it = map.keySet().iterator();
+
+		it.next();
+		map.put("c", 3);
+		it.next();
+	}
+
+	@Test
+	public void selectableResultMaps() {
+		List<String> words = New.list("a", "bb", "cc", "ddd");
+
+		CompactMap<String, Integer> lengths = Do.map(words).toMap(w -> w, String::length, New::compactMap);
+		eq(lengths, New.map("a", 1, "bb", 2, "cc", 2, "ddd", 3));
+
+		CompactMap<Integer, List<String>> groups = Do.group(words).by(String::length, New::compactMap);
+		eq(groups, New.map(1, New.list("a"), 2, New.list("bb", "cc"), 3, New.list("ddd")));
+
+		CompactMap<String, Integer> odd = Do.findIn(lengths).all((w, len) -> len % 2 == 1, New::compactMap);
+		eq(odd, New.map("a", 1, "ddd", 3));
+
+		CompactMap<String, String> upper = Do.map(lengths).toMap((w, len) -> w.toUpperCase(), (w, len) -> w, New::compactMap);
+		eq(New.list(upper.keySet()), New.list("A", "BB", "CC", "DDD"));
+
+		CompactMap<Integer, CompactMap<String, Integer>> byLength = Do.group(lengths).by((w, len) -> len, New::compactMap, New::compactMap);
+		eq(byLength.get(2), New.map("bb", 2, "cc", 2));
+
+		CompactMap<Boolean, int[]> parity = Do.group(new int[]{1, 2, 3}).by(x -> x % 2 == 0, New::compactMap);
+		eq(parity.get(false).length, 2);
+	}
+
+	@Test
+	public void parallelResultMaps() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+			List<Integer> numbers = New.list();
+
+			for (int i = 0; i < 10000; i++) {
+				numbers.add(i);
+			}
+
+			CompactMap<Integer, List<Integer>> groups = Do.parallel(pool, 100).group(numbers).by(x -> x % 7, New::compactMap);
+
+			eq(New.list(groups.keySet()), New.list(0, 1, 2, 3, 4, 5, 6));
+			eq(groups.get(3), Do.findIn(numbers).all(x -> x % 7 == 3));
+
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+}
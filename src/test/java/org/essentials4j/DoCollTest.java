@@ -41,6 +41,14 @@ public class DoCollTest extends TestCommons {
 		eq(lengths, New.list(1, 2, 2));
 	}
 
+	@Test
+	public void streamToList() {
+		// sized (presized results) and unsized streams
+		eq(Do.map(abc.stream()).toList(String::length), New.list(1, 2, 2));
+		eq(Do.map(abc.stream().filter(s -> s.length() > 1)).toList(String::length), New.list(2, 2));
+		eq(Do.map(abc.stream().parallel()).toList(String::length), New.list(1, 2, 2));
+	}
+
 	@Test
 	public void listToMap() {
 		Map<String, Integer> lengthsByWord = Do.map(abc).toMap(s -> s, String::length);
@@ -0,0 +1,118 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class DoPrimitiveTest extends TestCommons {
+
+	private final int[] ints = {1, 2, 3, 4, 5};
+
+	@Test
+	public void mapIntsToArrays() {
+		isTrue(Arrays.equals(Do.map(ints).toIntArray(x -> x * x), new int[]{1, 4, 9, 16, 25}));
+		isTrue(Arrays.equals(Do.map(ints).toLongArray(x -> x * 10L), new long[]{10, 20, 30, 40, 50}));
+		isTrue(Arrays.equals(Do.map(ints).toDoubleArray(x -> x / 2.0), new double[]{0.5, 1.0, 1.5, 2.0, 2.5}));
+		isTrue(Arrays.equals(Do.map(IntStream.of(ints)).toIntArray(x -> -x), new int[]{-1, -2, -3, -4, -5}));
+	}
+
+	@Test
+	public void mapIntsToCollections() {
+		eq(Do.map(ints).toList(x -> "#" + x), New.list("#1", "#2", "#3", "#4", "#5"));
+		eq(Do.map(ints).toSet(x -> x % 2), New.set(1, 0));
+		eq(Do.map(IntStream.of(ints)).toList(x -> x * 2), New.list(2, 4, 6, 8, 10));
+	}
+
+	@Test
+	public void mapLongsAndDoubles() {
+		long[] longs = {1L, 2L, 3L};
+
+		isTrue(Arrays.equals(Do.map(longs).toLongArray(x -> x << 32), new long[]{1L << 32, 2L << 32, 3L << 32}));
+		isTrue(Arrays.equals(Do.map(LongStream.of(longs)).toIntArray(x -> (int) x + 1), new int[]{2, 3, 4}));
+		isTrue(Arrays.equals(Do.map(new double[]{1.4, 2.6}).toLongArray(Math::round), new long[]{1L, 3L}));
+	}
+
+	@Test
+	public void mapObjectsToPrimitiveArrays() {
+		List<String> words = New.list("a", "bb", "ccc");
+
+		isTrue(Arrays.equals(Do.map(words).toIntArray(String::length), new int[]{1, 2, 3}));
+		isTrue(Arrays.equals(Do.map(words).toLongArray(String::length), new long[]{1L, 2L, 3L}));
+		isTrue(Arrays.equals(Do.map(words).toDoubleArray(String::length), new double[]{1.0, 2.0, 3.0}));
+	}
+
+	@Test
+	public void groupInts() {
+		Map<Boolean, int[]> byParity = Do.group(ints).by(x -> x % 2 == 0);
+
+		eq(byParity.keySet(), New.set(false, true));
+		isTrue(Arrays.equals(byParity.get(false), new int[]{1, 3, 5}));
+		isTrue(Arrays.equals(byParity.get(true), new int[]{2, 4}));
+
+		Map<Integer, int[]> byRange = Do.group(IntStream.range(0, 100)).by(x -> x / 10);
+
+		eq(byRange.size(), 10);
+		isTrue(Arrays.equals(byRange.get(9), IntStream.range(90, 100).toArray()));
+	}
+
+	@Test
+	public void groupLongsAndDoubles() {
+		Map<Long, long[]> byRem = Do.group(new long[]{10, 11, 20, 21}).by(x -> x % 10);
+		isTrue(Arrays.equals(byRem.get(1L), new long[]{11, 21}));
+
+		Map<Long, double[]> byRound = Do.group(new double[]{0.9, 1.1, 1.9}).by(Math::round);
+		isTrue(Arrays.equals(byRound.get(1L), new double[]{0.9, 1.1}));
+	}
+
+	@Test
+	public void groupByPrimitiveKeys() {
+		IntObjectMap<int[]> byRem = Do.group(IntStream.range(0, 100).toArray()).byInt(x -> x % 10);
+
+		eq(byRem.size(), 10);
+		isTrue(Arrays.equals(byRem.get(3), IntStream.range(0, 10).map(x -> x * 10 + 3).toArray()));
+		isTrue(Arrays.equals(Do.group(IntStream.of(ints)).byInt(x -> x / 2).get(1), new int[]{2, 3}));
+		isTrue(Arrays.equals(Do.group(ints).byLong(x -> x * 1_000_000_000_000L).get(5_000_000_000_000L), new int[]{5}));
+
+		LongObjectMap<long[]> byHigh = Do.group(new long[]{1L << 32, (1L << 32) + 1, 1}).byLong(x -> x >>> 32);
+		isTrue(Arrays.equals(byHigh.get(1L), new long[]{1L << 32, (1L << 32) + 1}));
+		isTrue(Arrays.equals(Do.group(new long[]{10, 11, 20}).byInt(x -> (int) (x / 10)).get(1), new long[]{10, 11}));
+
+		double[] doubles = {0.9, 1.1, 1.9};
+		isTrue(Arrays.equals(Do.group(doubles).byInt(x -> (int) x).get(1), new double[]{1.1, 1.9}));
+		isTrue(Arrays.equals(Do.group(doubles).byLong(Math::round).get(2L), new double[]{1.9}));
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void groupByNullKey() {
+		Do.group(ints).by(x -> null);
+	}
+
+}
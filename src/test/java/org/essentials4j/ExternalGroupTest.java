@@ -0,0 +1,114 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class ExternalGroupTest extends TestCommons {
+
+	private static final Serializer<String> UTF = new Serializer<String>() {
+		@Override
+		public void write(String value, DataOutput out) throws IOException {
+			out.writeUTF(value);
+		}
+
+		@Override
+		public String read(DataInput in) throws IOException {
+			return in.readUTF();
+		}
+	};
+
+	@Rule
+	public TemporaryFolder tmp = new TemporaryFolder();
+
+	@Test
+	public void groupsWithinBudget() throws IOException {
+		List<String> words = New.list("a", "bbb", "cc", "dd", "e", "fff");
+
+		Map<Integer, List<String>> groups = New.map();
+		Do.group(words).external(1 << 20, UTF, tmp.getRoot().toPath()).by(String::length, groups::put);
+
+		eq(groups, Do.group(words).by(String::length));
+		isTrue(tmp.getRoot().list().length == 0);
+	}
+
+	@Test
+	public void spillsBeyondBudget() throws IOException {
+		Random rnd = new Random(12);
+		List<String> words = New.list();
+
+		for (int i = 0; i < 50000; i++) {
+			words.add("w" + rnd.nextInt(5000));
+		}
+
+		File dir = tmp.newFolder();
+		Map<String, List<String>> groups = New.map();
+
+		Do.group(words).external(1000, UTF, dir.toPath()).by(s -> s.substring(0, Math.min(3, s.length())), (key, group) -> {
+			isTrue(groups.put(key, group) == null);
+		});
+
+		eq(groups, Do.group(words).by(s -> s.substring(0, Math.min(3, s.length()))));
+		isTrue(dir.list().length == 0);
+	}
+
+	@Test
+	public void oversizedGroupsAreGroupedInMemory() throws IOException {
+		List<String> words = New.list();
+
+		for (int i = 0; i < 10000; i++) {
+			words.add("x" + (i % 2));
+		}
+
+		File dir = tmp.newFolder();
+		Map<String, List<String>> groups = New.map();
+		Do.group(words).external(100, UTF, dir.toPath()).by(s -> s, groups::put);
+
+		eq(groups, Do.group(words).by(s -> s));
+		isTrue(dir.list().length == 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void budgetMustBePositive() {
+		Do.group(New.list("a")).external(0, UTF);
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void nullKeysAreRejected() {
+		Do.group(New.list("a")).external(100, UTF, tmp.getRoot().toPath()).by(s -> null, (k, v) -> {
+		});
+	}
+
+}
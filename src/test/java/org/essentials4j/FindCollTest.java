@@ -22,9 +22,8 @@ package org.essentials4j;
 
 import org.junit.Test;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Nikolche Mihajlovski
@@ -89,4 +88,56 @@ public class FindCollTest extends TestCommons {
 		isFalse(firstWord.isPresent());
 	}
 
+	@Test
+	public void findInArray() {
+		String[] words = {"a", "bbb", "cc"};
+
+		isTrue(Do.findIn(words).exists(s -> s.length() == 3));
+		eq(Do.findIn(words).first(s -> s.length() > 1).get(), "bbb");
+		eq(Do.findIn(words).last(s -> s.length() > 1).get(), "cc");
+		eq(Do.findIn(words).any(s -> s.length() == 3).get(), "bbb");
+		eq(Do.findIn(words).all(s -> s.length() > 1), New.list("bbb", "cc"));
+	}
+
+	@Test
+	public void findInSequentialAccessSources() {
+		List<String> linked = new LinkedList<>(abc);
+		Iterable<String> iterable = abc::iterator;
+
+		for (Iterable<String> items : New.list(linked, iterable, New.set(abc))) {
+			isTrue(Do.findIn(items).exists(s -> s.length() == 3));
+			isFalse(Do.findIn(items).exists(s -> s.length() > 10));
+			eq(Do.findIn(items).first(s -> s.length() > 1).get(), "bbb");
+			eq(Do.findIn(items).last(s -> s.length() > 1).get(), "cc");
+			eq(Do.findIn(items).any(s -> s.length() == 3).get(), "bbb");
+			eq(Do.findIn(items).all(s -> s.length() > 1), New.list("bbb", "cc"));
+			isFalse(Do.findIn(items).first(s -> s.isEmpty()).isPresent());
+		}
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void nullPredicateOnEmptyItems() {
+		Do.findIn(empty).exists(null);
+	}
+
+	@Test
+	public void lastScansBackwards() {
+		List<Integer> nums = New.list(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+		for (Iterable<Integer> items : New.list(nums, new LinkedList<>(nums), new ArrayDeque<>(nums), new TreeSet<>(nums))) {
+			AtomicInteger tests = new AtomicInteger();
+
+			Optional<Integer> lastEven = Do.findIn(items).last(x -> {
+				tests.incrementAndGet();
+				return x % 2 == 0;
+			});
+
+			eq(lastEven.get().intValue(), 10);
+			eq(tests.get(), 1);
+
+			eq(Do.findIn(items).last(x -> x < 4).get().intValue(), 3);
+			isFalse(Do.findIn(items).last(x -> x > 10).isPresent());
+		}
+	}
+
 }
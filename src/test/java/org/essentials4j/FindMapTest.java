@@ -25,6 +25,8 @@ import org.junit.Test;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Nikolche Mihajlovski
@@ -64,4 +66,72 @@ public class FindMapTest extends TestCommons {
 		eq(firstNonZero.get(), -1, "neg");
 	}
 
+	@Test
+	public void foundEntriesDontChangeWithTheMap() {
+		Map<Integer, String> map = New.compactMap(nums);
+
+		Entry<Integer, String> first = Do.findIn(map).first((k, v) -> k != 0).get();
+		Entry<Integer, String> max = Do.findIn(map).max(Map.Entry.comparingByKey()).get();
+
+		map.remove(-1);
+		map.put(1, "one");
+
+		for (int i = 2; i < 100; i++) {
+			map.put(i, "x");
+		}
+
+		eq(first, -1, "neg");
+		eq(max, 1, "pos");
+	}
+
+	@Test
+	public void lastOfWhereInNavigableMap() {
+		Map<Integer, String> sorted = new TreeMap<>(nums);
+		AtomicInteger tests = new AtomicInteger();
+
+		Optional<Entry<Integer, String>> lastNonZero = Do.findIn(sorted).last((k, v) -> {
+			tests.incrementAndGet();
+			return k != 0;
+		});
+
+		eq(lastNonZero.get(), 1, "pos");
+		eq(tests.get(), 1);
+
+		eq(Do.findIn(sorted).last((k, v) -> k < 1).get(), 0, "zero");
+		isFalse(Do.findIn(sorted).last((k, v) -> k > 1).isPresent());
+	}
+
+	@Test
+	public void byKeys() {
+		eq(Do.findIn(nums).byKeys(New.list(1, 5, -1)), New.map(1, "pos", -1, "neg"));
+		eq(New.list(Do.findIn(nums).byKeys(New.list(1, -1)).keySet()), New.list(1, -1));
+		isTrue(Do.findIn(nums).byKeys(New.list(7)).isEmpty());
+
+		Map<Integer, String> withNull = New.map(1, null);
+		eq(Do.findIn(withNull).byKeys(New.list(1, 2)).size(), 1);
+		isTrue(Do.findIn(withNull).firstKey(New.list(2, 1)).isPresent());
+	}
+
+	@Test
+	public void firstKey() {
+		eq(Do.findIn(nums).firstKey(New.list(5, 0, 1)).get(), 0, "zero");
+		isFalse(Do.findIn(nums).firstKey(New.list(5, 6)).isPresent());
+	}
+
+	@Test
+	public void keyRanges() {
+		Map<Integer, String> sorted = new TreeMap<>(nums);
+
+		eq(Do.findIn(sorted).range(-1, 1), New.map(-1, "neg", 0, "zero"));
+		eq(New.list(Do.findIn(sorted).range(-5, 5).keySet()), New.list(-1, 0, 1));
+		eq(Do.findIn(sorted).headKeys(0), New.map(-1, "neg"));
+		eq(Do.findIn(sorted).tailKeys(0), New.map(0, "zero", 1, "pos"));
+		isTrue(Do.findIn(sorted).range(3, 7).isEmpty());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void keyRangesRequireSortedMap() {
+		Do.findIn(nums).range(-1, 1);
+	}
+
 }
@@ -0,0 +1,81 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class FindPrimitiveTest extends TestCommons {
+
+	private final int[] ints = {5, 10, 15, 20};
+	private final long[] longs = {5L, 10L, 15L, 20L};
+	private final double[] doubles = {0.5, 1.0, 1.5, 2.0};
+
+	@Test
+	public void findInInts() {
+		isTrue(Do.findIn(ints).exists(x -> x == 15));
+		isFalse(Do.findIn(ints).exists(x -> x > 100));
+
+		eq(Do.findIn(ints).first(x -> x > 7).getAsInt(), 10);
+		eq(Do.findIn(ints).last(x -> x < 17).getAsInt(), 15);
+		eq(Do.findIn(ints).any(x -> x % 10 == 0).getAsInt(), 10);
+		eq(Do.findIn(ints).first().getAsInt(), 5);
+		eq(Do.findIn(ints).last().getAsInt(), 20);
+		isFalse(Do.findIn(ints).first(x -> x > 100).isPresent());
+		isFalse(Do.findIn(new int[0]).last().isPresent());
+
+		isTrue(Arrays.equals(Do.findIn(ints).all(x -> x > 7), new int[]{10, 15, 20}));
+	}
+
+	@Test
+	public void findInIntStream() {
+		isTrue(Do.findIn(IntStream.of(ints)).exists(x -> x == 15));
+		eq(Do.findIn(IntStream.of(ints)).first(x -> x > 7).getAsInt(), 10);
+		eq(Do.findIn(IntStream.of(ints)).last(x -> x < 17).getAsInt(), 15);
+		eq(Do.findIn(IntStream.of(ints)).last().getAsInt(), 20);
+		isTrue(Arrays.equals(Do.findIn(IntStream.of(ints)).all(x -> x > 7), new int[]{10, 15, 20}));
+	}
+
+	@Test
+	public void findInLongs() {
+		isTrue(Do.findIn(longs).exists(x -> x == 15L));
+		eq(Do.findIn(longs).first(x -> x > 7).getAsLong(), 10L);
+		eq(Do.findIn(LongStream.of(longs)).last(x -> x < 17).getAsLong(), 15L);
+		isTrue(Arrays.equals(Do.findIn(longs).all(x -> x > 12), new long[]{15L, 20L}));
+	}
+
+	@Test
+	public void findInDoubles() {
+		isTrue(Do.findIn(doubles).exists(x -> x == 1.5));
+		isTrue(Do.findIn(doubles).first(x -> x > 0.7).getAsDouble() == 1.0);
+		isTrue(Do.findIn(DoubleStream.of(doubles)).last(x -> x < 1.7).getAsDouble() == 1.5);
+		isTrue(Arrays.equals(Do.findIn(doubles).all(x -> x > 1.2), new double[]{1.5, 2.0}));
+	}
+
+}
@@ -0,0 +1,109 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class FrozenTest extends TestCommons {
+
+	@Test
+	public void smallFrozenMap() {
+		FrozenMap<String, Integer> map = New.frozenMap("c", 3, "a", 1, "b", 2);
+
+		eq(map.size(), 3);
+		eq(map.get("a").intValue(), 1);
+		eq(map.getOrDefault("x", -1).intValue(), -1);
+		isTrue(map.containsKey("c"));
+		isFalse(map.containsKey("x"));
+		isTrue(map.get("x") == null);
+
+		eq(map, New.map("c", 3, "a", 1, "b", 2));
+		eq(map.hashCode(), New.map("c", 3, "a", 1, "b", 2).hashCode());
+		eq(New.list(map.keySet()), New.list("c", "a", "b"));
+		eq(map.toString(), "{c=3, a=1, b=2}");
+	}
+
+	@Test
+	public void largeFrozenMap() {
+		Map<Integer, String> source = New.map();
+
+		for (int i = 0; i < 1000; i++) {
+			source.put(i * 31, "v" + i);
+		}
+
+		source.put(null, "null");
+
+		FrozenMap<Integer, String> map = New.frozenMap(source);
+
+		eq(map, source);
+		eq(New.list(map.keySet()), New.list(source.keySet()));
+		eq(map.get(null), "null");
+
+		for (int i = 0; i < 1000; i++) {
+			eq(map.get(i * 31), "v" + i);
+			isFalse(map.containsKey(i * 31 + 1));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void frozenMapWithDuplicateKeys() {
+		New.frozenMap("a", 1, "b", 2, "a", 3);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void largeFrozenMapWithDuplicateKeys() {
+		New.frozenMap(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8, 9, 9, 1, 10);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void frozenMapIsImmutable() {
+		New.frozenMap("a", 1).put("b", 2);
+	}
+
+	@Test
+	public void frozenList() {
+		List<String> list = New.frozenList("a", "b", null, "b");
+
+		eq(list.size(), 4);
+		eq(list.get(1), "b");
+		eq(list.indexOf("b"), 1);
+		eq(list.lastIndexOf("b"), 3);
+		isTrue(list.contains(null));
+
+		eq(list, New.list("a", "b", null, "b"));
+		eq(list.hashCode(), New.list("a", "b", null, "b").hashCode());
+		eq(New.frozenList(New.set(3, 1, 2)), New.list(3, 1, 2));
+		isTrue(New.frozenList().isEmpty());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void frozenListIsImmutable() {
+		New.frozenList(1, 2).add(3);
+	}
+
+}
@@ -0,0 +1,134 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class IndexTest extends TestCommons {
+
+	private final List<String> words = New.list("a", "bbb", "cc", "dd", "e", "fff", "gg");
+
+	@Test
+	public void multiValueIndex() {
+		Index<Integer, String> byLength = Do.index(words).by(String::length);
+
+		eq(byLength.getAll(2), New.list("cc", "dd", "gg"));
+		eq(byLength.getAll(3), New.list("bbb", "fff"));
+		eq(byLength.getAll(4), Collections.emptyList());
+		eq(byLength.get(1).get(), "a");
+		eq(byLength.get(5), Optional.empty());
+
+		isTrue(byLength.contains(3));
+		isFalse(byLength.contains(0));
+		isFalse(byLength.isUnique());
+
+		eq(New.list(byLength.keys()), New.list(1, 3, 2));
+		eq(New.list(byLength), words);
+		eq(byLength.items(), words);
+	}
+
+	@Test
+	public void uniqueIndexes() {
+		IndexDSL<String> index = Do.index(words);
+
+		Index<String, String> byWord = index.unique(s -> s);
+		Index<Character, String> byFirstChar = index.unique(s -> s.charAt(0));
+
+		eq(byWord.get("cc").get(), "cc");
+		eq(byFirstChar.get('f').get(), "fff");
+		eq(byFirstChar.getAll('g'), New.list("gg"));
+		isTrue(byWord.isUnique());
+		isFalse(byWord.contains("x"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void uniqueIndexRejectsDuplicates() {
+		Do.index(words).unique(String::length);
+	}
+
+	@Test
+	public void indexesAreImmutable() {
+		List<String> source = New.list("a", "b");
+		Index<String, String> index = Do.index(source).by(s -> s);
+
+		source.add("c");
+
+		eq(New.list(index), New.list("a", "b"));
+		isFalse(index.contains("c"));
+
+		Index<Integer, String> byLength = Do.index(words).by(String::length);
+
+		try {
+			byLength.getAll(2).add("x");
+			isTrue(false);
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void nullKeysAndItems() {
+		Index<Integer, String> index = Do.index(New.list("a", null, "bb", "c")).by(s -> s != null ? s.length() : null);
+
+		eq(index.getAll(null), Collections.singletonList(null));
+		eq(index.getAll(1), New.list("a", "c"));
+		isTrue(index.contains(null));
+	}
+
+	@Test
+	public void searchUsesTheIndex() {
+		AtomicInteger keys = new AtomicInteger();
+		Index<Integer, String> byLength = Do.index(words).by(s -> {
+			keys.incrementAndGet();
+			return s.length();
+		});
+
+		keys.set(0);
+
+		eq(Do.findIn(byLength).all(byLength.eq(2)), New.list("cc", "dd", "gg"));
+		eq(Do.findIn(byLength).first(byLength.eq(3)).get(), "bbb");
+		eq(Do.findIn(byLength).last(byLength.eq(3)).get(), "fff");
+		isTrue(Do.findIn(byLength).exists(byLength.eq(1)));
+		isFalse(Do.findIn(byLength).exists(byLength.eq(7)));
+
+		// only the few items with the key have been checked, instead of all items
+		eq(keys.get(), 3 + 1 + 1 + 1);
+
+		// other predicates scan the items
+		eq(Do.findIn(byLength).all(s -> s.startsWith("b") || s.startsWith("g")), New.list("bbb", "gg"));
+
+		// the predicate of another index is just a predicate
+		Index<Integer, String> other = Do.index(words).by(String::length);
+		eq(Do.findIn(byLength).all(other.eq(3)), New.list("bbb", "fff"));
+		isTrue(other.eq(3).test("xyz"));
+		isFalse(other.eq(3).test("xy"));
+	}
+
+}
@@ -0,0 +1,64 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class JdkTest extends TestCommons {
+
+	@Test
+	public void reverseTraversalOfInsertionOrderedCollections() {
+		Set<Integer> set = New.set(1, 2, 3, 4);
+		Map<Integer, String> map = New.map(1, "a", 2, "b", 3, "c");
+
+		eq(Do.findIn(set).last(x -> x % 2 == 1).get().intValue(), 3);
+		eq(Do.findIn(map).last((k, v) -> k < 3).get().getValue(), "b");
+
+		Iterator<Integer> reversed = Loops.reverseIterator(set);
+		Set<Map.Entry<Integer, String>> reversedEntries = Loops.reverseEntries(map);
+
+		if (Jdk.version() >= 21) {
+			eq(New.list(() -> reversed), New.list(4, 3, 2, 1));
+			eq(reversedEntries.iterator().next().getKey().intValue(), 3);
+
+		} else {
+			isTrue(reversed == null);
+			isTrue(reversedEntries == null);
+		}
+	}
+
+	@Test
+	public void virtualThreadsOnJava21() {
+		if (Jdk.version() >= 21) {
+			notNull(Jdk.virtualThreads());
+			isTrue(Async.usesVirtualThreads());
+		}
+	}
+
+}
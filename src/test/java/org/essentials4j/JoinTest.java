@@ -0,0 +1,211 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class JoinTest extends TestCommons {
+
+	private static final Serializer<Integer> INT = new Serializer<Integer>() {
+		@Override
+		public void write(Integer value, DataOutput out) throws IOException {
+			out.writeInt(value);
+		}
+
+		@Override
+		public Integer read(DataInput in) throws IOException {
+			return in.readInt();
+		}
+	};
+
+	/**
+	 * The key of a left item, or {@code null} for every 97th item.
+	 */
+	private static final Function<Integer, Integer> LEFT_KEY = x -> x % 97 == 0 ? null : x % 500;
+
+	/**
+	 * The key of a right item, or {@code null} for every 89th item.
+	 */
+	private static final Function<Integer, Integer> RIGHT_KEY = y -> y % 89 == 0 ? null : (y * 7) % 600;
+
+	@Rule
+	public TemporaryFolder tmp = new TemporaryFolder();
+
+	private final ForkJoinPool pool = new ForkJoinPool(4);
+
+	@After
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void joinOrdersWithCustomers() {
+		List<String> orders = New.list("c1:book", "c3:pen", "c2:lamp", "c1:desk", "c9:cup");
+		List<String> customers = New.list("c1:Ann", "c2:Bob", "c3:Cid", "c4:Dan");
+
+		JoinOnDSL<String, String, String> join = Do.join(orders, customers).on(JoinTest::id, JoinTest::id);
+
+		eq(join.inner((order, customer) -> name(customer) + "/" + name(order)), New.list("Ann/book", "Cid/pen", "Bob/lamp", "Ann/desk"));
+		eq(join.inner().get(0), "c1:book", "c1:Ann");
+		eq(join.leftOuter().get(4), "c9:cup", null);
+		eq(join.semi(), New.list("c1:book", "c3:pen", "c2:lamp", "c1:desk"));
+		eq(join.anti(), New.list("c9:cup"));
+
+		List<Map.Entry<String, List<String>>> grouped = Do.join(customers, orders).on(JoinTest::id, JoinTest::id).grouped();
+		eq(grouped.get(0), "c1:Ann", New.list("c1:book", "c1:desk"));
+		eq(grouped.get(3), "c4:Dan", Collections.emptyList());
+	}
+
+	@Test
+	public void buildsOnEitherSide() {
+		Random rnd = new Random(7);
+
+		for (int[] sizes : new int[][]{{0, 10}, {10, 0}, {300, 5000}, {5000, 300}, {2000, 2000}}) {
+			List<Integer> left = randomInts(rnd, sizes[0]);
+			List<Integer> right = randomInts(rnd, sizes[1]);
+
+			verify(Do.join(left, right).on(LEFT_KEY, RIGHT_KEY), left, right);
+			verify(Do.parallel(pool, 0).join(left, right).on(LEFT_KEY, RIGHT_KEY), left, right);
+			verify(Do.join(New.set(left), right).on(LEFT_KEY, RIGHT_KEY), New.list(New.set(left)), right);
+		}
+	}
+
+	@Test
+	public void externalJoinMatchesInMemoryJoin() throws IOException {
+		Random rnd = new Random(11);
+		List<Integer> left = randomInts(rnd, 20000);
+		List<Integer> right = randomInts(rnd, 8000);
+
+		JoinOnDSL<Integer, Integer, Integer> join = Do.join(left, right).on(LEFT_KEY, RIGHT_KEY);
+
+		for (long budget : new long[]{1 << 20, 1000}) {
+			File dir = tmp.newFolder();
+			ExternalJoinDSL<Integer, Integer, Integer> external = join.external(budget, INT, INT, dir.toPath());
+
+			List<Map.Entry<Integer, Integer>> inner = New.list();
+			external.inner((l, r) -> inner.add(new AbstractMap.SimpleImmutableEntry<>(l, r)));
+			eq(sorted(inner), sorted(join.inner()));
+
+			List<Map.Entry<Integer, Integer>> leftOuter = New.list();
+			external.leftOuter((l, r) -> leftOuter.add(new AbstractMap.SimpleImmutableEntry<>(l, r)));
+			eq(sorted(leftOuter), sorted(join.leftOuter()));
+
+			List<Map.Entry<Integer, List<Integer>>> grouped = New.list();
+			external.grouped((l, matches) -> grouped.add(new AbstractMap.SimpleImmutableEntry<>(l, New.list(matches))));
+			eq(sorted(grouped), sorted(join.grouped()));
+
+			List<Integer> semi = New.list();
+			external.semi(semi::add);
+			eq(sorted(semi), sorted(join.semi()));
+
+			List<Integer> anti = New.list();
+			external.anti(anti::add);
+			eq(sorted(anti), sorted(join.anti()));
+
+			isTrue(dir.list().length == 0);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void budgetMustBePositive() {
+		Do.join(New.list(1), New.list(2)).on(x -> x, y -> y).external(0, INT, INT);
+	}
+
+	private void verify(JoinOnDSL<Integer, Integer, Integer> join, List<Integer> left, List<Integer> right) {
+		List<Map.Entry<Integer, Integer>> inner = New.list();
+		List<Map.Entry<Integer, Integer>> leftOuter = New.list();
+		List<Map.Entry<Integer, List<Integer>>> grouped = New.list();
+		List<Integer> semi = New.list();
+		List<Integer> anti = New.list();
+
+		// the nested loops the join replaces
+		for (Integer l : left) {
+			List<Integer> matches = New.list();
+
+			for (Integer r : right) {
+				if (LEFT_KEY.apply(l) != null && Objects.equals(LEFT_KEY.apply(l), RIGHT_KEY.apply(r))) {
+					matches.add(r);
+					inner.add(new AbstractMap.SimpleImmutableEntry<>(l, r));
+					leftOuter.add(new AbstractMap.SimpleImmutableEntry<>(l, r));
+				}
+			}
+
+			if (matches.isEmpty()) {
+				leftOuter.add(new AbstractMap.SimpleImmutableEntry<>(l, null));
+			}
+
+			grouped.add(new AbstractMap.SimpleImmutableEntry<>(l, matches));
+			(matches.isEmpty() ? anti : semi).add(l);
+		}
+
+		eq(join.inner(), inner);
+		eq(join.inner((l, r) -> l + ":" + r), Do.map(inner).toList(e -> e.getKey() + ":" + e.getValue()));
+		eq(join.leftOuter(), leftOuter);
+		eq(join.grouped(), grouped);
+		eq(join.semi(), semi);
+		eq(join.anti(), anti);
+	}
+
+	private static List<Integer> randomInts(Random rnd, int count) {
+		List<Integer> ints = New.list();
+
+		for (int i = 0; i < count; i++) {
+			ints.add(rnd.nextInt(100_000));
+		}
+
+		return ints;
+	}
+
+	private static <T> List<String> sorted(List<T> items) {
+		List<String> strings = Do.map(items).toList(String::valueOf);
+		Collections.sort(strings);
+		return strings;
+	}
+
+	private static String id(String item) {
+		return item.substring(0, item.indexOf(':'));
+	}
+
+	private static String name(String item) {
+		return item.substring(item.indexOf(':') + 1);
+	}
+
+}
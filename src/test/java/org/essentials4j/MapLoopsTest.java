@@ -0,0 +1,196 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The map-specialized loops and the bulk operations of {@code ConcurrentHashMap} must have the same results as the stream pipelines.
+ *
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class MapLoopsTest extends TestCommons {
+
+	private final ForkJoinPool pool = new ForkJoinPool(4);
+
+	private final Map<Integer, String> source = IntStream.range(0, 10_000).boxed()
+		.collect(Collectors.toMap(Function.identity(), i -> "v" + i % 100, (a, b) -> a, LinkedHashMap::new));
+
+	private final BiPredicate<Integer, String> matching = (k, v) -> k % 7 == 3;
+
+	private final Comparator<Map.Entry<Integer, String>> byValue = Map.Entry.comparingByValue();
+
+	@After
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	private List<Map<Integer, String>> maps() {
+		return New.list(
+			New.map(source),
+			new HashMap<>(source),
+			new TreeMap<>(source),
+			new ConcurrentHashMap<>(source),
+			New.compactMap(source),
+			New.frozenMap(source)
+		);
+	}
+
+	private static <T> T stream(Map<Integer, String> map, Function<java.util.stream.Stream<Map.Entry<Integer, String>>, T> pipeline) {
+		return pipeline.apply(map.entrySet().stream());
+	}
+
+	@Test
+	public void findInMaps() {
+		for (Map<Integer, String> map : maps()) {
+			FindBiDSL<Integer, String> sequential = Do.findIn(map);
+
+			// the sequential search keeps the order of the map
+			eq(sequential.first(matching), stream(map, s -> s.filter(e -> matching.test(e.getKey(), e.getValue())).findFirst()));
+			eq(sequential.last(matching), stream(map, s -> s.filter(e -> matching.test(e.getKey(), e.getValue())).reduce((a, b) -> b)));
+			eq(New.list(sequential.all(matching).keySet()),
+				stream(map, s -> s.filter(e -> matching.test(e.getKey(), e.getValue())).map(Map.Entry::getKey).collect(To.list())));
+
+			// the first of the equally greatest (least) entries
+			eq(sequential.max(matching, byValue), stream(map, s -> s.filter(e -> matching.test(e.getKey(), e.getValue())).max(byValue)));
+			eq(sequential.min(matching, byValue), stream(map, s -> s.filter(e -> matching.test(e.getKey(), e.getValue())).min(byValue)));
+
+			for (FindBiDSL<Integer, String> find : New.list(sequential, Do.parallel(pool, 0).findIn(map))) {
+				isTrue(find.exists(matching));
+				isFalse(find.exists((k, v) -> k < 0));
+
+				Map.Entry<Integer, String> any = find.any(matching).get();
+				isTrue(matching.test(any.getKey(), any.getValue()));
+				eq(any.getValue(), map.get(any.getKey()));
+				isFalse(find.any((k, v) -> k < 0).isPresent());
+
+				Map<Integer, String> all = find.all(matching);
+				eq(all, stream(map, s -> s.filter(e -> matching.test(e.getKey(), e.getValue())).collect(To.map())));
+				eq(find.all(matching, TreeMap::new), new TreeMap<>(all));
+
+				eq(New.list(find.top(matching, 3, byValue).values()), New.list("v99", "v99", "v99"));
+				eq(New.list(find.bottom(matching, 2, byValue).values()), New.list("v0", "v0"));
+
+				eq(find.max(matching, byValue).get().getValue(), "v99");
+				eq(find.min(matching, byValue).get().getValue(), "v0");
+				eq(find.max((k, v) -> k < 0, byValue), Optional.empty());
+			}
+		}
+	}
+
+	@Test
+	public void mapMaps() {
+		for (Map<Integer, String> map : maps()) {
+			// the sequential mapping keeps the order of the map
+			eq(Do.map(map).toList((k, v) -> k + v), stream(map, s -> s.map(e -> e.getKey() + e.getValue()).collect(To.list())));
+
+			for (MapBiDSL<Integer, String> mapping : New.list(Do.map(map), Do.parallel(pool, 0).map(map))) {
+				eq(new HashSet<>(mapping.toList((k, v) -> k + v)), stream(map, s -> s.map(e -> e.getKey() + e.getValue()).collect(To.set())));
+				eq(mapping.toSet((k, v) -> v), new HashSet<>(source.values()));
+				eq(mapping.toMap((k, v) -> -k, (k, v) -> v.length()), stream(map, s -> s.collect(To.map(e -> -e.getKey(), e -> e.getValue().length()))));
+				eq(mapping.toMap((k, v) -> k, (k, v) -> v, TreeMap::new), new TreeMap<>(source));
+			}
+		}
+	}
+
+	@Test
+	public void groupMaps() {
+		for (Map<Integer, String> map : maps()) {
+			Map<Integer, Map<Integer, String>> expected = stream(map, s -> s
+				.collect(Collectors.groupingBy(e -> e.getKey() % 10, New::map, To.map())));
+
+			// the sequential grouping keeps the order of the map
+			Map<Integer, Map<Integer, String>> ordered = Do.group(map).by((k, v) -> k % 10);
+			eq(New.list(ordered.keySet()), New.list(expected.keySet()));
+			eq(New.list(ordered.get(3).keySet()), New.list(expected.get(3).keySet()));
+			eq(New.list(Do.group(map).byConcurrentOrdered((k, v) -> k % 10).get(7).keySet()), New.list(expected.get(7).keySet()));
+
+			for (GroupBiDSL<Integer, String> group : New.list(Do.group(map), Do.parallel(pool, 0).group(map))) {
+				eq(group.by((k, v) -> k % 10), expected);
+
+				eq(group.by((k, v) -> k % 10, TreeMap::new, New::compactMap), new TreeMap<>(expected));
+
+				ConcurrentMap<Integer, Map<Integer, String>> concurrent = group.byConcurrent((k, v) -> k % 10);
+				eq(new HashMap<>(concurrent), new HashMap<>(expected));
+
+				ConcurrentMap<Integer, Map<Integer, String>> concurrentOrdered = group.byConcurrentOrdered((k, v) -> k % 10);
+				eq(new HashMap<>(concurrentOrdered), new HashMap<>(expected));
+			}
+		}
+	}
+
+	@Test
+	public void parallelBulkOperationsRunInsideThePool() {
+		ConcurrentHashMap<Integer, String> map = new ConcurrentHashMap<>(source);
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+		Optional<Map.Entry<Integer, String>> max = Do.parallel(pool, 0).findIn(map).max((k, v) -> {
+			threads.add(Thread.currentThread());
+			return true;
+		}, byValue);
+
+		eq(max.get().getValue(), "v99");
+		isFalse(threads.isEmpty());
+
+		for (Thread thread : threads) {
+			isTrue(((ForkJoinWorkerThread) thread).getPool() == pool);
+		}
+	}
+
+	@Test
+	public void failsJustLikeTheStreams() {
+		Map<Integer, String> withNull = New.map(1, "a", 2, null);
+
+		try {
+			Do.findIn(withNull).all((k, v) -> true);
+			isTrue(false);
+		} catch (NullPointerException e) {
+			// the matching null value can't be collected
+		}
+
+		try {
+			Do.map(source).toMap((k, v) -> v, (k, v) -> k);
+			isTrue(false);
+		} catch (IllegalArgumentException e) {
+			eq(e.getMessage(), "Both values [0] and [100] have the same key!");
+		}
+
+		try {
+			Do.group(source).by((k, v) -> null);
+			isTrue(false);
+		} catch (NullPointerException e) {
+			eq(e.getMessage(), "element cannot be mapped to a null key");
+		}
+	}
+
+}
@@ -0,0 +1,235 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.After;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class MetricsTest extends TestCommons {
+
+	private static final Serializer<Integer> INTS = new Serializer<Integer>() {
+		@Override
+		public void write(Integer value, DataOutput out) throws IOException {
+			out.writeInt(value);
+		}
+
+		@Override
+		public Integer read(DataInput in) throws IOException {
+			return in.readInt();
+		}
+	};
+
+	private final List<Integer> nums = New.list(1, 2, 3, 4, 5, 6);
+
+	private final Map<Integer, String> words = New.map(1, "one", 2, "two", 3, "three");
+
+	@After
+	public void cleanUp() {
+		Metrics.setListener(null);
+		MetricsAggregator.unregisterMBean();
+	}
+
+	@Test
+	public void reportsEachOperationToTheListener() {
+		List<String> reports = New.list();
+
+		Metrics.setListener((operation, tag, elements, results, nanos) -> {
+			isTrue(nanos >= 0);
+			reports.add(operation + "@" + tag + ":" + elements + ":" + results);
+		});
+
+		Do.findIn(nums).all(x -> x % 2 == 0);
+		Do.findIn(nums).first(x -> x > 10);
+		Do.findIn(nums).exists(x -> x > 5);
+		Do.findIn(nums).bottom(2, Integer::compare);
+		Do.findIn(nums.stream()).min(Integer::compare);
+		Do.findIn(words).last((k, v) -> k < 3);
+
+		try (Metrics.Tag outer = Metrics.tag("outer")) {
+			Do.map(nums).toSet(x -> x % 3);
+
+			try (Metrics.Tag inner = Metrics.tag("inner")) {
+				Do.map(words).toMap((k, v) -> v, (k, v) -> k);
+			}
+
+			Do.group(nums).by(x -> x % 2 == 0);
+		}
+
+		Do.group(words).by((k, v) -> v.length());
+		Do.group(nums).byInt(x -> x % 4);
+		Do.group(nums).aggregateBy(x -> x % 2).count();
+		Do.group(words).aggregateBy((k, v) -> v.length()).count();
+
+		eq(reports, New.list(
+			"FindDSL.all@null:6:3",
+			"FindDSL.first@null:6:0",
+			"FindDSL.exists@null:6:1",
+			"FindDSL.bottom@null:6:2",
+			"FindDSL.min@null:-1:1",
+			"FindBiDSL.last@null:3:1",
+			"MapDSL.toSet@outer:6:3",
+			"MapBiDSL.toMap@inner:3:3",
+			"GroupDSL.by@outer:6:2",
+			"GroupBiDSL.by@null:3:2",
+			"GroupDSL.byInt@null:6:4",
+			"AggregateDSL.count@null:6:2",
+			"AggregateDSL.count@null:3:2"
+		));
+	}
+
+	@Test
+	public void reportsThePrimitiveExternalAndPipelineOperations() {
+		List<String> reports = New.list();
+
+		Metrics.setListener((operation, tag, elements, results, nanos) -> reports.add(operation + ":" + elements + ":" + results));
+
+		int[] ints = {1, 2, 3, 4, 5, 6};
+		IntList list = New.intList(1, 2, 3);
+
+		Do.findIn(ints).all(x -> x > 2);
+		Do.findIn(list).first(x -> x > 1);
+		Do.findIn(new long[]{1, 2}).exists(x -> x > 1);
+		Do.map(ints).toSet(x -> x % 2);
+		Do.map(list).toLongArray(x -> x * 2L);
+		Do.map(new double[]{0.5}).toIntArray(x -> (int) x);
+		Do.group(ints).byInt(x -> x % 3);
+		Do.group(IntStream.of(ints)).by(x -> x % 2);
+		Do.pipeline(Integer.class).where(x -> x > 3).toList().run(nums);
+
+		Do.group(nums).external(1 << 20, INTS).by(x -> x % 2, (key, group) -> {
+		});
+		Do.join(nums, New.list(2, 4)).on(x -> x, x -> x).external(1 << 20, INTS, INTS).semi(x -> {
+		});
+
+		eq(reports, New.list(
+			"FindIntDSL.all:6:4",
+			"FindIntDSL.first:3:1",
+			"FindLongDSL.exists:2:1",
+			"MapIntDSL.toSet:6:2",
+			"MapIntDSL.toLongArray:3:3",
+			"MapDoubleDSL.toIntArray:1:1",
+			"GroupIntDSL.byInt:6:3",
+			"GroupIntDSL.by:-1:2",
+			"Pipeline.run:6:3",
+			"ExternalGroupDSL.by:6:-1",
+			"ExternalJoinDSL.semi:6:-1"
+		));
+	}
+
+	@Test
+	public void nothingIsReportedWithoutListener() {
+		MetricsAggregator metrics = new MetricsAggregator();
+
+		Metrics.setListener(metrics);
+		Do.findIn(nums).all(x -> x > 3);
+
+		Metrics.setListener(null);
+		Do.findIn(nums).all(x -> x > 3);
+
+		eq(metrics.getTotalCalls(), 1L);
+	}
+
+	@Test
+	public void aggregatesTheMetricsOfEachOperationAndTag() {
+		MetricsAggregator metrics = new MetricsAggregator();
+		Metrics.setListener(metrics);
+
+		for (int i = 0; i < 10; i++) {
+			Do.findIn(nums).all(x -> x > 2);
+		}
+
+		try (Metrics.Tag tag = Metrics.tag("lengths")) {
+			Do.map(words).toList((k, v) -> v.length());
+			Do.map(words).toList((k, v) -> v.length());
+		}
+
+		eq(metrics.getTotalCalls(), 12L);
+
+		List<OperationMetrics> operations = metrics.getOperations();
+		eq(operations.size(), 2);
+
+		OperationMetrics all = operations.stream().filter(m -> m.getOperation().equals("FindDSL.all")).findFirst().get();
+		eq(all.getTag(), "");
+		eq(all.getCalls(), 10L);
+		eq(all.getElements(), 60L);
+		eq(all.getResults(), 40L);
+		isTrue(all.getMaxNanos() <= all.getTotalNanos());
+		isTrue(all.getMedianNanos() <= all.getP99Nanos());
+		eq(Arrays.stream(all.getHistogram()).sum(), 10L);
+
+		OperationMetrics lengths = operations.stream().filter(m -> m.getTag().equals("lengths")).findFirst().get();
+		eq(lengths.getOperation(), "MapBiDSL.toList");
+		eq(lengths.getCalls(), 2L);
+		eq(lengths.getResults(), 6L);
+
+		metrics.reset();
+		eq(metrics.getTotalCalls(), 0L);
+	}
+
+	@Test
+	public void histogramBuckets() {
+		eq(MetricsAggregator.bucket(0), 0);
+		eq(MetricsAggregator.bucket(1), 1);
+		eq(MetricsAggregator.bucket(2), 2);
+		eq(MetricsAggregator.bucket(3), 2);
+		eq(MetricsAggregator.bucket(1024), 11);
+		eq(MetricsAggregator.bucket(Long.MAX_VALUE), 63);
+	}
+
+	@Test
+	public void publishesTheMetricsOverJmx() throws Exception {
+		MetricsAggregator metrics = new MetricsAggregator();
+		metrics.registerMBean();
+		Metrics.setListener(metrics);
+
+		Do.findIn(nums).any(x -> x > 4);
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(MetricsAggregator.MBEAN_NAME);
+
+		eq(server.getAttribute(name, "TotalCalls"), 1L);
+
+		CompositeData[] operations = (CompositeData[]) server.getAttribute(name, "Operations");
+		eq(operations.length, 1);
+		eq(operations[0].get("operation"), "FindDSL.any");
+		eq(operations[0].get("results"), 1L);
+
+		server.invoke(name, "reset", new Object[0], new String[0]);
+		eq(metrics.getTotalCalls(), 0L);
+	}
+
+}
@@ -173,4 +173,44 @@ public class NewTest extends TestCommons {
 		eq((map.get("h").intValue()), 8);
 	}
 
+	@Test
+	public void testSizedCollections() {
+		List<Integer> list = New.sizedList(100);
+		Set<Integer> set = New.sizedSet(100);
+		Map<Integer, Integer> map = New.sizedMap(100);
+
+		isTrue(list.isEmpty());
+		isTrue(set.isEmpty());
+		isTrue(map.isEmpty());
+
+		for (int i = 0; i < 200; i++) {
+			list.add(i);
+			set.add(i);
+			map.put(i, i);
+		}
+
+		eq(New.list(set), list);
+		eq(New.list(map.keySet()), list);
+		expectMap(New.map(map), map);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeExpectedSize() {
+		New.sizedMap(-1);
+	}
+
+	@Test
+	public void testSizedCollectors() {
+		List<String> words = New.list("a", "bb", "ccc");
+
+		eq(words.stream().collect(To.list(3)), words);
+		eq(words.stream().collect(To.set(3)), New.set(words));
+
+		Map<String, Integer> lengths = words.stream().collect(To.map(w -> w, String::length, 3));
+
+		expectMap(lengths, New.map("a", 1, "bb", 2, "ccc", 3));
+		eq(lengths.get("ccc").intValue(), 3);
+		eq(lengths.entrySet().stream().collect(To.map(0)), lengths);
+	}
+
 }
@@ -0,0 +1,217 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class ParallelTest extends TestCommons {
+
+	private final ForkJoinPool pool = new ForkJoinPool(4);
+
+	private final List<Integer> nums = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+	private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+	@After
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	private <T> Predicate<T> tracking(Predicate<T> predicate) {
+		return x -> {
+			threads.add(Thread.currentThread());
+			return predicate.test(x);
+		};
+	}
+
+	private void expectPoolThreadsOnly() {
+		isFalse(threads.isEmpty());
+
+		for (Thread thread : threads) {
+			isTrue(thread instanceof ForkJoinWorkerThread);
+			isTrue(((ForkJoinWorkerThread) thread).getPool() == pool);
+		}
+	}
+
+	@Test
+	public void findInParallel() {
+		isTrue(Do.parallel(pool).findIn(nums).exists(tracking(x -> x == 77_777)));
+		eq(Do.parallel(pool).findIn(nums).first(tracking(x -> x % 1000 == 999)).get().intValue(), 999);
+		eq(Do.parallel(pool).findIn(nums).last(tracking(x -> x % 1000 == 1)).get().intValue(), 99_001);
+		eq(Do.parallel(pool).findIn(nums).any(tracking(x -> x == 5)).get().intValue(), 5);
+
+		List<Integer> even = Do.parallel(pool).findIn(nums).all(tracking(x -> x % 2 == 0));
+		eq(even, Do.findIn(nums).all(x -> x % 2 == 0));
+
+		expectPoolThreadsOnly();
+	}
+
+	@Test
+	public void findInParallelStream() {
+		List<Integer> big = Do.parallel(pool).findIn(nums.stream()).all(tracking(x -> x > 90_000));
+		eq(big, Do.findIn(nums).all(x -> x > 90_000));
+
+		expectPoolThreadsOnly();
+	}
+
+	@Test
+	public void mapInParallel() {
+		List<Integer> doubled = Do.parallel(pool).map(nums).toList(x -> {
+			threads.add(Thread.currentThread());
+			return x * 2;
+		});
+
+		eq(doubled, Do.map(nums).toList(x -> x * 2));
+		expectPoolThreadsOnly();
+	}
+
+	@Test
+	public void groupInParallel() {
+		Map<Integer, List<Integer>> groups = Do.parallel(pool).group(nums).by(x -> {
+			threads.add(Thread.currentThread());
+			return x % 10;
+		});
+
+		expectMap(groups, Do.group(nums).by(x -> x % 10));
+		expectPoolThreadsOnly();
+	}
+
+	@Test
+	public void mapEntriesInParallel() {
+		Map<Integer, String> words = Do.map(nums).toMap(x -> x, String::valueOf);
+
+		Map<Integer, String> odd = Do.parallel(pool, 1000).findIn(words).all((k, v) -> {
+			threads.add(Thread.currentThread());
+			return k % 2 == 1;
+		});
+
+		expectMap(odd, Do.findIn(words).all((k, v) -> k % 2 == 1));
+		eq(Do.parallel(pool, 1000).map(words).toList((k, v) -> v), Do.map(words).toList((k, v) -> v));
+		expectMap(Do.parallel(pool, 1000).group(words).by((k, v) -> k % 3), Do.group(words).by((k, v) -> k % 3));
+		expectPoolThreadsOnly();
+	}
+
+	@Test
+	public void groupConcurrentlyInParallel() {
+		Map<Integer, List<Integer>> expected = Do.group(nums).by(x -> x % 10);
+
+		Map<Integer, List<Integer>> ordered = Do.parallel(pool).group(nums).byConcurrentOrdered(x -> {
+			threads.add(Thread.currentThread());
+			return x % 10;
+		});
+
+		eq(ordered, expected);
+
+		Map<Integer, List<Integer>> unordered = Do.parallel(pool).group(nums.stream()).byConcurrent(x -> x % 10);
+
+		eq(unordered.keySet(), expected.keySet());
+		for (Integer key : expected.keySet()) {
+			eq(New.set(unordered.get(key)), New.set(expected.get(key)));
+		}
+
+		expectPoolThreadsOnly();
+	}
+
+	@Test
+	public void groupConcurrentlyFromSequentialSources() {
+		List<String> abc = New.list("a", "bb", "cc", "d");
+		Map<Integer, List<String>> expected = New.map(1, New.list("a", "d"), 2, New.list("bb", "cc"));
+
+		eq(Do.group(abc).byConcurrentOrdered(String::length), expected);
+		eq(Do.group(new LinkedList<>(abc)).byConcurrentOrdered(String::length), expected);
+		eq(Do.group(abc).byConcurrent(String::length), expected);
+	}
+
+	@Test
+	public void groupEntriesConcurrentlyInParallel() {
+		Map<Integer, String> words = Do.map(nums).toMap(x -> x, String::valueOf);
+		Map<Integer, Map<Integer, String>> expected = Do.group(words).by((k, v) -> v.length());
+
+		Map<Integer, Map<Integer, String>> ordered = Do.parallel(pool).group(words).byConcurrentOrdered((k, v) -> v.length());
+
+		eq(ordered, expected);
+		for (Integer key : expected.keySet()) {
+			eq(New.list(ordered.get(key).keySet()), New.list(expected.get(key).keySet()));
+		}
+
+		eq(Do.parallel(pool).group(words).byConcurrent((k, v) -> v.length()), expected);
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void groupConcurrentlyByNullKey() {
+		Do.parallel(pool).group(nums).byConcurrent(x -> x == 500 ? null : x);
+	}
+
+	@Test
+	public void belowThresholdRunsSequentially() {
+		List<Integer> few = New.list(1, 2, 3);
+
+		eq(Do.parallel(pool).findIn(few).all(tracking(x -> x > 1)), New.list(2, 3));
+		eq(threads, New.set(Thread.currentThread()));
+	}
+
+	@Test
+	public void exceptionsArePropagated() {
+		try {
+			Do.parallel(pool, 0).map(New.list("a", "bb", "cc")).toMap(String::length, s -> s);
+
+		} catch (IllegalArgumentException e) {
+			eq(e.getMessage(), "Both values [bb] and [cc] have the same key!");
+			return;
+		}
+
+		Assert.fail("Expected IllegalArgumentException!");
+	}
+
+	@Test
+	public void oneShotIterablesAreTraversedOnce() {
+		for (long threshold : new long[]{0, Long.MAX_VALUE}) {
+			Iterable<Integer> findIn = nums.stream()::iterator;
+			eq(Do.parallel(pool, threshold).findIn(findIn).all(x -> x % 1000 == 0), Do.findIn(nums).all(x -> x % 1000 == 0));
+
+			Iterable<Integer> map = nums.stream()::iterator;
+			eq(Do.parallel(pool, threshold).map(map).toList(x -> x + 1), Do.map(nums).toList(x -> x + 1));
+
+			Iterable<Integer> group = nums.stream()::iterator;
+			eq(Do.parallel(pool, threshold).group(group).by(x -> x % 3), Do.group(nums).by(x -> x % 3));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeThreshold() {
+		Do.parallel(pool, -1);
+	}
+
+}
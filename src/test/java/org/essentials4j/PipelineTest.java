@@ -0,0 +1,144 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class PipelineTest extends TestCommons {
+
+	private final List<String> words = New.list("a", "bbb", "cc", "dd", "e", "fff", "cc", "gg");
+
+	@Test
+	public void fusedStages() {
+		Pipeline<String, List<Integer>> lengths = Do.pipeline(String.class).where(s -> !s.startsWith("a")).map(String::length).toList();
+
+		eq(lengths.run(words), New.list(3, 2, 2, 1, 3, 2, 2));
+		eq(lengths.run(new LinkedList<>(words)), New.list(3, 2, 2, 1, 3, 2, 2));
+		eq(lengths.run(New.list()), New.list());
+
+		eq(Do.pipeline(String.class).distinct().toList().run(words), New.list("a", "bbb", "cc", "dd", "e", "fff", "gg"));
+		eq(Do.pipeline(String.class).map(String::length).distinct().toSet().run(words), New.set(1, 3, 2));
+		eq(Do.pipeline(String.class).where(s -> s.length() == 2).count().run(words).intValue(), 4);
+
+		Map<Integer, List<String>> groups = Do.pipeline(String.class).distinct().groupBy(String::length).run(words);
+		expectMap(groups, New.map(1, New.list("a", "e"), 3, New.list("bbb", "fff"), 2, New.list("cc", "dd", "gg")));
+
+		eq(Do.pipeline(String.class).map(String::toUpperCase).collect(Collectors.joining(",")).run(words), "A,BBB,CC,DD,E,FFF,CC,GG");
+	}
+
+	@Test
+	public void matchesStreams() {
+		List<Integer> nums = IntStream.range(0, 1000).map(i -> (i * 37) % 101).boxed().collect(Collectors.toList());
+
+		Pipeline<Integer, List<String>> pipeline = Do.pipeline(Integer.class)
+			.where(x -> x % 3 != 0)
+			.distinct()
+			.map(x -> x * 2)
+			.limit(20)
+			.where(x -> x > 10)
+			.map(String::valueOf)
+			.toList();
+
+		List<String> expected = nums.stream()
+			.filter(x -> x % 3 != 0)
+			.distinct()
+			.map(x -> x * 2)
+			.limit(20)
+			.filter(x -> x > 10)
+			.map(String::valueOf)
+			.collect(Collectors.toList());
+
+		eq(pipeline.run(nums), expected);
+		eq(pipeline.run(nums), expected);
+	}
+
+	@Test
+	public void limitStopsTheIteration() {
+		AtomicInteger checked = new AtomicInteger();
+
+		Pipeline<Integer, List<Integer>> firstEvens = Do.pipeline(Integer.class)
+			.where(x -> checked.incrementAndGet() > 0 && x % 2 == 0)
+			.limit(3)
+			.toList();
+
+		eq(firstEvens.run(IntStream.range(0, 100).boxed().collect(Collectors.toList())), New.list(0, 2, 4));
+		eq(checked.get(), 5);
+
+		checked.set(0);
+		eq(Do.pipeline(Integer.class).where(x -> checked.incrementAndGet() > 0).limit(0).toList().run(New.list(1, 2, 3)), New.list());
+		eq(checked.get(), 0);
+	}
+
+	@Test
+	public void stagesAreShared() {
+		PipelineDSL<String, String> shortWords = Do.pipeline(String.class).where(s -> s.length() < 3);
+
+		Pipeline<String, List<String>> all = shortWords.toList();
+		Pipeline<String, List<String>> first = shortWords.limit(2).toList();
+
+		eq(all.run(words), New.list("a", "cc", "dd", "e", "cc", "gg"));
+		eq(first.run(words), New.list("a", "cc"));
+	}
+
+	@Test
+	public void runsConcurrently() throws Exception {
+		Pipeline<Integer, List<Integer>> pipeline = Do.pipeline(Integer.class).distinct().where(x -> x % 2 == 0).limit(100).toList();
+		List<Integer> nums = IntStream.range(0, 10000).map(i -> i % 500).boxed().collect(Collectors.toList());
+		List<Integer> expected = IntStream.range(0, 100).map(i -> i * 2).boxed().collect(Collectors.toList());
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			List<Future<List<Integer>>> results = New.list();
+
+			for (int i = 0; i < 100; i++) {
+				results.add(executor.submit(() -> pipeline.run(nums)));
+			}
+
+			for (Future<List<Integer>> result : results) {
+				eq(result.get(), expected);
+			}
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void limitMustNotBeNegative() {
+		Do.pipeline(String.class).limit(-1);
+	}
+
+}
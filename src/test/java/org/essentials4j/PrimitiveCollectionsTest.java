@@ -0,0 +1,249 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class PrimitiveCollectionsTest extends TestCommons {
+
+	@Test
+	public void intList() {
+		IntList list = New.intList(3, 1, 2);
+
+		list.add(0);
+		list.addAll(7, 8);
+
+		eq(list.size(), 6);
+		isTrue(Arrays.equals(list.toArray(), new int[]{3, 1, 2, 0, 7, 8}));
+		eq(list.get(4), 7);
+		eq(list.indexOf(0), 3);
+		isFalse(list.contains(5));
+
+		eq(list.set(0, 9), 3);
+		eq(list.removeAt(1), 1);
+		eq(list, New.intList(9, 2, 0, 7, 8));
+		eq(list.hashCode(), Arrays.hashCode(new int[]{9, 2, 0, 7, 8}));
+		eq(list.toString(), "[9, 2, 0, 7, 8]");
+		eq(list.stream().sum(), 26);
+
+		list.clear();
+		isTrue(list.isEmpty());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void intListIndexOutOfBounds() {
+		New.intList(1, 2).get(2);
+	}
+
+	@Test
+	public void longSet() {
+		LongSet set = New.longSet(0, 5, 5, Long.MIN_VALUE);
+
+		eq(set.size(), 3);
+		isTrue(set.contains(0));
+		isTrue(set.contains(Long.MIN_VALUE));
+		isFalse(set.contains(6));
+
+		isFalse(set.add(5));
+		isTrue(set.remove(0));
+		isFalse(set.remove(0));
+
+		eq(set, New.longSet(Long.MIN_VALUE, 5));
+		eq(set.hashCode(), New.set(Long.MIN_VALUE, 5L).hashCode());
+	}
+
+	@Test
+	public void intSetMatchesHashSet() {
+		Random rnd = new Random(1);
+		IntSet set = New.intSet();
+		Set<Integer> expected = new HashSet<>();
+
+		for (int i = 0; i < 100000; i++) {
+			int value = rnd.nextInt(1000) - 500;
+
+			if (rnd.nextBoolean()) {
+				eq(set.add(value), expected.add(value));
+			} else {
+				eq(set.remove(value), expected.remove(value));
+			}
+		}
+
+		eq(set.size(), expected.size());
+
+		for (int value = -500; value < 500; value++) {
+			eq(set.contains(value), expected.contains(value));
+		}
+
+		int[] values = set.toArray();
+		Arrays.sort(values);
+		isTrue(Arrays.equals(values, expected.stream().mapToInt(Integer::intValue).sorted().toArray()));
+	}
+
+	@Test
+	public void longLongMapMatchesHashMap() {
+		Random rnd = new Random(2);
+		LongLongMap map = New.longLongMap();
+		Map<Long, Long> expected = new HashMap<>();
+
+		for (int i = 0; i < 100000; i++) {
+			long key = (rnd.nextInt(2000) - 1000) * 1_000_000_007L;
+
+			switch (rnd.nextInt(3)) {
+				case 0:
+					eq(map.put(key, i), expected.getOrDefault(key, 0L).longValue());
+					expected.put(key, (long) i);
+					break;
+
+				case 1:
+					eq(map.addTo(key, 3), expected.merge(key, 3L, Long::sum).longValue());
+					break;
+
+				default:
+					eq(map.remove(key), expected.remove(key) != null);
+			}
+		}
+
+		eq(map.size(), expected.size());
+		expected.forEach((key, value) -> eq(map.get(key), value.longValue()));
+
+		Map<Long, Long> entries = new HashMap<>();
+		map.forEach(entries::put);
+		eq(entries, expected);
+		eq(map.hashCode(), expected.hashCode());
+	}
+
+	@Test
+	public void intIntMapCounts() {
+		IntIntMap counts = New.intIntMap();
+
+		for (int x : new int[]{0, 1, 1, 2, 2, 2}) {
+			counts.addTo(x, 1);
+		}
+
+		eq(counts.size(), 3);
+		eq(counts.get(0), 1);
+		eq(counts.get(2), 3);
+		eq(counts.getOrDefault(7, -1), -1);
+		isTrue(counts.containsKey(0));
+		isFalse(counts.containsKey(7));
+
+		eq(Arrays.stream(counts.values()).sum(), 6);
+	}
+
+	@Test
+	public void intObjectMap() {
+		IntObjectMap<String> map = New.intObjectMap();
+
+		isTrue(map.put(1, "a") == null);
+		eq(map.put(1, "b"), "a");
+		eq(map.computeIfAbsent(0, key -> "zero"), "zero");
+		eq(map.computeIfAbsent(0, key -> "other"), "zero");
+		isTrue(map.computeIfAbsent(2, key -> null) == null);
+		isFalse(map.containsKey(2));
+
+		eq(map.size(), 2);
+		eq(map.get(1), "b");
+		eq(map.remove(0), "zero");
+		isTrue(map.get(0) == null);
+		eq(map.values(), New.list("b"));
+	}
+
+	@Test
+	public void primitiveListsAsSources() {
+		IntList ints = new IntList(100);
+		ints.addAll(1, 2, 3, 4, 5);
+
+		eq(Do.findIn(ints).last(x -> x < 4).getAsInt(), 3);
+		isTrue(Arrays.equals(Do.findIn(ints).all(x -> x % 2 == 1), new int[]{1, 3, 5}));
+		isTrue(Arrays.equals(Do.map(ints).toIntArray(x -> x * x), new int[]{1, 4, 9, 16, 25}));
+		isTrue(Arrays.equals(Do.group(ints).by(x -> x % 2 == 0).get(true), new int[]{2, 4}));
+
+		LongList longs = New.longList(10, 20, 30);
+
+		eq(Do.findIn(longs).last().getAsLong(), 30L);
+		eq(Do.map(longs).toList(x -> x / 10), New.list(1L, 2L, 3L));
+	}
+
+	@Test
+	public void primitiveSetsAsSources() {
+		IntSet ints = New.intSet(0, 1, 2, 3, 4, 5);
+
+		isTrue(Do.findIn(ints).exists(x -> x == 0));
+		eq(New.set(Do.map(ints).toList(x -> x * 10)), New.set(0, 10, 20, 30, 40, 50));
+		eq(Do.group(ints).byInt(x -> x % 2).get(1).length, 3);
+
+		LongSet longs = New.longSet(10, 20, 30);
+
+		eq(Do.findIn(longs).all(x -> x > 10).length, 2);
+		eq(Do.map(longs).toSet(x -> x / 10), New.set(1L, 2L, 3L));
+		eq(Do.group(longs).byLong(x -> x % 20).get(0L).length, 1);
+	}
+
+	@Test
+	public void primitiveListsAsResults() {
+		List<String> words = New.list("a", "bb", "ccc");
+
+		eq(Do.map(words).toIntList(String::length), New.intList(1, 2, 3));
+		eq(Do.map(words.stream().filter(w -> w.length() > 1)).toLongList(w -> w.length() * 10L), New.longList(20, 30));
+
+		List<Integer> nums = New.list();
+
+		for (int i = 0; i < 10000; i++) {
+			nums.add(i);
+		}
+
+		IntList parallel = Do.parallel(ForkJoinPool.commonPool(), 0).map(nums).toIntList(x -> x * 2);
+
+		eq(parallel.size(), 10000);
+		eq(parallel.get(9999), 19998);
+	}
+
+	@Test
+	public void groupByPrimitiveKeys() {
+		List<String> words = New.list("a", "bb", "cc", "d", "eee");
+
+		IntObjectMap<List<String>> byLength = Do.group(words).byInt(String::length);
+
+		eq(byLength.size(), 3);
+		eq(byLength.get(1), New.list("a", "d"));
+		eq(byLength.get(2), New.list("bb", "cc"));
+		eq(byLength.get(3), New.list("eee"));
+
+		LongObjectMap<List<String>> byFirstChar = Do.group(words).byLong(word -> word.charAt(0) % 2);
+
+		eq(byFirstChar.get(1), New.list("a", "cc", "eee"));
+		eq(byFirstChar.get(0), New.list("bb", "d"));
+	}
+
+}
@@ -0,0 +1,123 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class TopTest extends TestCommons {
+
+	private static List<Integer> sorted(List<Integer> nums, Comparator<Integer> comparator, int k) {
+		return nums.stream().sorted(comparator).limit(k).collect(Collectors.toList());
+	}
+
+	@Test
+	public void topAndBottomMatchSorting() {
+		Random rnd = new Random(14);
+		List<Integer> nums = IntStream.range(0, 10000).map(i -> rnd.nextInt(1000)).boxed().collect(Collectors.toList());
+		LinkedList<Integer> linked = new LinkedList<>(nums);
+
+		for (int k : new int[]{0, 1, 7, 100, 20000}) {
+			List<Integer> top = sorted(nums, Comparator.reverseOrder(), k);
+			List<Integer> bottom = sorted(nums, Comparator.naturalOrder(), k);
+
+			eq(Do.findIn(nums).top(k, Comparator.naturalOrder()), top);
+			eq(Do.findIn(linked).top(k, Comparator.naturalOrder()), top);
+			eq(Do.findIn(nums.stream()).top(k, Comparator.naturalOrder()), top);
+			eq(nums.stream().collect(To.top(k, Comparator.naturalOrder())), top);
+
+			eq(Do.findIn(nums).bottom(k, Comparator.naturalOrder()), bottom);
+			eq(nums.stream().collect(To.bottom(k, Comparator.naturalOrder())), bottom);
+		}
+
+		List<Integer> evens = Do.findIn(nums).all(x -> x % 2 == 0);
+		eq(Do.findIn(nums).top(x -> x % 2 == 0, 10, Comparator.naturalOrder()), sorted(evens, Comparator.reverseOrder(), 10));
+		eq(Do.findIn(nums).bottom(x -> x % 2 == 0, 10, Comparator.naturalOrder()), sorted(evens, Comparator.naturalOrder(), 10));
+	}
+
+	@Test
+	public void topInParallel() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+			List<Integer> nums = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+			eq(Do.parallel(pool, 100).findIn(nums).top(5, Comparator.naturalOrder()), New.list(99_999, 99_998, 99_997, 99_996, 99_995));
+			eq(Do.parallel(pool, 100).findIn(nums).bottom(x -> x % 10 == 3, 3, Comparator.naturalOrder()), New.list(3, 13, 23));
+			eq(Do.parallel(pool, 100).findIn(nums).max(Comparator.naturalOrder()).get().intValue(), 99_999);
+
+			Map<Integer, Integer> remainders = Do.map(nums).toMap(x -> x, x -> x % 1000);
+			expectMap(Do.parallel(pool, 100).findIn(remainders).top(3, Map.Entry.comparingByKey()), New.map(99_999, 999, 99_998, 998, 99_997, 997));
+
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void minAndMax() {
+		List<String> words = New.list("bb", "a", "cc", "ddd", "e", "fff");
+		Comparator<String> byLength = Comparator.comparing(String::length);
+
+		eq(Do.findIn(words).max(byLength).get(), "ddd");
+		eq(Do.findIn(words).min(byLength).get(), "a");
+		eq(Do.findIn(words.stream()).max(byLength).get(), "ddd");
+		eq(Do.findIn(words.stream()).min(byLength).get(), "a");
+		eq(Do.findIn(words).max(s -> s.length() < 3, byLength).get(), "bb");
+		eq(Do.findIn(words).min(s -> s.length() > 1, byLength).get(), "bb");
+		eq(Do.findIn(words).max(s -> s.isEmpty(), byLength), Optional.empty());
+		eq(Do.findIn(New.<String>list()).min(byLength), Optional.empty());
+	}
+
+	@Test
+	public void searchMaps() {
+		Map<Integer, String> nums = New.map(1, "one", 2, "two", 3, "three", 4, "four", 5, "five");
+
+		expectMap(Do.findIn(nums).top(2, Map.Entry.comparingByValue()), New.map(2, "two", 3, "three"));
+		expectMap(Do.findIn(nums).bottom(2, Map.Entry.comparingByValue()), New.map(5, "five", 4, "four"));
+		expectMap(Do.findIn(nums).top((k, v) -> k % 2 == 1, 2, Map.Entry.comparingByKey()), New.map(5, "five", 3, "three"));
+		expectMap(Do.findIn(nums).bottom((k, v) -> k > 1, 1, Map.Entry.comparingByKey()), New.map(2, "two"));
+
+		eq(Do.findIn(nums).max(Map.Entry.comparingByKey()).get().getValue(), "five");
+		eq(Do.findIn(nums).min(Map.Entry.comparingByValue()).get().getValue(), "five");
+		eq(Do.findIn(nums).max((k, v) -> k < 3, Map.Entry.comparingByKey()).get().getValue(), "two");
+		eq(Do.findIn(nums).min((k, v) -> k > 3, Map.Entry.comparingByKey()).get().getValue(), "four");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void countMustNotBeNegative() {
+		Do.findIn(New.list(1, 2, 3)).top(-1, Comparator.naturalOrder());
+	}
+
+}
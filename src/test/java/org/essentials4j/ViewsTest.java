@@ -0,0 +1,142 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class ViewsTest extends TestCommons {
+
+	@Test
+	public void lazyAll() {
+		List<Integer> numbers = New.list(1, 2, 3, 4, 5, 6);
+		AtomicInteger calls = new AtomicInteger();
+
+		Iterable<Integer> even = Do.findIn(numbers).lazyAll(x -> {
+			calls.incrementAndGet();
+			return x % 2 == 0;
+		});
+
+		eq(calls.get(), 0);
+
+		Iterator<Integer> it = even.iterator();
+		eq(it.next().intValue(), 2);
+		eq(calls.get(), 2);
+
+		numbers.add(8);
+		eq(New.list(even), New.list(2, 4, 6, 8));
+		eq(New.list(Do.findIn(Stream.of(1, 2, 3)).lazyAll(x -> x > 1)), New.list(2, 3));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void streamViewsAreSingleUse() {
+		Iterable<Integer> view = Do.findIn(Stream.of(1, 2, 3)).lazyAll(x -> x > 1);
+
+		view.iterator();
+		view.iterator();
+	}
+
+	@Test
+	public void asView() {
+		List<String> words = New.list("a", "bb", "ccc");
+		AtomicInteger calls = new AtomicInteger();
+
+		List<Integer> lengths = Do.map(words).asView(w -> {
+			calls.incrementAndGet();
+			return w.length();
+		});
+
+		isTrue(lengths instanceof RandomAccess);
+		eq(lengths.size(), 3);
+		eq(calls.get(), 0);
+
+		eq(lengths.get(2).intValue(), 3);
+		eq(calls.get(), 1);
+
+		words.set(0, "dddd");
+		eq(lengths, New.list(4, 2, 3));
+
+		List<Integer> linked = Do.map(new LinkedList<>(words)).asView(String::length);
+		isFalse(linked instanceof RandomAccess);
+		eq(linked, New.list(4, 2, 3));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void asViewRequiresList() {
+		Do.map(New.set(1, 2)).asView(x -> x);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void viewsAreReadOnly() {
+		Do.map(New.list(1, 2)).asView(x -> x).add(3);
+	}
+
+	@Test
+	public void lazy() {
+		eq(New.list(Do.map(New.set(1, 2, 3)).lazy(x -> x * 10)), New.list(10, 20, 30));
+		eq(New.list(Do.map(Stream.of("a", "b")).lazy(String::toUpperCase)), New.list("A", "B"));
+	}
+
+	@Test
+	public void oneShotIterables() {
+		Iterable<Integer> lazy = Stream.of(1, 2, 3)::iterator;
+		eq(New.list(Do.map(lazy).lazy(x -> x * 10)), New.list(10, 20, 30));
+
+		Iterable<Integer> batches = Stream.of(1, 2, 3)::iterator;
+		eq(Do.map(batches).toListInBatches(2, batch -> New.list(batch.size())), New.list(2, 1));
+
+		Iterable<Integer> async = Stream.of(1, 2, 3)::iterator;
+		eq(Do.map(async).toListAsync(x -> x + 1, 2), New.list(2, 3, 4));
+
+		Iterable<Integer> list = Stream.of(1, 2, 3)::iterator;
+		eq(Do.map(list).toList(x -> -x), New.list(-1, -2, -3));
+
+		Iterable<Integer> lazyAll = Stream.of(1, 2, 3)::iterator;
+		eq(New.list(Do.findIn(lazyAll).lazyAll(x -> x > 1)), New.list(2, 3));
+	}
+
+	@Test
+	public void lazyAllOfMap() {
+		Map<String, Integer> source = New.map("a", 1, "b", 2, "c", 3);
+		Map<String, Integer> odd = Do.findIn(source).lazyAll((k, v) -> v % 2 == 1);
+
+		eq(odd, New.map("a", 1, "c", 3));
+		isTrue(odd.containsKey("a"));
+		isFalse(odd.containsKey("b"));
+		isTrue(odd.get("b") == null);
+
+		source.put("d", 5);
+		eq(odd.size(), 3);
+		eq(New.list(odd.keySet()), New.list("a", "c", "d"));
+	}
+
+}
@@ -0,0 +1,131 @@
+/*-
+ * #%L
+ * essentials4j
+ * %%
+ * Copyright (C) 2017 Nikolche Mihajlovski
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package org.essentials4j;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * @author Nikolche Mihajlovski
+ * @since 1.0.1
+ */
+public class JfrTest extends TestCommons {
+
+	private final List<Integer> nums = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+
+	@After
+	public void cleanUp() {
+		Metrics.disableFlightRecorderEvents();
+	}
+
+	@Test
+	public void recordsTheOperationsAsFlightRecorderEvents() throws Exception {
+		isTrue(Metrics.enableFlightRecorderEvents(0));
+
+		List<RecordedEvent> events = record(() -> {
+			try (Metrics.Tag tag = Metrics.tag("evens")) {
+				Do.findIn(nums).all(x -> x % 2 == 0);
+			}
+
+			New.set(nums);
+		});
+
+		eq(events.size(), 2);
+
+		RecordedEvent all = events.get(0);
+		eq(all.getString("operation"), "FindDSL.all");
+		eq(all.getString("tag"), "evens");
+		eq(all.getClass("sourceType").getName(), nums.getClass().getName());
+		eq(all.getLong("elements"), 1000L);
+		eq(all.getLong("results"), 500L);
+		isTrue(all.getLong("elapsed") > 0);
+
+		// the stack trace leads to the call site
+		List<String> types = all.getStackTrace().getFrames().stream()
+			.map(RecordedFrame::getMethod)
+			.map(m -> m.getType().getName())
+			.collect(Collectors.toList());
+
+		isTrue(types.contains(FindDSL.class.getName()));
+		isTrue(types.contains(JfrTest.class.getName()));
+
+		RecordedEvent set = events.get(1);
+		eq(set.getString("operation"), "New.set");
+		eq(set.getString("tag"), null);
+		eq(set.getLong("results"), 1000L);
+	}
+
+	@Test
+	public void recordsOnlyTheOperationsThatExceedTheThreshold() throws Exception {
+		isTrue(Metrics.enableFlightRecorderEvents(60_000_000));
+
+		List<RecordedEvent> events = record(() -> Do.map(nums).toList(x -> x * 2));
+
+		eq(events.size(), 0);
+	}
+
+	@Test
+	public void recordsNothingWhenDisabled() throws Exception {
+		Metrics.enableFlightRecorderEvents(0);
+		Metrics.disableFlightRecorderEvents();
+
+		List<RecordedEvent> events = record(() -> Do.group(nums).by(x -> x % 10));
+
+		eq(events.size(), 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNegativeThreshold() {
+		Metrics.enableFlightRecorderEvents(-1);
+	}
+
+	private static List<RecordedEvent> record(Runnable operations) throws Exception {
+		Path file = Files.createTempFile("essentials4j", ".jfr");
+
+		try (Recording recording = new Recording()) {
+			recording.enable("org.essentials4j.Operation").withStackTrace();
+			recording.start();
+
+			operations.run();
+
+			recording.stop();
+			recording.dump(file);
+
+			return RecordingFile.readAllEvents(file).stream()
+				.filter(e -> e.getEventType().getName().equals("org.essentials4j.Operation"))
+				.collect(Collectors.toList());
+
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+}